@@ -0,0 +1,367 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.common.bin;
+
+import ec.tss.Ts;
+import ec.tss.TsCollection;
+import ec.tss.TsInformationType;
+import ec.tss.tsproviders.utils.MappedBuffers;
+import ec.tss.tsproviders.utils.OptionalTsData;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Compact binary file of time series. The file contains a header that
+ * describes each series (key, frequency, start and length), followed by the
+ * contiguous blocks of observations (big-endian doubles). The file is read
+ * through a memory-mapped buffer; the observations of a series are only copied
+ * when the series is requested.
+ * <p>
+ * The mapped buffer keeps the file open (and locked on Windows) until the
+ * object is closed. A closed object can still be used: the observations are
+ * then read directly from the file. Files are limited to 2 GB (the size of a
+ * mapped buffer).
+ *
+ * @author agent
+ * @since 2.2.2
+ */
+@ThreadSafe
+public final class BinFile implements Closeable {
+
+    /**
+     * The maximum size of a binary file of time series
+     */
+    public static final long MAX_SIZE = Integer.MAX_VALUE;
+
+    /**
+     * Maps a binary file.
+     *
+     * @param file an existing file
+     * @return a non-null object
+     * @throws IOException if the file cannot be read, is not a valid binary
+     * file of time series or is larger than {@link #MAX_SIZE}
+     */
+    @Nonnull
+    public static BinFile map(@Nonnull Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > MAX_SIZE) {
+                throw new IOException("Binary file of time series larger than 2 GB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                return parse(file, buffer);
+            } catch (IOException | RuntimeException ex) {
+                MappedBuffers.unmap(buffer);
+                throw ex;
+            }
+        }
+    }
+
+    private static BinFile parse(Path file, MappedByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Invalid binary file of time series");
+            }
+            if (buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported version of binary file of time series");
+            }
+            int n = buffer.getInt();
+            // the counts and the lengths are checked before any allocation
+            if (n < 0 || n > buffer.remaining() / ITEM_MIN_BYTES) {
+                throw new IOException("Invalid binary file of time series");
+            }
+            String[] keys = new String[n];
+            int[] headers = new int[n * 4];
+            for (int i = 0, j = 0; i < n; ++i) {
+                keys[i] = readString(buffer);
+                headers[j++] = buffer.getInt(); // freq
+                headers[j++] = buffer.getInt(); // year
+                headers[j++] = buffer.getInt(); // position
+                headers[j++] = buffer.getInt(); // length
+                if (headers[j - 1] >= 0 && TsFrequency.valueOf(headers[j - 4]) == null) {
+                    throw new IOException("Invalid binary file of time series");
+                }
+            }
+            // the observations start at the next multiple of 8
+            int start = align(buffer.position());
+            buffer.position(start);
+            DoubleBuffer values = buffer.slice().asDoubleBuffer();
+            long[] offsets = new long[n + 1];
+            for (int i = 0; i < n; ++i) {
+                offsets[i + 1] = offsets[i] + Math.max(0, headers[4 * i + 3]);
+            }
+            if (offsets[n] > values.capacity()) {
+                throw new IOException("Truncated binary file of time series");
+            }
+            return new BinFile(file, keys, headers, offsets, start, buffer, values);
+        } catch (BufferUnderflowException | IllegalArgumentException ex) {
+            throw new IOException("Invalid binary file of time series", ex);
+        }
+    }
+
+    /**
+     * Writes the series of a collection in a binary file. The data of the
+     * series are loaded if necessary. The names of the series are used as keys.
+     *
+     * @param file the output file
+     * @param col the collection of series
+     * @throws IOException if the file cannot be written or would be larger
+     * than {@link #MAX_SIZE}
+     * @throws IllegalArgumentException if some series have the same name or
+     * have no name
+     */
+    public static void write(@Nonnull Path file, @Nonnull TsCollection col) throws IOException, IllegalArgumentException {
+        col.load(TsInformationType.Data);
+        List<String> keys = new ArrayList<>();
+        List<TsData> data = new ArrayList<>();
+        for (Ts s : col) {
+            keys.add(s.getName());
+            data.add(s.getTsData());
+        }
+        write(file, keys, data);
+    }
+
+    /**
+     * Writes series in a binary file.
+     *
+     * @param file the output file
+     * @param keys the (unique) keys of the series
+     * @param data the data of the series; missing data are identified by null
+     * @throws IOException if the file cannot be written or would be larger
+     * than {@link #MAX_SIZE}
+     * @throws IllegalArgumentException if some keys are null or duplicated or
+     * if the lists have different sizes
+     */
+    public static void write(@Nonnull Path file, @Nonnull List<String> keys, @Nonnull List<TsData> data) throws IOException, IllegalArgumentException {
+        if (keys.size() != data.size()) {
+            throw new IllegalArgumentException("Keys and data should have the same size");
+        }
+        if (keys.contains(null)) {
+            throw new IllegalArgumentException("Null keys (series without name)");
+        }
+        if (keys.stream().distinct().count() != keys.size()) {
+            throw new IllegalArgumentException("Duplicated keys");
+        }
+        // the size is checked before writing anything
+        long header = 3 * Integer.BYTES, nvalues = 0;
+        for (int i = 0; i < keys.size(); ++i) {
+            header += Integer.BYTES + keys.get(i).getBytes(StandardCharsets.UTF_8).length + 4 * Integer.BYTES;
+            TsData s = data.get(i);
+            if (s != null) {
+                nvalues += s.getLength();
+            }
+        }
+        long start = align(header);
+        if (start + nvalues * Double.BYTES > MAX_SIZE) {
+            throw new IOException("Binary file of time series larger than 2 GB");
+        }
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(keys.size());
+            for (int i = 0; i < keys.size(); ++i) {
+                writeString(output, keys.get(i));
+                TsData s = data.get(i);
+                if (s != null) {
+                    output.writeInt(s.getFrequency().intValue());
+                    output.writeInt(s.getStart().getYear());
+                    output.writeInt(s.getStart().getPosition());
+                    output.writeInt(s.getLength());
+                } else {
+                    output.writeInt(0);
+                    output.writeInt(0);
+                    output.writeInt(0);
+                    output.writeInt(-1);
+                }
+            }
+            for (long i = header; i < start; ++i) {
+                output.writeByte(0);
+            }
+            for (TsData s : data) {
+                if (s != null) {
+                    double[] values = s.internalStorage();
+                    for (int i = 0; i < values.length; ++i) {
+                        output.writeDouble(values[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    private final Path file;
+    private final String[] keys;
+    private final int[] headers;
+    private final long[] offsets;
+    // position of the first observation in the file
+    private final long start;
+    private final Map<String, Integer> index;
+    // the mapped buffer and its view are released on close
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private MappedByteBuffer buffer;
+    private DoubleBuffer values;
+
+    private BinFile(Path file, String[] keys, int[] headers, long[] offsets, long start, MappedByteBuffer buffer, DoubleBuffer values) {
+        this.file = file;
+        this.keys = keys;
+        this.headers = headers;
+        this.offsets = offsets;
+        this.start = start;
+        this.buffer = buffer;
+        this.values = values;
+        this.index = new HashMap<>(keys.length);
+        for (int i = keys.length - 1; i >= 0; --i) {
+            index.put(keys[i], i);
+        }
+    }
+
+    public int getSeriesCount() {
+        return keys.length;
+    }
+
+    @Nonnull
+    public String getKey(int i) {
+        return keys[i];
+    }
+
+    /**
+     * Searches a series by its key.
+     *
+     * @param key
+     * @return the position of the series or -1 if it doesn't exist
+     */
+    public int indexOf(@Nullable String key) {
+        Integer pos = index.get(key);
+        return pos != null ? pos : -1;
+    }
+
+    /**
+     * Gets the data of a series. The observations are copied from the mapped
+     * buffer by a single bulk operation (or read from the file if this object
+     * is closed).
+     *
+     * @param i the position of the series
+     * @return a non-null optional data
+     */
+    @Nonnull
+    public OptionalTsData getData(int i) {
+        int length = headers[4 * i + 3];
+        if (length < 0) {
+            return OptionalTsData.absent("No data");
+        }
+        double[] data = new double[length];
+        lock.readLock().lock();
+        try {
+            if (values != null) {
+                DoubleBuffer cur = values.duplicate();
+                cur.position((int) offsets[i]);
+                cur.get(data);
+            } else {
+                read(offsets[i], data);
+            }
+        } catch (IOException ex) {
+            return OptionalTsData.absent(ex.getMessage());
+        } finally {
+            lock.readLock().unlock();
+        }
+        TsFrequency freq = TsFrequency.valueOf(headers[4 * i]);
+        return OptionalTsData.present(new TsData(freq, headers[4 * i + 1], headers[4 * i + 2], data, false));
+    }
+
+    /**
+     * Releases the mapped buffer.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (buffer != null) {
+                values = null;
+                MappedBuffers.unmap(buffer);
+                buffer = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    private static final int MAGIC = 0x5453424E; // "TSBN"
+    private static final int FORMAT_VERSION = 1;
+    // an empty key followed by the 4 integers of the header of a series
+    private static final int ITEM_MIN_BYTES = 5 * Integer.BYTES;
+
+    private static int align(int pos) {
+        return (pos + Double.BYTES - 1) & ~(Double.BYTES - 1);
+    }
+
+    private static long align(long pos) {
+        return (pos + Double.BYTES - 1) & ~(Double.BYTES - 1);
+    }
+
+    private void read(long offset, double[] data) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(data.length * Double.BYTES);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long pos = start + offset * Double.BYTES;
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes, pos + bytes.position()) < 0) {
+                    throw new IOException("Truncated binary file of time series");
+                }
+            }
+        }
+        bytes.flip();
+        bytes.asDoubleBuffer().get(data);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer input) throws IOException {
+        int length = input.getInt();
+        if (length < 0 || length > input.remaining()) {
+            throw new IOException("Invalid binary file of time series");
+        }
+        byte[] bytes = new byte[length];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.common.bin;
+
+import com.google.common.cache.CacheBuilder;
+import ec.tss.ITsProvider;
+import ec.tss.TsAsyncMode;
+import ec.tss.TsCollectionInformation;
+import ec.tss.TsInformation;
+import ec.tss.TsInformationType;
+import ec.tss.tsproviders.DataSet;
+import ec.tss.tsproviders.DataSource;
+import ec.tss.tsproviders.utils.AbstractFileLoader;
+import ec.tss.tsproviders.utils.IParam;
+import ec.tss.tsproviders.utils.Params;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import org.openide.util.lookup.ServiceProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provider of the series stored in binary files (see {@link BinFile}). The
+ * files are memory-mapped, so that no parsing is needed.
+ *
+ * @author agent
+ * @since 2.2.2
+ */
+@ServiceProvider(service = ITsProvider.class)
+public class BinProvider extends AbstractFileLoader<BinFile, BinBean> {
+
+    public static final String SOURCE = "Bin";
+    public static final String VERSION = "20181018";
+    static final String EXT = ".tsb";
+    static final IParam<DataSet, String> Z_KEY = Params.onString("", "key");
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinProvider.class);
+
+    public BinProvider() {
+        super(LOGGER, SOURCE, TsAsyncMode.None);
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Binary files";
+    }
+
+    @Override
+    public BinBean newBean() {
+        return new BinBean();
+    }
+
+    @Override
+    public DataSource encodeBean(Object bean) throws IllegalArgumentException {
+        try {
+            return ((BinBean) bean).toDataSource(SOURCE, VERSION);
+        } catch (ClassCastException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    @Override
+    public BinBean decodeBean(DataSource dataSource) {
+        return new BinBean(support.check(dataSource));
+    }
+
+    @Override
+    public boolean accept(File pathname) {
+        return pathname.getPath().toLowerCase(Locale.ENGLISH).endsWith(EXT);
+    }
+
+    @Override
+    public String getFileDescription() {
+        return "Binary file of time series";
+    }
+
+    // the mapped files are released as soon as they leave the cache
+    @Override
+    protected CacheBuilder<Object, Object> createCacheBuilder() {
+        return super.createCacheBuilder().removalListener(o -> {
+            if (o.getValue() instanceof BinFile) {
+                ((BinFile) o.getValue()).close();
+            }
+        });
+    }
+
+    @Override
+    protected BinFile loadFromBean(BinBean bean) throws Exception {
+        return BinFile.map(getRealFile(bean.getFile()).toPath());
+    }
+
+    @Override
+    public List<DataSet> children(DataSource dataSource) throws IllegalArgumentException, IOException {
+        support.check(dataSource);
+        BinFile source = getSource(dataSource);
+        DataSet.Builder builder = DataSet.builder(dataSource, DataSet.Kind.SERIES);
+        List<DataSet> result = new ArrayList<>(source.getSeriesCount());
+        for (int i = 0; i < source.getSeriesCount(); ++i) {
+            result.add(builder.put(Z_KEY, source.getKey(i)).build());
+        }
+        return result;
+    }
+
+    @Override
+    public List<DataSet> children(DataSet parent) throws IllegalArgumentException, IOException {
+        Objects.requireNonNull(parent);
+        throw new IllegalArgumentException("Not supported yet.");
+    }
+
+    @Override
+    public String getDisplayName(DataSet dataSet) {
+        support.check(dataSet);
+        return Z_KEY.get(dataSet);
+    }
+
+    @Override
+    public String getDisplayNodeName(DataSet dataSet) {
+        return getDisplayName(dataSet);
+    }
+
+    @Override
+    protected void fillCollection(TsCollectionInformation info, DataSource dataSource) throws IOException {
+        BinFile source = getSource(dataSource);
+        DataSet.Builder builder = DataSet.builder(dataSource, DataSet.Kind.SERIES);
+        for (int i = 0; i < source.getSeriesCount(); ++i) {
+            DataSet child = builder.put(Z_KEY, source.getKey(i)).build();
+            info.items.add(support.fillSeries(newTsInformation(child, TsInformationType.All), source.getData(i), true));
+        }
+        info.type = TsInformationType.All;
+    }
+
+    @Override
+    protected void fillCollection(TsCollectionInformation info, DataSet dataSet) throws IOException {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    protected void fillSeries(TsInformation info, DataSet dataSet) throws IOException {
+        BinFile source = getSource(dataSet.getDataSource());
+        int pos = source.indexOf(Z_KEY.get(dataSet));
+        if (pos < 0) {
+            throw new IOException("Missing series '" + Z_KEY.get(dataSet) + "'");
+        }
+        support.fillSeries(info, source.getData(pos), true);
+        info.name = getDisplayName(dataSet);
+        info.type = TsInformationType.All;
+    }
+
+    private BinFile getSource(DataSource dataSource) throws IOException {
+        return support.getValue(cache, dataSource);
+    }
+}
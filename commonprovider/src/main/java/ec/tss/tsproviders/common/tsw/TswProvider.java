@@ -24,11 +24,15 @@ import ec.tss.TsInformationType;
 import ec.tss.tsproviders.DataSet;
 import ec.tss.tsproviders.DataSource;
 import ec.tss.tsproviders.utils.AbstractFileLoader;
+import ec.tss.tsproviders.utils.FileSnapshotCache;
 import ec.tss.tsproviders.utils.IParam;
 import ec.tss.tsproviders.utils.Params;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -98,6 +102,11 @@ public class TswProvider extends AbstractFileLoader<TswSource, TswBean> {
         return TswFactory.getDefault().load(getRealFile(bean.getFile()).toPath());
     }
 
+    @Override
+    protected FileSnapshotCache.Codec<TswSource> getSnapshotCodec() {
+        return SnapshotCodec.INSTANCE;
+    }
+
     @Override
     protected void fillCollection(TsCollectionInformation info, DataSource dataSource) throws IOException {
         DataSet.Builder builder = DataSet.builder(dataSource, DataSet.Kind.SERIES);
@@ -174,4 +183,36 @@ public class TswProvider extends AbstractFileLoader<TswSource, TswBean> {
         }
         throw new FileNotFoundException(fileName);
     }
+
+    private static final class SnapshotCodec implements FileSnapshotCache.Codec<TswSource> {
+
+        private static final SnapshotCodec INSTANCE = new SnapshotCodec();
+
+        @Override
+        public int getVersion() {
+            return 1;
+        }
+
+        @Override
+        public void write(DataOutput output, TswSource value) throws IOException {
+            FileSnapshotCache.writeString(output, value.repository.getPath());
+            output.writeInt(value.items.size());
+            for (TswSeries o : value.items) {
+                FileSnapshotCache.writeString(output, o.fileName);
+                FileSnapshotCache.writeString(output, o.name);
+                FileSnapshotCache.writeOptionalTsData(output, o.data);
+            }
+        }
+
+        @Override
+        public TswSource read(ByteBuffer input) throws IOException {
+            File repository = new File(FileSnapshotCache.readString(input));
+            int size = input.getInt();
+            List<TswSeries> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(new TswSeries(FileSnapshotCache.readString(input), FileSnapshotCache.readString(input), FileSnapshotCache.readOptionalTsData(input)));
+            }
+            return new TswSource(repository, items);
+        }
+    }
 }
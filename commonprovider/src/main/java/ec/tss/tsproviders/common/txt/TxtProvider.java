@@ -25,13 +25,17 @@ import ec.tss.TsMoniker;
 import ec.tss.tsproviders.*;
 import static ec.tss.tsproviders.common.txt.TxtBean.X_CLEAN_MISSING;
 import ec.tss.tsproviders.utils.AbstractFileLoader;
+import ec.tss.tsproviders.utils.FileSnapshotCache;
 import ec.tss.tsproviders.utils.IParam;
 import ec.tss.tsproviders.utils.OptionalTsData;
 import ec.tss.tsproviders.utils.Params;
 import ec.tss.tsproviders.utils.Parsers;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -87,6 +91,11 @@ public class TxtProvider extends AbstractFileLoader<TxtSource, TxtBean> {
         return TxtLoader.load(realFile, bean);
     }
 
+    @Override
+    protected FileSnapshotCache.Codec<TxtSource> getSnapshotCodec() {
+        return SnapshotCodec.INSTANCE;
+    }
+
     @Override
     public String getDisplayName() {
         return "Txt files";
@@ -199,4 +208,38 @@ public class TxtProvider extends AbstractFileLoader<TxtSource, TxtBean> {
     public String getDisplayNodeName(DataSet dataSet) throws IllegalArgumentException {
         return getDisplayName(dataSet);
     }
+
+    private static final class SnapshotCodec implements FileSnapshotCache.Codec<TxtSource> {
+
+        private static final SnapshotCodec INSTANCE = new SnapshotCodec();
+
+        @Override
+        public int getVersion() {
+            return 1;
+        }
+
+        @Override
+        public void write(DataOutput output, TxtSource value) throws IOException {
+            output.writeInt(value.readLines);
+            output.writeInt(value.invalidLines);
+            output.writeInt(value.items.size());
+            for (TxtSeries o : value.items) {
+                output.writeInt(o.index);
+                FileSnapshotCache.writeString(output, o.name);
+                FileSnapshotCache.writeOptionalTsData(output, o.data);
+            }
+        }
+
+        @Override
+        public TxtSource read(ByteBuffer input) throws IOException {
+            int readLines = input.getInt();
+            int invalidLines = input.getInt();
+            int size = input.getInt();
+            List<TxtSeries> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(new TxtSeries(input.getInt(), FileSnapshotCache.readString(input), FileSnapshotCache.readOptionalTsData(input)));
+            }
+            return new TxtSource(readLines, invalidLines, items);
+        }
+    }
 }
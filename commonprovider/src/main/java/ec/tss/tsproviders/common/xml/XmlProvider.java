@@ -25,13 +25,16 @@ import ec.tss.TsInformationType;
 import ec.tss.TsMoniker;
 import ec.tss.tsproviders.*;
 import ec.tss.tsproviders.utils.AbstractFileLoader;
+import ec.tss.tsproviders.utils.FileSnapshotCache;
 import ec.tss.tsproviders.utils.IParam;
 import ec.tss.tsproviders.utils.OptionalTsData;
 import ec.tss.tsproviders.utils.Params;
 import ec.tss.tsproviders.utils.Parsers;
 import ioutil.Jaxb;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -87,6 +90,11 @@ public class XmlProvider extends AbstractFileLoader<wsTsWorkspace, XmlBean> {
         return Jaxb.Parser.of(wsTsWorkspace.class).parseChars(content);
     }
 
+    @Override
+    protected FileSnapshotCache.Codec<wsTsWorkspace> getSnapshotCodec() {
+        return SnapshotCodec.INSTANCE;
+    }
+
     @Override
     public String getDisplayName() {
         return "Xml files";
@@ -285,4 +293,68 @@ public class XmlProvider extends AbstractFileLoader<wsTsWorkspace, XmlBean> {
     public String getFileDescription() {
         return "Xml file";
     }
+
+    private static final class SnapshotCodec implements FileSnapshotCache.Codec<wsTsWorkspace> {
+
+        private static final SnapshotCodec INSTANCE = new SnapshotCodec();
+
+        @Override
+        public int getVersion() {
+            return 1;
+        }
+
+        @Override
+        public void write(DataOutput output, wsTsWorkspace value) throws IOException {
+            output.writeInt(value.tsclist != null ? value.tsclist.length : -1);
+            if (value.tsclist != null) {
+                for (wsTsCollection col : value.tsclist) {
+                    FileSnapshotCache.writeString(output, col.name);
+                    output.writeInt(col.tslist != null ? col.tslist.length : -1);
+                    if (col.tslist != null) {
+                        for (wsTs ts : col.tslist) {
+                            FileSnapshotCache.writeString(output, ts.name);
+                            output.writeBoolean(ts.tsdata != null);
+                            if (ts.tsdata != null) {
+                                output.writeInt(ts.tsdata.firstperiod);
+                                output.writeInt(ts.tsdata.firstyear);
+                                output.writeInt(ts.tsdata.frequency);
+                                FileSnapshotCache.writeDoubles(output, ts.tsdata.data);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        @Override
+        public wsTsWorkspace read(ByteBuffer input) throws IOException {
+            wsTsWorkspace result = new wsTsWorkspace();
+            int ncols = input.getInt();
+            if (ncols >= 0) {
+                result.tsclist = new wsTsCollection[ncols];
+                for (int i = 0; i < ncols; i++) {
+                    wsTsCollection col = new wsTsCollection();
+                    col.name = FileSnapshotCache.readString(input);
+                    int nts = input.getInt();
+                    if (nts >= 0) {
+                        col.tslist = new wsTs[nts];
+                        for (int j = 0; j < nts; j++) {
+                            wsTs ts = new wsTs();
+                            ts.name = FileSnapshotCache.readString(input);
+                            if (input.get() != 0) {
+                                ts.tsdata = new wsTsData();
+                                ts.tsdata.firstperiod = input.getInt();
+                                ts.tsdata.firstyear = input.getInt();
+                                ts.tsdata.frequency = input.getInt();
+                                ts.tsdata.data = FileSnapshotCache.readDoubles(input);
+                            }
+                            col.tslist[j] = ts;
+                        }
+                    }
+                    result.tsclist[i] = col;
+                }
+            }
+            return result;
+        }
+    }
 }
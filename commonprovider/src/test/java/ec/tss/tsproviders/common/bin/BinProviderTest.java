@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.common.bin;
+
+import ec.tss.TsCollection;
+import ec.tss.TsCollectionInformation;
+import ec.tss.TsFactory;
+import ec.tss.TsInformation;
+import ec.tss.TsInformationType;
+import ec.tss.tsproviders.DataSet;
+import ec.tss.tsproviders.DataSource;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import static org.assertj.core.api.Assertions.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author agent
+ */
+public class BinProviderTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private final TsData s1 = new TsData(TsFrequency.Monthly, 2000, 3, new double[]{1, 2, Double.NaN, 4}, false);
+    private final TsData s2 = new TsData(TsFrequency.Quarterly, 1990, 1, new double[]{5, 6, 7}, false);
+
+    @Test
+    public void testFile() throws IOException {
+        File file = temp.newFile("test.tsb");
+        BinFile.write(file.toPath(), Arrays.asList("s1", "s2", "s3"), Arrays.asList(s1, s2, null));
+
+        BinFile bin = BinFile.map(file.toPath());
+        assertThat(bin.getSeriesCount()).isEqualTo(3);
+        assertThat(bin.getKey(1)).isEqualTo("s2");
+        assertThat(bin.indexOf("s3")).isEqualTo(2);
+        assertThat(bin.indexOf("s4")).isEqualTo(-1);
+        assertThat(bin.getData(0).get()).isEqualTo(s1);
+        assertThat(bin.getData(1).get()).isEqualTo(s2);
+        assertThat(bin.getData(2).isPresent()).isFalse();
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BinFile.write(file.toPath(), Arrays.asList("s1", "s1"), Arrays.asList(s1, s2)));
+
+        File invalid = temp.newFile("invalid.tsb");
+        Files.write(invalid.toPath(), new byte[]{1, 2, 3, 4, 5, 6});
+        assertThatThrownBy(() -> BinFile.map(invalid.toPath())).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void testCorruptedFile() throws IOException {
+        File file = temp.newFile("test.tsb");
+        BinFile.write(file.toPath(), Arrays.asList("s1", "s2"), Arrays.asList(s1, s2));
+        byte[] content = Files.readAllBytes(file.toPath());
+
+        // magic, version, count, length of the first key, key, freq...
+        assertThatThrownBy(() -> BinFile.map(corrupt(content, 8, -1))).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> BinFile.map(corrupt(content, 8, Integer.MAX_VALUE))).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> BinFile.map(corrupt(content, 12, -5))).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> BinFile.map(corrupt(content, 12, content.length))).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> BinFile.map(corrupt(content, 18, 7))).isInstanceOf(IOException.class);
+    }
+
+    private Path corrupt(byte[] content, int pos, int value) throws IOException {
+        byte[] tmp = content.clone();
+        ByteBuffer.wrap(tmp).putInt(pos, value);
+        File file = temp.newFile();
+        Files.write(file.toPath(), tmp);
+        return file.toPath();
+    }
+
+    @Test
+    public void testWriteWithoutName() throws IOException {
+        File file = temp.newFile("test.tsb");
+        TsCollection col = TsFactory.instance.createTsCollection();
+        col.quietAdd(TsFactory.instance.createTs("s1", null, s1));
+        col.quietAdd(TsFactory.instance.createTs(null, null, s2));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BinFile.write(file.toPath(), col))
+                .withMessageContaining("without name");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> BinFile.write(file.toPath(), Arrays.asList("s1", null), Arrays.asList(s1, s2)));
+    }
+
+    @Test
+    public void testClose() throws IOException {
+        File file = temp.newFile("test.tsb");
+        BinFile.write(file.toPath(), Arrays.asList("s1", "s2", "s3"), Arrays.asList(s1, s2, null));
+
+        BinFile bin = BinFile.map(file.toPath());
+        bin.close();
+        // the file is released and the data are read directly from it
+        assertThat(bin.getData(1).get()).isEqualTo(s2);
+        assertThat(bin.getData(2).isPresent()).isFalse();
+        Files.delete(file.toPath());
+        assertThat(bin.getData(0).isPresent()).isFalse();
+    }
+
+    @Test
+    public void testProvider() throws IOException {
+        File file = temp.newFile("test.tsb");
+        BinFile.write(file.toPath(), Arrays.asList("s1", "s2", "s3"), Arrays.asList(s1, s2, null));
+
+        try (BinProvider p = new BinProvider()) {
+            BinBean bean = p.newBean();
+            bean.setFile(file);
+            DataSource dataSource = p.encodeBean(bean);
+            assertThat(p.open(dataSource)).isTrue();
+            assertThat(p.children(dataSource)).hasSize(3);
+
+            DataSet leaf = p.children(dataSource).get(1);
+            assertThat(p.getDisplayName(leaf)).isEqualTo("s2");
+
+            assertThat(new TsInformation("", p.toMoniker(leaf), TsInformationType.All))
+                    .satisfies(o -> {
+                        assertThat(p.get(o)).isTrue();
+                        assertThat(o.name).isEqualTo("s2");
+                        assertThat(o.data).isEqualTo(s2);
+                    });
+
+            assertThat(new TsCollectionInformation(p.toMoniker(dataSource), TsInformationType.All))
+                    .satisfies(o -> {
+                        assertThat(p.get(o)).isTrue();
+                        assertThat(o.items).hasSize(3);
+                        assertThat(o.items.get(0).data).isEqualTo(s1);
+                        assertThat(o.items.get(2).data).isNull();
+                    });
+
+            assertThat(p.close(dataSource)).isTrue();
+        }
+    }
+}
@@ -18,6 +18,7 @@ package ec.tss;
 
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.design.ServiceDefinition;
+import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -73,6 +74,28 @@ public interface ITsProvider extends AutoCloseable {
      */
     boolean get(@Nonnull TsInformation info);
 
+    /**
+     * Synchronous query of the information about a batch of ts. All the items
+     * belong to this provider and are usually related to the same data source,
+     * so that providers that can serve several series from one request (one
+     * database query, one parsing of a file...) should override this method.
+     * The default implementation calls {@link #get(TsInformation)} on each
+     * item.
+     *
+     * @param infos The requested information
+     * @return true if all the queries run without exception, false otherwise
+     * @since 2.2.2
+     */
+    default boolean get(@Nonnull List<TsInformation> infos) {
+        boolean result = true;
+        for (TsInformation info : infos) {
+            if (!get(info)) {
+                result = false;
+            }
+        }
+        return result;
+    }
+
     /**
      * Gets the asynchronous mode of the provider.
      *
@@ -28,9 +28,8 @@ import ec.tstoolkit.design.Internal;
 import ec.tstoolkit.design.NewObject;
 import ec.tstoolkit.design.Singleton;
 import ec.tstoolkit.timeseries.simplets.TsData;
-import java.lang.ref.WeakReference;
 import java.util.*;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.stream.Collector;
@@ -116,6 +115,7 @@ public class TsFactory {
         }
     }
 
+    // removes the entries of collected objects (see WeakValueRegistry)
     class TsFactoryCleaner extends Thread {
 
         public TsFactoryCleaner() {
@@ -145,10 +145,10 @@ public class TsFactory {
         instance = cur;
     }
 
-    private final HashMap<String, ITsProvider> m_providers = new HashMap<>();
-    private final HashMap<TsMoniker, WeakReference<TsCollection>> m_collections = new HashMap<>();
-    private final HashMap<TsMoniker, WeakReference<Ts.Master>> m_ts = new HashMap<>();
-    private boolean m_close;
+    private final Map<String, ITsProvider> m_providers = new ConcurrentHashMap<>();
+    private final WeakValueRegistry<TsMoniker, TsCollection> m_collections = new WeakValueRegistry<>();
+    private final WeakValueRegistry<TsMoniker, Ts.Master> m_ts = new WeakValueRegistry<>();
+    private volatile boolean m_close;
     private final long m_threadID;
     private boolean m_useSynchronousNotifications = true;
     NotificationsQueue notifications = new NotificationsQueue();
@@ -167,10 +167,11 @@ public class TsFactory {
      * @return
      */
     public final boolean add(ITsProvider provider) {
-        if (m_providers.containsKey(provider.getSource())) {
+        String name = provider.getSource();
+        // the concurrent map doesn't accept null names
+        if (name == null || m_providers.putIfAbsent(name, provider) != null) {
             return false;
         }
-        m_providers.put(provider.getSource(), provider);
         if (provider instanceof HasDataSourceList) {
             ((HasDataSourceList) provider).addDataSourceListener(reloadListener);
         }
@@ -204,32 +205,11 @@ public class TsFactory {
     }
 
     private void cleanTS() {
-        synchronized (m_ts) {
-            HashMap<TsMoniker, WeakReference<Ts.Master>> tmp = new HashMap<>();
-            int n = 0;
-            for (Entry<TsMoniker, WeakReference<Ts.Master>> r : m_ts.entrySet()) {
-                if (r.getValue().get() != null) {
-                    tmp.put(r.getKey(), r.getValue());
-                } else {
-                    ++n;
-                }
-            }
-            m_ts.clear();
-            m_ts.putAll(tmp);
-        }
+        m_ts.expunge();
     }
 
     private void cleanTSCollection() {
-        synchronized (m_collections) {
-            HashMap<TsMoniker, WeakReference<TsCollection>> tmp = new HashMap<>();
-            m_collections.forEach((k, v) -> {
-                if (v.get() != null) {
-                    tmp.put(k, v);
-                }
-            });
-            m_collections.clear();
-            m_collections.putAll(tmp);
-        }
+        m_collections.expunge();
     }
 
     /**
@@ -269,27 +249,22 @@ public class TsFactory {
     @Nonnull
     @NewObject
     public Ts createTs(@Nullable String name) {
-        synchronized (m_ts) {
-            Ts.Master ts = new Ts.Master(tsCallback, name);
-            m_ts.put(ts.getMoniker(), new WeakReference<>(ts));
-            return ts;
-        }
+        Ts.Master ts = new Ts.Master(tsCallback, name);
+        m_ts.put(ts.getMoniker(), ts);
+        return ts;
     }
 
     Ts createTs(TsInformation info) {
-        synchronized (m_ts) {
-            Ts.Master ts = null;
-            WeakReference<Ts.Master> wref = m_ts.get(info.moniker);
-            if (wref != null) {
-                ts = wref.get();
-            }
-            if (ts == null) {
-                ts = new Ts.Master(tsCallback, info.name, info.moniker);
+        Ts.Master ts = m_ts.get(info.moniker);
+        if (ts == null) {
+            ts = new Ts.Master(tsCallback, info.name, info.moniker);
+            Ts.Master cur = m_ts.putIfAbsent(ts.getMoniker(), ts);
+            if (cur != null) {
+                ts = cur;
             }
-            ts.update(info);
-            m_ts.put(ts.getMoniker(), new WeakReference<>(ts));
-            return ts;
         }
+        ts.update(info);
+        return ts;
     }
 
     /**
@@ -318,29 +293,18 @@ public class TsFactory {
      */
     @Nonnull
     public Ts createTs(@Nullable String name, @Nullable TsMoniker moniker, @Nullable MetaData md, @Nullable TsData d) {
-        synchronized (m_ts) {
-            WeakReference<Ts.Master> wref = null;
-            if (moniker != null) {
-                wref = m_ts.get(moniker);
-            }
-            if (wref != null) {
-                Ts.Master ts = wref.get();
-                if (ts != null) {
-                    return ts.rename(name);
-                } else {
-                    ts = new Ts.Master(tsCallback, name, moniker, md, d);
-                    m_ts.put(moniker, new WeakReference<>(ts));
-                    return ts;
-                }
-            } else {
-                if (moniker == null) {
-                    moniker = new TsMoniker();
-                }
-                Ts.Master ts = new Ts.Master(tsCallback, name, moniker, md, d);
-                m_ts.put(ts.getMoniker(), new WeakReference<>(ts));
-                return ts;
-            }
+        if (moniker == null) {
+            Ts.Master ts = new Ts.Master(tsCallback, name, new TsMoniker(), md, d);
+            m_ts.put(ts.getMoniker(), ts);
+            return ts;
+        }
+        Ts.Master ts = m_ts.get(moniker);
+        if (ts != null) {
+            return ts.rename(name);
         }
+        ts = new Ts.Master(tsCallback, name, moniker, md, d);
+        Ts.Master cur = m_ts.putIfAbsent(moniker, ts);
+        return cur != null ? cur.rename(name) : ts;
     }
 
     /**
@@ -354,23 +318,30 @@ public class TsFactory {
      */
     @Nonnull
     public Ts createTs(@Nullable String name, @Nonnull TsMoniker moniker, @Nonnull TsInformationType type) {
-        synchronized (m_ts) {
-            Ts.Master result = (Ts.Master) getTs(moniker);
-            if (result == null) {
-                if (type != TsInformationType.None) {
-                    TsInformation info = new TsInformation(name, moniker, type);
-                    fill(info);
-                    result = new Ts.Master(tsCallback, name != null ? name : info.name, moniker);
-                    result.update(info);
-                } else {
-                    result = new Ts.Master(tsCallback, name, moniker);
-                }
-                m_ts.put(moniker, new WeakReference<>(result));
-            } else {
-                result.load(type);
-            }
+        Ts.Master result = m_ts.get(moniker);
+        if (result != null) {
+            result.load(type);
+            return result;
+        }
+        // the provider is called outside of any lock; if another thread has
+        // registered the same series in the meantime, it is simply updated
+        TsInformation info = null;
+        if (type != TsInformationType.None) {
+            info = new TsInformation(name, moniker, type);
+            fill(info);
+            result = new Ts.Master(tsCallback, name != null ? name : info.name, moniker);
+            result.update(info);
+        } else {
+            result = new Ts.Master(tsCallback, name, moniker);
+        }
+        Ts.Master cur = m_ts.putIfAbsent(moniker, result);
+        if (cur == null) {
             return result;
         }
+        if (info != null) {
+            cur.update(info);
+        }
+        return cur;
     }
 
     private boolean fill(TsInformation info) {
@@ -408,12 +379,9 @@ public class TsFactory {
     @Nonnull
     @NewObject
     public TsCollection createTsCollection(@Nullable String name) {
-        synchronized (m_collections) {
-            TsCollection coll = new TsCollection(tsCollectionCallback, name);
-            m_collections.put(coll.getMoniker(),
-                    new WeakReference<>(coll));
-            return coll;
-        }
+        TsCollection coll = new TsCollection(tsCollectionCallback, name);
+        m_collections.put(coll.getMoniker(), coll);
+        return coll;
     }
 
     /**
@@ -429,29 +397,18 @@ public class TsFactory {
     @Nonnull
     public TsCollection createTsCollection(@Nullable String name, @Nullable TsMoniker moniker, @Nullable MetaData md,
             @Nullable Iterable<Ts> ts) {
-        synchronized (m_collections) {
-            if (moniker == null) {
-                TsCollection c = new TsCollection(tsCollectionCallback, name, new TsMoniker(), md, ts);
-                m_collections.put(c.getMoniker(), new WeakReference<>(c));
-                return c;
-            } else {
-                WeakReference<TsCollection> wref = m_collections.get(moniker);
-                if (wref != null) {
-                    TsCollection c = wref.get();
-                    if (c != null) {
-                        return c;
-                    } else {
-                        c = new TsCollection(tsCollectionCallback, name, moniker, md, ts);
-                        m_collections.put(c.getMoniker(), new WeakReference<>(c));
-                        return c;
-                    }
-                } else {
-                    TsCollection c = new TsCollection(tsCollectionCallback, name, moniker, md, ts);
-                    m_collections.put(c.getMoniker(), new WeakReference<>(c));
-                    return c;
-                }
-            }
+        if (moniker == null) {
+            TsCollection c = new TsCollection(tsCollectionCallback, name, new TsMoniker(), md, ts);
+            m_collections.put(c.getMoniker(), c);
+            return c;
+        }
+        TsCollection c = m_collections.get(moniker);
+        if (c != null) {
+            return c;
         }
+        c = new TsCollection(tsCollectionCallback, name, moniker, md, ts);
+        TsCollection cur = m_collections.putIfAbsent(moniker, c);
+        return cur != null ? cur : c;
     }
 
     /**
@@ -467,26 +424,24 @@ public class TsFactory {
     public TsCollection createTsCollection(@Nullable String name, @Nonnull TsMoniker moniker,
             @Nonnull TsInformationType type) {
         // Search collection
-        synchronized (m_collections) {
-            TsCollection result = getTsCollection(moniker);
-            if (result == null) {
-                result = new TsCollection(tsCollectionCallback, name, moniker);
-                if (type != TsInformationType.None) {
-                    TsCollectionInformation info = new TsCollectionInformation(moniker, type);
-                    fill(info);
-                    // set data
-                    List<Ts> updated = result.update(info);
-                    for (Ts s : updated) {
-                        notify(s, type, result);
-                    }
-                }
-                // add collection
-                m_collections.put(moniker, new WeakReference<>(result));
-            } else {
-                result.load(type);
-            }
+        TsCollection result = getTsCollection(moniker);
+        if (result != null) {
+            result.load(type);
             return result;
         }
+        result = new TsCollection(tsCollectionCallback, name, moniker);
+        if (type != TsInformationType.None) {
+            TsCollectionInformation info = new TsCollectionInformation(moniker, type);
+            fill(info);
+            // set data
+            List<Ts> updated = result.update(info);
+            for (Ts s : updated) {
+                notify(s, type, result);
+            }
+        }
+        // add collection (unless another thread has been faster)
+        TsCollection cur = m_collections.putIfAbsent(moniker, result);
+        return cur != null ? cur : result;
     }
 
     private boolean fill(TsCollectionInformation info) {
@@ -554,19 +509,7 @@ public class TsFactory {
      */
     @Nullable
     public Ts getTs(@Nullable TsMoniker moniker) {
-        synchronized (m_ts) {
-            WeakReference<Ts.Master> wref = m_ts.get(moniker);
-            if (wref != null) {
-                Ts ts = wref.get();
-                if (ts == null) {
-                    m_ts.remove(moniker);
-                }
-                // cleanTS();
-                return ts;
-            } else {
-                return null;
-            }
-        }
+        return m_ts.get(moniker);
     }
 
     /**
@@ -578,19 +521,7 @@ public class TsFactory {
      */
     @Nullable
     public TsCollection getTsCollection(@Nullable TsMoniker moniker) {
-        synchronized (m_collections) {
-            WeakReference<TsCollection> wref = m_collections.get(moniker);
-            if (wref != null) {
-                TsCollection collection = wref.get();
-                if (collection == null) {
-                    m_collections.remove(moniker);
-                }
-                // cleanTSCollection();
-                return collection;
-            } else {
-                return null;
-            }
-        }
+        return m_collections.get(moniker);
     }
 
     /**
@@ -611,13 +542,7 @@ public class TsFactory {
         if (m_close) {
             return false;
         }
-        synchronized (m_ts) {
-            WeakReference<Ts.Master> wref = m_ts.get(moniker);
-            if (wref == null) {
-                return false;
-            }
-            return wref.get() != null;
-        }
+        return m_ts.get(moniker) != null;
     }
 
     /**
@@ -630,13 +555,7 @@ public class TsFactory {
         if (m_close) {
             return false;
         }
-        synchronized (m_collections) {
-            WeakReference<TsCollection> wref = m_collections.get(moniker);
-            if (wref == null) {
-                return false;
-            }
-            return wref.get() != null;
-        }
+        return m_collections.get(moniker) != null;
     }
 
     /**
@@ -684,21 +603,73 @@ public class TsFactory {
     }
 
     /**
+     * Loads information for the corresponding time series (it is not checked
+     * that that information has already been loaded). The series are grouped
+     * by provider and by data source, and each group is loaded by a single call
+     * to the provider (see {@link ITsProvider#get(List)}). Events are
+     * automatically dispatched.
      *
      * @param list
-     * @param type
-     * @return
+     * @param type the type of information to load
+     * @return true if some data are loaded; false otherwise
      */
     public boolean load(Ts[] list, TsInformationType type) {
         boolean ok = false;
+        Map<Object, List<Ts.Master>> batches = new LinkedHashMap<>();
         for (Ts s : list) {
-            if (load(s, type)) {
+            Ts.Master ts = s.getMaster();
+            TsMoniker moniker = ts.getMoniker();
+            ITsProvider provider = TsMoniker.Type.PROVIDED.equals(moniker.getType()) ? getProvider(moniker.getSource()) : null;
+            if (provider == null) {
+                if (doLoad(ts, type)) {
+                    ok = true;
+                }
+            } else {
+                batches.computeIfAbsent(getBatchKey(provider, moniker), o -> new ArrayList<>()).add(ts);
+            }
+        }
+        for (List<Ts.Master> batch : batches.values()) {
+            if (doLoad(batch, type)) {
                 ok = true;
             }
         }
         return ok;
     }
 
+    // series of the same data source (or of the same provider if it is not
+    // a data source provider) are loaded together
+    private static Object getBatchKey(ITsProvider provider, TsMoniker moniker) {
+        if (provider instanceof IDataSourceProvider) {
+            DataSet dataSet = ((IDataSourceProvider) provider).toDataSet(moniker);
+            if (dataSet != null) {
+                return dataSet.getDataSource();
+            }
+        }
+        return provider.getSource();
+    }
+
+    private boolean doLoad(@Nonnull List<Ts.Master> batch, @Nonnull TsInformationType type) {
+        ITsProvider provider = getProvider(batch.get(0).getMoniker().getSource());
+        List<TsInformation> infos = new ArrayList<>(batch.size());
+        batch.forEach(o -> infos.add(new TsInformation(o.getName(), o.getMoniker(), type)));
+        boolean result = provider.get(infos);
+        // a failure of some items doesn't hide the items that are loaded
+        boolean ok = false;
+        for (int i = 0; i < infos.size(); ++i) {
+            TsInformation info = infos.get(i);
+            if (!result && info.invalidDataCause == null && info.type.needsData() && info.data == null) {
+                info.invalidDataCause = "Unknown error";
+            }
+            if (result || info.invalidDataCause == null) {
+                ok = true;
+            }
+            Ts.Master ts = batch.get(i);
+            ts.update(info);
+            notify(ts, info.type, this);
+        }
+        return ok;
+    }
+
     /**
      * Loads information for the corresponding object (it is not checked that
      * that information has already been loaded). If a corresponding
@@ -777,11 +748,9 @@ public class TsFactory {
         if (provider == null) {
             return false;
         }
-        synchronized (m_ts) {
-            return provider.getAsyncMode() == TsAsyncMode.None
-                    ? doLoad(s.getMaster(), type)
-                    : provider.queryTs(s.getMoniker(), type);
-        }
+        return provider.getAsyncMode() == TsAsyncMode.None
+                ? doLoad(s.getMaster(), type)
+                : provider.queryTs(s.getMoniker(), type);
     }
 
     /**
@@ -807,11 +776,9 @@ public class TsFactory {
             }
             return true;
         }
-        synchronized (m_collections) {
-            return provider.getAsyncMode() == TsAsyncMode.None
-                    ? doLoad(c, type)
-                    : provider.queryTsCollection(c.getMoniker(), type);
-        }
+        return provider.getAsyncMode() == TsAsyncMode.None
+                ? doLoad(c, type)
+                : provider.queryTsCollection(c.getMoniker(), type);
     }
 
     /**
@@ -830,6 +797,9 @@ public class TsFactory {
             }
 
             String name = iprovider.getSource();
+            if (name == null) {
+                return null;
+            }
             m_providers.put(name, iprovider);
             return iprovider;
         } catch (ClassNotFoundException ex) {
@@ -841,14 +811,16 @@ public class TsFactory {
      *
      * @param name
      */
-    public void remove(String name) {
-        if (m_providers.containsKey(name)) {
-            ITsProvider provider = m_providers.get(name);
+    public void remove(@Nullable String name) {
+        if (name == null) {
+            return;
+        }
+        ITsProvider provider = m_providers.remove(name);
+        if (provider != null) {
             if (provider instanceof HasDataSourceList) {
                 ((HasDataSourceList) provider).removeDataSourceListener(reloadListener);
             }
             provider.dispose();
-            m_providers.remove(name);
         }
     }
 
@@ -877,16 +849,14 @@ public class TsFactory {
      * @param info
      */
     public void update(@Nonnull TsCollectionInformation info) {
-        synchronized (m_collections) {
-            TsCollection c = getTsCollection(info.moniker);
-            if (c != null) {
-                List<Ts> updated = c.update(info);
-                notify(c, info.type, null);
-                updated.forEach(s -> notify(s, info.type, c));
-            } else {
-                // the collection has been destroyed, but the series could be alive...
-                info.items.forEach(sinfo -> update(sinfo));
-            }
+        TsCollection c = getTsCollection(info.moniker);
+        if (c != null) {
+            List<Ts> updated = c.update(info);
+            notify(c, info.type, null);
+            updated.forEach(s -> notify(s, info.type, c));
+        } else {
+            // the collection has been destroyed, but the series could be alive...
+            info.items.forEach(sinfo -> update(sinfo));
         }
     }
 
@@ -896,15 +866,13 @@ public class TsFactory {
      * @param info
      */
     public void update(@Nonnull TsInformation info) {
-        synchronized (m_ts) {
-            Ts.Master s = (Ts.Master) getTs(info.moniker);
-            if (s == null) // the series has been destroyed
-            {
-                return;
-            }
-            s.update(info);
-            notify(s, info.type, null);
+        Ts.Master s = m_ts.get(info.moniker);
+        if (s == null) // the series has been destroyed
+        {
+            return;
         }
+        s.update(info);
+        notify(s, info.type, null);
     }
 
     /**
@@ -944,23 +912,13 @@ public class TsFactory {
         }
 
         private TsCollection[] lookupTsCollection(IDataSourceProvider p, DataSource dataSource) {
-            synchronized (m_collections) {
-                return m_collections.entrySet().stream()
-                        .filter(o -> isRelatedTo(p, dataSource, o.getKey()))
-                        .map(o -> o.getValue().get())
-                        .filter(Objects::nonNull)
-                        .toArray(TsCollection[]::new);
-            }
+            return m_collections.select((k, v) -> isRelatedTo(p, dataSource, k))
+                    .toArray(new TsCollection[0]);
         }
 
         private Ts.Master[] lookupTs(IDataSourceProvider p, DataSource dataSource) {
-            synchronized (m_collections) {
-                return m_ts.entrySet().stream()
-                        .filter(o -> isRelatedTo(p, dataSource, o.getKey()))
-                        .map(o -> o.getValue().get())
-                        .filter(Objects::nonNull)
-                        .toArray(Ts.Master[]::new);
-            }
+            return m_ts.select((k, v) -> isRelatedTo(p, dataSource, k))
+                    .toArray(new Ts.Master[0]);
         }
 
         private boolean isRelatedTo(IDataSourceProvider p, DataSource dataSource, TsMoniker moniker) {
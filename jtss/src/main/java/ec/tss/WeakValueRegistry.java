@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A lock-free map whose values are weakly referenced. Entries of collected
+ * values are removed through a reference queue, so that no full scan of the
+ * map is ever needed.
+ *
+ * @author agent
+ * @param <K>
+ * @param <V>
+ */
+@ThreadSafe
+final class WeakValueRegistry<K, V> {
+
+    private final ConcurrentHashMap<K, Ref<K, V>> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+    /**
+     * Gets an alive value.
+     *
+     * @param key
+     * @return the value or null if it doesn't exist or has been collected
+     */
+    @Nullable
+    V get(@Nullable K key) {
+        if (key == null) {
+            return null;
+        }
+        Ref<K, V> ref = map.get(key);
+        if (ref == null) {
+            return null;
+        }
+        V result = ref.get();
+        if (result == null) {
+            map.remove(key, ref);
+        }
+        return result;
+    }
+
+    void put(@Nonnull K key, @Nonnull V value) {
+        map.put(key, new Ref<>(key, value, queue));
+        expunge();
+    }
+
+    /**
+     * Registers a value if no alive value is associated with the key.
+     *
+     * @param key
+     * @param value
+     * @return the existing alive value (the new value is then not registered)
+     * or null if the new value has been registered
+     */
+    @Nullable
+    V putIfAbsent(@Nonnull K key, @Nonnull V value) {
+        Ref<K, V> nref = new Ref<>(key, value, queue);
+        while (true) {
+            Ref<K, V> ref = map.putIfAbsent(key, nref);
+            if (ref == null) {
+                expunge();
+                return null;
+            }
+            V cur = ref.get();
+            if (cur != null) {
+                return cur;
+            }
+            if (map.replace(key, ref, nref)) {
+                expunge();
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of the alive values whose entries satisfy a given
+     * condition.
+     *
+     * @param filter
+     * @return
+     */
+    @Nonnull
+    List<V> select(@Nonnull BiPredicate<? super K, ? super V> filter) {
+        List<V> result = new ArrayList<>();
+        map.forEach((k, ref) -> {
+            V cur = ref.get();
+            if (cur != null && filter.test(k, cur)) {
+                result.add(cur);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Removes the entries of the collected values.
+     */
+    @SuppressWarnings("unchecked")
+    void expunge() {
+        Ref<K, V> ref;
+        while ((ref = (Ref<K, V>) queue.poll()) != null) {
+            map.remove(ref.key, ref);
+        }
+    }
+
+    int size() {
+        return map.size();
+    }
+
+    private static final class Ref<K, V> extends WeakReference<V> {
+
+        final K key;
+
+        Ref(K key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
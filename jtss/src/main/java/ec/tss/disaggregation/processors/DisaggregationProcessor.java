@@ -18,6 +18,10 @@ package ec.tss.disaggregation.processors;
 
 import ec.benchmarking.DisaggregationModel;
 import ec.benchmarking.simplets.TsDisaggregation;
+import ec.benchmarking.simplets.TsDisaggregationBatch;
+import ec.tss.Ts;
+import ec.tss.TsCollection;
+import ec.tss.TsFactory;
 import ec.tss.disaggregation.documents.DisaggregationResults;
 import ec.tss.disaggregation.documents.DisaggregationSpecification;
 import ec.tstoolkit.Parameter;
@@ -40,6 +44,8 @@ import ec.tstoolkit.timeseries.regression.TsVariable;
 import ec.tstoolkit.timeseries.regression.TsVariableList;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -101,6 +107,85 @@ public class DisaggregationProcessor implements ITemporalDisaggregationProcessin
             if (model == null) {
                 return null;
             }
+            TsDisaggregation<? extends ISsf> disagg = algorithm(model.getX().getVariablesCount());
+            if (!disagg.process(model, null)) {
+                return null;
+            } else {
+                int n = model.getX().getVariablesCount();
+                if (spec.isConstant()) {
+                    --n;
+                }
+                if (spec.isTrend()) {
+                    --n;
+                }
+                return new DisaggregationResults(disagg, n);
+            }
+        }
+
+        /**
+         * Disaggregates a set of series that share the same indicators. The
+         * series are processed in parallel and the disaggregated series are
+         * added to the output in the order of the input: a result is added as
+         * soon as the results of all the previous series are available, so
+         * that only the results that complete out of order are kept in
+         * memory. They keep the names of the original series. The series that
+         * can't be disaggregated are skipped.
+         *
+         * The linear trend (if any) starts at the beginning of the first
+         * series.
+         *
+         * @param input The low-frequency series
+         * @param indicators The indicators. May be empty
+         * @param output The collection that receives the disaggregated series
+         * @return The number of disaggregated series
+         */
+        public int process(TsCollection input, TsData[] indicators, TsCollection output) {
+            List<String> names = new ArrayList<>();
+            List<TsData> y = new ArrayList<>();
+            for (Ts s : input) {
+                TsData data = s.getTsData();
+                if (data != null) {
+                    names.add(s.getName());
+                    y.add(data.select(spec.getSpan()));
+                }
+            }
+            if (y.isEmpty()) {
+                return 0;
+            }
+            TsFrequency def = spec.getDefaultFrequency();
+            if (indicators.length == 0 && def == TsFrequency.Undefined) {
+                return 0;
+            }
+            TsVariableList x = regressors(y.get(0), indicators);
+            int nx = x.getVariablesCount();
+            TsDisaggregationBatch<ISsf> batch = new TsDisaggregationBatch<>(() -> algorithm(nx), x);
+            batch.setDefaultFrequency(def);
+            if (indicators.length == 0) {
+                batch.setDefaultForecastsCount(def.intValue());
+            }
+            batch.setAggregationType(spec.getType());
+            // the results are given in the order of completion (never
+            // concurrently); they are buffered until the previous ones are added
+            TsData[] smoothed = new TsData[y.size()];
+            boolean[] done = new boolean[y.size()];
+            int[] state = new int[2]; // next position to add, count
+            batch.process(y, (i, rslt) -> {
+                if (rslt != null) {
+                    smoothed[i] = rslt.getSmoothedSeries();
+                }
+                done[i] = true;
+                for (int cur = state[0]; cur < done.length && done[cur]; cur = ++state[0]) {
+                    if (smoothed[cur] != null && output.add(TsFactory.instance.createTs(names.get(cur), null, smoothed[cur]))) {
+                        ++state[1];
+                    }
+                    smoothed[cur] = null;
+                }
+            });
+            return state[1];
+        }
+
+        @SuppressWarnings("unchecked")
+        private TsDisaggregation<ISsf> algorithm(int nx) {
             TsDisaggregation<? extends ISsf> disagg;
 
             if (spec.getModel() == DisaggregationSpecification.Model.Ar1) {
@@ -119,22 +204,10 @@ public class DisaggregationProcessor implements ITemporalDisaggregationProcessin
             disagg.calculateVariance(true);
             disagg.setSsfOption(spec.getOption());
             if (spec.isDiffuseRegression()) {
-                disagg.setDiffuseRegressorsCount(model.getX().getVariablesCount());
-            }
-
-
-            if (!disagg.process(model, null)) {
-                return null;
-            } else {
-                int n = model.getX().getVariablesCount();
-                if (spec.isConstant()) {
-                    --n;
-                }
-                if (spec.isTrend()) {
-                    --n;
-                }
-                return new DisaggregationResults(disagg, n);
+                disagg.setDiffuseRegressorsCount(nx);
             }
+            // the state space form is only used through the generic interface
+            return (TsDisaggregation<ISsf>) disagg;
         }
 
         private TsDisaggregation<SsfAr1> initChowLin() {
@@ -203,21 +276,28 @@ public class DisaggregationProcessor implements ITemporalDisaggregationProcessin
                     model.setDefaultForecastCount(def.intValue());
                 }
             }
+            TsData[] indicators = new TsData[input.length - 1];
+            System.arraycopy(input, 1, indicators, 0, indicators.length);
+            TsVariableList x = regressors(input[0], indicators);
+            if (!x.isEmpty()) {
+                model.setX(x);
+            }
+            model.setAggregationType(spec.getType());
+            return model;
+        }
+
+        private TsVariableList regressors(TsData y, TsData[] indicators) {
             TsVariableList x = new TsVariableList();
             if (spec.isConstant() && (spec.getModel().isStationary() || spec.isZeroInitialization())) {
                 x.add(new Constant());
             }
             if (spec.isTrend()) {
-                x.add(new LinearTrend(input[0].getStart().firstday()));
-            }
-            for (int i = 1; i < input.length; ++i) {
-                x.add(new TsVariable("var-" + i, input[i]));
+                x.add(new LinearTrend(y.getStart().firstday()));
             }
-            if (!x.isEmpty()) {
-                model.setX(x);
+            for (int i = 0; i < indicators.length; ++i) {
+                x.add(new TsVariable("var-" + (i + 1), indicators[i]));
             }
-            model.setAggregationType(spec.getType());
-            return model;
+            return x;
         }
     }
 }
@@ -51,6 +51,23 @@ public interface ISaProcessingFactory<S extends ISaSpecification> extends
      */
         ISaSpecification createSpecification(SaItem doc, TsDomain frozenPeriod, EstimationPolicyType policy, boolean nospan);
 
+    /**
+     * Creates a new specification, using the given estimation policy and the
+     * last estimation. With warm start, the parameters of the last estimation
+     * that have to be re-estimated are kept as initial values of the new
+     * estimation. The default implementation ignores that option.
+     *
+     * @param doc
+     * @param frozenPeriod
+     * @param policy
+     * @param nospan
+     * @param warmStart
+     * @return
+     */
+    default ISaSpecification createSpecification(SaItem doc, TsDomain frozenPeriod, EstimationPolicyType policy, boolean nospan, boolean warmStart) {
+        return createSpecification(doc, frozenPeriod, policy, nospan);
+    }
+
         /// <summary>
     /// Updates the descriptor with a new estimation
     /// </summary>
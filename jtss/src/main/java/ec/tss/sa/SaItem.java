@@ -31,6 +31,7 @@ import ec.tstoolkit.algorithm.AlgorithmDescriptor;
 import ec.tstoolkit.algorithm.CompositeResults;
 import ec.tstoolkit.algorithm.ProcDiagnostic;
 import ec.tstoolkit.algorithm.ProcQuality;
+import ec.tstoolkit.data.BufferPool;
 import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.information.InformationSetHelper;
 import ec.tstoolkit.information.ProxyResults;
@@ -386,7 +387,13 @@ public class SaItem {
             return null;
         }
 
-        CompositeResults rslts = SaManager.instance.process(getEstimationSpecification(), ts_.getTsData());
+        CompositeResults rslts;
+        try {
+            rslts = SaManager.instance.process(getEstimationSpecification(), ts_.getTsData());
+        } finally {
+            // the temporary buffers of the estimation are specific to each series
+            BufferPool.reset();
+        }
         synchronized (id_) {
             rslts_ = rslts;
             update();
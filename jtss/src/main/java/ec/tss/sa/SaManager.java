@@ -67,11 +67,26 @@ public final class SaManager extends AlgorithmManager<ISaSpecification, TsData,
     }
 
     public ISaSpecification createSpecification(SaItem doc, TsDomain frozenPeriod, EstimationPolicyType policy, boolean nospan) {
+        return createSpecification(doc, frozenPeriod, policy, nospan, false);
+    }
+
+    /**
+     * Creates a new specification from the last estimation. With warm start,
+     * the re-estimated parameters begin at their previous values.
+     *
+     * @param doc
+     * @param frozenPeriod
+     * @param policy
+     * @param nospan
+     * @param warmStart
+     * @return
+     */
+    public ISaSpecification createSpecification(SaItem doc, TsDomain frozenPeriod, EstimationPolicyType policy, boolean nospan, boolean warmStart) {
         ISaProcessingFactory proc = getProcessor(doc.getEstimationMethod());
         if (proc == null) {
             return null;
         } else {
-            return proc.createSpecification(doc, frozenPeriod, policy, nospan);
+            return proc.createSpecification(doc, frozenPeriod, policy, nospan, warmStart);
         }
     }
 
@@ -86,13 +101,17 @@ public final class SaManager extends AlgorithmManager<ISaSpecification, TsData,
     }
 
     public <S extends ISaSpecification> SaDocument<S> refreshDocument(SaDocument<S> doc, TsDomain frozenPeriod, EstimationPolicyType policy, boolean nospan) {
+        return refreshDocument(doc, frozenPeriod, policy, nospan, false);
+    }
+
+    public <S extends ISaSpecification> SaDocument<S> refreshDocument(SaDocument<S> doc, TsDomain frozenPeriod, EstimationPolicyType policy, boolean nospan, boolean warmStart) {
         // createDiagnostics a new temporary SaItem
         SaItem tmp = new SaItem(doc.getSpecification(), doc.getInput());
         tmp.unsafeFill(doc.getResults());
         if (!updatePointSpecification(tmp)) {
             return null;
         }
-        ISaSpecification nspec = createSpecification(tmp, frozenPeriod, policy, nospan);
+        ISaSpecification nspec = createSpecification(tmp, frozenPeriod, policy, nospan, warmStart);
         if (nspec == null || !doc.getProcessor().canHandle(nspec)) {
             return null;
         }
@@ -19,6 +19,8 @@ package ec.tss.sa;
 import com.google.common.collect.ForwardingList;
 import ec.satoolkit.ISaSpecification;
 import ec.tss.Ts;
+import ec.tss.TsFactory;
+import ec.tss.TsInformationType;
 import ec.tss.TsStatus;
 import ec.tstoolkit.IDocumented;
 import ec.tstoolkit.MetaData;
@@ -38,6 +40,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 /**
  *
@@ -169,14 +172,16 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
             return refresh(items, sel, nospan);
         }
         List<SaItem> nitems = new ArrayList<>();
-        for (SaItem item : items) {
+        Ts[] series = unfreeze(items, item -> indexOf(item) >= 0);
+        for (int i = 0; i < series.length; ++i) {
+            SaItem item = items.get(i);
             if (!item.isLocked()) {
                 int pos = indexOf(item);
                 if (pos < 0) {
                     nitems.add(null);
                     continue;
                 }
-                Ts s = item.getTs().unfreeze();
+                Ts s = series[i];
                 // createDiagnostics the new spec
                 ISaSpecification nspec = SaManager.instance.createSpecification(item, null, policy, nospan);
                 SaItem citem = item.newSpecification(s, nspec, policy);
@@ -191,7 +196,9 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
 
     public List<SaItem> refresh(List<SaItem> items, TsPeriodSelector outliersCutoff, boolean nospan) {
         List<SaItem> nitems = new ArrayList<>();
-        for (SaItem item : items) {
+        Ts[] series = unfreeze(items, item -> indexOf(item) >= 0);
+        for (int i = 0; i < series.length; ++i) {
+            SaItem item = items.get(i);
             if (!item.isLocked()) {
                 int pos = indexOf(item);
                 if (pos < 0) {
@@ -204,7 +211,7 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
                 } else {
                     prevDomain = prevDomain.drop(0, prevDomain.getFrequency().intValue());
                 }
-                Ts s = item.getTs().unfreeze();
+                Ts s = series[i];
                 // createDiagnostics the new spec
                 ISaSpecification nspec = SaManager.instance.createSpecification(item, prevDomain, EstimationPolicyType.LastOutliers, nospan);
                 SaItem citem = item.newSpecification(s, nspec, EstimationPolicyType.LastOutliers);
@@ -218,19 +225,33 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
     }
 
     public void refresh(EstimationPolicyType policy, boolean nospan) {
+        refresh(policy, nospan, false);
+    }
+
+    /**
+     * Refreshes all the unlocked items. With warm start, the parameters that
+     * are re-estimated begin at the values of the last estimation, which
+     * speeds up the partial concurrent adjustment of large workspaces.
+     *
+     * @param policy
+     * @param nospan
+     * @param warmStart
+     */
+    public void refresh(EstimationPolicyType policy, boolean nospan, boolean warmStart) {
         if (policy == EstimationPolicyType.LastOutliers) {
             TsPeriodSelector sel = new TsPeriodSelector();
             sel.excluding(0, -1);
-            refresh(sel, nospan);
+            refresh(sel, nospan, warmStart);
             return;
         }
         int n = items_.size();
+        Ts[] series = unfreeze(items_, item -> true);
         for (int i = 0; i < n; ++i) {
             SaItem item = items_.get(i);
             if (!item.isLocked()) {
-                Ts s = item.getTs().unfreeze();
+                Ts s = series[i];
                 // createDiagnostics the new spec
-                ISaSpecification nspec = SaManager.instance.createSpecification(item, null, policy, nospan);
+                ISaSpecification nspec = SaManager.instance.createSpecification(item, null, policy, nospan, warmStart);
                 SaItem citem = item.newSpecification(s, nspec, policy);
                 citem.setKey(item.getKey());
                 items_.set(i, citem);
@@ -243,7 +264,12 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
     // The period selector defines the period that is frozen in the new outlier detection procedure.
     // Outliers that belong to that period will be maintained.
     public void refresh(TsPeriodSelector outliersCutoff, boolean nospan) {
+        refresh(outliersCutoff, nospan, false);
+    }
+
+    public void refresh(TsPeriodSelector outliersCutoff, boolean nospan, boolean warmStart) {
         int n = items_.size();
+        Ts[] series = unfreeze(items_, item -> item.getTsData() != null);
         for (int i = 0; i < n; ++i) {
             SaItem item = items_.get(i);
             if (!item.isLocked() && item.getTsData() != null) {
@@ -253,9 +279,9 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
                 } else {
                     prevDomain = prevDomain.drop(0, prevDomain.getFrequency().intValue());
                 }
-                Ts s = item.getTs().unfreeze();
+                Ts s = series[i];
                 // createDiagnostics the new spec
-                ISaSpecification nspec = SaManager.instance.createSpecification(item, prevDomain, EstimationPolicyType.LastOutliers, nospan);
+                ISaSpecification nspec = SaManager.instance.createSpecification(item, prevDomain, EstimationPolicyType.LastOutliers, nospan, warmStart);
                 SaItem citem = item.newSpecification(s, nspec, EstimationPolicyType.LastOutliers);
                 citem.setKey(item.getKey());
                 items_.set(i, citem);
@@ -264,6 +290,27 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
         }
     }
 
+    // Unfreezes the series of the unlocked items that will be refreshed and
+    // loads them in a single batch (one request by data source) before they
+    // are frozen again. The other series are null
+    private static Ts[] unfreeze(List<SaItem> items, Predicate<SaItem> refreshed) {
+        Ts[] series = new Ts[items.size()];
+        List<Ts> toLoad = new ArrayList<>();
+        for (int i = 0; i < series.length; ++i) {
+            SaItem item = items.get(i);
+            if (!item.isLocked() && refreshed.test(item)) {
+                series[i] = item.getTs().unfreeze();
+                if (!series[i].getInformationType().encompass(TsInformationType.All)) {
+                    toLoad.add(series[i]);
+                }
+            }
+        }
+        if (!toLoad.isEmpty()) {
+            TsFactory.instance.load(toLoad.toArray(new Ts[toLoad.size()]), TsInformationType.All);
+        }
+        return series;
+    }
+
     @Deprecated
     public int search(SaItem item) {
         return indexOf(item);
@@ -85,6 +85,11 @@ public class TramoSeatsProcessor implements ISaProcessingFactory<TramoSeatsSpeci
 
     @Override
     public ISaSpecification createSpecification(SaItem doc, TsDomain frozen, EstimationPolicyType policy, boolean nospan) {
+        return createSpecification(doc, frozen, policy, nospan, false);
+    }
+
+    @Override
+    public ISaSpecification createSpecification(SaItem doc, TsDomain frozen, EstimationPolicyType policy, boolean nospan, boolean warmStart) {
         TramoSeatsSpecification spec = (TramoSeatsSpecification) doc.getPointSpecification();
         TramoSeatsSpecification defspec = (TramoSeatsSpecification) doc.getDomainSpecification();
         if (policy == EstimationPolicyType.Complete || spec == null) {
@@ -104,7 +109,7 @@ public class TramoSeatsProcessor implements ISaProcessingFactory<TramoSeatsSpeci
         }
 
         // automodel/arima
-        refreshArimaSpec(ntspec, dtspec, policy);
+        refreshArimaSpec(ntspec, dtspec, policy, warmStart);
         refreshOutliersSpec(ntspec, dtspec, frozen, policy);
 
         RegressionSpec nrspec = ntspec.getRegression();
@@ -122,7 +127,7 @@ public class TramoSeatsProcessor implements ISaProcessingFactory<TramoSeatsSpeci
        return newspec;
     }
 
-    private void refreshArimaSpec(TramoSpecification spec, TramoSpecification defspec, EstimationPolicyType policy) {
+    private void refreshArimaSpec(TramoSpecification spec, TramoSpecification defspec, EstimationPolicyType policy, boolean warmStart) {
         ArimaSpec arima = spec.getArima(), defarima = defspec.isUsingAutoModel() ? null : defspec.getArima();
         switch (policy) {
             case Fixed:
@@ -135,8 +140,11 @@ public class TramoSeatsProcessor implements ISaProcessingFactory<TramoSeatsSpeci
             case FreeParameters:
             case LastOutliers:
             case Outliers:
-                // clear only free parameters !
-                if (defarima != null) {
+                if (warmStart && arima.hasParameters()) {
+                    // the free parameters are re-estimated from their previous values
+                    arima.setFreeParametersType(ParameterType.Initial);
+                } else if (defarima != null) {
+                    // clear only free parameters !
                     spec.setArima(defarima.clone());
                 } else {
                     arima.clearParameters();
@@ -73,6 +73,11 @@ public class X13Processor implements ISaProcessingFactory<X13Specification> {
 
     @Override
     public ISaSpecification createSpecification(SaItem doc, TsDomain frozen, EstimationPolicyType policy, boolean nospan) {
+        return createSpecification(doc, frozen, policy, nospan, false);
+    }
+
+    @Override
+    public ISaSpecification createSpecification(SaItem doc, TsDomain frozen, EstimationPolicyType policy, boolean nospan, boolean warmStart) {
 
         X13Specification spec = (X13Specification) doc.getPointSpecification();
         X13Specification defspec = (X13Specification) doc.getDomainSpecification();
@@ -93,7 +98,7 @@ public class X13Processor implements ISaProcessingFactory<X13Specification> {
         }
         // automodel
         // automodel/arima
-        refreshArimaSpec(ntspec, dtspec, policy);
+        refreshArimaSpec(ntspec, dtspec, policy, warmStart);
         refreshOutliersSpec(ntspec, dtspec, frozen, policy);
 
         RegressionSpec nrspec = ntspec.getRegression();
@@ -218,7 +223,7 @@ public class X13Processor implements ISaProcessingFactory<X13Specification> {
         return true;
     }
 
-    private void refreshArimaSpec(RegArimaSpecification spec, RegArimaSpecification defspec, EstimationPolicyType policy) {
+    private void refreshArimaSpec(RegArimaSpecification spec, RegArimaSpecification defspec, EstimationPolicyType policy, boolean warmStart) {
         ArimaSpec arima = spec.getArima(), defarima = defspec.isUsingAutoModel() ? null : defspec.getArima();
         switch (policy) {
             case Fixed:
@@ -231,8 +236,11 @@ public class X13Processor implements ISaProcessingFactory<X13Specification> {
             case FreeParameters:
             case LastOutliers:
             case Outliers:
-                // clear only free parameters !
-                if (defarima != null) {
+                if (warmStart && arima.hasParameters()) {
+                    // the free parameters are re-estimated from their previous values
+                    arima.setFreeParametersType(ParameterType.Initial);
+                } else if (defarima != null) {
+                    // clear only free parameters !
                     spec.setArima(defarima.clone());
                 } else {
                     arima.clearParameters();
@@ -27,6 +27,9 @@ import ec.tss.tsproviders.utils.OptionalTsData;
 import ec.tss.tsproviders.utils.TsFiller;
 import ec.tstoolkit.MetaData;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import javax.annotation.Nonnull;
@@ -101,6 +104,39 @@ public final class TsCursorAsFiller {
             return resource.reportInvalid(info);
         }
 
+        @Override
+        public boolean fillSeries(List<TsInformation> infos) {
+            boolean result = true;
+            Map<DataSource, List<TsInformation>> batches = new LinkedHashMap<>();
+            for (TsInformation info : infos) {
+                DataSet dataSet = resource.toDataSet(info);
+                if (isSeries(dataSet)) {
+                    batches.computeIfAbsent(dataSet.getDataSource(), o -> new ArrayList<>()).add(info);
+                } else if (!resource.reportInvalid(info)) {
+                    result = false;
+                }
+            }
+            for (Map.Entry<DataSource, List<TsInformation>> batch : batches.entrySet()) {
+                if (!fillSeries(batch.getValue(), batch.getKey())) {
+                    result = false;
+                }
+            }
+            return result;
+        }
+
+        // several series of the same data source are retrieved by a single cursor
+        private boolean fillSeries(List<TsInformation> infos, DataSource dataSource) {
+            if (infos.size() == 1) {
+                return fillSeries(infos.get(0));
+            }
+            try {
+                return resource.fill(infos, dataSource);
+            } catch (IOException ex) {
+                infos.forEach(o -> resource.reportException(o, resource.toDataSet(o), ex));
+                return false;
+            }
+        }
+
         private static boolean isCollection(DataSource dataSource) {
             return dataSource != null;
         }
@@ -137,10 +173,14 @@ public final class TsCursorAsFiller {
         boolean reportException(TsInformation info, DataSet dataSet, IOException ex);
 
         boolean reportInvalid(TsInformation info);
+
+        boolean fill(List<TsInformation> infos, DataSource dataSource) throws IOException;
     }
 
     private static final class CursorResource implements Resource {
 
+        private static final int MAX_SKIPPED_BY_REQUEST = 4;
+
         private final Logger logger;
         private final HasTsCursor htc;
         private final HasDataMoniker hdm;
@@ -233,6 +273,51 @@ public final class TsCursorAsFiller {
             }
         }
 
+        // The requests are identified by their data sets (monikers may have
+        // several encodings). The cursor on the whole data source is abandoned
+        // when it skips too many series that are not requested; the remaining
+        // series are then retrieved one by one
+        @Override
+        public boolean fill(List<TsInformation> infos, DataSource dataSource) throws IOException {
+            Map<DataSet, List<TsInformation>> requests = new LinkedHashMap<>();
+            TsInformationType type = TsInformationType.None;
+            for (TsInformation info : infos) {
+                requests.computeIfAbsent(toDataSet(info), o -> new ArrayList<>()).add(info);
+                type = type.union(info.type);
+            }
+            int maxSkipped = MAX_SKIPPED_BY_REQUEST * requests.size(), skipped = 0;
+            try (TsCursor<DataSet> cursor = htc.getData(dataSource, type)) {
+                while (!requests.isEmpty() && skipped <= maxSkipped && cursor.nextSeries()) {
+                    List<TsInformation> items = requests.remove(cursor.getSeriesId());
+                    if (items != null) {
+                        for (TsInformation info : items) {
+                            info.name = cursor.getSeriesLabel();
+                            fill(info, cursor);
+                        }
+                    } else {
+                        ++skipped;
+                    }
+                }
+            }
+            if (skipped <= maxSkipped) {
+                requests.values().forEach(o -> o.forEach(info -> info.invalidDataCause = "Missing time series"));
+                return requests.isEmpty();
+            }
+            boolean result = true;
+            for (Map.Entry<DataSet, List<TsInformation>> request : requests.entrySet()) {
+                for (TsInformation info : request.getValue()) {
+                    try {
+                        if (!fill(info, request.getKey())) {
+                            result = false;
+                        }
+                    } catch (IOException ex) {
+                        result = reportException(info, request.getKey(), ex);
+                    }
+                }
+            }
+            return result;
+        }
+
         private void fill(TsCollectionInformation info, TsCursor<DataSet> cursor) throws IOException {
             if (info.type.encompass(TsInformationType.MetaData)) {
                 fillMeta(info, cursor);
@@ -23,6 +23,7 @@ import ec.tss.tsproviders.IFileBean;
 import ec.tss.tsproviders.IFileLoader;
 import java.io.File;
 import java.io.FileNotFoundException;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 
 /**
@@ -32,10 +33,69 @@ import org.slf4j.Logger;
 public abstract class AbstractFileLoader<DATA, BEAN extends IFileBean> extends AbstractDataSourceLoader<DATA, BEAN> implements IFileLoader {
 
     protected File[] paths;
+    private volatile FileSnapshotCache snapshotCache;
 
     public AbstractFileLoader(Logger logger, String providerName, TsAsyncMode asyncMode) {
         super(logger, providerName, asyncMode);
         paths = new File[0];
+        snapshotCache = null;
+    }
+
+    @Override
+    protected DATA loadFromDataSource(DataSource key) throws Exception {
+        FileSnapshotCache snapshots = snapshotCache;
+        FileSnapshotCache.Codec<DATA> codec = getSnapshotCodec();
+        if (snapshots == null || codec == null) {
+            return super.loadFromDataSource(key);
+        }
+        BEAN bean = decodeBean(key);
+        return snapshots.get(key, getRealFile(bean.getFile()), codec, () -> loadFromBean(bean));
+    }
+
+    /**
+     * Gets the converter used to store parsed sources in the persistent
+     * snapshot cache. The default implementation returns null, meaning that
+     * this loader doesn't support snapshots.
+     *
+     * @return a codec if snapshots are supported, null otherwise
+     * @since 2.2.2
+     */
+    @Nullable
+    protected FileSnapshotCache.Codec<DATA> getSnapshotCodec() {
+        return null;
+    }
+
+    /**
+     * Gets the persistent snapshot cache.
+     *
+     * @return the cache if enabled, null otherwise
+     * @since 2.2.2
+     */
+    @Nullable
+    public FileSnapshotCache getSnapshotCache() {
+        return snapshotCache;
+    }
+
+    /**
+     * Sets a persistent cache that stores parsed sources across JVM restarts.
+     * This cache is ignored if the loader doesn't provide a
+     * {@link #getSnapshotCodec() codec}.
+     *
+     * @param snapshotCache a cache or null to disable it
+     * @since 2.2.2
+     */
+    public void setSnapshotCache(@Nullable FileSnapshotCache snapshotCache) {
+        this.snapshotCache = snapshotCache;
+        clearCache();
+    }
+
+    @Override
+    public void reload(DataSource dataSource) throws IllegalArgumentException {
+        FileSnapshotCache snapshots = snapshotCache;
+        if (snapshots != null) {
+            snapshots.invalidate(dataSource);
+        }
+        super.reload(dataSource);
     }
 
     @Override
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.utils;
+
+import com.google.common.hash.Hashing;
+import ec.tss.tsproviders.DataSource;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A persistent cache that stores binary snapshots of parsed file-based sources
+ * in a folder. Each snapshot is identified by its data source and stamped with
+ * the size and the last modification time of the underlying file (or of all
+ * the files and sub-directories of a directory, recursively), so that a
+ * snapshot becomes stale as soon as its file changes. Snapshots are read back
+ * through a memory-mapped buffer, which allows warm starts to skip parsing
+ * entirely. The buffer is released as soon as the snapshot has been decoded, so
+ * that snapshot files are never kept open.
+ *
+ * @author agent
+ * @since 2.2.2
+ */
+@ThreadSafe
+public final class FileSnapshotCache {
+
+    /**
+     * Converts a parsed source from/to its binary snapshot.
+     *
+     * @param <T> the type of the parsed source
+     */
+    public interface Codec<T> {
+
+        /**
+         * Gets the version of the layout written by this codec. It must be
+         * changed each time the layout changes, so that the snapshots written
+         * with a previous layout are ignored.
+         *
+         * @return the version of the layout
+         */
+        int getVersion();
+
+        void write(@Nonnull DataOutput output, @Nonnull T value) throws IOException;
+
+        /**
+         * Decodes a snapshot. The buffer is released once this method returns,
+         * so the result must not keep any reference to it.
+         *
+         * @param input the content of the snapshot
+         * @return a non-null parsed source
+         * @throws IOException
+         * @throws RuntimeException if the content is corrupted; the snapshot
+         * is then considered as missing
+         */
+        @Nonnull
+        T read(@Nonnull ByteBuffer input) throws IOException;
+    }
+
+    /**
+     * Creates a snapshot cache that uses the specified folder as storage.
+     *
+     * @param folder a non-null folder; it is created if it doesn't exist
+     * @return a non-null cache
+     */
+    @Nonnull
+    public static FileSnapshotCache of(@Nonnull File folder) {
+        return new FileSnapshotCache(folder.toPath());
+    }
+
+    private final Path folder;
+
+    private FileSnapshotCache(Path folder) {
+        this.folder = Objects.requireNonNull(folder);
+    }
+
+    @Nonnull
+    public File getFolder() {
+        return folder.toFile();
+    }
+
+    /**
+     * Gets a parsed source from its snapshot if it is up-to-date or from the
+     * loader otherwise. In the latter case, a new snapshot is stored.
+     * <p>
+     * I/O problems related to snapshots (including a missing file) are logged
+     * and never prevent the loader from being called. If the file cannot be
+     * stamped, the loader is called without snapshot.
+     *
+     * @param <T> the type of the parsed source
+     * @param key the data source that identifies the snapshot
+     * @param file the file (or directory) that is parsed by the loader
+     * @param codec the converter used to read/write the snapshot
+     * @param loader the parser of the file
+     * @return a non-null parsed source
+     * @throws Exception if the loader fails
+     */
+    @Nonnull
+    public <T> T get(@Nonnull DataSource key, @Nonnull File file, @Nonnull Codec<T> codec, @Nonnull Callable<T> loader) throws Exception {
+        String id = DataSource.uriFormatter().formatAsString(key);
+        Path snapshot = getSnapshot(id);
+        Stamp stamp;
+        try {
+            stamp = Stamp.of(file.toPath());
+        } catch (IOException ex) {
+            LOGGER.debug("Cannot stamp '{}'", file, ex);
+            return loader.call();
+        }
+        T result = tryRead(snapshot, id, stamp, codec);
+        if (result == null) {
+            result = loader.call();
+            tryWrite(snapshot, id, stamp, codec, result);
+        }
+        return result;
+    }
+
+    /**
+     * Removes the snapshot of a data source.
+     *
+     * @param key a non-null data source
+     */
+    public void invalidate(@Nonnull DataSource key) {
+        try {
+            Files.deleteIfExists(getSnapshot(DataSource.uriFormatter().formatAsString(key)));
+        } catch (IOException ex) {
+            LOGGER.warn("Cannot delete snapshot of '{}'", key, ex);
+        }
+    }
+
+    /**
+     * Removes all the snapshots of this cache.
+     */
+    public void invalidateAll() {
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(folder, "*" + EXTENSION)) {
+            for (Path o : ds) {
+                Files.deleteIfExists(o);
+            }
+        } catch (IOException ex) {
+            LOGGER.warn("Cannot delete snapshots in '{}'", folder, ex);
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Codec helpers">
+    public static void writeString(@Nonnull DataOutput output, @Nullable String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    @Nullable
+    public static String readString(@Nonnull ByteBuffer input) {
+        int length = input.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static void writeDoubles(@Nonnull DataOutput output, @Nullable double[] values) throws IOException {
+        if (values == null) {
+            output.writeInt(-1);
+        } else {
+            output.writeInt(values.length);
+            for (int i = 0; i < values.length; i++) {
+                output.writeDouble(values[i]);
+            }
+        }
+    }
+
+    @Nullable
+    public static double[] readDoubles(@Nonnull ByteBuffer input) {
+        int length = input.getInt();
+        if (length < 0) {
+            return null;
+        }
+        double[] result = new double[length];
+        // bulk copy from the mapped buffer
+        input.asDoubleBuffer().get(result);
+        input.position(input.position() + length * Double.BYTES);
+        return result;
+    }
+
+    public static void writeTsData(@Nonnull DataOutput output, @Nonnull TsData value) throws IOException {
+        output.writeInt(value.getFrequency().intValue());
+        output.writeInt(value.getStart().getYear());
+        output.writeInt(value.getStart().getPosition());
+        writeDoubles(output, value.internalStorage());
+    }
+
+    @Nonnull
+    public static TsData readTsData(@Nonnull ByteBuffer input) {
+        TsFrequency freq = TsFrequency.valueOf(input.getInt());
+        int year = input.getInt();
+        int position = input.getInt();
+        return new TsData(freq, year, position, readDoubles(input), false);
+    }
+
+    public static void writeOptionalTsData(@Nonnull DataOutput output, @Nonnull OptionalTsData value) throws IOException {
+        output.writeBoolean(value.isPresent());
+        if (value.isPresent()) {
+            writeTsData(output, value.get());
+        } else {
+            writeString(output, value.getCause());
+        }
+    }
+
+    @Nonnull
+    public static OptionalTsData readOptionalTsData(@Nonnull ByteBuffer input) {
+        return input.get() != 0
+                ? OptionalTsData.present(readTsData(input))
+                : OptionalTsData.absent(readString(input));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSnapshotCache.class);
+    private static final int MAGIC = 0x4A445353; // "JDSS"
+    private static final int FORMAT_VERSION = 2;
+    private static final String EXTENSION = ".snapshot";
+
+    private Path getSnapshot(String id) {
+        return folder.resolve(Hashing.sha256().hashString(id, StandardCharsets.UTF_8).toString() + EXTENSION);
+    }
+
+    @Nullable
+    private <T> T tryRead(Path snapshot, String id, Stamp stamp, Codec<T> codec) {
+        if (!Files.isRegularFile(snapshot)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                if (buffer.getInt() != MAGIC
+                        || buffer.getInt() != FORMAT_VERSION
+                        || buffer.getInt() != codec.getVersion()
+                        || !id.equals(readString(buffer))
+                        || !stamp.equals(Stamp.read(buffer))) {
+                    return null;
+                }
+                return codec.read(buffer);
+            } finally {
+                MappedBuffers.unmap(buffer);
+            }
+        } catch (IOException | RuntimeException ex) {
+            // a corrupted snapshot may fail in many ways in the codec
+            LOGGER.warn("Cannot read snapshot '{}'", snapshot, ex);
+            return null;
+        }
+    }
+
+    private <T> void tryWrite(Path snapshot, String id, Stamp stamp, Codec<T> codec, T value) {
+        try {
+            Files.createDirectories(folder);
+            Path tmp = Files.createTempFile(folder, "tmp", EXTENSION + ".part");
+            try {
+                try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    output.writeInt(MAGIC);
+                    output.writeInt(FORMAT_VERSION);
+                    output.writeInt(codec.getVersion());
+                    writeString(output, id);
+                    stamp.write(output);
+                    codec.write(output, value);
+                }
+                Files.move(tmp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException ex) {
+            LOGGER.warn("Cannot write snapshot '{}'", snapshot, ex);
+        }
+    }
+
+    private static final class Stamp {
+
+        // a directory is stamped with the total size of its files and the latest
+        // modification of its files and sub-directories (recursively)
+        static Stamp of(Path file) throws IOException {
+            BasicFileAttributes attr = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attr.isDirectory()) {
+                return new Stamp(attr.size(), attr.lastModifiedTime().toMillis());
+            }
+            long[] result = {0, Long.MIN_VALUE};
+            Files.walkFileTree(file, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    result[1] = Math.max(result[1], attrs.lastModifiedTime().toMillis());
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    result[0] += attrs.size();
+                    result[1] = Math.max(result[1], attrs.lastModifiedTime().toMillis());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return new Stamp(result[0], result[1]);
+        }
+
+        static Stamp read(ByteBuffer input) {
+            return new Stamp(input.getLong(), input.getLong());
+        }
+
+        final long size;
+        final long lastModified;
+
+        Stamp(long size, long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        void write(DataOutput output) throws IOException {
+            output.writeLong(size);
+            output.writeLong(lastModified);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || (obj instanceof Stamp && equals((Stamp) obj));
+        }
+
+        private boolean equals(Stamp that) {
+            return this.size == that.size && this.lastModified == that.lastModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size) * 31 + Long.hashCode(lastModified);
+        }
+    }
+    //</editor-fold>
+}
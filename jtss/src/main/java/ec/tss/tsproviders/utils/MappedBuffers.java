@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Releases memory-mapped buffers. A mapped buffer keeps its file open until it
+ * is garbage collected, which prevents the file from being modified or deleted
+ * on some platforms (Windows). The buffer must not be used anymore once it has
+ * been released.
+ *
+ * @author agent
+ * @since 2.2.2
+ */
+public final class MappedBuffers {
+
+    private MappedBuffers() {
+        // static class
+    }
+
+    /**
+     * Unmaps a buffer (best effort).
+     *
+     * @param buffer a buffer obtained by FileChannel.map (not a view of it)
+     * @return true if the buffer has been unmapped, false otherwise. In the
+     * latter case, the buffer will be released when it is garbage collected.
+     */
+    public static boolean unmap(@Nonnull MappedByteBuffer buffer) {
+        try {
+            if (UNSAFE != null) {
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } else {
+                Method cleaner = buffer.getClass().getMethod("cleaner");
+                cleaner.setAccessible(true);
+                Object c = cleaner.invoke(buffer);
+                if (c == null) {
+                    return false;
+                }
+                c.getClass().getMethod("clean").invoke(c);
+            }
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            LOGGER.debug("Cannot unmap buffer", ex);
+            return false;
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedBuffers.class);
+    // Java 9+; the cleaner of the buffer is used with older versions
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> clazz = Class.forName("sun.misc.Unsafe");
+            invokeCleaner = clazz.getMethod("invokeCleaner", ByteBuffer.class);
+            Field field = clazz.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            unsafe = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+    //</editor-fold>
+}
@@ -18,6 +18,7 @@ package ec.tss.tsproviders.utils;
 
 import ec.tss.TsCollectionInformation;
 import ec.tss.TsInformation;
+import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -47,6 +48,24 @@ public interface TsFiller {
      */
     boolean fillSeries(@Nonnull TsInformation info);
 
+    /**
+     * Fills a batch of time series infos according to their requests. The
+     * default implementation fills the items one by one.
+     *
+     * @param infos the time series infos to fill
+     * @return true if the process performed properly, false otherwise
+     * @since 2.2.2
+     */
+    default boolean fillSeries(@Nonnull List<TsInformation> infos) {
+        boolean result = true;
+        for (TsInformation info : infos) {
+            if (!fillSeries(info)) {
+                result = false;
+            }
+        }
+        return result;
+    }
+
     /**
      * Creates a new instance of TsFiller that does nothing.
      *
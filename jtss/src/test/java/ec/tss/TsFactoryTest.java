@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss;
+
+import data.Data;
+import java.util.ArrayList;
+import static java.util.Arrays.asList;
+import java.util.List;
+import java.util.stream.Collectors;
+import static org.assertj.core.api.Assertions.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class TsFactoryTest {
+
+    @Test
+    public void testBatchLoad() {
+        CountingProvider a = new CountingProvider("TsFactoryTest.a");
+        CountingProvider b = new CountingProvider("TsFactoryTest.b");
+        TsFactory.instance.add(a);
+        TsFactory.instance.add(b);
+        try {
+            Ts[] list = {
+                createTs(a, "1"), createTs(b, "1"), createTs(a, "2"),
+                TsFactory.instance.createTs("anonymous", null, Data.P),
+                createTs(b, "2"), createTs(a, "3")
+            };
+            assertThat(TsFactory.instance.load(list, TsInformationType.Data)).isTrue();
+
+            // one request by provider, in the order of the input
+            assertThat(a.batches).containsExactly(asList("1", "2", "3"));
+            assertThat(b.batches).containsExactly(asList("1", "2"));
+            assertThat(a.singles).isZero();
+            assertThat(b.singles).isZero();
+            for (Ts s : list) {
+                assertThat(s.hasData()).isEqualTo(TsStatus.Valid);
+                assertThat(s.getTsData()).isEqualTo(Data.P);
+            }
+            assertThat(list[0].getInformationType()).isEqualTo(TsInformationType.Data);
+        } finally {
+            TsFactory.instance.remove(a.getSource());
+            TsFactory.instance.remove(b.getSource());
+        }
+    }
+
+    @Test
+    public void testBatchLoadWithFailures() {
+        CountingProvider a = new CountingProvider("TsFactoryTest.c");
+        TsFactory.instance.add(a);
+        try {
+            Ts[] list = {createTs(a, "1"), createTs(a, "missing"), createTs(a, "2")};
+            // the items that can be loaded are filled in spite of the failure
+            assertThat(TsFactory.instance.load(list, TsInformationType.Data)).isTrue();
+            assertThat(a.batches).containsExactly(asList("1", "missing", "2"));
+            assertThat(list[0].hasData()).isEqualTo(TsStatus.Valid);
+            assertThat(list[1].hasData()).isEqualTo(TsStatus.Invalid);
+            assertThat(list[1].getInvalidDataCause()).isEqualTo("Not found");
+            assertThat(list[2].hasData()).isEqualTo(TsStatus.Valid);
+        } finally {
+            TsFactory.instance.remove(a.getSource());
+        }
+    }
+
+    private static Ts createTs(ITsProvider provider, String id) {
+        return TsFactory.instance.createTs(id, TsMoniker.createProvidedMoniker(provider.getSource(), id), TsInformationType.None);
+    }
+
+    private static final class CountingProvider implements ITsProvider {
+
+        private final String source;
+        final List<List<String>> batches = new ArrayList<>();
+        int singles;
+
+        CountingProvider(String source) {
+            this.source = source;
+        }
+
+        @Override
+        public void clearCache() {
+        }
+
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public boolean get(TsCollectionInformation info) {
+            return false;
+        }
+
+        @Override
+        public boolean get(TsInformation info) {
+            ++singles;
+            return fill(info);
+        }
+
+        @Override
+        public boolean get(List<TsInformation> infos) {
+            batches.add(infos.stream().map(o -> o.moniker.getId()).collect(Collectors.toList()));
+            boolean result = true;
+            for (TsInformation info : infos) {
+                if (!fill(info)) {
+                    result = false;
+                }
+            }
+            return result;
+        }
+
+        private boolean fill(TsInformation info) {
+            if (info.moniker.getId().equals("missing")) {
+                info.invalidDataCause = "Not found";
+                return false;
+            }
+            info.data = Data.P;
+            return true;
+        }
+
+        @Override
+        public TsAsyncMode getAsyncMode() {
+            return TsAsyncMode.None;
+        }
+
+        @Override
+        public String getSource() {
+            return source;
+        }
+
+        @Override
+        public boolean queryTs(TsMoniker ts, TsInformationType type) {
+            return false;
+        }
+
+        @Override
+        public boolean queryTsCollection(TsMoniker collection, TsInformationType info) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.assertj.core.api.Assertions.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class WeakValueRegistryTest {
+
+    @Test
+    public void testPutIfAbsent() {
+        WeakValueRegistry<String, Object> registry = new WeakValueRegistry<>();
+        Object a = new Object(), b = new Object();
+        assertThat(registry.putIfAbsent("a", a)).isNull();
+        assertThat(registry.putIfAbsent("a", b)).isSameAs(a);
+        assertThat(registry.get("a")).isSameAs(a);
+        assertThat(registry.get("b")).isNull();
+        assertThat(registry.select((k, v) -> k.equals("a"))).containsExactly(a);
+    }
+
+    @Test
+    public void testConcurrentPutIfAbsent() throws Exception {
+        WeakValueRegistry<Integer, Object> registry = new WeakValueRegistry<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 100; ++i) {
+                results.add(executor.submit(() -> {
+                    Object o = new Object();
+                    Object cur = registry.putIfAbsent(1, o);
+                    return cur != null ? cur : o;
+                }));
+            }
+            Object winner = results.get(0).get();
+            for (Future<Object> o : results) {
+                assertThat(o.get()).isSameAs(winner);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -16,6 +16,18 @@
  */
 package ec.tss.sa.processors;
 
+import data.Data;
+import ec.satoolkit.GenericSaResults;
+import ec.satoolkit.x13.X13Specification;
+import ec.tss.Ts;
+import ec.tss.TsFactory;
+import ec.tss.sa.EstimationPolicyType;
+import ec.tss.sa.SaItem;
+import ec.tss.sa.SaManager;
+import ec.tstoolkit.Parameter;
+import ec.tstoolkit.ParameterType;
+import ec.tstoolkit.modelling.arima.PreprocessingModel;
+import ec.tstoolkit.modelling.arima.x13.ArimaSpec;
 import java.util.Map;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -30,6 +42,31 @@ public class X13ProcessorTest {
     public X13ProcessorTest() {
     }
 
+    @Test
+    public void testWarmStart() {
+        SaManager.instance.add(new X13Processor());
+        Ts s = TsFactory.instance.createTs("test", null, Data.P);
+        SaItem item = new SaItem(X13Specification.RSA5, s);
+        item.process();
+        X13Processor processor = new X13Processor();
+        X13Specification cold = (X13Specification) processor.createSpecification(item, null, EstimationPolicyType.FreeParameters, false);
+        assertFalse(cold.getRegArimaSpecification().getArima().hasParameters());
+        X13Specification warm = (X13Specification) processor.createSpecification(item, null, EstimationPolicyType.FreeParameters, false, true);
+        ArimaSpec arima = warm.getRegArimaSpecification().getArima();
+        assertTrue(arima.hasParameters());
+        for (Parameter p : arima.getTheta()) {
+            assertEquals(ParameterType.Initial, p.getType());
+        }
+
+        // both estimations reach the same optimum
+        PreprocessingModel mcold = GenericSaResults.getPreprocessingModel(
+                new SaItem(X13Specification.RSA5, EstimationPolicyType.FreeParameters, cold, s).process());
+        PreprocessingModel mwarm = GenericSaResults.getPreprocessingModel(
+                new SaItem(X13Specification.RSA5, EstimationPolicyType.FreeParameters, warm, s).process());
+        assertEquals(mcold.estimation.getLikelihood().getLogLikelihood(),
+                mwarm.estimation.getLikelihood().getLogLikelihood(), 1e-4);
+    }
+
     @Test
     @Ignore
     public void testOutputDictionary(){
@@ -37,6 +37,7 @@ import ec.tss.tsproviders.utils.TsFiller;
 import ec.tstoolkit.MetaData;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.utilities.LinearId;
+import java.util.Arrays;
 import java.util.Collections;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.Test;
@@ -251,6 +252,60 @@ public class TsCursorAsFillerTest {
         });
     }
 
+    @Test
+    public void testSeriesFillBatch() {
+        TsFiller filler = TsCursorAsFiller.of(logger, goodCursor, monikers, goodCursor);
+
+        TsInformation s1 = new TsInformation(null, leaf1, All);
+        TsInformation s2 = new TsInformation(null, leaf2, All);
+        TsInformation s3 = new TsInformation(null, leaf3, All);
+        TsInformation invalid = new TsInformation(null, goodCollection, All);
+        assertThat(filler.fillSeries(Arrays.asList(s1, s2, s3, invalid))).isFalse();
+        assertThat(s1).isEqualToComparingFieldByField(seriesInfo("node.leaf1", leaf1, All, null, "No data available", null));
+        assertThat(s2).isEqualToComparingFieldByField(seriesInfo("node.leaf2", leaf2, All, Data.M1, null, null));
+        assertThat(s3).isEqualToComparingFieldByField(seriesInfo("leaf3", leaf3, All, Data.M2, null, customMeta));
+        assertThat(invalid).isEqualToComparingFieldByField(seriesInfo(null, goodCollection, All, null, "Invalid moniker", null));
+
+        TsInformation b1 = new TsInformation(null, leaf2, All);
+        TsInformation b2 = new TsInformation(null, leaf3, All);
+        assertThat(TsCursorAsFiller.of(logger, badCursor, monikers, goodCursor).fillSeries(Arrays.asList(b1, b2))).isFalse();
+        assertThat(b1.invalidDataCause).isEqualTo("boom");
+        assertThat(b2.invalidDataCause).isEqualTo("boom");
+    }
+
+    @Test
+    public void testSeriesFillBatchEncodings() {
+        TsFiller filler = TsCursorAsFiller.of(logger, goodCursor, monikers, goodCursor);
+
+        // same data sets, other encodings of the monikers
+        TsMoniker other2 = TsMoniker.createProvidedMoniker(provider, leaf2.getId().replace("leaf2", "%6Ceaf2"));
+        TsMoniker other3 = TsMoniker.createProvidedMoniker(provider, leaf3.getId().replace("leaf3", "%6Ceaf3"));
+        TsInformation s2 = new TsInformation(null, other2, All);
+        TsInformation s3 = new TsInformation(null, other3, All);
+        assertThat(filler.fillSeries(Arrays.asList(s2, s3))).isTrue();
+        assertThat(s2).isEqualToComparingFieldByField(seriesInfo("node.leaf2", other2, All, Data.M1, null, null));
+        assertThat(s3).isEqualToComparingFieldByField(seriesInfo("leaf3", other3, All, Data.M2, null, customMeta));
+    }
+
+    @Test
+    public void testSeriesFillBatchSmallPart() {
+        IdTsSupport.Builder builder = IdTsSupport.builder();
+        for (int i = 0; i < 20; ++i) {
+            builder.add(new LinearId("s" + i), i % 2 == 0 ? Data.M1 : Data.M2);
+        }
+        TsFiller filler = TsCursorAsFiller.of(logger, builder.build(), monikers, goodCursor);
+
+        // the requested series are at the end of the source
+        DataSource ds = DataSource.of(provider, "");
+        TsMoniker m18 = monikers.toMoniker(DataSet.of(ds, SERIES, "id", "s18"));
+        TsMoniker m19 = monikers.toMoniker(DataSet.of(ds, SERIES, "id", "s19"));
+        TsInformation s18 = new TsInformation(null, m18, All);
+        TsInformation s19 = new TsInformation(null, m19, All);
+        assertThat(filler.fillSeries(Arrays.asList(s18, s19))).isTrue();
+        assertThat(s18).isEqualToComparingFieldByField(seriesInfo("s18", m18, All, Data.M1, null, null));
+        assertThat(s19).isEqualToComparingFieldByField(seriesInfo("s19", m19, All, Data.M2, null, null));
+    }
+
     @Test
     public void testSeriesEx() {
         TsFiller filler = TsCursorAsFiller.of(logger, badCursor, monikers, goodCursor);
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.utils;
+
+import ec.tss.tsproviders.DataSource;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author agent
+ */
+public class FileSnapshotCacheTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    private static final FileSnapshotCache.Codec<OptionalTsData> CODEC = new FileSnapshotCache.Codec<OptionalTsData>() {
+        @Override
+        public int getVersion() {
+            return 1;
+        }
+
+        @Override
+        public void write(DataOutput output, OptionalTsData value) throws IOException {
+            FileSnapshotCache.writeOptionalTsData(output, value);
+        }
+
+        @Override
+        public OptionalTsData read(ByteBuffer input) throws IOException {
+            return FileSnapshotCache.readOptionalTsData(input);
+        }
+    };
+
+    @Test
+    public void testGet() throws Exception {
+        FileSnapshotCache cache = FileSnapshotCache.of(temp.newFolder());
+        File file = temp.newFile();
+        Files.write(file.toPath(), new byte[]{1, 2, 3});
+        DataSource key = DataSource.of("p", "v", "file", file.getPath());
+        TsData data = new TsData(TsFrequency.Monthly, 2010, 2, new double[]{1.1, Double.NaN, 3.3}, false);
+
+        AtomicInteger count = new AtomicInteger();
+        assertThat(cache.get(key, file, CODEC, () -> {
+            count.incrementAndGet();
+            return OptionalTsData.present(data);
+        }).get()).isEqualTo(data);
+        assertThat(count.get()).isEqualTo(1);
+
+        // warm start: loader is not called
+        assertThat(cache.get(key, file, CODEC, () -> {
+            count.incrementAndGet();
+            return OptionalTsData.absent("unexpected");
+        }).get()).isEqualTo(data);
+        assertThat(count.get()).isEqualTo(1);
+
+        // stale snapshot
+        Files.write(file.toPath(), new byte[]{1, 2, 3, 4});
+        assertThat(cache.get(key, file, CODEC, () -> {
+            count.incrementAndGet();
+            return OptionalTsData.absent("changed");
+        }).getCause()).isEqualTo("changed");
+        assertThat(count.get()).isEqualTo(2);
+
+        cache.invalidate(key);
+        cache.get(key, file, CODEC, () -> {
+            count.incrementAndGet();
+            return OptionalTsData.absent("changed");
+        });
+        assertThat(count.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testMissingFile() throws Exception {
+        File folder = temp.newFolder();
+        FileSnapshotCache cache = FileSnapshotCache.of(folder);
+        File file = new File(temp.getRoot(), "missing.txt");
+        assertThat(cache.get(DataSource.of("p", "v"), file, CODEC, () -> OptionalTsData.absent("x")).getCause()).isEqualTo("x");
+        assertThat(folder.list()).isEmpty();
+    }
+
+    @Test
+    public void testDirectory() throws Exception {
+        FileSnapshotCache cache = FileSnapshotCache.of(temp.newFolder());
+        File dir = temp.newFolder();
+        File sub = new File(dir, "sub");
+        sub.mkdir();
+        File file = new File(sub, "data.txt");
+        Files.write(file.toPath(), new byte[]{1, 2, 3});
+        DataSource key = DataSource.of("p", "v");
+
+        AtomicInteger count = new AtomicInteger();
+        cache.get(key, dir, CODEC, () -> OptionalTsData.absent("x" + count.incrementAndGet()));
+        assertThat(cache.get(key, dir, CODEC, () -> OptionalTsData.absent("x" + count.incrementAndGet())).getCause()).isEqualTo("x1");
+
+        // a change in a sub-directory makes the snapshot stale
+        Files.write(file.toPath(), new byte[]{1, 2, 3, 4});
+        assertThat(cache.get(key, dir, CODEC, () -> OptionalTsData.absent("x" + count.incrementAndGet())).getCause()).isEqualTo("x2");
+    }
+
+    @Test
+    public void testCorruptedOrOutdated() throws Exception {
+        FileSnapshotCache cache = FileSnapshotCache.of(temp.newFolder());
+        File file = temp.newFile();
+        DataSource key = DataSource.of("p", "v");
+        cache.get(key, file, CODEC, () -> OptionalTsData.absent("x1"));
+
+        // a codec that fails on the content is a cache miss
+        FileSnapshotCache.Codec<OptionalTsData> failing = new FileSnapshotCache.Codec<OptionalTsData>() {
+            @Override
+            public int getVersion() {
+                return 1;
+            }
+
+            @Override
+            public void write(DataOutput output, OptionalTsData value) throws IOException {
+                CODEC.write(output, value);
+            }
+
+            @Override
+            public OptionalTsData read(ByteBuffer input) throws IOException {
+                String[] causes = {};
+                return OptionalTsData.absent(causes[input.getInt()]);
+            }
+        };
+        assertThat(cache.get(key, file, failing, () -> OptionalTsData.absent("x2")).getCause()).isEqualTo("x2");
+
+        // a new layout ignores the previous snapshots
+        FileSnapshotCache.Codec<OptionalTsData> updated = new FileSnapshotCache.Codec<OptionalTsData>() {
+            @Override
+            public int getVersion() {
+                return 2;
+            }
+
+            @Override
+            public void write(DataOutput output, OptionalTsData value) throws IOException {
+                CODEC.write(output, value);
+            }
+
+            @Override
+            public OptionalTsData read(ByteBuffer input) throws IOException {
+                return CODEC.read(input);
+            }
+        };
+        assertThat(cache.get(key, file, updated, () -> OptionalTsData.absent("x3")).getCause()).isEqualTo("x3");
+        assertThat(cache.get(key, file, updated, () -> OptionalTsData.absent("x4")).getCause()).isEqualTo("x3");
+    }
+
+    @Test
+    public void testInvalidateAll() throws Exception {
+        File folder = temp.newFolder();
+        FileSnapshotCache cache = FileSnapshotCache.of(folder);
+        File file = temp.newFile();
+        cache.get(DataSource.of("p", "v"), file, CODEC, () -> OptionalTsData.absent("x"));
+        assertThat(folder.list()).hasSize(1);
+        cache.invalidateAll();
+        assertThat(folder.list()).isEmpty();
+    }
+}
@@ -80,7 +80,30 @@ public class DisaggregationModel implements Cloneable {
         if (data == null) {
             return null;
         }
-        if (!prepare(data, rescale)) {
+        if (!prepare(data, rescale, null)) {
+            return null;
+        }
+        return data;
+    }
+
+    /**
+     * Same as data(domain, false), except that the regression variables of
+     * another data set are re-used when it is possible (same high-frequency
+     * domain and aggregation, no rescaling). The regression variables of the
+     * other model must be identical to the variables of this model. The
+     * shared matrices should not be modified.
+     *
+     * @param domain
+     * @param xdata The data set of another model with the same regression
+     * variables. May be null
+     * @return
+     */
+    public DisaggregationData data(TsDomain domain, DisaggregationData xdata) {
+        DisaggregationData data = startDataPreparation(domain);
+        if (data == null) {
+            return null;
+        }
+        if (!prepare(data, false, xdata)) {
             return null;
         }
         return data;
@@ -134,7 +157,7 @@ public class DisaggregationModel implements Cloneable {
         return y_;
     }
 
-    private boolean prepare(DisaggregationData data, boolean rescale) {
+    private boolean prepare(DisaggregationData data, boolean rescale, DisaggregationData xdata) {
         TsDomain lDom = y_.getDomain();
         int lN = lDom.getLength(), hN = data.hDom.getLength();
         if (lN == 0 || hN == 0) {
@@ -179,7 +202,14 @@ public class DisaggregationModel implements Cloneable {
 
         prepareY(data, yDom);
         if (!regressors_.isEmpty()) {
-            prepareX(data, rescale);
+            if (!rescale && isShareable(data, xdata)) {
+                data.hX = xdata.hX;
+                data.hEX = xdata.hEX;
+                data.yfactor = 1;
+                data.xfactor = xdata.xfactor;
+            } else {
+                prepareX(data, rescale);
+            }
         } else {
             data.scale(rescale ? new AbsMeanNormalizer() : null);
         }
@@ -187,6 +217,26 @@ public class DisaggregationModel implements Cloneable {
         return true;
     }
 
+    private boolean isShareable(DisaggregationData data, DisaggregationData xdata) {
+        if (xdata == null || xdata.hX == null || xdata.xfactor == null
+                || xdata.FrequencyRatio != data.FrequencyRatio
+                || !data.hDom.equals(xdata.hDom)
+                || xdata.hX.getColumnsCount() != regressors_.getVariablesCount()) {
+            return false;
+        }
+        boolean cumul = aType_ == TsAggregationType.Average
+                || aType_ == TsAggregationType.Sum;
+        if (cumul == (xdata.hEX == xdata.hX)) {
+            return false;
+        }
+        for (int i = 0; i < xdata.xfactor.length; ++i) {
+            if (xdata.xfactor[i] != 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void prepareX(DisaggregationData data, boolean rescale) {
         data.hX = regressors_.all().matrix(data.hDom);
 
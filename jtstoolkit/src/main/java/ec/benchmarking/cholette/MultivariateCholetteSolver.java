@@ -0,0 +1,375 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarking.cholette;
+
+import ec.benchmarking.ssf.multivariate.Constraint;
+import ec.tstoolkit.design.Development;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Multivariate Cholette benchmarking, for large sets of series.
+ *
+ * The corrections of the series are e(i) = W(i)*u(i), where W(i) is the
+ * diagonal matrix of the weights of the i-th series and u(i) are independent
+ * stationary AR(1) processes (innovations with unit variance), as in the
+ * state space form (MultivariateSsfCholette, ContemporaneousSsfCholette). The
+ * corrections must satisfy the temporal constraints (sum of the corrections of
+ * a series in each low-frequency period) and the contemporaneous constraints
+ * (linear combinations of the corrections at each period).
+ *
+ * Writing the constraints A*e = r, the solution is e = V*A'*L, where V is the
+ * (block-diagonal) covariance of e and L, the Lagrange multipliers, solves
+ * (A*V*A')*L = r. That system is solved by conjugate gradients (with a
+ * diagonal preconditioner). The product by V is computed series by series,
+ * through AR(1) recursions. Each iteration is linear in the length of the
+ * series and in the number of series, as the memory.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public class MultivariateCholetteSolver {
+
+    public static final int DEF_MAX_ITER = 1000;
+    public static final double DEF_PRECISION = 1e-12;
+
+    private final int c, nvars, n;
+    private final double rho;
+    private final double[][] w;
+    private final double[][] tcnts;
+    private final List<Constraint> ccnts = new ArrayList<>();
+    private final List<double[]> cdata = new ArrayList<>();
+    private int maxIter = DEF_MAX_ITER;
+    private double precision = DEF_PRECISION;
+    private int niter;
+    private double[][] e;
+
+    /**
+     *
+     * @param c Conversion factor (number of high-frequency periods in a
+     * low-frequency period). The first period of the series starts a
+     * low-frequency period
+     * @param rho Coefficient of the AR(1) process (|rho| < 1)
+     * @param weights The weights of the series (one array by series, with the
+     * length of the series)
+     */
+    public MultivariateCholetteSolver(int c, double rho, double[][] weights) {
+        if (Math.abs(rho) >= 1) {
+            throw new IllegalArgumentException("rho should be in ]-1, 1[");
+        }
+        this.c = c;
+        this.rho = rho;
+        this.w = weights;
+        this.nvars = weights.length;
+        this.n = nvars == 0 ? 0 : weights[0].length;
+        this.tcnts = new double[nvars][];
+    }
+
+    /**
+     * Sets the temporal constraint of a series
+     *
+     * @param var The position of the series
+     * @param discrepancies The discrepancies between the aggregates and the
+     * sums of the series, by low-frequency periods. Missing values are
+     * allowed.
+     */
+    public void setTemporalConstraint(int var, double[] discrepancies) {
+        tcnts[var] = discrepancies;
+        e = null;
+    }
+
+    /**
+     * Adds a contemporaneous constraint
+     *
+     * @param cnt The constraint
+     * @param discrepancies The discrepancies between the constraint and the
+     * weighted sum of the series, for each period. Missing values are allowed.
+     */
+    public void addContemporaneousConstraint(Constraint cnt, double[] discrepancies) {
+        ccnts.add(cnt);
+        cdata.add(discrepancies);
+        e = null;
+    }
+
+    public int getMaxIter() {
+        return maxIter;
+    }
+
+    public void setMaxIter(int maxIter) {
+        this.maxIter = maxIter;
+    }
+
+    public double getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Relative precision on the constraints
+     *
+     * @param precision
+     */
+    public void setPrecision(double precision) {
+        this.precision = precision;
+    }
+
+    /**
+     * Number of iterations of the last call to solve
+     *
+     * @return
+     */
+    public int getIterationsCount() {
+        return niter;
+    }
+
+    /**
+     * Gets the corrections of a series
+     *
+     * @param var The position of the series
+     * @return The corrections (with the length of the series) or null if the
+     * problem has not been solved
+     */
+    public double[] getCorrections(int var) {
+        return e == null ? null : e[var];
+    }
+
+    /**
+     * Computes the corrections
+     *
+     * @return False if the conjugate gradients didn't converge (which should
+     * be the case for inconsistent constraints)
+     */
+    public boolean solve() {
+        e = null;
+        niter = 0;
+        // the multipliers are stored in a flat array: temporal constraints
+        // (by series) followed by the contemporaneous constraints (by constraint)
+        int[] toffsets = new int[nvars];
+        int m = 0;
+        for (int i = 0; i < nvars; ++i) {
+            toffsets[i] = m;
+            if (tcnts[i] != null) {
+                m += Math.min(tcnts[i].length, n / c);
+            }
+        }
+        int coffset = m;
+        m += ccnts.size() * n;
+        double[] b = new double[m];
+        boolean[] used = new boolean[m];
+        for (int i = 0; i < nvars; ++i) {
+            if (tcnts[i] != null) {
+                fill(tcnts[i], b, used, toffsets[i], Math.min(tcnts[i].length, n / c));
+            }
+        }
+        for (int j = 0, k = coffset; j < cdata.size(); ++j, k += n) {
+            fill(cdata.get(j), b, used, k, n);
+        }
+        double[][] g = new double[nvars][n];
+        double[] tmp = new double[n];
+        double[] d = preconditioner(toffsets, coffset, used);
+
+        // preconditioned conjugate gradients
+        double[] l = new double[m], r = b.clone(), z = new double[m], q = new double[m];
+        double bnorm = norm(b);
+        if (bnorm == 0) {
+            e = g;
+            return true;
+        }
+        for (int i = 0; i < m; ++i) {
+            z[i] = r[i] * d[i];
+        }
+        double[] p = z.clone();
+        double rz = dot(r, z);
+        while (niter < maxIter) {
+            ++niter;
+            product(p, q, g, tmp, toffsets, coffset, used);
+            double pq = dot(p, q);
+            if (pq <= 0) {
+                return false;
+            }
+            double alpha = rz / pq;
+            for (int i = 0; i < m; ++i) {
+                l[i] += alpha * p[i];
+                r[i] -= alpha * q[i];
+            }
+            if (norm(r) <= precision * bnorm) {
+                // e = V A' L
+                correlate(l, g, tmp, toffsets, coffset);
+                e = g;
+                return true;
+            }
+            for (int i = 0; i < m; ++i) {
+                z[i] = r[i] * d[i];
+            }
+            double nrz = dot(r, z);
+            double beta = nrz / rz;
+            rz = nrz;
+            for (int i = 0; i < m; ++i) {
+                p[i] = z[i] + beta * p[i];
+            }
+        }
+        return false;
+    }
+
+    private static void fill(double[] data, double[] b, boolean[] used, int start, int len) {
+        for (int i = 0; i < Math.min(len, data.length); ++i) {
+            double cur = data[i];
+            if (Double.isFinite(cur)) {
+                b[start + i] = cur;
+                used[start + i] = true;
+            }
+        }
+    }
+
+    /**
+     * Inverse of the diagonal of A*V*A'
+     */
+    private double[] preconditioner(int[] toffsets, int coffset, boolean[] used) {
+        double[] d = new double[used.length];
+        double v = 1 / (1 - rho * rho);
+        for (int i = 0; i < nvars; ++i) {
+            if (tcnts[i] != null) {
+                double[] wi = w[i];
+                for (int k = toffsets[i], t0 = 0; t0 + c <= n && k < toffsets[i] + tcnts[i].length; ++k, t0 += c) {
+                    double s = 0;
+                    for (int t = t0; t < t0 + c; ++t) {
+                        double rk = 1;
+                        for (int u = t; u < t0 + c; ++u, rk *= rho) {
+                            double cur = wi[t] * wi[u] * rk;
+                            s += t == u ? cur : 2 * cur;
+                        }
+                    }
+                    d[k] = s * v;
+                }
+            }
+        }
+        for (int j = 0, k = coffset; j < ccnts.size(); ++j) {
+            Constraint cnt = ccnts.get(j);
+            for (int t = 0; t < n; ++t, ++k) {
+                double s = 0;
+                for (int l = 0; l < cnt.index.length; ++l) {
+                    double cur = cnt.weights[l] * w[cnt.index[l]][t];
+                    s += cur * cur;
+                }
+                d[k] = s * v;
+            }
+        }
+        for (int k = 0; k < d.length; ++k) {
+            d[k] = used[k] && d[k] > 0 ? 1 / d[k] : 0;
+        }
+        return d;
+    }
+
+    /**
+     * q = A*V*A'*p (restricted to the used constraints)
+     */
+    private void product(double[] p, double[] q, double[][] g, double[] tmp, int[] toffsets, int coffset, boolean[] used) {
+        correlate(p, g, tmp, toffsets, coffset);
+        // q = A g
+        for (int i = 0; i < nvars; ++i) {
+            if (tcnts[i] != null) {
+                double[] gi = g[i];
+                for (int k = toffsets[i], t0 = 0; t0 + c <= n && k < toffsets[i] + tcnts[i].length; ++k, t0 += c) {
+                    double s = 0;
+                    for (int t = t0; t < t0 + c; ++t) {
+                        s += gi[t];
+                    }
+                    q[k] = s;
+                }
+            }
+        }
+        for (int j = 0, k = coffset; j < ccnts.size(); ++j, k += n) {
+            Constraint cnt = ccnts.get(j);
+            for (int t = 0; t < n; ++t) {
+                q[k + t] = 0;
+            }
+            for (int l = 0; l < cnt.index.length; ++l) {
+                double a = cnt.weights[l];
+                double[] gl = g[cnt.index[l]];
+                for (int t = 0; t < n; ++t) {
+                    q[k + t] += a * gl[t];
+                }
+            }
+        }
+        for (int k = 0; k < q.length; ++k) {
+            if (!used[k]) {
+                q[k] = 0;
+            }
+        }
+    }
+
+    /**
+     * g = V*A'*p
+     */
+    private void correlate(double[] p, double[][] g, double[] tmp, int[] toffsets, int coffset) {
+        // g = A'p
+        for (int i = 0; i < nvars; ++i) {
+            double[] gi = g[i];
+            for (int t = 0; t < n; ++t) {
+                gi[t] = 0;
+            }
+            if (tcnts[i] != null) {
+                for (int k = toffsets[i], t0 = 0; t0 + c <= n && k < toffsets[i] + tcnts[i].length; ++k, t0 += c) {
+                    double pk = p[k];
+                    for (int t = t0; t < t0 + c; ++t) {
+                        gi[t] += pk;
+                    }
+                }
+            }
+        }
+        for (int j = 0, k = coffset; j < ccnts.size(); ++j, k += n) {
+            Constraint cnt = ccnts.get(j);
+            for (int l = 0; l < cnt.index.length; ++l) {
+                double a = cnt.weights[l];
+                double[] gl = g[cnt.index[l]];
+                for (int t = 0; t < n; ++t) {
+                    gl[t] += a * p[k + t];
+                }
+            }
+        }
+        // g = W*S*W g, where S is the covariance of the AR(1)
+        double v = 1 / (1 - rho * rho);
+        for (int i = 0; i < nvars; ++i) {
+            double[] gi = g[i], wi = w[i];
+            // forward recursion
+            double f = 0;
+            for (int t = 0; t < n; ++t) {
+                double h = wi[t] * gi[t];
+                f = h + rho * f;
+                tmp[t] = f;
+            }
+            // backward recursion
+            double bk = 0;
+            for (int t = n - 1; t >= 0; --t) {
+                double h = wi[t] * gi[t];
+                bk = h + rho * bk;
+                gi[t] = wi[t] * (tmp[t] + bk - h) * v;
+            }
+        }
+    }
+
+    private static double dot(double[] x, double[] y) {
+        double s = 0;
+        for (int i = 0; i < x.length; ++i) {
+            s += x[i] * y[i];
+        }
+        return s;
+    }
+
+    private static double norm(double[] x) {
+        return Math.sqrt(dot(x, x));
+    }
+}
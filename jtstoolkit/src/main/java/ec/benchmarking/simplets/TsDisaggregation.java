@@ -698,9 +698,24 @@ public class TsDisaggregation<S extends ISsf> {
      * @return
      */
     public boolean process(DisaggregationModel model, TsDomain domain) {
+        return process(model, domain, null);
+    }
+
+    /**
+     * Same as process(model, domain), re-using the regression variables of
+     * another disaggregation based on the same indicators.
+     *
+     * @param model
+     * @param domain
+     * @param xdata The data of another disaggregation with the same regression
+     * variables (see DisaggregationModel.data(TsDomain, DisaggregationData)).
+     * May be null
+     * @return
+     */
+    public boolean process(DisaggregationModel model, TsDomain domain, DisaggregationData xdata) {
         clearResults();
         model_ = model;
-        data_ = model.data(domain, false);
+        data_ = model.data(domain, xdata);
         if (data_ == null) {
             return false;
         }
@@ -723,7 +738,7 @@ public class TsDisaggregation<S extends ISsf> {
         }
         rescale();
         //reset the original data, to avoid problems
-         data_ = model.data(domain, false);
+         data_ = model.data(domain, xdata);
          // update y in case of averages...
          if (this.model_.getAggregationType() == TsAggregationType.Average ){
              for (int i=0; i<data_.hY.length; ++i){
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarking.simplets;
+
+import ec.benchmarking.DisaggregationData;
+import ec.benchmarking.DisaggregationModel;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.ssf.ISsf;
+import ec.tstoolkit.timeseries.TsAggregationType;
+import ec.tstoolkit.timeseries.TsException;
+import ec.tstoolkit.timeseries.regression.TsVariableList;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Temporal disaggregation of a (large) set of low-frequency series that share
+ * the same indicators and the same model (Chow-Lin, Fernandez, Litterman...).
+ *
+ * The regression variables are computed and transformed following the
+ * aggregation type (cumulated variables) only once. The series are processed
+ * in parallel, each of them with its own disaggregation algorithm (and thus
+ * its own state space form and its own estimation of the parameters). The
+ * results are identical to the results of the individual disaggregations.
+ *
+ * @param <S> The state space form of the residuals
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public class TsDisaggregationBatch<S extends ISsf> {
+
+    public static final int NTHREADS = Runtime.getRuntime().availableProcessors();
+
+    private final Supplier<TsDisaggregation<S>> factory;
+    private final TsVariableList x;
+    private TsAggregationType type = TsAggregationType.Sum;
+    private TsFrequency defFreq = TsFrequency.Quarterly;
+    private int nfcasts;
+    private TsDomain domain;
+    private int nthreads = NTHREADS;
+
+    /**
+     *
+     * @param factory Creates a new (initialized) disaggregation algorithm. It
+     * is called once for each series, possibly concurrently
+     * @param x The indicators, shared by all the series. May be empty
+     */
+    public TsDisaggregationBatch(Supplier<TsDisaggregation<S>> factory, TsVariableList x) {
+        this.factory = factory;
+        this.x = x.clone();
+    }
+
+    public TsAggregationType getAggregationType() {
+        return type;
+    }
+
+    public void setAggregationType(TsAggregationType type) {
+        this.type = type;
+    }
+
+    /**
+     *
+     * @return The frequency of the disaggregated series when there is no
+     * indicator
+     */
+    public TsFrequency getDefaultFrequency() {
+        return defFreq;
+    }
+
+    public void setDefaultFrequency(TsFrequency freq) {
+        this.defFreq = freq;
+    }
+
+    public int getDefaultForecastsCount() {
+        return nfcasts;
+    }
+
+    public void setDefaultForecastsCount(int nfcasts) {
+        this.nfcasts = nfcasts;
+    }
+
+    /**
+     *
+     * @return The high-frequency domain of the disaggregation. May be null
+     */
+    public TsDomain getDomain() {
+        return domain;
+    }
+
+    public void setDomain(TsDomain domain) {
+        this.domain = domain;
+    }
+
+    public int getThreadsCount() {
+        return nthreads;
+    }
+
+    /**
+     *
+     * @param n The maximum number of threads used by the batch. 1 means
+     * that the series are processed in the calling thread
+     */
+    public void setThreadsCount(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("The number of threads should be positive");
+        }
+        this.nthreads = n;
+    }
+
+    /**
+     * Creates the disaggregation model of a series
+     *
+     * @param y The low-frequency series
+     * @return
+     */
+    public DisaggregationModel model(TsData y) {
+        DisaggregationModel model = new DisaggregationModel(defFreq);
+        model.setY(y);
+        if (!x.isEmpty()) {
+            model.setX(x);
+        }
+        model.setAggregationType(type);
+        model.setDefaultForecastCount(nfcasts);
+        return model;
+    }
+
+    /**
+     * Disaggregates the series.
+     *
+     * @param y The low-frequency series
+     * @return The disaggregations, in the order of the series. The items
+     * corresponding to failed disaggregations are null
+     */
+    public List<TsDisaggregation<S>> process(List<TsData> y) {
+        List<TsDisaggregation<S>> rslts = new ArrayList<>(Collections.nCopies(y.size(), null));
+        process(y, (i, rslt) -> rslts.set(i, rslt));
+        return rslts;
+    }
+
+    /**
+     * Disaggregates the series. Each result is passed to the consumer as soon
+     * as it is available, so that the complete set of the results has not to
+     * be kept in memory. The consumer is never called concurrently.
+     *
+     * @param y The low-frequency series
+     * @param consumer Receives the position of the series and its
+     * disaggregation (null if it failed), in the order of completion
+     */
+    public void process(List<TsData> y, BiConsumer<Integer, TsDisaggregation<S>> consumer) {
+        int n = y.size();
+        if (n == 0) {
+            return;
+        }
+        DisaggregationData xdata = x.isEmpty() ? null : sharedData(y);
+        int nt = Math.min(nthreads, n);
+        if (nt == 1) {
+            for (int i = 0; i < n; ++i) {
+                consumer.accept(i, disaggregate(y.get(i), xdata));
+            }
+            return;
+        }
+        AtomicInteger next = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < nt; ++i) {
+            tasks.add(() -> {
+                for (int cur = next.getAndIncrement(); cur < n; cur = next.getAndIncrement()) {
+                    TsDisaggregation<S> rslt = disaggregate(y.get(cur), xdata);
+                    synchronized (consumer) {
+                        consumer.accept(cur, rslt);
+                    }
+                }
+                return null;
+            });
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(nt);
+        try {
+            for (Future<Void> f : executorService.invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TsException("Interrupted disaggregation");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new TsException("Disaggregation failed", ex);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Prepares the regression variables with the first series that can be
+     * prepared. The other series re-use them when they have the same
+     * high-frequency domain
+     */
+    private DisaggregationData sharedData(List<TsData> y) {
+        for (TsData s : y) {
+            try {
+                DisaggregationData xdata = model(s).data(domain, (DisaggregationData) null);
+                if (xdata != null) {
+                    return xdata;
+                }
+            } catch (RuntimeException err) {
+            }
+        }
+        return null;
+    }
+
+    private TsDisaggregation<S> disaggregate(TsData y, DisaggregationData xdata) {
+        try {
+            TsDisaggregation<S> disagg = factory.get();
+            return disagg.process(model(y), domain, xdata) ? disagg : null;
+        } catch (RuntimeException err) {
+            return null;
+        }
+    }
+}
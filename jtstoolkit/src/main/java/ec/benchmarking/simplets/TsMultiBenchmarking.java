@@ -16,12 +16,14 @@
  */
 package ec.benchmarking.simplets;
 
+import ec.benchmarking.cholette.MultivariateCholetteSolver;
 import ec.benchmarking.ssf.multivariate.*;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.maths.matrices.Matrix;
 import ec.tstoolkit.ssf.*;
 import ec.tstoolkit.ssf.multivariate.IMultivariateSsf;
+import ec.tstoolkit.ssf.multivariate.M2uSmoother;
 import ec.tstoolkit.timeseries.TsAggregationType;
 import ec.tstoolkit.timeseries.simplets.*;
 import ec.tstoolkit.utilities.Comparator;
@@ -52,6 +54,34 @@ import java.util.Map.Entry;
 @Development(status = Development.Status.Beta)
 public class TsMultiBenchmarking {
 
+    /**
+     * Solvers of the multi-variate problems
+     */
+    public static enum Solver {
+
+        /**
+         * Iterative solver for large sets of series (Cholette only), state
+         * space form otherwise
+         */
+        Auto,
+        /**
+         * State space form (the memory grows with the square of the number of
+         * series)
+         */
+        StateSpace,
+        /**
+         * Conjugate gradients (Cholette only, see
+         * MultivariateCholetteSolver). The state space form is used if the
+         * solver doesn't converge
+         */
+        Iterative
+    }
+
+    /**
+     * Minimal number of series for using the iterative solver in Auto mode
+     */
+    public static final int ITERATIVE_THRESHOLD = 50;
+
     /**
      * Description of a contemporaneous constraint. The constraint may be
      * binding y = w1*x1+...+wn*xn or free constant = w1*x1+...+wn*xn
@@ -311,6 +341,7 @@ public class TsMultiBenchmarking {
         }
     }
     private double rho_ = 0, lambda_ = 0;
+    private Solver solver_ = Solver.Auto;
     private final LinkedHashMap<String, String> tConstraints
             = new LinkedHashMap<>();
     private final ArrayList<ContemporaneousConstraintDescriptor> cConstraints
@@ -389,6 +420,14 @@ public class TsMultiBenchmarking {
         lambda_ = lambda;
     }
 
+    public Solver getSolver() {
+        return solver_;
+    }
+
+    public void setSolver(Solver solver) {
+        solver_ = solver;
+    }
+
     public boolean contains(String s) {
         return inputs.containsKey(s);
     }
@@ -470,6 +509,20 @@ public class TsMultiBenchmarking {
         int lfreq = tfreq_.intValue();
         int c = hfreq / lfreq;
 
+        double[][] e = solveIterative(c);
+        if (e != null) {
+            TsData[] y = new TsData[rcnt.size()];
+            for (int i = 0; i < y.length; ++i) {
+                TsData s = getInput(rcnt.get(i));
+                TsDataBlock sc = TsDataBlock.select(s, idomain_);
+                y[i] = new TsData(idomain_);
+                for (int j = 0; j < s.getLength(); ++j) {
+                    y[i].set(j, sc.data.get(j) + e[i][j]);
+                }
+            }
+            return y;
+        }
+
         IMultivariateSsf ssf;
         if (rho_ < 1) {
             MultivariateSsfCholette cssf = new MultivariateSsfCholette(c, rho_, weights);
@@ -482,9 +535,6 @@ public class TsMultiBenchmarking {
         }
 
         // build the observations
-        ec.tstoolkit.ssf.multivariate.FullM2uMap map = new ec.tstoolkit.ssf.multivariate.FullM2uMap(rcnt.size() + cs.size());
-        ec.tstoolkit.ssf.multivariate.M2uSsfAdapter adapter
-                = new ec.tstoolkit.ssf.multivariate.M2uSsfAdapter(ssf, map);
         int len = idomain_.getLength();
         int nvars = rcnt.size(), ncnts = cs.size();
         Matrix M = new Matrix(nvars + ncnts, len);
@@ -508,6 +558,51 @@ public class TsMultiBenchmarking {
             }*/
         }
 
+        int[] cmps = new int[nvars];
+        for (int i = 0; i < nvars; ++i) {
+            cmps[i] = 2 * i + 1;
+        }
+        double[][] states = smoothedComponents(ssf, M, cmps);
+        TsData[] y = new TsData[rcnt.size()];
+        for (int i = 0; i < y.length; ++i) {
+            TsData s = getInput(rcnt.get(i));
+            TsDataBlock sc = TsDataBlock.select(s, idomain_);
+            y[i] = new TsData(idomain_);
+            double[] t = states[i];
+            for (int j = 0; j < s.getLength(); ++j) {
+                y[i].set(j, sc.data.get(j) + t[j] * weights[i][j]);
+            }
+        }
+        return y;
+    }
+
+    /**
+     * Computes the smoothed states of a multivariate model. Non diffuse
+     * models are handled by the univariate treatment of the actual
+     * observations (M2uSmoother); diffuse models (Denton) use the univariate
+     * adapter of the complete model.
+     *
+     * @param ssf The multivariate model
+     * @param M The observations (one row by equation, one column by period)
+     * @param cmps The requested components of the state vector
+     * @return The smoothed components (one value by period)
+     */
+    private double[][] smoothedComponents(IMultivariateSsf ssf, Matrix M, int[] cmps) {
+        double[][] c = new double[cmps.length][];
+        if (!ssf.isDiffuse()) {
+            M2uSmoother smoother = new M2uSmoother(ssf);
+            if (smoother.process(new ec.tstoolkit.ssf.multivariate.MultivariateSsfData(M, null))) {
+                SmoothingResults states = smoother.calcSmoothedStates();
+                for (int i = 0; i < cmps.length; ++i) {
+                    c[i] = states.component(cmps[i]);
+                }
+                return c;
+            }
+        }
+        int neq = M.getRowsCount(), len = M.getColumnsCount();
+        ec.tstoolkit.ssf.multivariate.FullM2uMap map = new ec.tstoolkit.ssf.multivariate.FullM2uMap(neq);
+        ec.tstoolkit.ssf.multivariate.M2uSsfAdapter adapter
+                = new ec.tstoolkit.ssf.multivariate.M2uSsfAdapter(ssf, map);
         ec.tstoolkit.ssf.DisturbanceSmoother dsmoother = new ec.tstoolkit.ssf.DisturbanceSmoother();
         dsmoother.setSsf(adapter);
         ec.tstoolkit.ssf.multivariate.M2uData data = new ec.tstoolkit.ssf.multivariate.M2uData(M, null);
@@ -530,19 +625,14 @@ public class TsMultiBenchmarking {
             dsmoother.process(data);
             states = dsmoother.calcSmoothedStates();
         }
-
-        int neq = nvars + ncnts;
-        TsData[] y = new TsData[rcnt.size()];
-        for (int i = 0; i < y.length; ++i) {
-            TsData s = getInput(rcnt.get(i));
-            TsDataBlock sc = TsDataBlock.select(s, idomain_);
-            y[i] = new TsData(idomain_);
-            double[] t = states.component(2 * i + 1);
-            for (int j = 0; j < s.getLength(); ++j) {
-                y[i].set(j, sc.data.get(j) + t[j * neq] * weights[i][j]);
+        for (int i = 0; i < cmps.length; ++i) {
+            double[] t = states.component(cmps[i]);
+            c[i] = new double[len];
+            for (int j = 0; j < len; ++j) {
+                c[i][j] = t[j * neq];
             }
         }
-        return y;
+        return c;
     }
     
     private void clear(){
@@ -747,6 +837,20 @@ public class TsMultiBenchmarking {
         buildWeights();
         buildContemporaneousConstraints();
 
+        double[][] e = solveIterative(1);
+        if (e != null) {
+            TsData[] y = new TsData[rcnt.size()];
+            for (int i = 0; i < y.length; ++i) {
+                TsData s = getInput(rcnt.get(i));
+                y[i] = new TsData(s.getDomain());
+                for (int j = 0; j < s.getLength(); ++j) {
+                    y[i].set(j, e[i][j]);
+                }
+                y[i] = TsData.add(y[i], s);
+            }
+            return y;
+        }
+
         IMultivariateSsf ssf;
         if (rho_ < 1) {
             ContemporaneousSsfCholette cssf = new ContemporaneousSsfCholette(rho_, weights);
@@ -759,48 +863,74 @@ public class TsMultiBenchmarking {
         }
 
         // build the observations
-        ec.tstoolkit.ssf.multivariate.FullM2uMap map = new ec.tstoolkit.ssf.multivariate.FullM2uMap(cs.size());
-        ec.tstoolkit.ssf.multivariate.M2uSsfAdapter adapter
-                = new ec.tstoolkit.ssf.multivariate.M2uSsfAdapter(ssf, map);
-        ec.tstoolkit.ssf.multivariate.M2uData data = new ec.tstoolkit.ssf.multivariate.M2uData(lcntData, null);
-        ec.tstoolkit.ssf.DisturbanceSmoother dsmoother = new ec.tstoolkit.ssf.DisturbanceSmoother();
-        dsmoother.setSsf(adapter);
-        SmoothingResults states;
-//        ec.tstoolkit.ssf.Smoother smoother = new ec.tstoolkit.ssf.Smoother();
-//        smoother.setSsf(adapter);
-//        smoother.setCalcVar(false);
-//        SmoothingResults states = new SmoothingResults();
-        if (adapter.isDiffuse()) {
-            Filter<ISsf> filter = new Filter<>();
-            filter.setInitializer(new DiffuseSquareRootInitializer());
-            filter.setSsf(adapter);
-            DiffuseFilteringResults frslts = new DiffuseFilteringResults(true);
-            frslts.getFilteredData().setSavingA(data.hasData());
-            frslts.getVarianceFilter().setSavingP(false);
-            filter.process(data, frslts);
-//            smoother.process(data, frslts, states);
-            dsmoother.process(data, frslts);
-            states = dsmoother.calcSmoothedStates();
-        } else {
-            dsmoother.process(data);
-            states = dsmoother.calcSmoothedStates();
-//            smoother.process(data, states);
+        Matrix M = new Matrix(cs.size(), lcntData[0].length);
+        for (int i = 0; i < lcntData.length; ++i) {
+            M.row(i).copyFrom(lcntData[i], 0);
         }
-
-        int neq = cs.size();
+        int[] cmps = new int[rcnt.size()];
+        for (int i = 0; i < cmps.length; ++i) {
+            cmps[i] = i;
+        }
+        double[][] states = smoothedComponents(ssf, M, cmps);
         TsData[] y = new TsData[rcnt.size()];
         for (int i = 0; i < y.length; ++i) {
             TsData s = getInput(rcnt.get(i));
             y[i] = new TsData(s.getDomain());
-            double[] t = states.component(i);
+            double[] t = states[i];
             for (int j = 0; j < s.getLength(); ++j) {
-                y[i].set(j, t[j * neq] * weights[i][j]);
+                y[i].set(j, t[j] * weights[i][j]);
             }
             y[i] = TsData.add(y[i], s);
         }
         return y;
     }
 
+    private boolean isIterative() {
+        if (Math.abs(rho_) >= 1) {
+            return false;
+        }
+        switch (solver_) {
+            case Iterative:
+                return true;
+            case Auto:
+                return rcnt.size() >= ITERATIVE_THRESHOLD;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Computes the corrections of the endogenous series by means of the
+     * iterative solver, if it is appropriate.
+     *
+     * @param c The conversion factor
+     * @return The corrections or null if the iterative solver is not used or
+     * failed
+     */
+    private double[][] solveIterative(int c) {
+        if (!isIterative()) {
+            return null;
+        }
+        MultivariateCholetteSolver solver = new MultivariateCholetteSolver(c, rho_, weights);
+        for (int i = 0; i < rcnt.size(); ++i) {
+            TsData a = tcntData.get(rcnt.get(i));
+            if (a != null) {
+                solver.setTemporalConstraint(i, a.internalStorage());
+            }
+        }
+        for (int i = 0; i < cs.size(); ++i) {
+            solver.addContemporaneousConstraint(cs.get(i), lcntData[i]);
+        }
+        if (!solver.solve()) {
+            return null;
+        }
+        double[][] e = new double[rcnt.size()][];
+        for (int i = 0; i < e.length; ++i) {
+            e[i] = solver.getCorrections(i);
+        }
+        return e;
+    }
+
     private double[] calcWeights(double[] x) {
         if (lambda_ == 1) {
             return x;
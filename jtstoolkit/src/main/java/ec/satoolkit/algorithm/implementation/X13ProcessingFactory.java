@@ -32,9 +32,13 @@ import ec.tstoolkit.design.Development;
 import ec.tstoolkit.modelling.arima.PreprocessingModel;
 import ec.tstoolkit.modelling.arima.x13.BasicSpec;
 import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  *
@@ -54,6 +58,11 @@ public class X13ProcessingFactory extends GenericSaProcessingFactory implements
     }
 
     private static SequentialProcessing<TsData> create(X13Specification xspec, ProcessingContext context) {
+        return create(xspec, context, null, true);
+    }
+
+    private static SequentialProcessing<TsData> create(X13Specification xspec, ProcessingContext context,
+            Collection<String> x11Tables, boolean mstatistics) {
         SequentialProcessing processing = new SequentialProcessing();
         BasicSpec basic = xspec.getRegArimaSpecification().getBasic();
         addInitialStep(basic.getSpan(), basic.isPreliminaryCheck(), processing);
@@ -65,9 +74,19 @@ public class X13ProcessingFactory extends GenericSaProcessingFactory implements
         DefaultPreprocessingFilter filter = new DefaultPreprocessingFilter(noapply);
         filter.setForecastHorizon(xspec.getX11Specification().getForecastHorizon());
         filter.setBackcastHorizon(xspec.getX11Specification().getBackcastHorizon());
-        addDecompositionStep(new X11Decomposer(xspec.getX11Specification()), filter, processing);
+        X11Decomposer decomposer = new X11Decomposer(xspec.getX11Specification());
+        if (x11Tables != null) {
+            Set<String> tables = new HashSet<>(x11Tables);
+            if (mstatistics) {
+                tables.addAll(Arrays.asList(Mstatistics.X11_TABLES));
+            }
+            decomposer.setLeanTables(tables);
+        }
+        addDecompositionStep(decomposer, filter, processing);
         addFinalStep(filter, processing);
-        addDiagnosticsStep(processing);
+        if (mstatistics) {
+            addDiagnosticsStep(processing);
+        }
         addBenchmarkingStep(xspec.getBenchmarkingSpecification(), processing);
         return processing;
     }
@@ -108,6 +127,22 @@ public class X13ProcessingFactory extends GenericSaProcessingFactory implements
         return create(xspec, null);
     }
 
+    /**
+     * Generates a processing that only computes the final components, the
+     * given X11 tables and, optionally, the M-statistics (lean mode of the
+     * X11 kernel).
+     *
+     * @param xspec The specification
+     * @param context The context (may be null)
+     * @param x11Tables The requested X11 tables (for instance X11Kernel.D8)
+     * @param mstatistics True if the M-statistics must be computed
+     * @return
+     */
+    public SequentialProcessing<TsData> generateLeanProcessing(X13Specification xspec, ProcessingContext context,
+            Collection<String> x11Tables, boolean mstatistics) {
+        return create(xspec, context, x11Tables, mstatistics);
+    }
+
     public static CompositeResults process(TsData s, X13Specification xspec, ProcessingContext context) {
         SequentialProcessing<TsData> processing = create(xspec, context);
         return processing.process(s);
@@ -109,6 +109,21 @@ public class AutoRegressiveSpectrumTest {
         return true;
     }
 
+    /**
+     * Tests an auto-regressive spectrum that has already been estimated (for
+     * instance by a SeasonalityTestBattery). The spectrum is not modified.
+     *
+     * @param ar The spectrum
+     * @param freq The annual frequency of the series
+     * @return
+     */
+    public boolean test(AutoRegressiveSpectrum ar, int freq) {
+        this.ar = ar;
+        computeFrequencies(freq);
+        computeRange();
+        return true;
+    }
+
     public boolean isPeak(double freq, double p) {
         int pos = findPos(freq);
         return peak(pos, p);
@@ -207,7 +222,7 @@ public class AutoRegressiveSpectrumTest {
         return n;
     }
 
-    private int arcount(int ndata, int freq) {
+    int arcount(int ndata, int freq) {
         if (arcount == 0) {
             int n = 30 * freq / 12;
             if (n > ndata - 1) {
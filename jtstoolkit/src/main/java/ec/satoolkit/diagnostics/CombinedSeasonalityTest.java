@@ -78,6 +78,22 @@ public class CombinedSeasonalityTest {
 
     }
 
+    /**
+     * Combined test using already computed non parametric and stable
+     * seasonality tests
+     *
+     * @param ts
+     * @param kw
+     * @param stable
+     * @param mul
+     */
+    CombinedSeasonalityTest(TsData ts, KruskalWallisTest kw, SeasonalityTest stable, boolean mul)
+    {
+	m_kwtest = kw;
+	m_stable = stable;
+	m_evolutive = SeasonalityTest.evolutiveSeasonality(ts, mul);
+    }
+
     /**
      * 
      * @return
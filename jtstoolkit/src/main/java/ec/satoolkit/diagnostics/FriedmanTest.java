@@ -102,22 +102,25 @@ public class FriedmanTest extends StatisticalTest {
         return m_t;
     }
 
+    /**
+     * Test computed on the ranks of the complete years
+     *
+     * @param ranks The ranks of each year (in the rows). The matrix is not
+     * modified
+     * @param f F or Chi2 test
+     */
+    FriedmanTest(Matrix ranks, boolean f) {
+        process(ranks.clone(), f);
+    }
+
     private void process(final DataBlock all, int freq, boolean f) {
-        // gets complete years:
-        int nall = all.getLength();
-        m_k = freq;
-        m_n = nall / freq;
-
-        DataBlock x = all.drop(nall - m_n * m_k, 0);
-        DataBlock y = x.range(0, freq);
-        Matrix R = new Matrix(m_n, m_k);
-
-        // computes the ranks on each year:
-        int row = 0;
-        for (int i = 0; i < m_n; ++i) {
-            Ranking.sort(y, R.row(row++));
-            y.move(freq);
-        }
+        // computes the ranks on each (complete) year:
+        process(Ranking.yearlyRanks(all, freq), f);
+    }
+
+    private void process(final Matrix R, boolean f) {
+        m_n = R.getRowsCount();
+        m_k = R.getColumnsCount();
 
         // computes mean of the ranks:
         double rmean = R.sum() / (m_n * m_k);
@@ -90,12 +90,24 @@ public class PeriodogramTest {
      */
     public static StatisticalTest computeSum2(IReadDataBlock data, int freq) {
         data=shrink(data, freq);
-        Periodogram periodogram = new Periodogram(data, false);
+        return computeSum2(new Periodogram(data, false), freq);
+    }
+
+    /**
+     * Same as computeSum2, using an existing periodogram
+     *
+     * @param periodogram The periodogram (not corrected for the mean) of
+     * complete years
+     * @param freq The annual frequency of the data
+     * @return F test
+     */
+    public static StatisticalTest computeSum2(Periodogram periodogram, int freq) {
         double[] p = periodogram.getP();
         double xsum = 0;
         int f2=(freq-1)/2;
         int nf = 2*f2;
-        int m=data.getLength()/freq;
+        int n=periodogram.getData().length;
+        int m=n/freq;
         for (int i = 1; i <= f2; ++i) {
                 xsum+=p[i*m];
          }
@@ -103,7 +115,6 @@ public class PeriodogramTest {
             ++nf;
             xsum += p[p.length - 1];
         }
-        int n=data.getLength();
         F f = new F();
         f.setDFNum(nf);
         f.setDFDenom(n-nf-1);
@@ -19,6 +19,7 @@ package ec.satoolkit.diagnostics;
 
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.design.Development;
+import ec.tstoolkit.maths.matrices.Matrix;
 import java.util.Arrays;
 
 /**
@@ -56,4 +57,24 @@ class Ranking {
 	    r.set(items[i].pos, items[i].rank);
     }
 
+    /**
+     * Ranks of the data inside each complete year. The incomplete year at the
+     * beginning of the data is skipped.
+     *
+     * @param all The data
+     * @param freq The frequency
+     * @return A matrix with the ranks of each year in the rows
+     */
+    static Matrix yearlyRanks(DataBlock all, int freq) {
+	int nall = all.getLength();
+	int ny = nall / freq;
+	DataBlock y = all.drop(nall - ny * freq, 0).range(0, freq);
+	Matrix R = new Matrix(ny, freq);
+	for (int i = 0; i < ny; ++i) {
+	    sort(y, R.row(i));
+	    y.move(freq);
+	}
+	return R;
+    }
+
 }
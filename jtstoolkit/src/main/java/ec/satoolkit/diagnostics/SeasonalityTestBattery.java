@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.satoolkit.diagnostics;
+
+import ec.tstoolkit.data.AutoRegressiveSpectrum;
+import ec.tstoolkit.data.Periodogram;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.stats.StatisticalTest;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsDataBlock;
+import ec.tstoolkit.utilities.Tasks;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Battery of seasonality tests on a given (usually differenced) series.
+ *
+ * The intermediate results used by several tests or by their clients (ranks
+ * inside the years, periodogram of the complete years, auto-regressive
+ * spectra) are computed only once. All the results are computed on demand
+ * and memoised. They can be requested concurrently; the prefetch method
+ * computes them in parallel.
+ *
+ * The results are identical to the results of the individual tests.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public class SeasonalityTestBattery {
+
+    /**
+     * Default number of lags of the QS test
+     */
+    public static final int QS_LAGS = 2;
+
+    private final TsData s;
+    private final int freq;
+
+    // shared intermediate results
+    private final Lazy<Matrix> ranks = new Lazy<>(this::computeRanks);
+    private final Lazy<Periodogram> periodogram = new Lazy<>(this::computePeriodogram);
+    private final ConcurrentMap<Integer, Lazy<AutoRegressiveSpectrum>> arspectra = new ConcurrentHashMap<>();
+
+    // tests
+    private final Lazy<FriedmanTest> friedman = new Lazy<>(() -> new FriedmanTest(ranks.get(), false));
+    private final Lazy<KruskalWallisTest> kruskalWallis = new Lazy<>(() -> new KruskalWallisTest(getSeries()));
+    private final Lazy<SeasonalityTest> stable = new Lazy<>(() -> SeasonalityTest.stableSeasonality(getSeries()));
+    private final Lazy<StatisticalTest> ptest = new Lazy<>(this::computePeriodogramTest);
+    private final Lazy<AutoRegressiveSpectrumTest> arpeaks = new Lazy<>(this::computeArPeaks);
+    private final Lazy<TukeySpectrumPeaksTest> tpeaks = new Lazy<>(this::computeTukeyPeaks);
+    private final ConcurrentMap<Integer, Lazy<StatisticalTest>> qs = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param s The tested series. It should not be modified after the creation
+     * of the battery
+     */
+    public SeasonalityTestBattery(TsData s) {
+        this.s = s;
+        this.freq = s.getFrequency().intValue();
+    }
+
+    public TsData getSeries() {
+        return s;
+    }
+
+    /**
+     * Ranks of the observations inside each complete year (the incomplete
+     * year at the beginning of the series is skipped).
+     *
+     * @return A new matrix with the ranks of each year in the rows
+     */
+    public Matrix getYearlyRanks() {
+        return ranks.get().clone();
+    }
+
+    /**
+     * Periodogram of the complete years (the incomplete year at the beginning
+     * of the series is skipped). The data are not corrected for the mean.
+     *
+     * @return The periodogram, which should not be modified
+     */
+    public Periodogram getPeriodogram() {
+        return periodogram.get();
+    }
+
+    /**
+     * Auto-regressive spectrum of the series, estimated by OLS
+     *
+     * @param nar The number of auto-regressive lags
+     * @return The spectrum (which should not be modified) or null if it can't
+     * be estimated
+     */
+    public AutoRegressiveSpectrum getAutoRegressiveSpectrum(int nar) {
+        return arspectra.computeIfAbsent(nar, k -> new Lazy<>(() -> computeArSpectrum(k))).get();
+    }
+
+    public FriedmanTest getFriedmanTest() {
+        return friedman.get();
+    }
+
+    public KruskalWallisTest getKruskalWallisTest() {
+        return kruskalWallis.get();
+    }
+
+    /**
+     * F-test on seasonal dummies
+     *
+     * @return
+     */
+    public SeasonalityTest getStableSeasonalityTest() {
+        return stable.get();
+    }
+
+    /**
+     * Combined seasonality test, which re-uses the Kruskal-Wallis and the
+     * stable seasonality tests of the battery. The test is not memoised.
+     *
+     * @param mul Multiplicative decomposition
+     * @return
+     */
+    public CombinedSeasonalityTest getCombinedSeasonalityTest(boolean mul) {
+        return new CombinedSeasonalityTest(s, kruskalWallis.get(), stable.get(), mul);
+    }
+
+    public StatisticalTest getQsTest() {
+        return getQsTest(QS_LAGS);
+    }
+
+    /**
+     *
+     * @param nlags The number of seasonal lags
+     * @return The QS test or null if it is not valid
+     */
+    public StatisticalTest getQsTest(int nlags) {
+        return qs.computeIfAbsent(nlags, k -> new Lazy<>(() -> QSTest.compute(s.internalStorage(), freq, k))).get();
+    }
+
+    /**
+     * F-test on the periodogram at the seasonal frequencies
+     *
+     * @return
+     * @see PeriodogramTest#computeSum2(ec.tstoolkit.data.Periodogram, int)
+     */
+    public StatisticalTest getPeriodogramTest() {
+        return ptest.get();
+    }
+
+    /**
+     *
+     * @return The test on the auto-regressive spectrum (with default
+     * settings) or null if it failed
+     */
+    public AutoRegressiveSpectrumTest getArPeaks() {
+        return arpeaks.get();
+    }
+
+    /**
+     *
+     * @return The test on the Tukey spectrum (with default settings) or null
+     * if it failed
+     */
+    public TukeySpectrumPeaksTest getTukeyPeaks() {
+        return tpeaks.get();
+    }
+
+    /**
+     * Computes in parallel all the tests of the battery (with their default
+     * settings). The method returns when all the tests have been computed
+     * (see {@link Tasks#invokeAll}).
+     *
+     * @param executor The executor used for the computations
+     */
+    public void prefetch(ExecutorService executor) {
+        List<Callable<Object>> tasks = new ArrayList<>();
+        tasks.add(this::getArPeaks);
+        tasks.add(this::getTukeyPeaks);
+        tasks.add(this::getPeriodogramTest);
+        tasks.add(this::getFriedmanTest);
+        tasks.add(this::getKruskalWallisTest);
+        tasks.add(this::getStableSeasonalityTest);
+        tasks.add(this::getQsTest);
+        Tasks.invokeAll(executor, tasks);
+    }
+
+    private Matrix computeRanks() {
+        return Ranking.yearlyRanks(TsDataBlock.all(s).data, freq);
+    }
+
+    private Periodogram computePeriodogram() {
+        Periodogram p = new Periodogram(PeriodogramTest.shrink(s, freq), false);
+        // the periodogram is computed lazily; it is shared by the tests
+        p.getP();
+        return p;
+    }
+
+    private StatisticalTest computePeriodogramTest() {
+        return PeriodogramTest.computeSum2(periodogram.get(), freq);
+    }
+
+    private AutoRegressiveSpectrum computeArSpectrum(int nar) {
+        if (nar >= s.getLength()) {
+            return null;
+        }
+        try {
+            AutoRegressiveSpectrum ar = new AutoRegressiveSpectrum(AutoRegressiveSpectrum.Method.Ols);
+            return ar.process(s, nar) ? ar : null;
+        } catch (RuntimeException err) {
+            return null;
+        }
+    }
+
+    private AutoRegressiveSpectrumTest computeArPeaks() {
+        AutoRegressiveSpectrumTest test = new AutoRegressiveSpectrumTest();
+        AutoRegressiveSpectrum ar = getAutoRegressiveSpectrum(test.arcount(s.getLength(), freq));
+        if (ar == null || !test.test(ar, freq)) {
+            return null;
+        }
+        return test;
+    }
+
+    private TukeySpectrumPeaksTest computeTukeyPeaks() {
+        TukeySpectrumPeaksTest test = new TukeySpectrumPeaksTest();
+        return test.test(s) ? test : null;
+    }
+
+    /**
+     * Value computed once, on its first request. A failed computation is
+     * executed again on the next request.
+     */
+    private static final class Lazy<T> {
+
+        private Supplier<T> fn;
+        private volatile boolean done;
+        private T value;
+
+        private Lazy(Supplier<T> fn) {
+            this.fn = fn;
+        }
+
+        T get() {
+            if (!done) {
+                synchronized (this) {
+                    if (!done) {
+                        value = fn.get();
+                        fn = null;
+                        done = true;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.satoolkit.seats;
+
+import ec.tstoolkit.arima.ArimaModel;
+import ec.tstoolkit.arima.IArimaModel;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaSpecification;
+import ec.tstoolkit.ucarima.UcarimaModel;
+import ec.tstoolkit.ucarima.estimation.BurmanEstimatesC;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of the data-independent part of SEATS: the canonical decompositions
+ * of the models (identified by the exact parameters of the SARIMA models and
+ * by the settings of the decomposition) and the Wiener-Kolmogorov/Burman
+ * filters of the decompositions (identified by the exact UCARIMA models).
+ *
+ * When the same models are used repeatedly (fixed models, revision analysis,
+ * large sets of similar series...), only the filtering of the data is
+ * re-executed. The results are identical to the results of a new
+ * computation.
+ *
+ * The cache is bounded by the number of models; the least recently used
+ * models are removed first. It can be used concurrently. The cached
+ * decompositions are never exposed: the users get copies of them.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class DecompositionCache {
+
+    /**
+     * Default number of models kept in the cache
+     */
+    public static final int DEF_CAPACITY = 256;
+
+    public static final DecompositionCache instance = new DecompositionCache(DEF_CAPACITY);
+
+    private final Lru<Decomposition> decompositions = new Lru<>();
+    private final Lru<BurmanEstimatesC.Filters> filters = new Lru<>();
+    private volatile int capacity;
+    private volatile boolean enabled = true;
+
+    public DecompositionCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Removes all the models.
+     */
+    public void clear() {
+        decompositions.clear();
+        filters.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the cache. A disabled cache doesn't store anything.
+     *
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    /**
+     * @return The maximum number of decompositions (and of filters) kept in
+     * the cache
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+        decompositions.shrink();
+        filters.shrink();
+    }
+
+    /**
+     * @return The number of decompositions kept in the cache
+     */
+    public int getDecompositionsCount() {
+        return decompositions.size();
+    }
+
+    /**
+     * @return The number of filters kept in the cache
+     */
+    public int getFiltersCount() {
+        return filters.size();
+    }
+
+    public long getHitsCount() {
+        return decompositions.getHitsCount() + filters.getHitsCount();
+    }
+
+    public long getMissesCount() {
+        return decompositions.getMissesCount() + filters.getMissesCount();
+    }
+
+    /**
+     * Gets the Burman filters of a decomposition. The filters are computed if
+     * they are not in the cache.
+     *
+     * @param ucm The (final) decomposition
+     * @param mean True if the model contains a mean
+     * @return
+     */
+    public BurmanEstimatesC.Filters filters(UcarimaModel ucm, boolean mean) {
+        if (!enabled) {
+            return new BurmanEstimatesC.Filters(ucm, mean);
+        }
+        Key key = key(ucm, mean);
+        BurmanEstimatesC.Filters f = filters.get(key);
+        if (f == null) {
+            f = new BurmanEstimatesC.Filters(ucm, mean);
+            filters.put(key, f);
+        }
+        return f;
+    }
+
+    /**
+     * Result of a decomposition. The UCARIMA model is null if the model is not
+     * decomposable
+     */
+    static final class Decomposition {
+
+        private final UcarimaModel ucm;
+        private final IArimaModel noisyModel;
+
+        Decomposition(UcarimaModel ucm, IArimaModel noisyModel) {
+            this.ucm = ucm == null ? null : ucm.clone();
+            this.noisyModel = noisyModel;
+        }
+
+        UcarimaModel getUcarimaModel() {
+            return ucm == null ? null : ucm.clone();
+        }
+
+        IArimaModel getNoisyModel() {
+            return noisyModel;
+        }
+    }
+
+    Decomposition getDecomposition(Key key) {
+        return enabled ? decompositions.get(key) : null;
+    }
+
+    void putDecomposition(Key key, Decomposition decomposition) {
+        if (enabled) {
+            decompositions.put(key, decomposition);
+        }
+    }
+
+    /**
+     * Identifies a SARIMA model and the settings of its decomposition
+     *
+     * @param sarima
+     * @param settings
+     * @return
+     */
+    static Key key(SarimaModel sarima, double... settings) {
+        SarimaSpecification spec = sarima.getSpecification();
+        int np = sarima.getParametersCount();
+        double[] k = new double[8 + np + settings.length];
+        k[0] = spec.getFrequency();
+        k[1] = spec.getP();
+        k[2] = spec.getD();
+        k[3] = spec.getQ();
+        k[4] = spec.getBP();
+        k[5] = spec.getBD();
+        k[6] = spec.getBQ();
+        k[7] = sarima.getInnovationVariance();
+        sarima.getParameters().copyTo(k, 8);
+        System.arraycopy(settings, 0, k, 8 + np, settings.length);
+        return new Key(k);
+    }
+
+    /**
+     * Identifies an UCARIMA model (through the polynomials of the aggregated
+     * model and of its components)
+     *
+     * @param ucm
+     * @param mean
+     * @return
+     */
+    static Key key(UcarimaModel ucm, boolean mean) {
+        int ncmps = ucm.getComponentsCount();
+        double[][] all = new double[ncmps + 1][];
+        all[0] = values(ucm.getModel());
+        int n = all[0].length;
+        for (int i = 0; i < ncmps; ++i) {
+            ArimaModel cmp = ucm.getComponent(i);
+            all[i + 1] = cmp.isNull() ? new double[]{0} : values(cmp);
+            n += all[i + 1].length;
+        }
+        double[] k = new double[n + 1];
+        k[0] = mean ? 1 : 0;
+        for (int i = 0, j = 1; i <= ncmps; j += all[i++].length) {
+            System.arraycopy(all[i], 0, k, j, all[i].length);
+        }
+        return new Key(k);
+    }
+
+    private static double[] values(IArimaModel arima) {
+        return values(arima.getInnovationVariance(), arima.getStationaryAR().getCoefficients(),
+                arima.getNonStationaryAR().getCoefficients(), arima.getMA().getCoefficients());
+    }
+
+    /**
+     * The components are identified through their symmetric MA (like in the
+     * computation of the filters)
+     */
+    private static double[] values(ArimaModel arima) {
+        return values(arima.getInnovationVariance(), arima.getStationaryAR().getCoefficients(),
+                arima.getNonStationaryAR().getCoefficients(), arima.sma().getCoefficients());
+    }
+
+    private static double[] values(double var, double[]... c) {
+        int n = 2;
+        for (double[] cur : c) {
+            n += cur.length + 1;
+        }
+        double[] v = new double[n];
+        v[0] = 1;
+        v[1] = var;
+        int j = 2;
+        for (double[] cur : c) {
+            v[j++] = cur.length;
+            System.arraycopy(cur, 0, v, j, cur.length);
+            j += cur.length;
+        }
+        return v;
+    }
+
+    /**
+     * The values of the keys are compared exactly
+     */
+    static final class Key {
+
+        private final double[] values;
+        private final int hash;
+
+        private Key(double[] values) {
+            this.values = values;
+            this.hash = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || (obj instanceof Key && Arrays.equals(values, ((Key) obj).values));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final class Lru<T> {
+
+        private final LinkedHashMap<Key, T> map = new LinkedHashMap<Key, T>(64, .75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, T> eldest) {
+                return size() > capacity;
+            }
+        };
+        private long hits, misses;
+
+        synchronized T get(Key key) {
+            T t = map.get(key);
+            if (t != null) {
+                ++hits;
+            } else {
+                ++misses;
+            }
+            return t;
+        }
+
+        synchronized void put(Key key, T t) {
+            map.putIfAbsent(key, t);
+        }
+
+        synchronized long getHitsCount() {
+            return hits;
+        }
+
+        synchronized long getMissesCount() {
+            return misses;
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+
+        synchronized void clear() {
+            map.clear();
+        }
+
+        synchronized void shrink() {
+            while (map.size() > capacity) {
+                map.remove(map.keySet().iterator().next());
+            }
+        }
+    }
+}
@@ -61,6 +61,23 @@ public class DefaultModelDecomposer implements IArimaDecomposer {
     @Override
     public UcarimaModel decompose(SeatsModel model, InformationSet info,
             SeatsContext context) {
+        DecompositionCache.Key key = DecompositionCache.key(model.getSarima(),
+                epsphi, rmod, smod, smod1, noisyModel ? 1 : 0);
+        DecompositionCache.Decomposition decomposition = DecompositionCache.instance.getDecomposition(key);
+        if (decomposition != null) {
+            if (decomposition.getNoisyModel() != null) {
+                model.setNoisyModel(decomposition.getNoisyModel());
+            }
+            return decomposition.getUcarimaModel();
+        }
+        IArimaModel noisy = model.getNoisyModel();
+        UcarimaModel ucm = compute(model, context);
+        noisy = model.getNoisyModel() != noisy ? model.getNoisyModel() : null;
+        DecompositionCache.instance.putDecomposition(key, new DecompositionCache.Decomposition(ucm, noisy));
+        return ucm;
+    }
+
+    private UcarimaModel compute(SeatsModel model, SeatsContext context) {
         UcarimaModel ucm = null;
         try {
             // tackle special cases: ma unit roots 
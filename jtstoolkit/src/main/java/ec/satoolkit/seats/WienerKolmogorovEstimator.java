@@ -69,6 +69,8 @@ public class WienerKolmogorovEstimator implements IComponentsEstimator {
 //	BurmanEstimates burman = new BurmanEstimates();
         UcarimaModel ucmc = ucm.clone();
         ucmc.compact(2, 2);
+        // the filters only depend on the model
+        burman.setFilters(DecompositionCache.instance.filters(ucmc, model.isMeanCorrection()));
 
         TsData s = model.getSeries();
         int nf = nf(s.getFrequency());
@@ -77,11 +79,6 @@ public class WienerKolmogorovEstimator implements IComponentsEstimator {
 
         // check the ucarima model. 
         // ucm=checkModel(ucm);
-        if (model.isMeanCorrection()) {
-            burman.setUcarimaModelWithMean(ucmc);
-        } else {
-            burman.setUcarimaModel(ucmc);
-        }
         burman.setData(s);
         burman.setSer(model.getSer());
         int ncmps = ucmc.getComponentsCount();
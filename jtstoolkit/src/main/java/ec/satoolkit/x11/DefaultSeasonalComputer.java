@@ -62,8 +62,11 @@ class DefaultSeasonalComputer extends DefaultX11Algorithm implements
         } else {
             filtering = selectMsr(s, info);
         }
-        generateMsr(s, info);
         if (step == X11Step.D) {
+            // the table of the previous steps would be overwritten
+            if (context.isMsrTableRequested()) {
+                generateMsr(s, info);
+            }
             SymmetricFilter c = filtering.getCentralFilter();
             if (c != null) {
                 info.subSet(X11Kernel.D).set(X11Kernel.D9_SLEN, c.getLength());
@@ -88,6 +91,18 @@ class DefaultSeasonalComputer extends DefaultX11Algorithm implements
         return filtering.process(s, rdomain);
     }
 
+    IFiltering getInitialFilter() {
+        return initialFilter;
+    }
+
+    IFiltering getFinalFilter() {
+        return finalFilter;
+    }
+
+    boolean isUsingMsr() {
+        return useMsr;
+    }
+
     private IFiltering selectMsr(TsData s, InformationSet info) {
         // remove incomplete year
         TsDomain rdomain = s.getDomain().drop(context.getBackcastHorizon(), context.getForecastHorizon());
@@ -44,6 +44,13 @@ import java.util.function.Function;
  */
 public final class Mstatistics implements IProcResults {
 
+    /**
+     * Tables of the X11 kernel that are used by the M-statistics, in
+     * addition to the final components (see X11Kernel.setLeanTables)
+     */
+    public static final String[] X11_TABLES = {X11Kernel.C13, X11Kernel.D8, X11Kernel.D9_RMS,
+        X11Kernel.D18, X11Kernel.E1, X11Kernel.E2, X11Kernel.E3};
+
     /**
      *
      * @param mode
@@ -0,0 +1,665 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.satoolkit.x11;
+
+import ec.satoolkit.DecompositionMode;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.maths.linearfilters.SymmetricFilter;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import ec.tstoolkit.timeseries.simplets.TsMatrix;
+import java.util.Collections;
+
+/**
+ * Execution of the X11 algorithm on a batch of series that share the same time
+ * domain and the same specification.
+ *
+ * The series are stored in the columns of a matrix. The trend filters (centred
+ * moving averages and Henderson filters) and the operations between the
+ * different tables are applied on the whole matrix in a single pass. The
+ * modules are created only once. The seasonal filters and the normalization
+ * of the seasonal factors use the modules of the toolkit, column by column, as
+ * well as the operations that depend on the series itself (pre-processing,
+ * correction of the extreme values, automatic choice of the seasonal filter,
+ * corrections of non positive values...). The final tables are corrected for
+ * the effects of the pre-processing, as in X11Kernel.
+ *
+ * The vectorized processing is available for additive and multiplicative
+ * decompositions with a seasonal filter that is the same for all the periods.
+ * When the length of the Henderson filter is automatically selected, the
+ * trend-cycle is computed series by series. The other specifications are
+ * processed series by series, with the same kernel.
+ *
+ * The results correspond to those of an X11Kernel in lean mode, without any
+ * additional table: they contain the final components (see
+ * X11Kernel.setLeanTables). A series that can't be processed has a null
+ * result. The class is not thread-safe.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public class X11BatchKernel {
+
+    private final X11Specification spec;
+    private final X11Toolkit toolkit;
+    private final boolean vectorized;
+    private X11Kernel kernel;
+
+    /**
+     * Creates a new batch kernel
+     *
+     * @param spec The specification used for all the series
+     */
+    public X11BatchKernel(X11Specification spec) {
+        this.spec = spec.clone();
+        this.toolkit = X11Toolkit.create(this.spec);
+        this.vectorized = isVectorizable(this.spec);
+    }
+
+    /**
+     * Creates a new batch kernel with a given toolkit. The toolkit must
+     * correspond to the specification (see X11Toolkit.create)
+     *
+     * @param spec The specification used for all the series
+     * @param toolkit The toolkit used for all the series
+     */
+    X11BatchKernel(X11Specification spec, X11Toolkit toolkit) {
+        this.spec = spec.clone();
+        this.toolkit = toolkit;
+        this.vectorized = isVectorizable(this.spec);
+    }
+
+    /**
+     * Checks that a specification can be processed on the whole matrix of the
+     * series
+     *
+     * @param spec The specification
+     * @return
+     */
+    public static boolean isVectorizable(X11Specification spec) {
+        if (spec.getMode() == DecompositionMode.LogAdditive
+                || spec.getMode() == DecompositionMode.PseudoAdditive) {
+            return false;
+        }
+        if (!spec.isSeasonal()) {
+            return false;
+        }
+        SeasonalFilterOption[] filters = spec.getSeasonalFilters();
+        return filters == null || filters.length == 1;
+    }
+
+    /**
+     * Indicates whether the batch is processed on the whole matrix of the
+     * series or series by series
+     *
+     * @return
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    /**
+     * Processes a batch of series
+     *
+     * @param series The series. They must have the same time domain
+     * @return The results, in the order of the series. The result of a series
+     * that can't be processed is null
+     * @throws X11Exception if the series don't have the same time domain
+     */
+    public X11Results[] process(TsData... series) {
+        if (series.length == 0) {
+            return new X11Results[0];
+        }
+        TsDomain domain = series[0].getDomain();
+        for (int i = 1; i < series.length; ++i) {
+            if (!domain.equals(series[i].getDomain())) {
+                throw new X11Exception("The series of a batch should have the same time domain");
+            }
+        }
+        if (vectorized) {
+            return new Batch(series).process();
+        } else {
+            return processSeries(series);
+        }
+    }
+
+    private X11Results[] processSeries(TsData[] series) {
+        if (kernel == null) {
+            kernel = new X11Kernel();
+            kernel.setToolkit(toolkit);
+            kernel.setLeanTables(Collections.emptyList());
+        }
+        X11Results[] rslts = new X11Results[series.length];
+        for (int i = 0; i < series.length; ++i) {
+            try {
+                rslts[i] = kernel.process(series[i]);
+            } catch (X11Exception err) {
+                rslts[i] = null;
+            }
+        }
+        return rslts;
+    }
+
+    /**
+     * Processing of a given batch. The different tables are stored in
+     * matrices, whose columns correspond to the series
+     */
+    private class Batch {
+
+        private final TsData[] series;
+        private final int n;
+        private final X11Context context;
+        private final InformationSet[] infos;
+        private final IExtremeValuesCorrector[] ecorrs;
+        private final ITrendCycleComputer[] tcomputers;
+        private final boolean[] failed;
+        private final boolean mul;
+        private final int freq;
+        private TsMatrix ref;
+
+        Batch(TsData[] series) {
+            this.series = series;
+            this.n = series.length;
+            this.context = toolkit.getContext();
+            this.mul = context.isMultiplicative();
+            this.infos = new InformationSet[n];
+            this.ecorrs = new IExtremeValuesCorrector[n];
+            this.tcomputers = spec.isAutoHenderson() ? new ITrendCycleComputer[n] : null;
+            this.failed = new boolean[n];
+            this.freq = series[0].getFrequency().intValue();
+        }
+
+        X11Results[] process() {
+            context.setMsrTableRequested(false);
+            if (!stepA()) {
+                return new X11Results[n];
+            }
+            try {
+                TsData[] b20 = stepB();
+                TsData[] c20 = stepC(b20);
+                stepD(c20);
+            } catch (X11Exception err) {
+                // no valid series
+                return new X11Results[n];
+            }
+            X11Results[] rslts = new X11Results[n];
+            for (int i = 0; i < n; ++i) {
+                if (!failed[i]) {
+                    rslts[i] = new X11Results(context.getMode(), infos[i]);
+                }
+            }
+            return rslts;
+        }
+
+        private boolean stepA() {
+            TsData[] b1 = new TsData[n];
+            IX11Preprocessor preprocessor = toolkit.getPreprocessor();
+            TsDomain bdomain = null;
+            for (int i = 0; i < n; ++i) {
+                try {
+                    context.check(series[i]);
+                    InformationSet info = new InformationSet();
+                    info.subSet(X11Kernel.A).set(X11Kernel.A1, series[i]);
+                    if (preprocessor != null) {
+                        preprocessor.preprocess(info);
+                    } else {
+                        info.subSet(X11Kernel.B).set(X11Kernel.B1, series[i]);
+                    }
+                    infos[i] = info;
+                    b1[i] = info.subSet(X11Kernel.B).get(X11Kernel.B1, TsData.class);
+                    if (bdomain == null) {
+                        bdomain = b1[i].getDomain();
+                    }
+                    ecorrs[i] = X11Toolkit.createExtremeValuesCorrector(spec);
+                    ecorrs[i].setContext(context);
+                    if (tcomputers != null) {
+                        // the automatic selection depends on the previous steps
+                        tcomputers[i] = new AutomaticTrendCycleComputer();
+                        tcomputers[i].setContext(context);
+                    }
+                } catch (RuntimeException err) {
+                    failed[i] = true;
+                }
+            }
+            if (bdomain == null) {
+                return false;
+            }
+            ref = new TsMatrix(bdomain.getStart(), bdomain.getLength(), n);
+            for (int i = 0; i < n; ++i) {
+                if (failed[i]) {
+                    ref.getMatrix().column(i).set(Double.NaN);
+                } else {
+                    ref.getMatrix().column(i).copy(b1[i]);
+                }
+            }
+            // the estimation domain is the same for all the series
+            context.check(series[firstValid()]);
+            return true;
+        }
+
+        private TsData[] stepB() {
+            DefaultSeasonalComputer scomputer = (DefaultSeasonalComputer) toolkit.getSeasonalComputer();
+            TsMatrix b2 = initialTrendFilter(ref);
+            TsMatrix b3 = op(ref, b2);
+            TsMatrix b4a = seasonalFilter(scomputer.getInitialFilter(), b3);
+            TsMatrix b4d = op(b3, normalize(b4a, null));
+            TsMatrix b4g = correct(b4d, b3);
+            TsMatrix b5a = seasonalFilter(scomputer.getInitialFilter(), b4g);
+            TsMatrix b5 = normalize(b5a, ref.getDomain());
+            TsMatrix b6 = op(ref, b5);
+            TsMatrix b7 = hendersonFilter(X11Step.B, b6);
+            TsMatrix b8 = op(ref, b7);
+            TsMatrix b9a = seasonalFilter(scomputer.getFinalFilter(), b8);
+            TsMatrix b9d = op(b8, normalize(b9a, null));
+            TsMatrix b9g = correct(b9d, b8);
+            TsMatrix b10a = seasonalFilter(scomputer.getFinalFilter(), b9g);
+            TsMatrix b10 = normalize(b10a, null);
+            TsMatrix b11 = op(ref, b10);
+            TsMatrix b13 = op(b11, b7);
+            return correctionFactors(b13, true);
+        }
+
+        private TsData[] stepC(TsData[] b20) {
+            DefaultSeasonalComputer scomputer = (DefaultSeasonalComputer) toolkit.getSeasonalComputer();
+            TsMatrix c1 = op(ref, b20);
+            TsMatrix c2 = initialTrendFilter(c1);
+            TsMatrix c4 = op(c1, c2);
+            TsMatrix c5a = seasonalFilter(scomputer.getInitialFilter(), c4);
+            TsMatrix c5 = normalize(c5a, c1.getDomain());
+            TsMatrix c6 = op(c1, c5);
+            TsMatrix c7 = hendersonFilter(X11Step.C, c6);
+            TsMatrix c9 = op(c1, c7);
+            TsMatrix c10a = seasonalFilter(scomputer.getFinalFilter(), c9);
+            TsMatrix c10 = normalize(c10a, null);
+            TsMatrix c11 = op(ref, c10);
+            TsMatrix c13 = op(c11, c7);
+            return correctionFactors(c13, false);
+        }
+
+        private void stepD(TsData[] c20) {
+            DefaultSeasonalComputer scomputer = (DefaultSeasonalComputer) toolkit.getSeasonalComputer();
+            TsDomain sdomain = context.getEstimationDomain();
+            TsMatrix d1 = op(ref, c20);
+            TsMatrix d2 = initialTrendFilter(d1);
+            TsMatrix d4 = op(d1, d2);
+            TsMatrix d5a = seasonalFilter(scomputer.getInitialFilter(), d4);
+            TsMatrix d5 = normalize(d5a, d1.getDomain());
+            TsMatrix d6 = op(d1, d5);
+            TsMatrix d7 = hendersonFilter(X11Step.D, d6);
+            TsMatrix d8a = op(d1, d7);
+            TsMatrix d10x;
+            if (ecorrs[firstValid()] instanceof PeriodSpecificExtremeValuesCorrector) {
+                TsMatrix d8 = invOp(d8a, c20);
+                int nf = context.getForecastHorizon();
+                TsData[] d9g = new TsData[n];
+                for (int i = 0; i < n; ++i) {
+                    if (!failed[i]) {
+                        TsData cur = column(d8, i);
+                        TsData d9 = ecorrs[i].computeCorrections(cur.drop(0, nf));
+                        d9.extend(0, nf);
+                        d9g[i] = ecorrs[i].applyCorrections(cur, d9);
+                    }
+                }
+                d10x = finalSeasonalFilter(scomputer, matrix(d9g));
+            } else {
+                d10x = finalSeasonalFilter(scomputer, d8a);
+            }
+            TsMatrix d10 = normalize(d10x, null);
+            TsMatrix d11bis = op(d1, d10);
+            TsMatrix d12 = hendersonFilter(X11Step.D, d11bis);
+            for (int i = 0; i < n; ++i) {
+                if (!failed[i]) {
+                    ICRatioComputer.writeICR(context, column(d11bis, i), infos[i]);
+                }
+            }
+            TsMatrix d11 = op(ref, d10);
+            TsMatrix d13 = op(d11, d12);
+
+            int nf = context.getForecastHorizon();
+            for (int i = 0; i < n; ++i) {
+                if (failed[i]) {
+                    continue;
+                }
+                TsData cd10 = column(d10, i), cd11 = column(d11, i),
+                        cd12 = column(d12, i), cd13 = column(d13, i);
+                InformationSet dtables = infos[i].subSet(X11Kernel.D);
+                dtables.set(X11Kernel.D10L, cd10.fittoDomain(sdomain));
+                dtables.set(X11Kernel.D11L, cd11.fittoDomain(sdomain));
+                dtables.set(X11Kernel.D12L, cd12.fittoDomain(sdomain));
+                dtables.set(X11Kernel.D13L, cd13.fittoDomain(sdomain));
+
+                // add pre-adjustment (see X11Kernel.stepD)
+                InformationSet atables = infos[i].subSet(X11Kernel.A);
+                TsData a8t = atables.get(X11Kernel.A8t, TsData.class);
+                TsData a8i = atables.get(X11Kernel.A8i, TsData.class);
+                TsData a8s = atables.get(X11Kernel.A8s, TsData.class);
+                TsData a9sa = atables.get(X11Kernel.A9sa, TsData.class);
+                TsData d10c = context.invOp(cd10, a8s);
+                TsData d12c = context.invOp(cd12, a8t);
+                TsData d13c = context.invOp(cd13, a8i);
+                TsData d11c = context.invOp(context.invOp(context.invOp(cd11, a8t), a8i), a9sa);
+                dtables.set(X11Kernel.D10, d10c.fittoDomain(sdomain));
+                dtables.set(X11Kernel.D11, d11c.fittoDomain(sdomain));
+                dtables.set(X11Kernel.D12, d12c.fittoDomain(sdomain));
+                dtables.set(X11Kernel.D13, d13c.fittoDomain(sdomain));
+                if (nf > 0) {
+                    TsDomain fdomain = new TsDomain(sdomain.getEnd(), nf);
+                    dtables.set(X11Kernel.D10a, d10c.fittoDomain(fdomain));
+                    dtables.set(X11Kernel.D10aL, cd10.fittoDomain(fdomain));
+                    dtables.set(X11Kernel.D11a, d11c.fittoDomain(fdomain));
+                    dtables.set(X11Kernel.D11aL, cd11.fittoDomain(fdomain));
+                    dtables.set(X11Kernel.D12a, d12c.fittoDomain(fdomain));
+                    dtables.set(X11Kernel.D12aL, cd12.fittoDomain(fdomain));
+                } else {
+                    TsDomain fdomain = new TsDomain(sdomain.getEnd(), freq);
+                    TsData d10a = new TsData(fdomain);
+                    for (int j = 0, k = sdomain.getLength() - freq; j < freq; ++j, ++k) {
+                        d10a.set(j, (cd10.get(k) * 3 - cd10.get(k - freq)) / 2);
+                    }
+                    dtables.set(X11Kernel.D10a, d10a);
+                    dtables.set(X11Kernel.D10aL, d10a);
+                }
+            }
+        }
+
+        private TsMatrix finalSeasonalFilter(DefaultSeasonalComputer scomputer, TsMatrix s) {
+            if (scomputer.isUsingMsr()) {
+                // automatic choice of the filter, series by series
+                TsData[] out = new TsData[n];
+                for (int i = 0; i < n; ++i) {
+                    if (!failed[i]) {
+                        try {
+                            out[i] = scomputer.doFinalFiltering(X11Step.D, column(s, i), infos[i]);
+                        } catch (RuntimeException err) {
+                            failed[i] = true;
+                        }
+                    }
+                }
+                return matrix(out);
+            } else {
+                IFiltering filtering = scomputer.getFinalFilter();
+                for (int i = 0; i < n; ++i) {
+                    if (!failed[i]) {
+                        InformationSet dtables = infos[i].subSet(X11Kernel.D);
+                        SymmetricFilter c = filtering.getCentralFilter();
+                        if (c != null) {
+                            dtables.set(X11Kernel.D9_SLEN, c.getLength());
+                        }
+                        dtables.set(X11Kernel.D9_FILTER, filtering.getDescription());
+                    }
+                }
+                return seasonalFilter(filtering, s);
+            }
+        }
+
+        /**
+         * Computes and applies the corrections for extreme values (series by
+         * series)
+         *
+         * @param sic The series used in the detection of the extreme values
+         * @param s The series being corrected
+         * @return
+         */
+        private TsMatrix correct(TsMatrix sic, TsMatrix s) {
+            TsData[] out = new TsData[n];
+            for (int i = 0; i < n; ++i) {
+                if (!failed[i]) {
+                    IExtremeValuesCorrector ecorr = ecorrs[i];
+                    TsData cur = column(s, i), cursic = column(sic, i);
+                    try {
+                        if (ecorr instanceof CochranDependentExtremeValuesCorrector) {
+                            ((CochranDependentExtremeValuesCorrector) ecorr).testCochran(cursic);
+                        }
+                        ecorr.analyse(cursic);
+                        out[i] = ecorr.applyCorrections(cur, ecorr.computeCorrections(cur));
+                    } catch (RuntimeException err) {
+                        failed[i] = true;
+                    }
+                }
+            }
+            return matrix(out);
+        }
+
+        private TsData[] correctionFactors(TsMatrix s, boolean cochran) {
+            TsData[] out = new TsData[n];
+            for (int i = 0; i < n; ++i) {
+                if (!failed[i]) {
+                    IExtremeValuesCorrector ecorr = ecorrs[i];
+                    TsData cur = column(s, i);
+                    try {
+                        if (cochran && ecorr instanceof CochranDependentExtremeValuesCorrector) {
+                            ((CochranDependentExtremeValuesCorrector) ecorr).testCochran(cur);
+                        }
+                        ecorr.analyse(cur);
+                        out[i] = ecorr.getCorrectionFactors();
+                    } catch (RuntimeException err) {
+                        failed[i] = true;
+                    }
+                }
+            }
+            return out;
+        }
+
+        private TsMatrix initialTrendFilter(TsMatrix s) {
+            SymmetricFilter filter = TrendCycleFilterFactory.makeTrendFilter(freq);
+            int len = s.getDomain().getLength() - filter.getLength() + 1;
+            TsMatrix out = new TsMatrix(s.getDomain().getStart().minus(filter.getLowerBound()), len, n);
+            Matrix m = s.getMatrix(), mout = out.getMatrix();
+            for (int i = 0; i < n; ++i) {
+                filter.filter(m.column(i), mout.column(i));
+            }
+            return out;
+        }
+
+        private TsMatrix hendersonFilter(X11Step step, TsMatrix s) {
+            TsMatrix out;
+            if (tcomputers != null) {
+                TsData[] tc = new TsData[n];
+                for (int i = 0; i < n; ++i) {
+                    if (!failed[i]) {
+                        try {
+                            tc[i] = tcomputers[i].doFinalFiltering(step, column(s, i), infos[i]);
+                        } catch (RuntimeException err) {
+                            failed[i] = true;
+                        }
+                    }
+                }
+                out = matrix(tc);
+            } else {
+                DefaultTrendCycleComputer tcomputer = (DefaultTrendCycleComputer) toolkit.getTrendCycleComputer();
+                int flen = tcomputer.getFilterLength();
+                SymmetricFilter filter = TrendCycleFilterFactory.makeHendersonFilter(flen);
+                IEndPointsProcessor endPoints = new AsymmetricEndPoints(MusgraveFilterFactory.makeFiltersForHenderson(flen, freq));
+                out = filter(filter, endPoints, s);
+                if (step == X11Step.D) {
+                    for (int i = 0; i < n; ++i) {
+                        if (!failed[i]) {
+                            InformationSet dtables = infos[i].subSet(X11Kernel.D);
+                            dtables.set(X11Kernel.D12_FILTER, flen + "-Henderson");
+                            dtables.set(X11Kernel.D12_TLEN, flen);
+                        }
+                    }
+                }
+            }
+            if (mul) {
+                for (int i = 0; i < n; ++i) {
+                    if (!failed[i]) {
+                        checkPositivity(out, i);
+                    }
+                }
+            }
+            return out;
+        }
+
+        private void checkPositivity(TsMatrix s, int col) {
+            TsData cur = column(s, col);
+            try {
+                if (toolkit.getUtilities().checkPositivity(cur)) {
+                    s.getMatrix().column(col).copy(cur);
+                }
+            } catch (X11Exception err) {
+                failed[col] = true;
+            }
+        }
+
+        /**
+         * Applies a symmetric filter on the whole series, completed by an end
+         * points processor
+         */
+        private TsMatrix filter(SymmetricFilter filter, IEndPointsProcessor endPoints, TsMatrix s) {
+            TsMatrix out = new TsMatrix(s.getDomain().getStart(), s.getDomain().getLength(), n);
+            Matrix m = s.getMatrix(), mout = out.getMatrix();
+            int nf = filter.getUpperBound();
+            for (int i = 0; i < n; ++i) {
+                DataBlock in = m.column(i), cout = mout.column(i);
+                filter.filter(in, cout.drop(nf, nf));
+                endPoints.process(in, cout);
+            }
+            return out;
+        }
+
+        /**
+         * Applies a seasonal filter, series by series
+         */
+        private TsMatrix seasonalFilter(IFiltering filtering, TsMatrix s) {
+            TsDomain domain = s.getDomain();
+            TsData[] out = new TsData[n];
+            for (int i = 0; i < n; ++i) {
+                if (!failed[i]) {
+                    try {
+                        out[i] = filtering.process(column(s, i), domain);
+                    } catch (RuntimeException err) {
+                        failed[i] = true;
+                    }
+                }
+            }
+            return matrix(out);
+        }
+
+        /**
+         * Normalization of the seasonal factors, series by series
+         */
+        private TsMatrix normalize(TsMatrix s, TsDomain xdom) {
+            ISeasonalNormalizer normalizer = toolkit.getSeasonalNormalizer();
+            TsData[] out = new TsData[n];
+            for (int i = 0; i < n; ++i) {
+                if (!failed[i]) {
+                    try {
+                        out[i] = normalizer.normalize(column(s, i), xdom);
+                    } catch (RuntimeException err) {
+                        failed[i] = true;
+                    }
+                }
+            }
+            return matrix(out);
+        }
+
+        private TsMatrix op(TsMatrix l, TsMatrix r) {
+            return apply(l, r, mul ? Operation.Divide : Operation.Subtract);
+        }
+
+        private TsMatrix op(TsMatrix l, TsData[] r) {
+            return op(l, matrix(r));
+        }
+
+        private TsMatrix invOp(TsMatrix l, TsData[] r) {
+            return apply(l, matrix(r), mul ? Operation.Multiply : Operation.Add);
+        }
+
+        /**
+         * Element-wise operation on the common domain of two matrices
+         */
+        private TsMatrix apply(TsMatrix l, TsMatrix r, Operation operation) {
+            TsDomain ldom = l.getDomain(), rdom = r.getDomain();
+            TsDomain common = ldom.intersection(rdom);
+            int len = common.getLength();
+            int lstart = common.getStart().minus(ldom.getStart()),
+                    rstart = common.getStart().minus(rdom.getStart());
+            TsMatrix out = new TsMatrix(common.getStart(), len, n);
+            double[] x = l.getMatrix().internalStorage(), y = r.getMatrix().internalStorage(),
+                    z = out.getMatrix().internalStorage();
+            int lrows = ldom.getLength(), rrows = rdom.getLength();
+            for (int i = 0, iz = 0; i < n; ++i) {
+                int ix = i * lrows + lstart, iy = i * rrows + rstart;
+                switch (operation) {
+                    case Add:
+                        for (int j = 0; j < len; ++j) {
+                            z[iz++] = x[ix++] + y[iy++];
+                        }
+                        break;
+                    case Subtract:
+                        for (int j = 0; j < len; ++j) {
+                            z[iz++] = x[ix++] - y[iy++];
+                        }
+                        break;
+                    case Multiply:
+                        for (int j = 0; j < len; ++j) {
+                            z[iz++] = x[ix++] * y[iy++];
+                        }
+                        break;
+                    default:
+                        for (int j = 0; j < len; ++j) {
+                            z[iz++] = x[ix++] / y[iy++];
+                        }
+                        break;
+                }
+            }
+            return out;
+        }
+
+        private TsData column(TsMatrix s, int col) {
+            return new TsData(s.getDomain().getStart(), s.getMatrix().column(col));
+        }
+
+        /**
+         * Stores series with the same domain in a matrix. The columns of the
+         * failed series are set to missing values
+         */
+        private TsMatrix matrix(TsData[] s) {
+            TsDomain domain = s[firstValid()].getDomain();
+            TsMatrix out = new TsMatrix(domain.getStart(), domain.getLength(), n);
+            for (int i = 0; i < n; ++i) {
+                DataBlock cur = out.getMatrix().column(i);
+                if (failed[i] || s[i] == null) {
+                    failed[i] = true;
+                    cur.set(Double.NaN);
+                } else if (s[i].getDomain().equals(domain)) {
+                    cur.copy(s[i]);
+                } else {
+                    cur.copy(s[i].fittoDomain(domain));
+                }
+            }
+            return out;
+        }
+
+        private int firstValid() {
+            for (int i = 0; i < n; ++i) {
+                if (!failed[i]) {
+                    return i;
+                }
+            }
+            throw new X11Exception("No valid series in the batch");
+        }
+    }
+
+    private static enum Operation {
+        Add, Subtract, Multiply, Divide
+    }
+}
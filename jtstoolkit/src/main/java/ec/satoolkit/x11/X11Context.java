@@ -33,6 +33,7 @@ public final class X11Context {
     private TsDomain edomain;
     private boolean[] validDecomposition;
     private final int nfcasts, nbcasts;
+    private boolean msr = true;
 
     /**
      * Creates a new context
@@ -243,6 +244,21 @@ public final class X11Context {
         }
     }
 
+    /**
+     * Checks that the MSR table of the final seasonal filtering must be
+     * generated. The MSR table used for the automatic selection of the
+     * seasonal filter is always computed.
+     *
+     * @return True by default
+     */
+    public boolean isMsrTableRequested() {
+        return msr;
+    }
+
+    public void setMsrTableRequested(boolean msr) {
+        this.msr = msr;
+    }
+
     /**
      * Set the decomposition mode of the context
      *
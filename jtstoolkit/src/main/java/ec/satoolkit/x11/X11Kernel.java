@@ -22,6 +22,10 @@ import ec.tstoolkit.design.Development;
 import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * The task of an X11Kernel is the execution of the X11 algorithm, in
@@ -74,6 +78,9 @@ public class X11Kernel implements ISeriesDecomposer {
     //private TsData correctionFactors;
     private boolean uscbLike = true;
     private IExtremeValuesCorrector ecorr;
+    // tables shared by the different steps
+    private TsData b7, b13, b20, c7, c13, c17, c20;
+    private Set<String> leanTables;
 
     /**
      *
@@ -89,6 +96,7 @@ public class X11Kernel implements ISeriesDecomposer {
         InformationSet info = new InformationSet();
         X11Context context = toolkit.getContext();
         context.check(s);
+        context.setMsrTableRequested(isRequested(D9_RMS));
         DecompositionMode mode = toolkit.getContext().getMode();
         // build the modules
         info.subSet(A).set(A1, s);
@@ -97,13 +105,68 @@ public class X11Kernel implements ISeriesDecomposer {
         stepB(info);
         stepC(info);
         stepD(info);
-        stepE(info);
+        if (isRequested(E1) || isRequested(E2) || isRequested(E3) || isRequested(E11)) {
+            stepE(info);
+        }
         stepF(info);
 
         X11Results results = new X11Results(mode, info);
+        clearTables();
         return results;
     }
 
+    /**
+     * Gets the tables computed in the lean mode
+     *
+     * @return The names of the requested tables or null if the kernel computes
+     * all the tables
+     */
+    public Set<String> getLeanTables() {
+        return leanTables == null ? null : Collections.unmodifiableSet(leanTables);
+    }
+
+    /**
+     * Sets the lean mode. In that mode, the kernel only stores the final
+     * components (d10, d11, d12, d13, their linearized versions and their
+     * forecasts) and the tables whose names (for instance X11Kernel.D8) are
+     * provided. The other tables are not materialized and the E tables are
+     * only computed when one of them is requested. The MSR table (D9_RMS) is
+     * only generated when it is requested; the M-statistics need the tables
+     * defined in Mstatistics.X11_TABLES.
+     *
+     * @param tables The requested tables. Null to compute all the tables
+     * (default).
+     */
+    public void setLeanTables(Collection<String> tables) {
+        leanTables = tables == null ? null : new HashSet<>(tables);
+    }
+
+    private boolean isRequested(String table) {
+        return leanTables == null || leanTables.contains(table);
+    }
+
+    private void save(InformationSet tables, String name, TsData s) {
+        if (isRequested(name)) {
+            tables.set(name, s);
+        }
+    }
+
+    private void save(InformationSet tables, String name, TsData s, TsDomain domain) {
+        if (isRequested(name)) {
+            tables.set(name, s.fittoDomain(domain));
+        }
+    }
+
+    private void clearTables() {
+        b7 = null;
+        b13 = null;
+        b20 = null;
+        c7 = null;
+        c13 = null;
+        c17 = null;
+        c20 = null;
+    }
+
     /**
      * @return the toolkit
      */
@@ -242,30 +305,31 @@ public class X11Kernel implements ISeriesDecomposer {
         TsData b17 = ecorr.getObservationWeights();
         TsData b20 = ecorr.getCorrectionFactors();
 
-        btables.set(B2, b2);
-        btables.set(B3, b3);
+        save(btables, B2, b2);
+        save(btables, B3, b3);
         // btables.set(B3TEST, b3test);
-        btables.set(B4, b4);
-        btables.set(B5, b5);
-        btables.set(B6, b6);
-        btables.set(B7, b7);
-        btables.set(B8, b8);
-        btables.set(B9, b9);
-        btables.set(B10, b10);
-        btables.set(B11, b11);
-        btables.set(B13, b13);
-        btables.set(B17, b17);
-        btables.set(B20, b20);
+        save(btables, B4, b4);
+        save(btables, B5, b5);
+        save(btables, B6, b6);
+        save(btables, B7, b7);
+        save(btables, B8, b8);
+        save(btables, B9, b9);
+        save(btables, B10, b10);
+        save(btables, B11, b11);
+        save(btables, B13, b13);
+        save(btables, B17, b17);
+        save(btables, B20, b20);
+        this.b7 = b7;
+        this.b13 = b13;
+        this.b20 = b20;
 
     }
 
     private void stepC(InformationSet info) {
         InformationSet ctables = info.subSet(C);
-        TsData b20 = info.subSet(B).get(B20, TsData.class);
         TsData c1;
         if (toolkit.getContext().isPseudoAdditive()) {
-            TsData b7 = info.subSet(B).get(B7, TsData.class); // trend
-            TsData b13 = info.subSet(B).get(B13, TsData.class); // irregular
+            // b7 = trend, b13 = irregular
             c1 = refSeries.plus(b7.times(b13.div(b20).minus(b13)));
         } else {
             c1 = toolkit.getContext().op(refSeries, b20);
@@ -339,28 +403,30 @@ public class X11Kernel implements ISeriesDecomposer {
          * c13.getValues().exp(); c20.getValues().exp(); }
          */
 
-        ctables.set(C1, c1);
-        ctables.set(C2, c2);
-        ctables.set(C4, c4);
-        ctables.set(C5, c5);
-        ctables.set(C6, c6);
-        ctables.set(C7, c7);
-        ctables.set(C9, c9);
-        ctables.set(C10, c10);
-        ctables.set(C11, c11);
-        ctables.set(C13, c13);
-        ctables.set(C17, c17);
-        ctables.set(C20, c20);
+        save(ctables, C1, c1);
+        save(ctables, C2, c2);
+        save(ctables, C4, c4);
+        save(ctables, C5, c5);
+        save(ctables, C6, c6);
+        save(ctables, C7, c7);
+        save(ctables, C9, c9);
+        save(ctables, C10, c10);
+        save(ctables, C11, c11);
+        save(ctables, C13, c13);
+        save(ctables, C17, c17);
+        save(ctables, C20, c20);
+        this.c7 = c7;
+        this.c13 = c13;
+        this.c17 = c17;
+        this.c20 = c20;
     }
 
     private void stepD(InformationSet info) {
         InformationSet dtables = info.subSet(D);
         TsDomain sdomain = toolkit.getContext().getEstimationDomain();
-        TsData c20 = info.subSet(C).get(C20, TsData.class);
         TsData d1;
         if (toolkit.getContext().isPseudoAdditive()) {
-            TsData c7 = info.subSet(C).get(C7, TsData.class); // trend
-            TsData c13 = info.subSet(C).get(C13, TsData.class); // irregular
+            // c7 = trend, c13 = irregular
             d1 = refSeries.plus(c7.times(c13.div(c20).minus(c13)));
         } else {
             d1 = toolkit.getContext().op(refSeries, c20);
@@ -458,7 +524,6 @@ public class X11Kernel implements ISeriesDecomposer {
             d12.applyOnFinite(x -> Math.exp(x));
             toolkit.getContext().setMode(DecompositionMode.Multiplicative);
             if (uscbLike) {
-                TsData c13 = info.subSet(C).get(C13, TsData.class);
                 d12 = toolkit.getUtilities().correctTrendBias(d12, d10, c13);
             } else {
                 d12 = toolkit.getUtilities().correctTrendBias(d12, d10, d13);
@@ -468,17 +533,17 @@ public class X11Kernel implements ISeriesDecomposer {
             d13 = toolkit.getContext().op(d11, d12); // ???
         }
 
-        dtables.set(D1, d1.fittoDomain(sdomain));
-        dtables.set(D2, d2.fittoDomain(sdomain));
-        dtables.set(D4, d4.fittoDomain(sdomain));
-        dtables.set(D5, d5.fittoDomain(sdomain));
-        dtables.set(D6, d6.fittoDomain(sdomain));
-        dtables.set(D7, d7.fittoDomain(sdomain));
-        dtables.set(D8, d8.fittoDomain(sdomain));
-        dtables.set(D9, d9.fittoDomain(sdomain));
+        save(dtables, D1, d1, sdomain);
+        save(dtables, D2, d2, sdomain);
+        save(dtables, D4, d4, sdomain);
+        save(dtables, D5, d5, sdomain);
+        save(dtables, D6, d6, sdomain);
+        save(dtables, D7, d7, sdomain);
+        save(dtables, D8, d8, sdomain);
+        save(dtables, D9, d9, sdomain);
 
         if (d10b != null) {
-            dtables.set(D10b, d10b.fittoDomain(sdomain));
+            save(dtables, D10b, d10b, sdomain);
         }
         dtables.set(D10L, d10.fittoDomain(sdomain));
         dtables.set(D11L, d11.fittoDomain(sdomain));
@@ -510,29 +575,24 @@ public class X11Kernel implements ISeriesDecomposer {
 
         d11c = toolkit.getContext().invOp(d11c, a9sa);
 
-        //  TsData d16 = toolkit.getContext().op(a1, d11c);
-        TsData d16;
-        if (toolkit.getContext().isPseudoAdditive()) {
-            d16 = a1.div(d12).minus(d13).plus(1);
-        } else {
-            d16 = toolkit.getContext().op(a1, d11c);
-        }
-
         dtables.set(D11, d11c.fittoDomain(sdomain));
         dtables.set(D12, d12c.fittoDomain(sdomain));
         dtables.set(D13, d13c.fittoDomain(sdomain));
-        dtables.set(D16, d16);
-        dtables.set(D18, toolkit.getContext().op(d16, d10c));
 
-        int nf = toolkit.getContext().getForecastHorizon();
-        if (nf > 0) {
-            TsData a1a = atables.get(A1a, TsData.class);
-            TsData d16a;
+        //  TsData d16 = toolkit.getContext().op(a1, d11c);
+        if (isRequested(D16) || isRequested(D18)) {
+            TsData d16;
             if (toolkit.getContext().isPseudoAdditive()) {
-                d16a = a1a.div(d12).minus(d13).plus(1);
+                d16 = a1.div(d12).minus(d13).plus(1);
             } else {
-                d16a = toolkit.getContext().op(a1a, d11c);
+                d16 = toolkit.getContext().op(a1, d11c);
             }
+            save(dtables, D16, d16);
+            save(dtables, D18, toolkit.getContext().op(d16, d10c));
+        }
+
+        int nf = toolkit.getContext().getForecastHorizon();
+        if (nf > 0) {
             TsDomain fdomain = new TsDomain(sdomain.getEnd(), nf);
             dtables.set(D10a, d10c.fittoDomain(fdomain));
             dtables.set(D10aL, d10.fittoDomain(fdomain));
@@ -540,7 +600,16 @@ public class X11Kernel implements ISeriesDecomposer {
             dtables.set(D11aL, d11.fittoDomain(fdomain));
             dtables.set(D12a, d12c.fittoDomain(fdomain));
             dtables.set(D12aL, d12.fittoDomain(fdomain));
-            dtables.set(D16a, d16a);
+            if (isRequested(D16a)) {
+                TsData a1a = atables.get(A1a, TsData.class);
+                TsData d16a;
+                if (toolkit.getContext().isPseudoAdditive()) {
+                    d16a = a1a.div(d12).minus(d13).plus(1);
+                } else {
+                    d16a = toolkit.getContext().op(a1a, d11c);
+                }
+                dtables.set(D16a, d16a);
+            }
         } else {
             int freq = toolkit.getContext().getFrequency();
             TsDomain fdomain = new TsDomain(sdomain.getEnd(), freq);
@@ -550,23 +619,27 @@ public class X11Kernel implements ISeriesDecomposer {
             }
             dtables.set(D10a, d10a);
             dtables.set(D10aL, d10a);
-            // TsData a8s = atables.get(A8s, TsData.class);
-            TsData a6 = atables.get(A6, TsData.class);
-            TsData a7 = atables.get(A7, TsData.class);
-            TsData d16a = toolkit.getContext().invOp(d10a, a6);
-            d16a = toolkit.getContext().invOp(d16a, a7);
-            d16a = toolkit.getContext().invOp(d16a, a8s);
-            dtables.set(D16a, d16a);
+            if (isRequested(D16a)) {
+                // TsData a8s = atables.get(A8s, TsData.class);
+                TsData a6 = atables.get(A6, TsData.class);
+                TsData a7 = atables.get(A7, TsData.class);
+                TsData d16a = toolkit.getContext().invOp(d10a, a6);
+                d16a = toolkit.getContext().invOp(d16a, a7);
+                d16a = toolkit.getContext().invOp(d16a, a8s);
+                dtables.set(D16a, d16a);
+            }
         }
 
         int nb = toolkit.getContext().getBackcastHorizon();
         //backcast is only calculated if there is a backcast horizon
         if (nb > 0) {
             TsDomain bdomain = new TsDomain(sdomain.getStart().minus(nb), nb);
-            TsData a1b = atables.get(A1b, TsData.class);
-            TsData d16b = toolkit.getContext().op(a1b, d11c);
-            dtables.set(D16b, d16b);
-            dtables.set(D10b, d10c.fittoDomain(bdomain));
+            if (isRequested(D16b)) {
+                TsData a1b = atables.get(A1b, TsData.class);
+                TsData d16b = toolkit.getContext().op(a1b, d11c);
+                dtables.set(D16b, d16b);
+            }
+            save(dtables, D10b, d10c, bdomain);
         }
     }
 
@@ -576,11 +649,8 @@ public class X11Kernel implements ISeriesDecomposer {
 //        TsData a6 = atables.get(A8, TsData.class);
 //        TsData a7 = atables.get(A8, TsData.class);
         TsData a8i = atables.get(A8i, TsData.class);
-        InformationSet ctables = info.subSet(C);
 //        TsData c16 = ctables.get(C16, TsData.class);
-        TsData c17 = ctables.get(C17, TsData.class);
         InformationSet dtables = info.subSet(D);
-        TsData d16 = dtables.get(D16, TsData.class);
         TsData d11 = dtables.get(D11, TsData.class);
         TsData d12 = dtables.get(D12, TsData.class);
         TsData d13l = dtables.get(D13L, TsData.class);
@@ -600,10 +670,10 @@ public class X11Kernel implements ISeriesDecomposer {
                 TsData.add(d12, TsData.subtract(a1c, e1)));
 
         InformationSet etables = info.subSet(E);
-        etables.set(E1, e1);
-        etables.set(E2, e2);
-        etables.set(E3, e3);
-        etables.set(E11, e11);
+        save(etables, E1, e1);
+        save(etables, E2, e2);
+        save(etables, E3, e3);
+        save(etables, E11, e11);
     }
 
     private void stepF(InformationSet info) {
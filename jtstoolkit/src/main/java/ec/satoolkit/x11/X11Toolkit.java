@@ -76,6 +76,33 @@ public class X11Toolkit extends BaseX11Algorithm implements
                     spec.getHendersonFilterLength()));
         }
 
+        toolkit.setExtremeValuescorrector(createExtremeValuesCorrector(spec));
+
+        /*In Case that one or more and not all of the filters are stable the normalizer needs this information*/
+        if (spec.isSeasonal()) {
+            DefaultSeasonalNormalizer nprovider = new DefaultSeasonalNormalizer();
+            nprovider.setNormalizer(spec.getSeasonalFilters());
+            toolkit.setSeasonalnormalizer(nprovider);
+        } else {
+            toolkit.setSeasonalnormalizer(DummySeasonalNormalizer.instance);
+        }
+
+        /*toolkit.setSeasonalnormalizer(new DefaultSeasonalNormalizer());*/
+        return toolkit;
+    }
+
+    public static X11Toolkit create() {
+        return create(new X11Specification());
+    }
+
+    /**
+     * Creates the module for the correction of the extreme values defined by
+     * a given specification. The context of the module is not set.
+     *
+     * @param spec The specifications of the processing
+     * @return A new module
+     */
+    static IExtremeValuesCorrector createExtremeValuesCorrector(X11Specification spec) {
         /* Define which ExtremeExtremeValuesCorrector has to be used */
         switch (spec.getCalendarSigma()) {
             case Select: {
@@ -83,47 +110,27 @@ public class X11Toolkit extends BaseX11Algorithm implements
                 xcorrector.setSigma(spec.getLowerSigma(), spec.getUpperSigma());
                 xcorrector.setSigmavecOption(spec.getSigmavec());
                 xcorrector.setExcludefcast(spec.isExcludefcst());
-                toolkit.setExtremeValuescorrector(xcorrector);
-                break;
+                return xcorrector;
             }
             case All: {
                 PeriodSpecificExtremeValuesCorrector xcorrector = new PeriodSpecificExtremeValuesCorrector();
                 xcorrector.setSigma(spec.getLowerSigma(), spec.getUpperSigma());
                 xcorrector.setExcludefcast(spec.isExcludefcst());
-                toolkit.setExtremeValuescorrector(xcorrector);
-                break;
+                return xcorrector;
             }
             case Signif: {
                 CochranDependentExtremeValuesCorrector xcorrector = new CochranDependentExtremeValuesCorrector();
                 xcorrector.setSigma(spec.getLowerSigma(), spec.getUpperSigma());
                 xcorrector.setExcludefcast(spec.isExcludefcst());
-                toolkit.setExtremeValuescorrector(xcorrector);
-                break;
+                return xcorrector;
             }
             default: {
                 DefaultExtremeValuesCorrector xcorrector = new DefaultExtremeValuesCorrector();
                 xcorrector.setSigma(spec.getLowerSigma(), spec.getUpperSigma());
                 xcorrector.setExcludefcast(spec.isExcludefcst());
-                toolkit.setExtremeValuescorrector(xcorrector);
-                break;
+                return xcorrector;
             }
         }
-
-        /*In Case that one or more and not all of the filters are stable the normalizer needs this information*/
-        if (spec.isSeasonal()) {
-            DefaultSeasonalNormalizer nprovider = new DefaultSeasonalNormalizer();
-            nprovider.setNormalizer(spec.getSeasonalFilters());
-            toolkit.setSeasonalnormalizer(nprovider);
-        } else {
-            toolkit.setSeasonalnormalizer(DummySeasonalNormalizer.instance);
-        }
-
-        /*toolkit.setSeasonalnormalizer(new DefaultSeasonalNormalizer());*/
-        return toolkit;
-    }
-
-    public static X11Toolkit create() {
-        return create(new X11Specification());
     }
     private IX11Preprocessor preprocessor;
     private ITrendCycleComputer tcprovider;
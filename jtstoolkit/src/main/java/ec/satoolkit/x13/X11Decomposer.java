@@ -23,6 +23,7 @@ import ec.satoolkit.x11.*;
 import ec.tstoolkit.data.DescriptiveStatistics;
 import ec.tstoolkit.modelling.arima.PreprocessingModel;
 import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.Collection;
 
 /**
  *
@@ -32,17 +33,29 @@ public class X11Decomposer implements IDefaultSeriesDecomposer<X11Results> {
 
     private X11Specification spec_;
     private X11Results results_;
+    private Collection<String> leanTables_;
 
     public X11Decomposer(X11Specification spec) {
         spec_ = spec;
     }
 
+    /**
+     * Uses the lean mode of the X11 kernel
+     *
+     * @param tables The requested tables (see X11Kernel.setLeanTables). Null
+     * for the complete processing
+     */
+    public void setLeanTables(Collection<String> tables) {
+        leanTables_ = tables;
+    }
+
     @Override
     public boolean decompose(TsData s) {
         X11Specification spec = spec_.clone();
         X11Toolkit toolkit = X11Toolkit.create(spec);
         X11Kernel kernel = new X11Kernel();
         kernel.setToolkit(toolkit);
+        kernel.setLeanTables(leanTables_);
         results_ = kernel.process(s);
         return results_ != null;
     }
@@ -54,6 +67,7 @@ public class X11Decomposer implements IDefaultSeriesDecomposer<X11Results> {
         toolkit.setPreprocessor(new DefaultPreprocessor(model, filter, spec.getMode() == DecompositionMode.PseudoAdditive));
         X11Kernel kernel = new X11Kernel();
         kernel.setToolkit(toolkit);
+        kernel.setLeanTables(leanTables_);
         results_ = kernel.process(model.interpolatedSeries(false));
         return results_ != null;
     }
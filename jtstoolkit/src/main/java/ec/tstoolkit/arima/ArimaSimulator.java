@@ -0,0 +1,430 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.arima;
+
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.maths.linearfilters.BackFilter;
+import ec.tstoolkit.maths.linearfilters.RationalBackFilter;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.matrices.SubMatrix;
+import ec.tstoolkit.maths.matrices.SymmetricMatrix;
+import ec.tstoolkit.maths.polynomials.Polynomial;
+import ec.tstoolkit.random.SplittableRNG;
+import ec.tstoolkit.random.StochasticRandomizer;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Monte-Carlo engine for (possibly non stationary) ARIMA models.
+ *
+ * The engine generates large sets of paths in parallel. Each path uses its
+ * own stream of a splittable random number generator (identified by the
+ * seed of the simulator and by the index of the path), so that the results
+ * don't depend on the number of threads. The paths are generated in
+ * pre-allocated buffers (one set by thread).
+ *
+ * Two kinds of paths can be generated:
+ * <ul>
+ * <li>unconditional paths: the stationary part of the model starts from its
+ * stationary distribution and the initial values of the non-stationary part
+ * are 0;</li>
+ * <li>forecast errors: all the initial conditions are 0, so that the paths
+ * are realizations of sum(psi(j)*e(t-j)), the errors of the optimal
+ * forecasts (for known parameters).</li>
+ * </ul>
+ *
+ * Other models can be simulated through their ARIMA representations: the
+ * components or the aggregated model of a UcarimaModel, the reduced form of
+ * a BasicStructuralModel (computeReducedModel). Statistics on the paths (for
+ * instance the revision errors of a SEATS decomposition) can be computed on
+ * the fly with IPathStatistic.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class ArimaSimulator {
+
+    /**
+     * Statistics computed on each simulated path. The implementations must be
+     * thread-safe (the statistics are computed concurrently).
+     */
+    public static interface IPathStatistic {
+
+        /**
+         * @return The number of statistics computed on each path
+         */
+        int getDimension();
+
+        /**
+         * Computes the statistics of a path.
+         *
+         * @param path The simulated path. The array is reused for the next
+         * paths: it shouldn't be kept or modified.
+         * @param stats The statistics (out parameter)
+         */
+        void compute(double[] path, double[] stats);
+    }
+
+    private static final int NTHREADS = Runtime.getRuntime().availableProcessors();
+
+    private final int p, q, d;
+    private final double[] phi, theta, delta;
+    private final double stdev;
+    // Cholesky factor of the covariance of the initial values (p+q)
+    private final Matrix l0;
+    private long seed;
+    private int nthreads = NTHREADS;
+
+    /**
+     *
+     * @param arima The simulated model
+     */
+    public ArimaSimulator(final IArimaModel arima) {
+        StationaryTransformation stm = arima.stationaryTransformation();
+        IArimaModel starima = (IArimaModel) stm.stationaryModel;
+        BackFilter ar = starima.getAR(), ma = starima.getMA();
+        Polynomial P = ar.getPolynomial(), Q = ma.getPolynomial(), D = stm.unitRoots.getPolynomial();
+        p = P.getDegree();
+        q = Q.getDegree();
+        d = D.getDegree();
+        // the recursions are normalized
+        phi = new double[p];
+        for (int i = 0; i < p; ++i) {
+            phi[i] = P.get(i + 1) / P.get(0);
+        }
+        theta = new double[q + 1];
+        for (int i = 0; i <= q; ++i) {
+            theta[i] = Q.get(i) / P.get(0);
+        }
+        delta = new double[d];
+        for (int i = 0; i < d; ++i) {
+            delta[i] = D.get(i + 1) / D.get(0);
+        }
+        double var = starima.getInnovationVariance();
+        stdev = Math.sqrt(var);
+        l0 = p == 0 ? null : initialCovariance(starima, p, q, var);
+    }
+
+    /**
+     * Cholesky factor of the covariance of (y(-1)...y(-p), e(-1)...e(-q))
+     */
+    private static Matrix initialCovariance(final IArimaModel starima, final int p, final int q, final double var) {
+        Matrix ac = new Matrix(p + q, p + q);
+        AutoCovarianceFunction acf = starima.getAutoCovarianceFunction();
+        acf.prepare(p);
+        SubMatrix pm = ac.subMatrix(0, p, 0, p);
+        pm.diagonal().set(acf.get(0));
+        for (int i = 1; i < p; ++i) {
+            pm.subDiagonal(-i).set(acf.get(i));
+        }
+        if (q > 0) {
+            SubMatrix qm = ac.subMatrix(p, p + q, p, p + q);
+            qm.diagonal().set(var);
+            SubMatrix qp = ac.subMatrix(p, p + q, 0, p);
+            RationalBackFilter psi = starima.getPsiWeights();
+            int nw = Math.min(q, p);
+            psi.prepare(q);
+            DataBlock w = new DataBlock(psi.getWeights(q));
+            for (int i = 0; i < nw; ++i) {
+                qp.column(i).drop(i, 0).copy(w.drop(0, i));
+            }
+            qp.mul(var);
+        }
+        SymmetricMatrix.fromLower(ac);
+        SymmetricMatrix.lcholesky(ac);
+        return ac;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the seed of the simulations. The same seed (and the same model)
+     * always generates the same paths.
+     *
+     * @param seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getThreadsCount() {
+        return nthreads;
+    }
+
+    /**
+     * Sets the maximum number of threads used in the simulations. The
+     * default is the number of available processors.
+     *
+     * @param n
+     */
+    public void setThreadsCount(int n) {
+        nthreads = Math.max(1, n);
+    }
+
+    /**
+     * Generates a given path
+     *
+     * @param index The index of the path
+     * @param n The length of the path
+     * @param forecastErrors True for forecast errors, false for unconditional
+     * paths
+     * @return A new array
+     */
+    public double[] path(final int index, final int n, final boolean forecastErrors) {
+        Workspace ws = new Workspace(n, 0);
+        generate(ws, index, n, forecastErrors);
+        return ws.path;
+    }
+
+    /**
+     * Generates unconditional paths
+     *
+     * @param npaths The number of paths
+     * @param n The length of each path
+     * @return A matrix n x npaths (one path by column)
+     */
+    public Matrix simulate(final int npaths, final int n) {
+        return simulate(npaths, n, false);
+    }
+
+    /**
+     * Generates the paths of the forecast errors
+     *
+     * @param npaths The number of paths
+     * @param nf The number of forecasts
+     * @return A matrix nf x npaths (one path by column)
+     */
+    public Matrix simulateForecastErrors(final int npaths, final int nf) {
+        return simulate(npaths, nf, true);
+    }
+
+    private Matrix simulate(final int npaths, final int n, final boolean forecastErrors) {
+        Matrix m = new Matrix(n, npaths);
+        final double[] all = m.internalStorage();
+        run(npaths, n, 0, (ws, i) -> {
+            generate(ws, i, n, forecastErrors);
+            System.arraycopy(ws.path, 0, all, i * n, n);
+        });
+        return m;
+    }
+
+    /**
+     * Computes statistics on simulated paths. The paths are not stored.
+     *
+     * @param npaths The number of paths
+     * @param n The length of each path
+     * @param forecastErrors True for forecast errors, false for unconditional
+     * paths
+     * @param stat The statistics
+     * @return A matrix stat.getDimension() x npaths (the statistics of each
+     * path by column)
+     */
+    public Matrix simulate(final int npaths, final int n, final boolean forecastErrors, final IPathStatistic stat) {
+        final int nstats = stat.getDimension();
+        Matrix m = new Matrix(nstats, npaths);
+        final double[] all = m.internalStorage();
+        run(npaths, n, nstats, (ws, i) -> {
+            generate(ws, i, n, forecastErrors);
+            stat.compute(ws.path, ws.stats);
+            System.arraycopy(ws.stats, 0, all, i * nstats, nstats);
+        });
+        return m;
+    }
+
+    /**
+     * Computes the forecast intervals of a series by simulation of the
+     * forecast errors
+     *
+     * @param fcasts The point forecasts (generated by the simulated model)
+     * @param npaths The number of simulated paths
+     * @param probs The probabilities of the quantiles (in [0, 1])
+     * @return The quantiles of the forecasts (one series by probability)
+     */
+    public TsData[] forecastIntervals(final TsData fcasts, final int npaths, final double... probs) {
+        Matrix qs = quantiles(simulateForecastErrors(npaths, fcasts.getLength()), probs);
+        TsData[] rslt = new TsData[probs.length];
+        for (int i = 0; i < probs.length; ++i) {
+            rslt[i] = fcasts.plus(new TsData(fcasts.getStart(), qs.row(i)));
+        }
+        return rslt;
+    }
+
+    /**
+     * Computes the empirical quantiles of each row of a matrix (linear
+     * interpolation between the order statistics)
+     *
+     * @param sims The simulations (one simulation by column)
+     * @param probs The probabilities of the quantiles (in [0, 1])
+     * @return A matrix probs.length x sims.getRowsCount()
+     */
+    public static Matrix quantiles(final Matrix sims, final double... probs) {
+        int n = sims.getRowsCount(), m = sims.getColumnsCount();
+        Matrix qs = new Matrix(probs.length, n);
+        if (m == 0) {
+            qs.set(Double.NaN);
+            return qs;
+        }
+        double[] buffer = new double[m];
+        for (int i = 0; i < n; ++i) {
+            sims.row(i).copyTo(buffer, 0);
+            Arrays.sort(buffer);
+            for (int j = 0; j < probs.length; ++j) {
+                double h = (m - 1) * probs[j];
+                int lo = (int) Math.floor(h);
+                if (lo >= m - 1) {
+                    qs.set(j, i, buffer[m - 1]);
+                } else if (lo < 0) {
+                    qs.set(j, i, buffer[0]);
+                } else {
+                    qs.set(j, i, buffer[lo] + (h - lo) * (buffer[lo + 1] - buffer[lo]));
+                }
+            }
+        }
+        return qs;
+    }
+
+    /**
+     * Buffers of a thread
+     */
+    private final class Workspace {
+
+        final SplittableRNG rng = new SplittableRNG(0);
+        final double[] x, e, w, path, stats;
+
+        Workspace(int n, int nstats) {
+            x = new double[p + q];
+            e = new double[q + n];
+            w = new double[p + n];
+            path = new double[n];
+            stats = new double[nstats];
+        }
+    }
+
+    @FunctionalInterface
+    private static interface IPathTask {
+
+        void execute(Workspace ws, int path);
+    }
+
+    private void run(final int npaths, final int n, final int nstats, final IPathTask task) {
+        int nt = Math.min(nthreads, npaths);
+        if (nt <= 1) {
+            Workspace ws = new Workspace(n, nstats);
+            for (int i = 0; i < npaths; ++i) {
+                task.execute(ws, i);
+            }
+            return;
+        }
+        int chunk = (npaths + nt - 1) / nt;
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int start = 0; start < npaths; start += chunk) {
+            final int i0 = start, i1 = Math.min(npaths, start + chunk);
+            tasks.add(() -> {
+                Workspace ws = new Workspace(n, nstats);
+                for (int i = i0; i < i1; ++i) {
+                    task.execute(ws, i);
+                }
+                return null;
+            });
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(tasks.size());
+        try {
+            for (Future<Void> f : executorService.invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ArimaException("Interrupted simulation");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new ArimaException("Simulation failed", ex);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private void generate(final Workspace ws, final int index, final int n, final boolean forecastErrors) {
+        SplittableRNG rng = ws.rng;
+        rng.setStream(seed, index);
+        double[] e = ws.e, w = ws.w, y = ws.path;
+        // initial conditions
+        if (forecastErrors) {
+            Arrays.fill(e, 0, q, 0);
+            Arrays.fill(w, 0, p, 0);
+        } else if (p == 0) {
+            for (int i = 0; i < q; ++i) {
+                e[i] = StochasticRandomizer.normal(rng) * stdev;
+            }
+        } else {
+            double[] x = ws.x;
+            for (int i = 0; i < x.length; ++i) {
+                x[i] = StochasticRandomizer.normal(rng);
+            }
+            // x = L*x, from the bottom
+            for (int i = x.length - 1; i >= 0; --i) {
+                double s = 0;
+                for (int j = 0; j <= i; ++j) {
+                    s += l0.get(i, j) * x[j];
+                }
+                x[i] = s;
+            }
+            for (int j = 0; j < p; ++j) {
+                w[p - 1 - j] = x[j];
+            }
+            for (int j = 0; j < q; ++j) {
+                e[q - 1 - j] = x[p + j];
+            }
+        }
+        // stationary part
+        for (int t = 0; t < n; ++t) {
+            double u = StochasticRandomizer.normal(rng) * stdev;
+            e[q + t] = u;
+            double s = theta[0] * u;
+            for (int j = 1; j <= q; ++j) {
+                s += theta[j] * e[q + t - j];
+            }
+            for (int j = 1; j <= p; ++j) {
+                s -= phi[j - 1] * w[p + t - j];
+            }
+            w[p + t] = s;
+        }
+        // integration
+        if (d == 0) {
+            System.arraycopy(w, p, y, 0, n);
+        } else {
+            for (int t = 0; t < n; ++t) {
+                double s = w[p + t];
+                for (int j = 1, jmax = Math.min(d, t); j <= jmax; ++j) {
+                    s -= delta[j - 1] * y[t - j];
+                }
+                y[t] = s;
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import ec.tstoolkit.maths.matrices.Matrix;
 import ec.tstoolkit.maths.polynomials.RationalFunction;
 import ec.tstoolkit.maths.linearfilters.SymmetricFilter;
 import ec.tstoolkit.maths.matrices.MatrixException;
+import ec.tstoolkit.data.BufferPool;
 import ec.tstoolkit.data.DataBlockIterator;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
@@ -54,6 +55,16 @@ public class AnsleyFilter implements IArmaFilter {
     public double[] filter(IReadDataBlock y) {
         double[] e = new double[y.getLength()];
         y.copyTo(e, 0);
+        inplaceFilter(e);
+        return e;
+    }
+
+    /**
+     * In place filtering
+     *
+     * @param e
+     */
+    private void inplaceFilter(double[] e) {
         int p = m_ar.getDegree();
         int q = m_ma.getDegree();
         if (m_wnoptimize && p == 0 && q == 0) {
@@ -63,7 +74,7 @@ public class AnsleyFilter implements IArmaFilter {
                     e[i] /= std;
                 }
             }
-            return e;
+            return;
         }
         if (p > 0) {
             for (int i = e.length - 1; i >= p; --i) {
@@ -76,7 +87,6 @@ public class AnsleyFilter implements IArmaFilter {
         }
 
         rsolve(e);
-        return e;
     }
 
     /**
@@ -86,8 +96,11 @@ public class AnsleyFilter implements IArmaFilter {
      */
     @Override
     public void filter(IReadDataBlock y, DataBlock yf) {
-        double[] e = filter(y);
+        double[] e = BufferPool.borrow(y.getLength());
+        y.copyTo(e, 0);
+        inplaceFilter(e);
         yf.copyFrom(e, 0);
+        BufferPool.release(e);
     }
 
     @Override
@@ -18,6 +18,7 @@ package ec.tstoolkit.arima.estimation;
 
 import ec.tstoolkit.BaseException;
 import ec.tstoolkit.arima.IArimaModel;
+import ec.tstoolkit.data.BufferPool;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.DataBlockIterator;
 import ec.tstoolkit.design.Development;
@@ -115,10 +116,36 @@ public class ConcentratedLikelihoodEstimation {
         return m_el;
     }
 
+    /**
+     * The (scaled) data, the regression variables, their filtered values and
+     * their QR decomposition are temporary buffers, borrowed from the pool of
+     * the current thread.
+     */
     private boolean process(RegModel model, int nl, int nd, int[] missings) {
+        int n = model.getObsCount(), nx = model.getVarsCount();
+        double[] ybuffer = BufferPool.borrow(n);
+        double[] xbuffer = null, xlbuffer = null, qrbuffer = null;
+        if (nx > 0) {
+            xbuffer = BufferPool.borrow(n * nx);
+            xlbuffer = BufferPool.borrowClean(nl * nx);
+            qrbuffer = BufferPool.borrow(nl * nx);
+        }
+        try {
+            return process(model, nl, nd, missings, ybuffer, xbuffer, xlbuffer, qrbuffer);
+        } finally {
+            BufferPool.release(qrbuffer);
+            BufferPool.release(xlbuffer);
+            BufferPool.release(xbuffer);
+            BufferPool.release(ybuffer);
+        }
+    }
+
+    private boolean process(RegModel model, int nl, int nd, int[] missings,
+            double[] ybuffer, double[] xbuffer, double[] xlbuffer, double[] qrbuffer) {
         fnCalls.incrementAndGet();
         m_ll = new ConcentratedLikelihood();
-        DataBlock y = model.getY().deepClone();
+        DataBlock y = new DataBlock(ybuffer);
+        y.copy(model.getY());
         int n = y.getLength();
         double[] factors = null;
         double yfactor = 1;
@@ -131,7 +158,7 @@ public class ConcentratedLikelihoodEstimation {
         }
         DataBlock yl = new DataBlock(nl);
         m_filter.filter(y, yl);
-        Matrix x = model.variables();
+        Matrix x = xbuffer == null ? null : model.variables(xbuffer);
         int nx = x == null ? 0 : x.getColumnsCount();
         Matrix xl;
         if (nx > 0) {
@@ -149,7 +176,7 @@ public class ConcentratedLikelihoodEstimation {
                     }
                 }
             }
-            xl = new Matrix(nl, x.getColumnsCount());
+            xl = new Matrix(xlbuffer, nl, nx);
             DataBlockIterator xcols = x.columns();
             DataBlockIterator xlcols = xl.columns();
             DataBlock xcol = xcols.getData(), xlcol = xlcols.getData();
@@ -158,9 +185,10 @@ public class ConcentratedLikelihoodEstimation {
                 m_filter.filter(xcol, xlcol);
             } while (xcols.next() && xlcols.next());
 
-            Householder qr = new Householder(true);
+            System.arraycopy(xlbuffer, 0, qrbuffer, 0, qrbuffer.length);
+            Householder qr = new Householder(false);
             qr.setEpsilon(1e-12);
-            qr.decompose(xl);
+            qr.decompose(new Matrix(qrbuffer, nl, nx));
             if (qr.getRank() == 0) {
                 double ssqerr = yl.ssq();
                 double ldet = m_filter.getLogDeterminant();
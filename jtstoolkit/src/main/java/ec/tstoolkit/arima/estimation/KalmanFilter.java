@@ -18,6 +18,7 @@
 package ec.tstoolkit.arima.estimation;
 
 import ec.tstoolkit.arima.*;
+import ec.tstoolkit.data.BufferPool;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
@@ -252,7 +253,7 @@ public class KalmanFilter implements IArmaFilter {
 	double h = m_h0;
 
 	double[] a = new double[m_dim];
-	double[] yf = new double[m_n];
+	double[] yf = BufferPool.borrow(m_n);
 	// iteration
 	int pos = 0, ilast = m_dim - 1;
 	boolean bfast = false;
@@ -305,6 +306,7 @@ public class KalmanFilter implements IArmaFilter {
 
 	m_ldet = det.getLogDeterminant();
 	outrc.copy(new DataBlock(yf));
+	BufferPool.release(yf);
 
     }
 
@@ -18,6 +18,7 @@
 package ec.tstoolkit.arima.estimation;
 
 import ec.tstoolkit.arima.IArimaModel;
+import ec.tstoolkit.data.BufferPool;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
@@ -48,11 +49,14 @@ public class ModifiedLjungBoxFilter implements IArmaFilter {
 
     @Override
     public void filter(IReadDataBlock rw, DataBlock wl) {
-	DataBlock w = new DataBlock(rw);
+	double[] wbuffer = BufferPool.borrow(rw.getLength()), zbuffer = null;
+	rw.copyTo(wbuffer, 0);
+	DataBlock w = new DataBlock(wbuffer);
 	// step 1. AR filter w, if necessary
 	DataBlock z = w;
 	if (m_p > 0) {
-	    z = new DataBlock(w.getLength() - m_p);
+	    zbuffer = BufferPool.borrow(w.getLength() - m_p);
+	    z = new DataBlock(zbuffer);
 	    DataBlock x = w.drop(m_p, 0);
 	    z.copy(x);
 	    for (int i = 1; i <= m_p; ++i) {
@@ -74,6 +78,8 @@ public class ModifiedLjungBoxFilter implements IArmaFilter {
 	    wl.range(0, m_p).copy(w.range(0, m_p));
 	if (m_L != null)
 	    LowerTriangularMatrix.rsolve(m_L, wl.range(0, m_p));
+	BufferPool.release(zbuffer);
+	BufferPool.release(wbuffer);
     }
 
     @Override
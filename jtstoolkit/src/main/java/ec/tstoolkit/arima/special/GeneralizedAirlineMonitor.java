@@ -20,6 +20,7 @@ package ec.tstoolkit.arima.special;
 import ec.tstoolkit.arima.estimation.GlsArimaMonitor;
 import ec.tstoolkit.arima.estimation.RegArimaEstimation;
 import ec.tstoolkit.arima.estimation.RegArimaModel;
+import ec.tstoolkit.data.BufferPool;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.data.SubArrayOfInt;
@@ -36,8 +37,16 @@ import ec.tstoolkit.sarima.estimation.HannanRissanen;
 import ec.tstoolkit.sarima.estimation.SarimaMapping;
 import ec.tstoolkit.timeseries.regression.TsVariableList;
 import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * The GeneralizedAirlineMonitor monitors the estimation and the decomposition
@@ -57,6 +66,8 @@ public class GeneralizedAirlineMonitor {
     private boolean m_mean;
     private final HashMap<Long, RegArimaEstimation<GeneralizedAirlineModel>> m_smodel = new HashMap<>();
     private static final int m_nsel = 5;
+    private static final Logger LOGGER = Logger.getLogger(GeneralizedAirlineMonitor.class.getName());
+    private boolean m_concurrent, m_pruning;
 
     /**
      * Estimates the generalized airline model for a given series.
@@ -159,12 +170,25 @@ public class GeneralizedAirlineMonitor {
 
         java.util.ArrayList<RegArimaEstimation<GeneralizedAirlineModel>> rtmp = new java.util.ArrayList<>();
 
-        for (int i = 0; i < C.getRowsCount(); ++i) {
-            try {
+        if (m_concurrent) {
+            List<SubArrayOfInt> candidates = new ArrayList<>();
+            for (int i = 0; i < C.getRowsCount(); ++i) {
                 if (Math.abs(drank[i]) >= threshold) {
-                    rtmp.add(estimate(freq, regs, C.row(i)));
+                    candidates.add(C.row(i));
+                }
+            }
+            for (RegArimaEstimation<GeneralizedAirlineModel> est : estimateConcurrently(freq, regs, candidates)) {
+                rtmp.add(prune(est));
+            }
+        } else {
+            for (int i = 0; i < C.getRowsCount(); ++i) {
+                try {
+                    if (Math.abs(drank[i]) >= threshold) {
+                        rtmp.add(prune(estimate(freq, regs, C.row(i), m_smodel)));
+                    }
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, "Estimation of a generalized airline model failed", e);
                 }
-            } catch (Exception e) {
             }
         }
 
@@ -197,26 +221,38 @@ public class GeneralizedAirlineMonitor {
             C[i] = istart;
         }
         int ridx = 0;
-        for (int i = 1; i <= m_spec.getMaxFrequencyGroup(); ++i) {
+        for (int i = 1; i <= m_spec.getMaxFrequencyGroup() && ridx >= 0; ++i) {
             ridx = RCalc(i >= m_spec.getMinFrequencyGroup(), ridx, freq, regs,
                     SubArrayOfInt.create(C));
         }
         return true;
     }
 
+    /**
+     * Estimates the candidates of a step of the iterative mode. The next step
+     * starts from the best candidate.
+     *
+     * @return The position of the last saved result or -1 if the search must
+     * stop: with pruning, the candidates of the next steps extend the best
+     * candidate, so that the search stops as soon as it is dominated by the
+     * airline model.
+     */
     private int RCalc(final boolean save, int ridx, final int freq,
             final RegArimaModel<GeneralizedAirlineModel> regs,
             final SubArrayOfInt C) {
         int q = m_spec.isFreeZeroFrequencyParameter() ? 3 : 2;
+        if (m_concurrent) {
+            return RCalcConcurrently(save, ridx, freq, regs, C, q);
+        }
         int jbest = -1;
         double ll = Double.MIN_VALUE;
         for (int j = 0; j < C.getLength(); ++j) {
             if (C.get(j) != q) {
                 C.set(j, q);
                 RegArimaEstimation<GeneralizedAirlineModel> est = estimate(
-                        freq, regs, C);
+                        freq, regs, C, m_smodel);
                 if (save) {
-                    m_rslts[++ridx] = est;
+                    m_rslts[++ridx] = prune(est);
                 }
                 if (est != null) {
                     double curll = est.likelihood.getLogLikelihood();
@@ -228,6 +264,13 @@ public class GeneralizedAirlineMonitor {
                 C.set(j, q - 1);
             }
         }
+        return next(ridx, C, jbest, ll, q);
+    }
+
+    private int next(int ridx, final SubArrayOfInt C, int jbest, double ll, int q) {
+        if (m_pruning && (jbest < 0 || ll < m_rslts[0].likelihood.getLogLikelihood())) {
+            return -1;
+        }
         if (jbest >= 0) {
             C.set(jbest, q);
         }
@@ -245,15 +288,121 @@ public class GeneralizedAirlineMonitor {
             return false;
         }
 
-        for (int i = 1; i < m_rslts.length; ++i) {
-            try {
-                m_rslts[i] = estimate(freq, regs, C.row(i - 1));
-            } catch (Exception e) {
+        if (m_concurrent) {
+            List<SubArrayOfInt> candidates = new ArrayList<>();
+            for (int i = 1; i < m_rslts.length; ++i) {
+                candidates.add(C.row(i - 1));
+            }
+            List<RegArimaEstimation<GeneralizedAirlineModel>> rslts = estimateConcurrently(freq, regs, candidates);
+            for (int i = 1; i < m_rslts.length; ++i) {
+                m_rslts[i] = prune(rslts.get(i - 1));
+            }
+        } else {
+            for (int i = 1; i < m_rslts.length; ++i) {
+                try {
+                    m_rslts[i] = prune(estimate(freq, regs, C.row(i - 1), m_smodel));
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, "Estimation of a generalized airline model failed", e);
+                }
             }
         }
         return true;
     }
 
+    private int RCalcConcurrently(final boolean save, int ridx, final int freq,
+            final RegArimaModel<GeneralizedAirlineModel> regs,
+            final SubArrayOfInt C, final int q) {
+        // the candidates of a step differ from the current constraints by one frequency
+        List<SubArrayOfInt> candidates = new ArrayList<>();
+        List<Integer> pos = new ArrayList<>();
+        for (int j = 0; j < C.getLength(); ++j) {
+            if (C.get(j) != q) {
+                int[] cj = new int[C.getLength()];
+                SubArrayOfInt c = SubArrayOfInt.create(cj);
+                c.copy(C);
+                c.set(j, q);
+                candidates.add(c);
+                pos.add(j);
+            }
+        }
+        List<RegArimaEstimation<GeneralizedAirlineModel>> rslts = estimateConcurrently(freq, regs, candidates);
+        int jbest = -1;
+        double ll = Double.MIN_VALUE;
+        for (int k = 0; k < rslts.size(); ++k) {
+            RegArimaEstimation<GeneralizedAirlineModel> est = rslts.get(k);
+            if (save) {
+                m_rslts[++ridx] = prune(est);
+            }
+            if (est != null) {
+                double curll = est.likelihood.getLogLikelihood();
+                if (jbest < 0 || curll >= ll) {
+                    jbest = pos.get(k);
+                    ll = curll;
+                }
+            }
+        }
+        return next(ridx, C, jbest, ll, q);
+    }
+
+    /**
+     * Estimates independent candidate models in parallel. The results are
+     * given in the order of the candidates. Each task works on its own copy
+     * of the regression model and on its own cache of intermediate models,
+     * so that the results don't depend on the scheduling of the tasks.
+     * The tasks run on the common fork-join pool; they free the buffer pool
+     * of their thread when they end. Failed estimations are logged and
+     * returned as null.
+     */
+    private List<RegArimaEstimation<GeneralizedAirlineModel>> estimateConcurrently(final int freq,
+            final RegArimaModel<GeneralizedAirlineModel> regs, final List<SubArrayOfInt> candidates) {
+        List<Callable<RegArimaEstimation<GeneralizedAirlineModel>>> tasks = new ArrayList<>();
+        for (final SubArrayOfInt c : candidates) {
+            final RegArimaModel<GeneralizedAirlineModel> cregs = regs.clone();
+            tasks.add(() -> {
+                try {
+                    return estimate(freq, cregs, c, new HashMap<>());
+                } finally {
+                    BufferPool.reset();
+                }
+            });
+        }
+        List<RegArimaEstimation<GeneralizedAirlineModel>> rslts = new ArrayList<>();
+        try {
+            for (Future<RegArimaEstimation<GeneralizedAirlineModel>> f : ForkJoinPool.commonPool().invokeAll(tasks)) {
+                try {
+                    rslts.add(f.get());
+                } catch (ExecutionException e) {
+                    LOGGER.log(Level.WARNING, "Estimation of a generalized airline model failed", e.getCause());
+                    rslts.add(null);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            while (rslts.size() < candidates.size()) {
+                rslts.add(null);
+            }
+        }
+        return rslts;
+    }
+
+    /**
+     * Discards (with pruning) a candidate model that is dominated by the
+     * airline model: it has more parameters and a smaller likelihood, so that
+     * it can't be selected by an information criterion. The candidates are
+     * pruned as soon as they are estimated.
+     */
+    private RegArimaEstimation<GeneralizedAirlineModel> prune(RegArimaEstimation<GeneralizedAirlineModel> est) {
+        if (!m_pruning || est == null) {
+            return est;
+        }
+        if (est.likelihood == null
+                || est.likelihood.getLogLikelihood() < m_rslts[0].likelihood.getLogLikelihood()) {
+            return null;
+        } else {
+            return est;
+        }
+    }
+
     // build the regarima model
     private RegArimaModel<GeneralizedAirlineModel> buildModel(final int[] c) {
         int np = 2;
@@ -275,7 +424,7 @@ public class GeneralizedAirlineMonitor {
 
     private RegArimaEstimation<GeneralizedAirlineModel> estimate(
             final int freq, final RegArimaModel<GeneralizedAirlineModel> regs,
-            final SubArrayOfInt c) {
+            final SubArrayOfInt c, final Map<Long, RegArimaEstimation<GeneralizedAirlineModel>> cache) {
         int nparams = m_spec.isFreeZeroFrequencyParameter() ? 4 : 3;
         // Estimate first the free model...
         if (m_bfreeestimation) {
@@ -291,21 +440,21 @@ public class GeneralizedAirlineMonitor {
         }
 
         if (nparams == 3) {
-            return estimate3(freq, regs, c);
+            return estimate3(freq, regs, c, cache);
         } else {
-            return estimate4(freq, regs, c);
+            return estimate4(freq, regs, c, cache);
         }
     }
 
     private RegArimaEstimation<GeneralizedAirlineModel> estimate3(
             final int freq, final RegArimaModel<GeneralizedAirlineModel> regs,
-            final SubArrayOfInt c) {
+            final SubArrayOfInt c, final Map<Long, RegArimaEstimation<GeneralizedAirlineModel>> cache) {
         RegArimaEstimation<GeneralizedAirlineModel> est = estimate3(freq, regs,
-                m_startairline, c, true);
+                m_startairline, c, true, cache);
         if (est == null
                 || est.likelihood == null
                 || est.likelihood.getLogLikelihood() < m_rslts[0].likelihood.getLogLikelihood()) {
-            return estimate3(freq, regs, m_startairline, c, false);
+            return estimate3(freq, regs, m_startairline, c, false, cache);
         } else {
             return est;
         }
@@ -313,14 +462,15 @@ public class GeneralizedAirlineMonitor {
 
     private RegArimaEstimation<GeneralizedAirlineModel> estimate3(
             final int freq, final RegArimaModel<GeneralizedAirlineModel> regs,
-            final DataBlock p, final SubArrayOfInt c, boolean checkur) {
+            final DataBlock p, final SubArrayOfInt c, boolean checkur,
+            final Map<Long, RegArimaEstimation<GeneralizedAirlineModel>> cache) {
         RegArimaEstimation<GeneralizedAirlineModel> rslt;
         long ckey = GeneralizedAirlineModel.CKey(c);
-        if (!checkur && m_smodel.containsKey(ckey)) {
-            m_smodel.remove(ckey);
+        if (!checkur && cache.containsKey(ckey)) {
+            cache.remove(ckey);
         }
 
-        rslt = m_smodel.get(ckey);
+        rslt = cache.get(ckey);
         if (rslt == null) {
             GeneralizedAirlineModel gairline = new GeneralizedAirlineModel(
                     freq, 3, p.get(0), p.get(1), c);
@@ -330,7 +480,7 @@ public class GeneralizedAirlineMonitor {
             regs.setArima(gairline);
             rslt = estimate(regs, gairline);
             if (!checkur) {
-                m_smodel.put(ckey, rslt);
+                cache.put(ckey, rslt);
             }
         }
         return rslt;
@@ -338,7 +488,7 @@ public class GeneralizedAirlineMonitor {
 
     private RegArimaEstimation<GeneralizedAirlineModel> estimate4(
             final int freq, final RegArimaModel<GeneralizedAirlineModel> regs,
-            final SubArrayOfInt c) {
+            final SubArrayOfInt c, final Map<Long, RegArimaEstimation<GeneralizedAirlineModel>> cache) {
         // estimates first the 3 parameters model.
         DataBlock pinit = null;
 
@@ -356,7 +506,7 @@ public class GeneralizedAirlineMonitor {
 
         if (c.getLength() % 2 == 0 && nr == c.getLength() / 2) {
             RegArimaEstimation<GeneralizedAirlineModel> g31 = estimate3(freq,
-                    regs, c3);
+                    regs, c3, cache);
             for (int i = 0; i < c3.getLength(); ++i) {
                 if (c3.get(i) == 1) {
                     c3.set(i, 0);
@@ -365,7 +515,7 @@ public class GeneralizedAirlineMonitor {
                 }
             }
             RegArimaEstimation<GeneralizedAirlineModel> g32 = estimate3(freq,
-                    regs, c3);
+                    regs, c3, cache);
             if (g31 != null && g32 != null && g31.likelihood != null
                     && g32.likelihood != null) {
                 if (g31.likelihood.getLogLikelihood() > g32.likelihood.getLogLikelihood()) {
@@ -380,7 +530,7 @@ public class GeneralizedAirlineMonitor {
             }
         } else {
             RegArimaEstimation<GeneralizedAirlineModel> g3 = estimate3(freq,
-                    regs, c3);
+                    regs, c3, cache);
             if (g3 != null
                     && g3.likelihood != null
                     && g3.likelihood.getLogLikelihood() > m_rslts[0].likelihood.getLogLikelihood()) {
@@ -670,6 +820,47 @@ public class GeneralizedAirlineMonitor {
         m_bfreeestimation = value;
     }
 
+    public boolean isConcurrentEstimation() {
+        return m_concurrent;
+    }
+
+    /**
+     * Estimates the independent candidate models (the rows of the constraints
+     * in the exhaustive and selective modes, the candidates of each step in
+     * the iterative mode) in parallel. The results are given in the same
+     * order as in the sequential mode and they don't depend on the scheduling
+     * of the tasks. They may slightly differ from the sequential ones, because
+     * the intermediate restricted models are not shared between candidates.
+     *
+     * @param value
+     */
+    public void setConcurrentEstimation(final boolean value) {
+        m_concurrent = value;
+    }
+
+    public boolean isPruning() {
+        return m_pruning;
+    }
+
+    /**
+     * Discards the estimations of the candidate models whose likelihood is
+     * smaller than the likelihood of the airline model. Such models can't be
+     * selected by the AIC or BIC criteria. The corresponding results are set
+     * to null as soon as they are estimated. In the iterative mode, the search
+     * stops at the first step where no candidate improves the likelihood of
+     * the airline model. The search without pruning goes on from the best
+     * candidate of that step, and a larger model of the next steps could still
+     * improve the likelihood of the airline model: the pruned search can then
+     * select another (smaller) model. The candidates nest the airline model, so
+     * that this only happens when their estimation fails or stops at a local
+     * optimum.
+     *
+     * @param value
+     */
+    public void setPruning(final boolean value) {
+        m_pruning = value;
+    }
+
     public boolean isMeanCorrection() {
         return m_mean;
     }
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.data;
+
+import ec.tstoolkit.design.Development;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-local pool of temporary arrays of doubles, used by the hot paths of
+ * the estimation routines (likelihood evaluations, filters, QR
+ * decompositions...). Buffers are pooled by (exact) length, so that they can
+ * back matrices and data blocks: the iterations of an estimation procedure
+ * always use the same sizes.
+ *
+ * A borrowed buffer must be released by the code that borrowed it, once it is
+ * no longer referenced. Buffers are never shared between threads. The pool of
+ * a thread should be reset when a new, independent, processing starts (for
+ * instance a new series), to free the buffers that are no longer used.
+ *
+ * The workers of fork-join pools (parallel streams, common pool...) live as
+ * long as the JVM and run tasks that don't reset their pool; they keep fewer
+ * free buffers (see MAX_WORKER_RETAINED).
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class BufferPool {
+
+    private BufferPool() {
+    }
+
+    /**
+     * Smaller buffers are not pooled
+     */
+    public static final int MIN_LENGTH = 16;
+    /**
+     * Larger buffers are not pooled
+     */
+    public static final int MAX_LENGTH = 1 << 22;
+    /**
+     * Maximum number of different lengths by thread
+     */
+    static final int MAX_CLASSES = 32;
+    /**
+     * Maximum number of free buffers of a given length
+     */
+    static final int MAX_BUFFERS = 4;
+    /**
+     * Maximum number of doubles kept in the free buffers of a thread
+     */
+    static final long MAX_RETAINED = 1 << 22;
+    /**
+     * Maximum number of doubles kept in the free buffers of a fork-join worker
+     */
+    static final long MAX_WORKER_RETAINED = 1 << 19;
+
+    private static final ThreadLocal<Arena> ARENA = ThreadLocal.withInitial(Arena::new);
+    private static final LongAdder BORROWED = new LongAdder(), REUSED = new LongAdder(),
+            ALLOCATED = new LongAdder(), REUSED_BYTES = new LongAdder(), ALLOCATED_BYTES = new LongAdder();
+
+    /**
+     * Borrows a buffer. Its content is undefined.
+     *
+     * @param n The length of the buffer
+     * @return A new array or a free array of the given length
+     */
+    public static double[] borrow(int n) {
+        if (n < MIN_LENGTH || n > MAX_LENGTH) {
+            return new double[n];
+        }
+        BORROWED.increment();
+        double[] buffer = ARENA.get().take(n);
+        if (buffer != null) {
+            REUSED.increment();
+            REUSED_BYTES.add(8L * n);
+            return buffer;
+        } else {
+            ALLOCATED.increment();
+            ALLOCATED_BYTES.add(8L * n);
+            return new double[n];
+        }
+    }
+
+    /**
+     * Borrows a buffer filled with 0.
+     *
+     * @param n The length of the buffer
+     * @return
+     */
+    public static double[] borrowClean(int n) {
+        double[] buffer = borrow(n);
+        Arrays.fill(buffer, 0);
+        return buffer;
+    }
+
+    /**
+     * Gives back a borrowed buffer. The buffer can't be used anymore by the
+     * caller. Releasing twice the same buffer (without borrowing it in
+     * between) is harmless.
+     *
+     * @param buffer The buffer. May be null
+     */
+    public static void release(double[] buffer) {
+        if (buffer != null && buffer.length >= MIN_LENGTH && buffer.length <= MAX_LENGTH) {
+            ARENA.get().give(buffer);
+        }
+    }
+
+    /**
+     * Frees all the buffers of the current thread.
+     */
+    public static void reset() {
+        ARENA.get().clear();
+    }
+
+    /**
+     * Number of doubles kept in the free buffers of the current thread
+     *
+     * @return
+     */
+    public static long getRetainedSize() {
+        return ARENA.get().retained;
+    }
+
+    /**
+     * Gets the statistics on the use of the pools (all threads).
+     *
+     * @return
+     */
+    public static Statistics getStatistics() {
+        return new Statistics(BORROWED.sum(), REUSED.sum(), ALLOCATED.sum(),
+                REUSED_BYTES.sum(), ALLOCATED_BYTES.sum());
+    }
+
+    /**
+     * Resets the statistics on the use of the pools.
+     */
+    public static void resetStatistics() {
+        BORROWED.reset();
+        REUSED.reset();
+        ALLOCATED.reset();
+        REUSED_BYTES.reset();
+        ALLOCATED_BYTES.reset();
+    }
+
+    /**
+     * Statistics on the use of the pools. The saved allocation rate is the
+     * part of the (pooled) memory that didn't need to be allocated.
+     */
+    public static final class Statistics {
+
+        private final long borrowed, reused, allocated, reusedBytes, allocatedBytes;
+
+        Statistics(long borrowed, long reused, long allocated, long reusedBytes, long allocatedBytes) {
+            this.borrowed = borrowed;
+            this.reused = reused;
+            this.allocated = allocated;
+            this.reusedBytes = reusedBytes;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * @return The number of borrowed (pooled) buffers
+         */
+        public long getBorrowedCount() {
+            return borrowed;
+        }
+
+        /**
+         * @return The number of borrowed buffers that have been reused
+         */
+        public long getReusedCount() {
+            return reused;
+        }
+
+        /**
+         * @return The number of borrowed buffers that have been allocated
+         */
+        public long getAllocatedCount() {
+            return allocated;
+        }
+
+        /**
+         * @return The number of bytes of the reused buffers
+         */
+        public long getReusedBytes() {
+            return reusedBytes;
+        }
+
+        /**
+         * @return The number of bytes of the allocated buffers
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * @return The part of the borrowed memory that has been reused
+         * (between 0 and 1)
+         */
+        public double getSavedAllocationRate() {
+            long total = reusedBytes + allocatedBytes;
+            return total == 0 ? 0 : (double) reusedBytes / total;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            builder.append("borrowed=").append(borrowed)
+                    .append(", reused=").append(reused)
+                    .append(", allocated bytes=").append(allocatedBytes)
+                    .append(", reused bytes=").append(reusedBytes);
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Free buffers of a thread, by length
+     */
+    private static final class Arena {
+
+        private final int[] lengths = new int[MAX_CLASSES];
+        private final double[][][] buffers = new double[MAX_CLASSES][][];
+        private final int[] counts = new int[MAX_CLASSES];
+        private final long maxRetained = Thread.currentThread() instanceof ForkJoinWorkerThread
+                ? MAX_WORKER_RETAINED : MAX_RETAINED;
+        private int nclasses;
+        private long retained;
+
+        private int search(int n) {
+            for (int i = 0; i < nclasses; ++i) {
+                if (lengths[i] == n) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        double[] take(int n) {
+            int c = search(n);
+            if (c < 0 || counts[c] == 0) {
+                return null;
+            }
+            double[][] cur = buffers[c];
+            double[] buffer = cur[--counts[c]];
+            cur[counts[c]] = null;
+            retained -= n;
+            return buffer;
+        }
+
+        void give(double[] buffer) {
+            int n = buffer.length;
+            if (retained + n > maxRetained) {
+                return;
+            }
+            int c = search(n);
+            if (c < 0) {
+                c = newClass();
+                if (c < 0) {
+                    return;
+                }
+                lengths[c] = n;
+            }
+            double[][] cur = buffers[c];
+            int k = counts[c];
+            if (k == MAX_BUFFERS) {
+                return;
+            }
+            for (int i = 0; i < k; ++i) {
+                if (cur[i] == buffer) {
+                    return;
+                }
+            }
+            cur[k] = buffer;
+            counts[c] = k + 1;
+            retained += n;
+        }
+
+        /**
+         * Creates a new class or re-uses an empty one
+         *
+         * @return The position of the class or -1 if all the classes are used
+         */
+        private int newClass() {
+            if (nclasses < MAX_CLASSES) {
+                buffers[nclasses] = new double[MAX_BUFFERS][];
+                return nclasses++;
+            }
+            for (int i = 0; i < nclasses; ++i) {
+                if (counts[i] == 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void clear() {
+            for (int i = 0; i < nclasses; ++i) {
+                buffers[i] = null;
+                counts[i] = 0;
+            }
+            nclasses = 0;
+            retained = 0;
+        }
+    }
+}
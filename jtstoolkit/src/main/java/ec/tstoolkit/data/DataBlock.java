@@ -245,8 +245,9 @@ public final class DataBlock implements IDataBlock, Cloneable {
      */
     public void add(final DataBlock r) {
         if (inc == 1 && r.inc == 1) {
-            for (int i = beg, j = r.beg; i != end; ++i, ++j) {
-                src[i] += r.src[j];
+            double[] rsrc = r.src;
+            for (int i = beg, del = r.beg - beg; i < end; ++i) {
+                src[i] += rsrc[i + del];
             }
         } else {
             for (int i = beg, j = r.beg; i != end; i += inc, j += r.inc) {
@@ -301,8 +302,9 @@ public final class DataBlock implements IDataBlock, Cloneable {
         } else if (a == -1) {
             sub(y);
         } else if (inc == 1 && y.inc == 1) {
-            for (int i = beg, j = y.beg; i != end; ++i, ++j) {
-                src[i] += a * y.src[j];
+            double[] ysrc = y.src;
+            for (int i = beg, del = y.beg - beg; i < end; ++i) {
+                src[i] += a * ysrc[i + del];
             }
         } else {
             for (int i = beg, j = y.beg; i != end; i += inc, j += y.inc) {
@@ -324,7 +326,12 @@ public final class DataBlock implements IDataBlock, Cloneable {
         if (a == 0) {
             return;
         }
-        if (a == 1) {
+        if (inc == 1 && x.inc == 1 && y.inc == 1) {
+            double[] xsrc = x.src, ysrc = y.src;
+            for (int i = beg, dx = x.beg - beg, dy = y.beg - beg; i < end; ++i) {
+                src[i] += a * xsrc[i + dx] * ysrc[i + dy];
+            }
+        } else if (a == 1) {
             for (int i = beg, j = x.beg, k = y.beg; i != end; i += inc, j += x.inc, k += y.inc) {
                 this.src[i] += x.src[j] * y.src[k];
             }
@@ -339,6 +346,34 @@ public final class DataBlock implements IDataBlock, Cloneable {
         }
     }
 
+    /**
+     * Adds two rescaled src blocks in one pass. this(i) = this(i) + a * x(i) +
+     * b * y(i). The results are identical to two successive calls to addAY.
+     *
+     * @param a The scaling factor of x
+     * @param x The first added src block. Its length must be &ge the length
+     * of this object.
+     * @param b The scaling factor of y
+     * @param y The second added src block. Its length must be &ge the length
+     * of this object.
+     */
+    public void addAY(double a, DataBlock x, double b, DataBlock y) {
+        if (a == 0) {
+            addAY(b, y);
+        } else if (b == 0) {
+            addAY(a, x);
+        } else if (inc == 1 && x.inc == 1 && y.inc == 1) {
+            double[] xsrc = x.src, ysrc = y.src;
+            for (int i = beg, dx = x.beg - beg, dy = y.beg - beg; i < end; ++i) {
+                src[i] = src[i] + a * xsrc[i + dx] + b * ysrc[i + dy];
+            }
+        } else {
+            for (int i = beg, j = x.beg, k = y.beg; i != end; i += inc, j += x.inc, k += y.inc) {
+                src[i] = src[i] + a * x.src[j] + b * y.src[k];
+            }
+        }
+    }
+
     /**
      * Copies a re-scaled src block. this(i) = a * y(i)
      *
@@ -536,6 +571,14 @@ public final class DataBlock implements IDataBlock, Cloneable {
      * sum(this(0...t))
      */
     public void cumul() {
+        if (inc == 1) {
+            double s = src[beg];
+            for (int i = beg + 1; i < end; ++i) {
+                s += src[i];
+                src[i] = s;
+            }
+            return;
+        }
         int cur = beg;
         double s = src[cur];
         cur += inc;
@@ -554,6 +597,14 @@ public final class DataBlock implements IDataBlock, Cloneable {
      * @param c The dumping factor
      */
     public void cumul(double c) {
+        if (inc == 1) {
+            double s = src[beg];
+            for (int i = beg + 1; i < end; ++i) {
+                s = c * s + src[i];
+                src[i] = s;
+            }
+            return;
+        }
         int cur = beg;
         double s = src[cur];
         cur += inc;
@@ -688,8 +739,10 @@ public final class DataBlock implements IDataBlock, Cloneable {
         } else {
             double scale = ZERO;
             double ssq = ONE;
-            for (int ix = beg, jx = data.beg; ix != end; ix += inc, jx += data.inc) {
-                double x = src[ix], y = data.src[jx];
+            double[] dsrc = data.src;
+            int dinc = data.inc;
+            for (int ix = beg, jx = data.beg; ix != end; ix += inc, jx += dinc) {
+                double x = src[ix], y = dsrc[jx];
                 if (Double.compare(x, y) != 0) {
                     double d = x - y;
                     if (d != ZERO) {
@@ -722,8 +775,9 @@ public final class DataBlock implements IDataBlock, Cloneable {
         double r = 0;
         //
         if (inc == 1 && data.inc == 1) {
-            for (int i = beg, j = data.beg; i != end; ++i, ++j) {
-                r += this.src[i] * data.src[j];
+            double[] dsrc = data.src;
+            for (int i = beg, del = data.beg - beg; i < end; ++i) {
+                r += src[i] * dsrc[i + del];
             }
         } else if (inc == -1 && data.inc == -1) {
             for (int i = beg, j = data.beg; i != end; --i, --j) {
@@ -737,6 +791,36 @@ public final class DataBlock implements IDataBlock, Cloneable {
         return r;
     }
 
+    /**
+     * Computes in one pass the scalar product of two src blocks and the sum of
+     * the squared items of this object. The results are identical to dot(data)
+     * and ssq().
+     *
+     * @param data The second src block. Its length must be &ge the length of
+     * this object.
+     * @param rslt The buffer that receives the scalar product (rslt[0]) and
+     * the sum of the squares (rslt[1]). It can be reused between calls.
+     */
+    public void dotAndSsq(DataBlock data, double[] rslt) {
+        double r = 0, ssq = 0;
+        if (inc == 1 && data.inc == 1) {
+            double[] dsrc = data.src;
+            for (int i = beg, del = data.beg - beg; i < end; ++i) {
+                double x = src[i];
+                r += x * dsrc[i + del];
+                ssq += x * x;
+            }
+        } else {
+            for (int i = beg, j = data.beg; i != end; i += inc, j += data.inc) {
+                double x = src[i];
+                r += x * data.src[j];
+                ssq += x * x;
+            }
+        }
+        rslt[0] = r;
+        rslt[1] = ssq;
+    }
+
     public double dot(double[] data) {
         double r = 0;
         //
@@ -1259,8 +1343,9 @@ public final class DataBlock implements IDataBlock, Cloneable {
      */
     public void mul(DataBlock data) {
         if (inc == 1 && data.inc == 1) {
-            for (int i = beg, j = data.beg; i != end; ++i, ++j) {
-                this.src[i] *= data.src[j];
+            double[] dsrc = data.src;
+            for (int i = beg, del = data.beg - beg; i < end; ++i) {
+                src[i] *= dsrc[i + del];
             }
         } else {
             for (int i = beg, j = data.beg; i != end; i += inc, j += data.inc) {
@@ -1620,9 +1705,16 @@ public final class DataBlock implements IDataBlock, Cloneable {
             return src[beg] * src[beg];
         } else {
             double ssq = ZERO;
-            for (int ix = beg; ix != end; ix += inc) {
-                double x = this.src[ix];
-                ssq += x * x;
+            if (inc == 1) {
+                for (int ix = beg; ix < end; ++ix) {
+                    double x = src[ix];
+                    ssq += x * x;
+                }
+            } else {
+                for (int ix = beg; ix != end; ix += inc) {
+                    double x = src[ix];
+                    ssq += x * x;
+                }
             }
             return ssq;
         }
@@ -1642,9 +1734,16 @@ public final class DataBlock implements IDataBlock, Cloneable {
             return xc * xc;
         } else {
             double ssq = ZERO;
-            for (int ix = beg; ix != end; ix += inc) {
-                double x = this.src[ix] - m;
-                ssq += x * x;
+            if (inc == 1) {
+                for (int ix = beg; ix < end; ++ix) {
+                    double x = src[ix] - m;
+                    ssq += x * x;
+                }
+            } else {
+                for (int ix = beg; ix != end; ix += inc) {
+                    double x = src[ix] - m;
+                    ssq += x * x;
+                }
             }
             return ssq;
         }
@@ -1658,8 +1757,9 @@ public final class DataBlock implements IDataBlock, Cloneable {
      */
     public void sub(DataBlock data) {
         if (inc == 1 && data.inc == 1) {
-            for (int i = beg, j = data.beg; i != end; ++i, ++j) {
-                this.src[i] -= data.src[j];
+            double[] dsrc = data.src;
+            for (int i = beg, del = data.beg - beg; i < end; ++i) {
+                src[i] -= dsrc[i + del];
             }
         } else {
             for (int i = beg, j = data.beg; i != end; i += inc, j += data.inc) {
@@ -1696,8 +1796,14 @@ public final class DataBlock implements IDataBlock, Cloneable {
     @Override
     public double sum() {
         double s = 0;
-        for (int i = beg; i != end; i += inc) {
-            s += src[i];
+        if (inc == 1) {
+            for (int i = beg; i < end; ++i) {
+                s += src[i];
+            }
+        } else {
+            for (int i = beg; i != end; i += inc) {
+                s += src[i];
+            }
         }
         return s;
     }
@@ -1710,8 +1816,15 @@ public final class DataBlock implements IDataBlock, Cloneable {
      * @param r The right operand.
      */
     public void sum(DataBlock l, DataBlock r) {
-        for (int i = beg, j = l.beg, k = r.beg; i != end; i += inc, j += l.inc, k += r.inc) {
-            src[i] = l.src[j] + r.src[k];
+        if (inc == 1 && l.inc == 1 && r.inc == 1) {
+            double[] lsrc = l.src, rsrc = r.src;
+            for (int i = beg, dl = l.beg - beg, dr = r.beg - beg; i < end; ++i) {
+                src[i] = lsrc[i + dl] + rsrc[i + dr];
+            }
+        } else {
+            for (int i = beg, j = l.beg, k = r.beg; i != end; i += inc, j += l.inc, k += r.inc) {
+                src[i] = l.src[j] + r.src[k];
+            }
         }
     }
 
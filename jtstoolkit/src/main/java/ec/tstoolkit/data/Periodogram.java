@@ -18,6 +18,7 @@ package ec.tstoolkit.data;
 
 import ec.tstoolkit.BaseException;
 import ec.tstoolkit.design.Development;
+import ec.tstoolkit.maths.Fft;
 import ec.tstoolkit.utilities.IntList;
 
 /**
@@ -68,6 +69,12 @@ public class Periodogram {
             return new double[]{f};
         }
     }
+    /**
+     * Minimal length of the series for which the periodogram is computed by
+     * FFT
+     */
+    public static final int FFT_LENGTH = 512;
+
     private double m_sy, m_sy2;
     private int m_n;
     private int[] m_w;
@@ -149,6 +156,10 @@ public class Periodogram {
         } else {
             m_p[0] = m_sy * m_sy / m_sy2;
         }
+        if (T >= FFT_LENGTH) {
+            calcfft();
+            return;
+        }
         double a = 0, b = 0;
         for (int i = 1; i < T1; ++i) {
             // compute next cos, sin
@@ -189,6 +200,27 @@ public class Periodogram {
         }
     }
 
+    /**
+     * Long series (daily data...): the periodogram is computed by FFT, in
+     * O(T*log(T)) instead of O(T*T) operations
+     */
+    private void calcfft() {
+        int T = m_data.length, T1 = (1 + T) / 2, T2 = 1 + T / 2;
+        double[] re = new double[T], im = new double[T];
+        for (int j = 0; j < T; ++j) {
+            if (!Double.isNaN(m_data[j])) {
+                re[j] = m_data[j];
+            }
+        }
+        Fft.dft(re, im);
+        for (int i = 1; i < T1; ++i) {
+            m_p[i] = 2 * (re[i] * re[i] + im[i] * im[i]) / m_sy2;
+        }
+        if (T1 != T2) {
+            m_p[T2 - 1] = re[T2 - 1] * re[T2 - 1] / m_sy2;
+        }
+    }
+
     private void calcs() {
         if (m_s != null || m_data == null) {
             return;
@@ -16,11 +16,15 @@
 */
 package ec.tstoolkit.eco;
 
+import java.io.Serializable;
+
 /**
  * 
  * @author Jean Palate
  */
-public class Determinant {
+public class Determinant implements Cloneable, Serializable {
+
+    private static final long serialVersionUID = 6398241627011153547L;
     private double m_detcar, m_detman = 1;
 
     /**
@@ -29,6 +33,15 @@ public class Determinant {
     public Determinant() {
     }
 
+    @Override
+    public Determinant clone() {
+        try {
+            return (Determinant) super.clone();
+        } catch (CloneNotSupportedException ex) {
+            throw new AssertionError();
+        }
+    }
+
     /**
      * 
      * @param var
@@ -37,6 +50,15 @@ public class Determinant {
  	update(var);
     }
 
+    /**
+     * Copies the content of another determinant
+     * @param det
+     */
+    public void copy(final Determinant det) {
+	m_detman = det.m_detman;
+	m_detcar = det.m_detcar;
+    }
+
     /**
          *
          */
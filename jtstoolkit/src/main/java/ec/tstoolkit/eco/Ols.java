@@ -17,6 +17,7 @@
 package ec.tstoolkit.eco;
 
 import ec.tstoolkit.BaseException;
+import ec.tstoolkit.data.BufferPool;
 import ec.tstoolkit.maths.matrices.Householder;
 import ec.tstoolkit.maths.matrices.Matrix;
 import ec.tstoolkit.data.DataBlock;
@@ -68,9 +69,20 @@ public class Ols {
      * @return
      */
     public boolean process(RegModel model) {
+        int nobs = model.getObsCount(), nvars = model.getVarsCount();
+        // the regression variables are a temporary buffer, decomposed in place
+        double[] xbuffer = nobs == 0 || nvars == 0 ? null : BufferPool.borrow(nobs * nvars);
+        try {
+            return process(model, xbuffer);
+        } finally {
+            BufferPool.release(xbuffer);
+        }
+    }
+
+    private boolean process(RegModel model, double[] xbuffer) {
         m_model = model;
         m_ll = new ConcentratedLikelihood();
-        Matrix x = model.variables();
+        Matrix x = xbuffer == null ? null : model.variables(xbuffer);
         if (x == null) {
             return false;
         }
@@ -79,7 +91,7 @@ public class Ols {
         DataBlock y = model.getY();
 
         if (nx > 0) {
-            Householder qr = new Householder(true);
+            Householder qr = new Householder(false);
             try {
                 qr.decompose(x);
                 double[] res = new double[n - qr.getRank()];
@@ -228,7 +228,20 @@ public class RegModel implements Cloneable {
 	int nc = getVarsCount(), nr = getObsCount();
 	if (nc == 0 || nr == 0)
 	    return null;
-	Matrix m = new Matrix(nr, nc);
+	return variables(new double[nr * nc]);
+    }
+
+    /**
+     * Same as variables(), using a given storage
+     * @param storage Array of getObsCount()*getVarsCount() elements. Its
+     * initial content is irrelevant
+     * @return
+     */
+    public Matrix variables(final double[] storage) {
+	int nc = getVarsCount(), nr = getObsCount();
+	if (nc == 0 || nr == 0)
+	    return null;
+	Matrix m = new Matrix(storage, nr, nc);
 	DataBlockIterator cols = m.columns();
 	DataBlock cur = cols.getData();
 	if (m_bmean) {
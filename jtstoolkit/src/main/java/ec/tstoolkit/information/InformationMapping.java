@@ -23,13 +23,21 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import ec.tstoolkit.utilities.Tasks;
 import ec.tstoolkit.utilities.WildCards;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -117,17 +125,104 @@ public class InformationMapping<S> {
         }
     }
 
+    /**
+     * Memoised information of a source (typically owned by the source itself).
+     * The expensive information are computed only once, even when they are
+     * requested concurrently: the other threads wait for the result. The
+     * values are softly referenced, so that they can be dropped under memory
+     * pressure; they are then re-computed if they are requested again. The
+     * memoised series are copied before being returned; the other information
+     * should be considered as read-only.
+     */
+    @ThreadSafe
+    public static final class Memo {
+
+        private static final Object NULL = new Object();
+
+        // FutureTask during the computation, SoftReference afterwards
+        private final ConcurrentHashMap<String, Object> values = new ConcurrentHashMap<>();
+
+        /**
+         * Removes all the memoised values
+         */
+        public void clear() {
+            values.clear();
+        }
+
+        /**
+         * @param id The identifier of the information
+         * @return True if the information is available (and not being
+         * computed)
+         */
+        public boolean contains(String id) {
+            Object cur = values.get(id);
+            return cur instanceof SoftReference && ((SoftReference<?>) cur).get() != null;
+        }
+
+        Object get(String id, Supplier<?> fn) {
+            while (true) {
+                Object cur = values.get(id);
+                if (cur instanceof SoftReference) {
+                    Object val = ((SoftReference<?>) cur).get();
+                    if (val != null) {
+                        return val == NULL ? null : val;
+                    }
+                    values.remove(id, cur);
+                } else if (cur != null) {
+                    try {
+                        return ((FutureTask<?>) cur).get();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return fn.get();
+                    } catch (ExecutionException ex) {
+                        throw unchecked(ex.getCause());
+                    }
+                } else {
+                    FutureTask<Object> task = new FutureTask<>(fn::get);
+                    if (values.putIfAbsent(id, task) == null) {
+                        task.run();
+                        try {
+                            Object val = task.get();
+                            values.replace(id, task, new SoftReference<>(val == null ? NULL : val));
+                            return val;
+                        } catch (InterruptedException | ExecutionException ex) {
+                            values.remove(id, task);
+                            throw unchecked(ex instanceof ExecutionException ? ex.getCause() : ex);
+                        }
+                    }
+                }
+            }
+        }
+
+        private static RuntimeException unchecked(Throwable err) {
+            if (err instanceof Error) {
+                throw (Error) err;
+            }
+            return err instanceof RuntimeException ? (RuntimeException) err : new RuntimeException(err);
+        }
+    }
+
     private static class TListFunction<S, T> {
 
         final Class<T> targetClass;
         final BiFunction<S, Integer, T> extractor;
         final int start, end;
+        final boolean expensive;
 
         TListFunction(Class<T> tclass, int start, int end, BiFunction<S, Integer, T> extractor) {
+            this(tclass, start, end, extractor, false);
+        }
+
+        TListFunction(Class<T> tclass, int start, int end, BiFunction<S, Integer, T> extractor, boolean expensive) {
             this.targetClass = tclass;
             this.extractor = extractor;
             this.start = start;
             this.end = end;
+            this.expensive = expensive;
+        }
+
+        TListFunction<S, T> expensive(boolean expensive) {
+            return new TListFunction<>(targetClass, start, end, extractor, expensive);
         }
     }
 
@@ -135,10 +230,20 @@ public class InformationMapping<S> {
 
         final Class<T> targetClass;
         final Function<S, T> extractor;
+        final boolean expensive;
 
         TFunction(Class<T> tclass, Function<S, T> extractor) {
+            this(tclass, extractor, false);
+        }
+
+        TFunction(Class<T> tclass, Function<S, T> extractor, boolean expensive) {
             this.targetClass = tclass;
             this.extractor = extractor;
+            this.expensive = expensive;
+        }
+
+        TFunction<S, T> expensive(boolean expensive) {
+            return new TFunction<>(targetClass, extractor, expensive);
         }
     }
 
@@ -234,6 +339,42 @@ public class InformationMapping<S> {
         }
     }
 
+    /**
+     * Declares that an information (or a list of information, identified by
+     * its prefix) is expensive to compute. Expensive information are memoised
+     * by the sources that provide a memo, and they can be prefetched.
+     *
+     * @param name The name of the information or the prefix of the list
+     * @param expensive
+     * @return False if the information is not defined
+     */
+    public boolean setExpensive(String name, boolean expensive) {
+        synchronized (this) {
+            TFunction<S, ?> fn = map.get(name);
+            if (fn != null) {
+                map.put(name, fn.expensive(expensive));
+                return true;
+            }
+            TListFunction<S, ?> lfn = lmap.get(name);
+            if (lfn != null) {
+                lmap.put(name, lfn.expensive(expensive));
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public boolean isExpensive(String name) {
+        synchronized (this) {
+            TFunction<S, ?> fn = map.get(name);
+            if (fn != null) {
+                return fn.expensive;
+            }
+            TListFunction<S, ?> lfn = lmap.get(name);
+            return lfn != null && lfn.expensive;
+        }
+    }
+
     public void fillDictionary(String prefix, Map<String, Class> dic, boolean compact) {
         synchronized (this) {
             for (Entry<String, TFunction<S, ?>> entry : map.entrySet()) {
@@ -302,41 +443,69 @@ public class InformationMapping<S> {
     }
 
     public <T> T getData(S source, String id, Class<T> tclass) {
+        return getData(source, null, id, tclass);
+    }
+
+    /**
+     * Gets an information of a source. The extractors are applied outside the
+     * lock of the mapping, so that the mapping can be used concurrently.
+     *
+     * @param <T>
+     * @param source The source
+     * @param memo The memo of the source, which will contain the expensive
+     * information. May be null (no memoisation)
+     * @param id The identifier of the information
+     * @param tclass The class of the information
+     * @return
+     */
+    public <T> T getData(S source, Memo memo, String id, Class<T> tclass) {
+        Supplier<?> fn = null;
+        boolean expensive = false;
         synchronized (this) {
-            TFunction<S, ?> fn = map.get(id);
-            if (fn != null) {
-                if (!tclass.isAssignableFrom(fn.targetClass)) {
+            TFunction<S, ?> tfn = map.get(id);
+            if (tfn != null) {
+                if (!tclass.isAssignableFrom(tfn.targetClass)) {
                     return null;
-                } else {
-                    return (T) fn.extractor.apply(source);
                 }
-            }
-            for (Entry<String, TListFunction<S, ?>> x : lmap.entrySet()) {
-                TListFunction<S, ?> value = x.getValue();
-                if (tclass.isAssignableFrom(value.targetClass)) {
-                    int idx = listItem(x.getKey(), id);
-                    if (idx == Integer.MIN_VALUE)
-                        continue;
-                    if (value.start == value.end) {
-                        return (T) value.extractor.apply(source, idx);
-                    } else if (idx >= value.start && idx < value.end) {
-                        return (T) value.extractor.apply(source, idx);
+                fn = () -> tfn.extractor.apply(source);
+                expensive = tfn.expensive;
+            } else {
+                for (Entry<String, TListFunction<S, ?>> x : lmap.entrySet()) {
+                    TListFunction<S, ?> value = x.getValue();
+                    if (tclass.isAssignableFrom(value.targetClass)) {
+                        int idx = listItem(x.getKey(), id);
+                        if (idx == Integer.MIN_VALUE) {
+                            continue;
+                        }
+                        if (value.start == value.end || (idx >= value.start && idx < value.end)) {
+                            fn = () -> value.extractor.apply(source, idx);
+                            expensive = value.expensive;
+                            break;
+                        }
                     }
                 }
             }
         }
-        return null;
+        return fn == null ? null : (T) apply(memo, id, expensive, fn);
     }
 
     public <T> Map<String, T> searchAll(S source, String pattern, Class<T> tclass) {
-        LinkedHashMap<String, T> list = new LinkedHashMap<>();
+        return searchAll(source, null, pattern, tclass);
+    }
+
+    public <T> Map<String, T> searchAll(S source, Memo memo, String pattern, Class<T> tclass) {
+        LinkedHashMap<String, Supplier<?>> fns = new LinkedHashMap<>();
+        HashSet<String> expensive = new HashSet<>();
         WildCards wc = new WildCards(pattern);
         synchronized (this) {
             for (Entry<String, TFunction<S, ?>> x : map.entrySet()) {
                 if (wc.match(x.getKey())) {
                     TFunction<S, ?> fn = x.getValue();
                     if (tclass.isAssignableFrom(fn.targetClass)) {
-                        list.put(x.getKey(), (T) fn.extractor.apply(source));
+                        fns.put(x.getKey(), () -> fn.extractor.apply(source));
+                        if (fn.expensive) {
+                            expensive.add(x.getKey());
+                        }
                     }
                 }
             }
@@ -347,12 +516,63 @@ public class InformationMapping<S> {
                     for (int i = fn.start; i <= fn.end; ++i) {
                         String key = listKey(x.getKey(), i);
                         if (wc.match(key)) {
-                            list.put(key, (T) fn.extractor.apply(source, i));
+                            int item = i;
+                            fns.put(key, () -> fn.extractor.apply(source, item));
+                            if (fn.expensive) {
+                                expensive.add(key);
+                            }
                         }
                     }
                 }
             }
         }
+        LinkedHashMap<String, T> list = new LinkedHashMap<>();
+        for (Entry<String, Supplier<?>> x : fns.entrySet()) {
+            list.put(x.getKey(), (T) apply(memo, x.getKey(), expensive.contains(x.getKey()), x.getValue()));
+        }
         return list;
     }
+
+    /**
+     * Computes in parallel the expensive information of a source, which are
+     * put in its memo. For the lists of information, only the default item
+     * (lists with a parameter) or the items of the list are computed. The
+     * method returns when all the information have been computed (see
+     * {@link Tasks#invokeAll}).
+     *
+     * @param source The source
+     * @param memo The memo of the source
+     * @param executor The executor used for the computations
+     */
+    public void prefetch(S source, Memo memo, ExecutorService executor) {
+        List<Callable<Object>> tasks = new ArrayList<>();
+        synchronized (this) {
+            for (Entry<String, TFunction<S, ?>> x : map.entrySet()) {
+                TFunction<S, ?> fn = x.getValue();
+                if (fn.expensive) {
+                    tasks.add(() -> memo.get(x.getKey(), () -> fn.extractor.apply(source)));
+                }
+            }
+            for (Entry<String, TListFunction<S, ?>> x : lmap.entrySet()) {
+                TListFunction<S, ?> fn = x.getValue();
+                if (fn.expensive) {
+                    int end = fn.start == fn.end ? fn.end + 1 : fn.end;
+                    for (int i = fn.start; i < end; ++i) {
+                        int item = i;
+                        tasks.add(() -> memo.get(listKey(x.getKey(), item), () -> fn.extractor.apply(source, item)));
+                    }
+                }
+            }
+        }
+        Tasks.invokeAll(executor, tasks);
+    }
+
+    private static Object apply(Memo memo, String id, boolean expensive, Supplier<?> fn) {
+        if (memo == null || !expensive) {
+            return fn.get();
+        }
+        Object val = memo.get(id, fn);
+        // the users often modify the series they get
+        return val instanceof TsData ? ((TsData) val).clone() : val;
+    }
 }
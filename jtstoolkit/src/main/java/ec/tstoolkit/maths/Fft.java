@@ -99,4 +99,95 @@ public class Fft {
 	}
     }
 
+    /**
+     * In-place discrete Fourier transform of complex data of any length:
+     * X(k) = sum(x(j)*exp(-2*i*pi*j*k/n)).
+     * The transform is computed in O(n*log(n)) operations: by a radix-2
+     * algorithm when n is a power of 2, by the Bluestein (chirp-z) algorithm
+     * otherwise.
+     *
+     * @param re The real parts of the data (and of the transform)
+     * @param im The imaginary parts of the data (and of the transform)
+     */
+    public static void dft(final double[] re, final double[] im) {
+        final int n = re.length;
+        if (n <= 1) {
+            return;
+        }
+        if ((n & (n - 1)) == 0) {
+            radix2(re, im, false);
+            return;
+        }
+        int m = Integer.highestOneBit(2 * n - 1);
+        if (m < 2 * n - 1) {
+            m <<= 1;
+        }
+        // chirp w(k) = exp(-i*pi*k*k/n); k*k is reduced modulo 2n for accuracy
+        double[] wr = new double[n], wi = new double[n];
+        for (int k = 0; k < n; ++k) {
+            double a = Math.PI * (((long) k * k) % (2L * n)) / n;
+            wr[k] = Math.cos(a);
+            wi[k] = -Math.sin(a);
+        }
+        double[] ar = new double[m], ai = new double[m], br = new double[m], bi = new double[m];
+        for (int k = 0; k < n; ++k) {
+            ar[k] = re[k] * wr[k] - im[k] * wi[k];
+            ai[k] = re[k] * wi[k] + im[k] * wr[k];
+        }
+        br[0] = wr[0];
+        bi[0] = -wi[0];
+        for (int k = 1; k < n; ++k) {
+            br[k] = br[m - k] = wr[k];
+            bi[k] = bi[m - k] = -wi[k];
+        }
+        radix2(ar, ai, false);
+        radix2(br, bi, false);
+        for (int k = 0; k < m; ++k) {
+            double r = ar[k] * br[k] - ai[k] * bi[k];
+            ai[k] = ar[k] * bi[k] + ai[k] * br[k];
+            ar[k] = r;
+        }
+        radix2(ar, ai, true);
+        for (int k = 0; k < n; ++k) {
+            double cr = ar[k] / m, ci = ai[k] / m;
+            re[k] = cr * wr[k] - ci * wi[k];
+            im[k] = cr * wi[k] + ci * wr[k];
+        }
+    }
+
+    private static void radix2(final double[] re, final double[] im, final boolean back) {
+        final int n = re.length;
+        for (int i = 0, j = 0; i < n; ++i) {
+            if (j > i) {
+                double t = re[i];
+                re[i] = re[j];
+                re[j] = t;
+                t = im[i];
+                im[i] = im[j];
+                im[j] = t;
+            }
+            int q = n >> 1;
+            while (q >= 1 && j >= q) {
+                j -= q;
+                q >>= 1;
+            }
+            j += q;
+        }
+        for (int m = 1; m < n; m <<= 1) {
+            int tm = m << 1;
+            double theta = (back ? Math.PI : -Math.PI) / m;
+            for (int j = 0; j < m; ++j) {
+                double wr = Math.cos(theta * j), wi = Math.sin(theta * j);
+                for (int k = j; k < n; k += tm) {
+                    int l = k + m;
+                    double tr = wr * re[l] - wi * im[l], ti = wr * im[l] + wi * re[l];
+                    re[l] = re[k] - tr;
+                    im[l] = im[k] - ti;
+                    re[k] += tr;
+                    im[k] += ti;
+                }
+            }
+        }
+    }
+
 }
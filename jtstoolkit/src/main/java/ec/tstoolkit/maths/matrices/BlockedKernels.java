@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths.matrices;
+
+import ec.tstoolkit.design.Development;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Blocked (cache-aware) kernels for the products of large dense matrices,
+ * stored in column-major order. The blocks of the left operand are kept in the
+ * cache while the columns of the results are updated. Above a given size, the
+ * columns of the results are computed in parallel (common fork-join pool).
+ *
+ * Each element of the results is obtained by cumulating the elementary
+ * products in the same order as the usual (unblocked) algorithms, so that the
+ * results are identical.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+final class BlockedKernels {
+
+    private BlockedKernels() {
+    }
+
+    /**
+     * Number of rows, of inner items and of columns in a block
+     */
+    static final int ROW_BLOCK = 256, INNER_BLOCK = 64, COLUMN_BLOCK = 16;
+
+    /**
+     * Minimal number of multiplications for using the blocked kernels
+     */
+    static final long BLOCKED_THRESHOLD = 1 << 15;
+    /**
+     * Minimal number of multiplications for using parallel computations
+     */
+    static final long PARALLEL_THRESHOLD = 1 << 21;
+
+    static boolean isBlocked(int m, int n, int k) {
+        return (long) m * n * k >= BLOCKED_THRESHOLD;
+    }
+
+    private static int blocks(int n) {
+        return (n + COLUMN_BLOCK - 1) / COLUMN_BLOCK;
+    }
+
+    private static boolean isParallel(long nmul, int ncols) {
+        return nmul >= PARALLEL_THRESHOLD && ncols > 1
+                && Runtime.getRuntime().availableProcessors() > 1;
+    }
+
+    /**
+     * C = A * B. C must be set to 0 on entry.
+     *
+     * @param a m x k matrix (column-major)
+     * @param b k x n matrix (column-major)
+     * @param c m x n matrix (column-major)
+     * @param m Number of rows of A and C
+     * @param n Number of columns of B and C
+     * @param k Number of columns of A (rows of B)
+     */
+    static void gemm(double[] a, double[] b, double[] c, int m, int n, int k) {
+        if (isParallel((long) m * n * k, n)) {
+            IntStream.range(0, blocks(n)).parallel().forEach(
+                    q -> gemm(a, b, c, m, k, q * COLUMN_BLOCK, Math.min(n, (q + 1) * COLUMN_BLOCK)));
+        } else {
+            gemm(a, b, c, m, k, 0, n);
+        }
+    }
+
+    private static void gemm(double[] a, double[] b, double[] c, int m, int k, int j0, int j1) {
+        for (int i0 = 0; i0 < m; i0 += ROW_BLOCK) {
+            int i1 = Math.min(m, i0 + ROW_BLOCK);
+            for (int k0 = 0; k0 < k; k0 += INNER_BLOCK) {
+                int k1 = Math.min(k, k0 + INNER_BLOCK);
+                for (int j = j0; j < j1; ++j) {
+                    int cj = j * m, bj = j * k;
+                    int l = k0;
+                    // 4 columns of A by pass (c(i,j) = c(i,j) + a(i,l)*b(l,j) + ...)
+                    for (; l + 3 < k1; l += 4) {
+                        double b0 = b[bj + l], b1 = b[bj + l + 1], b2 = b[bj + l + 2], b3 = b[bj + l + 3];
+                        int a0 = l * m, a1 = a0 + m, a2 = a1 + m, a3 = a2 + m;
+                        for (int i = i0; i < i1; ++i) {
+                            c[cj + i] = c[cj + i] + a[a0 + i] * b0 + a[a1 + i] * b1 + a[a2 + i] * b2 + a[a3 + i] * b3;
+                        }
+                    }
+                    for (; l < k1; ++l) {
+                        double bl = b[bj + l];
+                        int al = l * m;
+                        for (int i = i0; i < i1; ++i) {
+                            c[cj + i] += a[al + i] * bl;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Lower triangular part of X'X.
+     *
+     * @param x m x n matrix (column-major)
+     * @param s n x n matrix (column-major), set to 0 on entry. Only the lower
+     * part is computed
+     * @param m Number of rows of X
+     * @param n Number of columns of X
+     */
+    static void syrkt(double[] x, double[] s, int m, int n) {
+        if (isParallel((long) m * n * (n + 1) / 2, n)) {
+            IntStream.range(0, blocks(n)).parallel().forEach(
+                    q -> syrkt(x, s, m, n, q * COLUMN_BLOCK, Math.min(n, (q + 1) * COLUMN_BLOCK)));
+        } else {
+            syrkt(x, s, m, n, 0, n);
+        }
+    }
+
+    private static void syrkt(double[] x, double[] s, int m, int n, int j0, int j1) {
+        for (int r0 = 0; r0 < m; r0 += ROW_BLOCK) {
+            int r1 = Math.min(m, r0 + ROW_BLOCK);
+            for (int j = j0; j < j1; ++j) {
+                int xj = j * m, sj = j * n;
+                int i = j;
+                // 4 scalar products by pass
+                for (; i + 3 < n; i += 4) {
+                    int x0 = i * m, x1 = x0 + m, x2 = x1 + m, x3 = x2 + m;
+                    double z0 = s[sj + i], z1 = s[sj + i + 1], z2 = s[sj + i + 2], z3 = s[sj + i + 3];
+                    for (int r = r0; r < r1; ++r) {
+                        double xr = x[xj + r];
+                        z0 += x[x0 + r] * xr;
+                        z1 += x[x1 + r] * xr;
+                        z2 += x[x2 + r] * xr;
+                        z3 += x[x3 + r] * xr;
+                    }
+                    s[sj + i] = z0;
+                    s[sj + i + 1] = z1;
+                    s[sj + i + 2] = z2;
+                    s[sj + i + 3] = z3;
+                }
+                for (; i < n; ++i) {
+                    int xi = i * m;
+                    double z = s[sj + i];
+                    for (int r = r0; r < r1; ++r) {
+                        z += x[xi + r] * x[xj + r];
+                    }
+                    s[sj + i] = z;
+                }
+            }
+        }
+    }
+
+    /**
+     * Lower triangular part of XX'.
+     *
+     * @param x m x n matrix (column-major)
+     * @param s m x m matrix (column-major), set to 0 on entry. Only the lower
+     * part is computed
+     * @param m Number of rows of X
+     * @param n Number of columns of X
+     */
+    static void syrkn(double[] x, double[] s, int m, int n) {
+        if (isParallel((long) n * m * (m + 1) / 2, m)) {
+            IntStream.range(0, blocks(m)).parallel().forEach(
+                    q -> syrkn(x, s, m, n, q * COLUMN_BLOCK, Math.min(m, (q + 1) * COLUMN_BLOCK)));
+        } else {
+            syrkn(x, s, m, n, 0, m);
+        }
+    }
+
+    private static void syrkn(double[] x, double[] s, int m, int n, int j0, int j1) {
+        for (int i0 = 0; i0 < m; i0 += ROW_BLOCK) {
+            int i1 = Math.min(m, i0 + ROW_BLOCK);
+            for (int k0 = 0; k0 < n; k0 += INNER_BLOCK) {
+                int k1 = Math.min(n, k0 + INNER_BLOCK);
+                for (int j = j0; j < j1; ++j) {
+                    int ibeg = Math.max(i0, j);
+                    if (ibeg >= i1) {
+                        continue;
+                    }
+                    int sj = j * m;
+                    int l = k0;
+                    for (; l + 3 < k1; l += 4) {
+                        int x0 = l * m, x1 = x0 + m, x2 = x1 + m, x3 = x2 + m;
+                        double y0 = x[x0 + j], y1 = x[x1 + j], y2 = x[x2 + j], y3 = x[x3 + j];
+                        for (int i = ibeg; i < i1; ++i) {
+                            s[sj + i] = s[sj + i] + x[x0 + i] * y0 + x[x1 + i] * y1 + x[x2 + i] * y2 + x[x3 + i] * y3;
+                        }
+                    }
+                    for (; l < k1; ++l) {
+                        int xl = l * m;
+                        double xjl = x[xl + j];
+                        for (int i = ibeg; i < i1; ++i) {
+                            s[sj + i] += x[xl + i] * xjl;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a task on each column of a range, in parallel if the number of
+     * multiplications is large enough.
+     *
+     * @param nmul Estimated number of multiplications
+     * @param j0 First column (included)
+     * @param j1 Last column (excluded)
+     * @param fn The task
+     */
+    static void forEachColumn(long nmul, int j0, int j1, IntConsumer fn) {
+        if (isParallel(nmul, j1 - j0)) {
+            IntStream.range(j0, j1).parallel().forEach(fn);
+        } else {
+            for (int j = j0; j < j1; ++j) {
+                fn.accept(j);
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package ec.tstoolkit.maths.matrices;
 
+import ec.tstoolkit.data.BufferPool;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.IDataBlock;
 import ec.tstoolkit.data.IReadDataBlock;
@@ -29,6 +30,14 @@ import ec.tstoolkit.design.Development;
 public class Householder extends AbstractLinearSystemSolver implements
         IQrDecomposition {
 
+    /**
+     * Number of columns in a panel. The blocked algorithm is used for matrices
+     * with at least 2 panels and whose size exceeds the usual cache size. For
+     * smaller matrices, the unblocked algorithm is faster.
+     */
+    static final int BLOCK = 32;
+    static final long BLOCKED_SIZE = 1 << 21;
+
     private double[] m_qr, m_rdiag;
 
     private int[] m_unused;
@@ -138,44 +147,73 @@ public class Householder extends AbstractLinearSystemSolver implements
         // Main loop.
         double eps = getEpsilon();
         int len = m_qr.length;
-        for (int l = 0, k = 0, km = 0; k < m_n; ++k) {
-            // Compute 2-norm of k-th column .
-            DataBlock col = new DataBlock(m_qr, km + l, km + m_m, 1);
-            double nrm = col.nrm2();
-
-            if (nrm > eps) {
-                // Form k-th Householder vector. v(k)=x(k)+/-norm(x)
-                if (m_qr[l + km] < -eps) {
-                    nrm = -nrm;
-                }
-                for (int i = l; i < m_m; ++i) {
-                    m_qr[i + km] /= nrm;
-                }
-                m_qr[l + km] += 1.0;
-                // rdiag contains the main diagonal of the R matrix
-                m_rdiag[nrdiag++] = -nrm;
-		// in this implementation:
-                // if a(k,k) < 0 then a(k,k) = -(a(k,k) - nrm) / nrm, else
-                // a(k,k)=( a(k,k) + nrm) / nrm
+        // large matrices are processed by panels of BLOCK columns. The
+        // transformations of a panel are applied to the remaining columns
+        // in one pass (WY representation)
+        boolean blocked = m_n >= 2 * BLOCK && m_m >= m_n && (long) m_m * m_n >= BLOCKED_SIZE;
+        int l = 0, k = 0, km = 0;
+        while (k < m_n) {
+            int p0 = l, pend = len / m_m;
+            if (blocked) {
+                pend = Math.min(pend, l + BLOCK);
+            }
+            for (; l < pend; ++k) {
+                // Compute 2-norm of k-th column .
+                DataBlock col = new DataBlock(m_qr, km + l, km + m_m, 1);
+                double nrm = col.nrm2();
 
-                // Apply transformation to remaining columns.
-                for (int jm = km + m_m; jm < len; jm += m_m) {
-                    double s = 0.0;
-                    for (int i = l; i < m_m; ++i) {
-                        s += m_qr[i + km] * m_qr[i + jm];
+                if (nrm > eps) {
+                    // Form k-th Householder vector. v(k)=x(k)+/-norm(x)
+                    if (m_qr[l + km] < -eps) {
+                        nrm = -nrm;
                     }
-                    s /= -m_qr[l + km];
                     for (int i = l; i < m_m; ++i) {
-                        m_qr[i + jm] += s * m_qr[i + km];
+                        m_qr[i + km] /= nrm;
                     }
+                    m_qr[l + km] += 1.0;
+                    // rdiag contains the main diagonal of the R matrix
+                    m_rdiag[nrdiag++] = -nrm;
+                    // in this implementation:
+                    // if a(k,k) < 0 then a(k,k) = -(a(k,k) - nrm) / nrm, else
+                    // a(k,k)=( a(k,k) + nrm) / nrm
+
+                    // Apply transformation to remaining columns.
+                    // The update of a column and the scalar product needed by the
+                    // next one are computed in the same pass
+                    int jm = km + m_m, jend = pend * m_m;
+                    if (jm < jend) {
+                        double vl = -m_qr[l + km];
+                        double s = 0.0;
+                        for (int i = l; i < m_m; ++i) {
+                            s += m_qr[i + km] * m_qr[i + jm];
+                        }
+                        for (int jn = jm + m_m; jn < jend; jm = jn, jn += m_m) {
+                            s /= vl;
+                            double t = 0.0;
+                            for (int i = l; i < m_m; ++i) {
+                                double v = m_qr[i + km];
+                                m_qr[i + jm] += s * v;
+                                t += v * m_qr[i + jn];
+                            }
+                            s = t;
+                        }
+                        s /= vl;
+                        for (int i = l; i < m_m; ++i) {
+                            m_qr[i + jm] += s * m_qr[i + km];
+                        }
+                    }
+                    km += m_m;
+                    ++l;
+                } else {
+                    unused[nunused++] = k;
+                    // move all the data to the left
+                    len -= m_m;
+                    System.arraycopy(m_qr, km + m_m, m_qr, km, len - km);
+                    --pend;
                 }
-                km += m_m;
-                ++l;
-            } else {
-                unused[nunused++] = k;
-                // move all the data to the left
-                len -= m_m;
-                System.arraycopy(m_qr, km + m_m, m_qr, km, len - km);
+            }
+            if (l > p0 && pend * m_m < len) {
+                applyBlock(p0, l, pend, len / m_m);
             }
         }
 
@@ -193,6 +231,98 @@ public class Householder extends AbstractLinearSystemSolver implements
         }
     }
 
+    /**
+     * Applies the block reflector I - V*T'*V' (transpose of the product of
+     * the transformations p0 to p1) to the columns c0 to c1
+     */
+    private void applyBlock(int p0, int p1, int c0, int c1) {
+        int nb = p1 - p0, mv = m_m - p0;
+        // copy of the householder vectors (rows p0 to m_m), with explicit zeros
+        double[] v = BufferPool.borrowClean(nb * mv);
+        for (int q = 0, vq = 0; q < nb; ++q, vq += mv) {
+            System.arraycopy(m_qr, (p0 + q) * m_m + p0 + q, v, vq + q, mv - q);
+        }
+        // T is upper triangular (forward, column-wise storage; see lapack
+        // dlarft). H(p0)...H(p1-1) = I - V*T*V', with H(i) = I - v(i)*v(i)'/v(i)(i)
+        double[] t = BufferPool.borrow(nb * nb);
+        double[] z = new double[nb];
+        for (int q = 0, vq = 0; q < nb; ++q, vq += mv) {
+            double tau = 1 / v[vq + q];
+            for (int r = 0, vr = 0; r < q; ++r, vr += mv) {
+                double s = 0;
+                for (int i = q; i < mv; ++i) {
+                    s += v[vr + i] * v[vq + i];
+                }
+                z[r] = s;
+            }
+            for (int r = 0; r < q; ++r) {
+                double s = 0;
+                for (int c = r; c < q; ++c) {
+                    s += t[c * nb + r] * z[c];
+                }
+                t[q * nb + r] = -tau * s;
+            }
+            t[q * nb + q] = tau;
+        }
+        double[] qr = m_qr;
+        long nmul = 2L * (c1 - c0) * nb * mv;
+        BlockedKernels.forEachColumn(nmul, c0, c1, j -> {
+            int aj = j * m_m + p0;
+            double[] w = new double[nb];
+            // w = V'a (4 scalar products by pass)
+            int q = 0;
+            for (; q + 3 < nb; q += 4) {
+                int v0 = q * mv, v1 = v0 + mv, v2 = v1 + mv, v3 = v2 + mv;
+                double w0 = 0, w1 = 0, w2 = 0, w3 = 0;
+                for (int i = q; i < mv; ++i) {
+                    double ai = qr[aj + i];
+                    w0 += v[v0 + i] * ai;
+                    w1 += v[v1 + i] * ai;
+                    w2 += v[v2 + i] * ai;
+                    w3 += v[v3 + i] * ai;
+                }
+                w[q] = w0;
+                w[q + 1] = w1;
+                w[q + 2] = w2;
+                w[q + 3] = w3;
+            }
+            for (; q < nb; ++q) {
+                int vq = q * mv;
+                double s = 0;
+                for (int i = q; i < mv; ++i) {
+                    s += v[vq + i] * qr[aj + i];
+                }
+                w[q] = s;
+            }
+            // w = T'w
+            for (q = nb - 1; q >= 0; --q) {
+                double s = 0;
+                for (int r = 0; r <= q; ++r) {
+                    s += t[q * nb + r] * w[r];
+                }
+                w[q] = s;
+            }
+            // a = a - V w (4 vectors by pass)
+            q = 0;
+            for (; q + 3 < nb; q += 4) {
+                int v0 = q * mv, v1 = v0 + mv, v2 = v1 + mv, v3 = v2 + mv;
+                double w0 = w[q], w1 = w[q + 1], w2 = w[q + 2], w3 = w[q + 3];
+                for (int i = q; i < mv; ++i) {
+                    qr[aj + i] -= v[v0 + i] * w0 + v[v1 + i] * w1 + v[v2 + i] * w2 + v[v3 + i] * w3;
+                }
+            }
+            for (; q < nb; ++q) {
+                int vq = q * mv;
+                double wq = w[q];
+                for (int i = q; i < mv; ++i) {
+                    qr[aj + i] -= v[vq + i] * wq;
+                }
+            }
+        });
+        BufferPool.release(t);
+        BufferPool.release(v);
+    }
+
     private void init(Matrix m) {
         m_m = m.getRowsCount();
         m_norig = m_n = m.getColumnsCount();
@@ -231,7 +361,7 @@ public class Householder extends AbstractLinearSystemSolver implements
 
         // Compute Y = transpose(Q)*B
         // copy b
-        double[] y = new double[x.getLength()];
+        double[] y = BufferPool.borrow(x.getLength());
         x.copyTo(y, 0);
         applyQt(y);
         if (res != null) {
@@ -257,6 +387,7 @@ public class Householder extends AbstractLinearSystemSolver implements
             // Solve R*X = Y;
         }
         b.copyFrom(y, 0);
+        BufferPool.release(y);
     }
 
     /**
@@ -1006,6 +1006,10 @@ public class Matrix implements Cloneable {
 
         int nr = nrows_, nc = Y.ncols_, nk = ncols_;
         Matrix s = new Matrix(nr, nc);
+        if (BlockedKernels.isBlocked(nr, nc, nk)) {
+            BlockedKernels.gemm(data_, Y.data_, s.data_, nr, nc, nk);
+            return s;
+        }
         double[] tmp = new double[nk];
         for (int i = 0; i < nr; ++i) {
             for (int j = 0, k = i; j < nk; ++j, k += nr) {
@@ -738,18 +738,31 @@ public class SubMatrix implements Cloneable {
      * @param n
      */
     public void product(final SubMatrix m, final SubMatrix n) {
+        int nr = m.m_nrows, nk = m.m_ncols, nc = n.m_ncols;
+        if (BlockedKernels.isBlocked(nr, nc, nk)) {
+            Matrix p = new Matrix(nr, nc);
+            BlockedKernels.gemm(new Matrix(m).data_, new Matrix(n).data_, p.data_, nr, nc, nk);
+            copy(p.all());
+            return;
+        }
         if (m.getColumnsCount() < PROD_THRESHOLD * (m.getRowsCount())) {
             DataBlockIterator cols = columns();
             DataBlockIterator rcols = n.columns();
-            DataBlockIterator lcols = m.columns();
+            DataBlock[] lcols = new DataBlock[nk];
+            for (int k = 0; k < nk; ++k) {
+                lcols[k] = m.column(k);
+            }
 
-            DataBlock col = cols.getData(), rcol = rcols.getData(), lcol = lcols.getData();
+            DataBlock col = cols.getData(), rcol = rcols.getData();
             do {
-                lcols.begin();
-                int k = 0;
-                col.setAY(rcol.get(k++), lcol);
-                while (lcols.next()) {
-                    col.addAY(rcol.get(k++), lcol);
+                col.setAY(rcol.get(0), lcols[0]);
+                // columns of m are added two by two (one pass on col)
+                int k = 1;
+                for (; k + 1 < nk; k += 2) {
+                    col.addAY(rcol.get(k), lcols[k], rcol.get(k + 1), lcols[k + 1]);
+                }
+                if (k < nk) {
+                    col.addAY(rcol.get(k), lcols[k]);
                 }
             } while (cols.next() && rcols.next());
         } else {
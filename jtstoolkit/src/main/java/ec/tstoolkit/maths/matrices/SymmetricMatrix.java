@@ -878,8 +878,13 @@ public final class SymmetricMatrix {
      */
     public static Matrix XtX(final Matrix x) throws MatrixException {
         int n = x.getColumnsCount();
-        DataBlockIterator rows = x.columns(), cols = x.columns();
         Matrix o = new Matrix(n, n);
+        if (BlockedKernels.isBlocked(x.nrows_, n, n)) {
+            BlockedKernels.syrkt(x.data_, o.data_, x.nrows_, n);
+            fromLower(o);
+            return o;
+        }
+        DataBlockIterator rows = x.columns(), cols = x.columns();
         int idx = 0, c = 0;
         DataBlock col = cols.getData();
         DataBlock row = rows.getData();
@@ -902,6 +907,10 @@ public final class SymmetricMatrix {
      * @param m c x c sub-matrix.
      */
     public static void XtX(final SubMatrix x, final SubMatrix m) {
+        if (BlockedKernels.isBlocked(x.m_nrows, x.m_ncols, x.m_ncols)) {
+            m.copy(XtX(new Matrix(x)).all());
+            return;
+        }
         DataBlockIterator rows = x.columns(), cols = x.columns(), rcols = m
                 .columns();
         int c = 0;
@@ -926,8 +935,13 @@ public final class SymmetricMatrix {
      */
     public static Matrix XXt(final Matrix x) throws MatrixException {
         int n = x.getRowsCount();
-        DataBlockIterator rows = x.rows(), cols = x.rows();
         Matrix o = new Matrix(n, n);
+        if (BlockedKernels.isBlocked(n, n, x.ncols_)) {
+            BlockedKernels.syrkn(x.data_, o.data_, n, x.ncols_);
+            fromLower(o);
+            return o;
+        }
+        DataBlockIterator rows = x.rows(), cols = x.rows();
         int idx = 0, c = 0;
         DataBlock col = cols.getData(), row = rows.getData();
         do {
@@ -949,6 +963,10 @@ public final class SymmetricMatrix {
      * @param m r x r sub-matrix.
      */
     public static void XXt(final SubMatrix x, final SubMatrix m) {
+        if (BlockedKernels.isBlocked(x.m_nrows, x.m_nrows, x.m_ncols)) {
+            m.copy(XXt(new Matrix(x)).all());
+            return;
+        }
         DataBlockIterator rows = x.rows(), cols = x.rows(), rcols = m
                 .columns();
         int c = 0;
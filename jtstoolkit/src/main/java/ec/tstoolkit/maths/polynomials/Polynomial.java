@@ -23,6 +23,7 @@ import ec.tstoolkit.design.Immutable;
 import ec.tstoolkit.maths.Complex;
 import ec.tstoolkit.maths.ComplexBuilder;
 import ec.tstoolkit.maths.ComplexMath;
+import ec.tstoolkit.maths.IntUtilities;
 import ec.tstoolkit.maths.Simplifying;
 import ec.tstoolkit.utilities.Arrays2;
 import java.util.Arrays;
@@ -555,6 +556,8 @@ public final class Polynomial implements IReadDataBlock {
     private final double[] m_c;
     private final int degree;
     private final AtomicReference<Complex[]> defRoots = new AtomicReference<>(); // caching the roots
+    // factors of the polynomial (when it is a product), used to compute its roots
+    private volatile Polynomial[] factors;
     private static double EPSILON = 1e-9;
     /**
      * The static member defines the Root finding algorithm used to find the
@@ -950,12 +953,114 @@ public final class Polynomial implements IReadDataBlock {
     public Complex[] roots() {
         Complex[] result = defRoots.get();
         if (result == null) {
-            result = roots(getDefRootsSearcher());
+            result = structuredRoots();
+            if (result == null) {
+                result = roots(getDefRootsSearcher());
+            }
             defRoots.set(result);
+            factors = null;
         }
         return result;
     }
 
+    /**
+     * Computes the roots of the polynomial without iterative algorithm when it
+     * has a known structure:<br>
+     * - products of polynomials (typically regular and seasonal factors): the
+     * roots of the factors are computed separately;<br>
+     * - linear or quadratic polynomials;<br>
+     * - polynomials in x^n (like 1 - c*x^n): the roots are the n-th roots of
+     * the roots of the reduced polynomial.
+     *
+     * @return The roots or null if the polynomial has no known structure
+     */
+    private Complex[] structuredRoots() {
+        Polynomial[] f = factors;
+        if (f != null) {
+            Complex[] roots = new Complex[0];
+            for (int i = 0; i < f.length; ++i) {
+                Complex[] cur = f[i].roots();
+                if (cur == null) {
+                    return null;
+                }
+                roots = Arrays2.concat(roots, cur);
+            }
+            return roots;
+        }
+        Polynomial tmp = this.adjustDegree();
+        int n = tmp.getDegree();
+        double c0 = tmp.get(0);
+        switch (n) {
+            case 0:
+                return new Complex[0];
+            case 1:
+                return new Complex[]{Complex.cart(-c0 / tmp.get(1))};
+            case 2:
+                return quadraticRoots(c0, tmp.get(1), tmp.get(2));
+        }
+        if (c0 == 0) {
+            return null;
+        }
+        int g = 0;
+        for (int i = 1; i <= n && g != 1; ++i) {
+            if (tmp.get(i) != 0) {
+                g = IntUtilities.gcd(g, i);
+            }
+        }
+        if (g == 1) {
+            return null;
+        }
+        int m = n / g;
+        double[] q = new double[m + 1];
+        for (int i = 0; i <= m; ++i) {
+            q[i] = tmp.get(i * g);
+        }
+        Complex[] qroots = new Polynomial(q, m).roots();
+        if (qroots == null) {
+            return null;
+        }
+        Complex[] roots = new Complex[qroots.length * g];
+        for (int i = 0, j = 0; i < qroots.length; ++i, j += g) {
+            System.arraycopy(nthRoots(qroots[i], g), 0, roots, j, g);
+        }
+        return roots;
+    }
+
+    private static Complex[] quadraticRoots(double c, double b, double a) {
+        double d = b * b - 4 * a * c;
+        if (d < 0) {
+            double re = -b / (2 * a), im = Math.abs(Math.sqrt(-d) / (2 * a));
+            return new Complex[]{Complex.cart(re, im), Complex.cart(re, -im)};
+        }
+        // avoids the cancellation in -b +/- sqrt(d)
+        double q = b >= 0 ? -.5 * (b + Math.sqrt(d)) : -.5 * (b - Math.sqrt(d));
+        if (q == 0) {
+            return new Complex[]{Complex.ZERO, Complex.ZERO};
+        }
+        return new Complex[]{Complex.cart(q / a), Complex.cart(c / q)};
+    }
+
+    /**
+     * n-th roots of a complex number. The roots of real numbers are computed
+     * as in the factor method
+     *
+     * @param c
+     * @param n
+     * @return
+     */
+    private static Complex[] nthRoots(Complex c, int n) {
+        double re = c.getRe();
+        if (c.getIm() != 0 || (re < 0 && n % 2 == 0)) {
+            return Complex.roots(c, n);
+        }
+        Complex[] ur = Complex.unitRoots(n);
+        double rc = re > 0 ? Math.pow(re, 1.0 / n) : -Math.pow(-re, 1.0 / n);
+        for (int i = 0; i < ur.length; ++i) {
+            ur[i] = ur[i].times(rc);
+        }
+        return ur;
+    }
+
     /**
      * To be used with caution. Be sure that the roots correspond to the current
      * polynomial. No verification is done.
@@ -1030,13 +1135,15 @@ public final class Polynomial implements IReadDataBlock {
         }
         Polynomial result = new Polynomial(coefficients, degree);
         result.defRoots.set(defRoots.get());
+        result.factors = factors;
         return result;
     }
 
     /**
      * The operator multiplies two polynomials creating a new polynomial as a
      * result. The roots of the resulting polynomial are only calculated when
-     * the roots of l and r have been calculated before.
+     * the roots of l and r have been calculated before. Otherwise, the factors
+     * are kept and their roots will be computed separately, if need be.
      *
      * @param r A polynomial of degree d'
      * @return The product of l and r
@@ -1074,11 +1181,18 @@ public final class Polynomial implements IReadDataBlock {
                 prod.defRoots.set(Arrays2.concat(lRoots, rRoots));
             } else if (computeroots) {
                 prod.defRoots.set(Arrays2.concat(roots(), r.roots()));
+            } else if (prod != this && prod != r) {
+                prod.factors = Arrays2.concat(factors(), r.factors());
             }
         }
         return prod;
     }
 
+    private Polynomial[] factors() {
+        Polynomial[] f = factors;
+        return f != null ? f : new Polynomial[]{this};
+    }
+
     /**
      * The method represents the polynomial in convential notation ax+bx^2+....
      * Internally it calls the overload ToString(var, bSmooth) where var == 'X'
@@ -192,6 +192,7 @@ public class DogLegMethod implements ISsqFunctionMinimizer {
         }
 
 
+        double[] cn = new double[2];
         while (true) {
             double ro = 0;
             // compute hdl h dog leg
@@ -205,8 +206,9 @@ public class DogLegMethod implements ISsqFunctionMinimizer {
             } else {
                 DataBlock bma = hgn.deepClone();
                 bma.sub(a);
-                double c = a.dot(bma);
-                double nbma = bma.ssq();
+                bma.dotAndSsq(a, cn);
+                double c = cn[0];
+                double nbma = cn[1];
                 double z0 = ltrusted_ * ltrusted_ - a.ssq();
                 double z1 = Math.sqrt(c * c + nbma * z0);
 
@@ -196,6 +196,31 @@ public class DefaultArimaSpec implements Cloneable, InformationSetSerializable {
         }
     }
 
+    /**
+     * Changes the type of the defined parameters that are not fixed. Used for
+     * instance to keep the estimated parameters as initial values of a new
+     * estimation (warm start)
+     *
+     * @param type The new type of the parameters
+     */
+    public void setFreeParametersType(ParameterType type) {
+        setFreeParametersType(phi_, type);
+        setFreeParametersType(bphi_, type);
+        setFreeParametersType(theta_, type);
+        setFreeParametersType(btheta_, type);
+    }
+
+    private static void setFreeParametersType(Parameter[] p, ParameterType type) {
+        if (p == null) {
+            return;
+        }
+        for (int i = 0; i < p.length; ++i) {
+            if (p[i] != null && !p[i].isFixed() && Parameter.isDefined(p[i])) {
+                p[i].setType(type);
+            }
+        }
+    }
+
     public boolean hasParameters() {
         return !Parameter.isDefault(phi_) || !Parameter.isDefault(theta_)
                 || !Parameter.isDefault(bphi_) || !Parameter.isDefault(btheta_);
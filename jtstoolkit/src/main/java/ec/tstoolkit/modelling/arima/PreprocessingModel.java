@@ -73,6 +73,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -91,10 +92,14 @@ public class PreprocessingModel implements IProcResults {
     }
 
     /**
+     * Sets the number of forecasts/backcasts. The memoised information is
+     * discarded.
+     *
      * @param ncasts the ncasts to set
      */
     public void setNcasts(int ncasts) {
         this.ncasts = ncasts;
+        memo_.clear();
     }
 
     public static ComponentType outlierComponent(OutlierType type) {
@@ -162,6 +167,7 @@ public class PreprocessingModel implements IProcResults {
         if (description.getArimaComponent().isEstimatedMean()) {
             description.getArimaComponent().setMu(new Parameter(estimation.getLikelihood().getB()[0], ParameterType.Estimated));
         }
+        memo_.clear();
     }
 
     public void addProcessingInformation(ProcessingInformation info) {
@@ -247,16 +253,18 @@ public class PreprocessingModel implements IProcResults {
     }
 
     public TsData linearizedSeries() {
-        if (lin_ != null) {
-            return lin_.clone();
+        TsData lin = lin_;
+        if (lin != null) {
+            return lin.clone();
         }
         if (estimation == null) {
             return description.transformedOriginal();
         }
         TsData interp = interpolatedSeries(true);
         TsData regs = regressionEffect(description.getSeriesDomain());
-        lin_ = TsData.subtract(interp, regs);
-        return lin_.clone();
+        lin = TsData.subtract(interp, regs);
+        lin_ = lin;
+        return lin.clone();
     }
 
     public TsData linearizedSeries(boolean includeUndefinedReg) {
@@ -460,8 +468,9 @@ public class PreprocessingModel implements IProcResults {
     }
 
     public TsData linearizedForecast(int nf) {
-        if (fcast_ != null && nf <= fcast_.getLength()) {
-            return fcast_.drop(0, fcast_.getLength() - nf);
+        TsData cur = fcast_;
+        if (cur != null && nf <= cur.getLength()) {
+            return cur.drop(0, cur.getLength() - nf);
         }
         TsData s = linearizedSeries(false);
         DataBlock data = new DataBlock(s.internalStorage());
@@ -494,21 +503,41 @@ public class PreprocessingModel implements IProcResults {
     }
 
     public Forecasts forecasts(int nf) {
-        if (xfcasts_ != null && nf <= xfcasts_.getForecastsCount()) {
-            return xfcasts_;
+        Forecasts xfcasts = xfcasts_;
+        if (xfcasts != null && nf <= xfcasts.getForecastsCount()) {
+            return xfcasts;
         }
-        xfcasts_ = new Forecasts();
+        xfcasts = new Forecasts();
         TsDomain fdomain = new TsDomain(description.getSeriesDomain().getEnd(), nf);
         RegArimaEstimation<SarimaModel> est
                 = new RegArimaEstimation<>(estimation.getRegArima(),
                         estimation.getLikelihood());
-        xfcasts_.calcForecast(est, vars().all().data(fdomain), nf, description.getArimaComponent().getFreeParametersCount());
-        return xfcasts_;
+        xfcasts.calcForecast(est, vars().all().data(fdomain), nf, description.getArimaComponent().getFreeParametersCount());
+        xfcasts_ = xfcasts;
+        return xfcasts;
+    }
+
+    /**
+     * Computes in parallel the expensive information of the model (forecasts,
+     * backcasts...). They are memoised in the model.
+     *
+     * @param executor
+     */
+    public void prefetch(ExecutorService executor) {
+        MAPPING.prefetch(this, memo_, executor);
+    }
+
+    /**
+     * Removes the memoised information
+     */
+    public void clearMemo() {
+        memo_.clear();
     }
 
     public TsData linearizedBackcast(int nb) {
-        if (bcast_ != null && nb <= bcast_.getLength()) {
-            return bcast_.drop(bcast_.getLength() - nb, 0);
+        TsData cur = bcast_;
+        if (cur != null && nb <= cur.getLength()) {
+            return cur.drop(cur.getLength() - nb, 0);
         }
         TsData s = linearizedSeries(false);
         DataBlock data = new DataBlock(s.internalStorage()).reverse();
@@ -582,7 +611,7 @@ public class PreprocessingModel implements IProcResults {
     public <T> T getData(String id, Class<T> tclass
     ) {
         if (MAPPING.contains(id)) {
-            return MAPPING.getData(this, id, tclass);
+            return MAPPING.getData(this, memo_, id, tclass);
         }
         if (estimation.contains(id)) {
             return estimation.getData(id, tclass);
@@ -601,7 +630,7 @@ public class PreprocessingModel implements IProcResults {
     @Override
     public <T> Map<String, T> searchAll(String wc, Class<T> tclass
     ) {
-        Map<String, T> all = MAPPING.searchAll(this, wc, tclass);
+        Map<String, T> all = MAPPING.searchAll(this, memo_, wc, tclass);
         if (info_ != null) {
             List<Information<T>> sel = info_.select(wc, tclass);
             for (Information<T> info : sel) {
@@ -848,22 +877,26 @@ public class PreprocessingModel implements IProcResults {
     }
 
     public TsData getFullResiduals() {
-        if (fullres_ == null) {
+        TsData fullres = fullres_;
+        if (fullres == null) {
             TsDomain domain = domain(false);
             // compute the residuals
             DataBlock res = estimation.getFullResiduals();
             double[] xres = new double[res.getLength()];
             res.copyTo(xres, 0);
-            fullres_ = new TsData(domain.getStart().plus(domain.getLength() - xres.length), xres, false);
+            fullres = new TsData(domain.getStart().plus(domain.getLength() - xres.length), xres, false);
+            fullres_ = fullres;
         }
-        return fullres_;
+        return fullres;
     }
 
     private TsVariableList vars() {
-        if (x_ == null) {
-            x_ = description.buildRegressionVariables();
+        TsVariableList x = x_;
+        if (x == null) {
+            x = description.buildRegressionVariables();
+            x_ = x;
         }
-        return x_;
+        return x;
     }
 
     public boolean isMultiplicative() {
@@ -901,9 +934,10 @@ public class PreprocessingModel implements IProcResults {
         }
     }
     // some caching...
-    private TsVariableList x_;
-    private TsData fullres_, lin_, fcast_, bcast_;
-    private Forecasts xfcasts_;
+    private volatile TsVariableList x_;
+    private volatile TsData fullres_, lin_, fcast_, bcast_;
+    private volatile Forecasts xfcasts_;
+    private final InformationMapping.Memo memo_ = new InformationMapping.Memo();
     private int ncasts = -2;
     public static final String LOG = "log",
             ADJUST = "adjust",
@@ -1093,7 +1127,13 @@ public class PreprocessingModel implements IProcResults {
             }
             return new TsData(fdomain.getStart(), ef, true);
         });
-
+        // forecasts/backcasts and residuals are computed on the fly
+        for (String name : new String[]{ModellingDictionary.Y + SeriesInfo.F_SUFFIX, ModellingDictionary.Y + SeriesInfo.EF_SUFFIX,
+            ModellingDictionary.YC + SeriesInfo.F_SUFFIX, ModellingDictionary.YC + SeriesInfo.EF_SUFFIX,
+            ModellingDictionary.Y_LIN + SeriesInfo.F_SUFFIX, ModellingDictionary.L + SeriesInfo.F_SUFFIX,
+            ModellingDictionary.L + SeriesInfo.B_SUFFIX, FULLRES, FCASTS, BCASTS, LIN_FCASTS, LIN_BCASTS, EFCASTS}) {
+            MAPPING.setExpensive(name, true);
+        }
     }
 
     private static int nperiods(PreprocessingModel m, int n) {
@@ -23,6 +23,7 @@ import ec.tstoolkit.modelling.DifferencingResults;
 import ec.tstoolkit.stats.StatisticalTest;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.util.concurrent.ExecutorService;
 
 /**
  *
@@ -120,6 +121,15 @@ public class SeasonalityTests {
         clear();
     }
 
+    /**
+     * Computes in parallel all the tests
+     *
+     * @param executor The executor used for the computations
+     */
+    public void prefetch(ExecutorService executor) {
+        battery.prefetch(executor);
+    }
+
 //    /**
 //     * The differencing order and the mean correction are chosen by the
 //     * algorithm.
@@ -138,21 +148,15 @@ public class SeasonalityTests {
         clear();
     }
     private DifferencingResults delta;
-    private FriedmanTest nptest;
+    private SeasonalityTestBattery battery;
     private BlackmanTukeySpectrum btSpectrum;
-    private TukeySpectrumPeaksTest tpeaks;
-    private AutoRegressiveSpectrumTest arpeaks;
     private SpectralPeaks[] peaks;
-    private StatisticalTest qs, periodogram;
     private int score;
 
-    private int nqs_ = 2;
+    private int nqs_ = SeasonalityTestBattery.QS_LAGS;
 
     public void setQSCount(int nqs) {
-        if (nqs != nqs_) {
-            nqs_ = nqs;
-            qs = null;
-        }
+        nqs_ = nqs;
     }
 
     public int getQSCount() {
@@ -163,22 +167,21 @@ public class SeasonalityTests {
         return delta;
     }
 
+    /**
+     *
+     * @return The battery of tests on the differenced series
+     */
+    public SeasonalityTestBattery getBattery() {
+        return battery;
+    }
+
     // Lazy evaulation
     public FriedmanTest getNonParametricTest() {
-        if (nptest == null) {
-            nptest = new FriedmanTest(delta.getDifferenced());
-        }
-        return nptest;
+        return battery.getFriedmanTest();
     }
 
     public TukeySpectrumPeaksTest getTukeyPeaks() {
-        if (tpeaks == null) {
-            tpeaks = new TukeySpectrumPeaksTest();
-            if (!tpeaks.test(delta.getDifferenced())) {
-                tpeaks = null;
-            }
-        }
-        return tpeaks;
+        return battery.getTukeyPeaks();
     }
 
     public BlackmanTukeySpectrum getBlackmanTukeySpectrum() {
@@ -198,17 +201,7 @@ public class SeasonalityTests {
     }
 
     public AutoRegressiveSpectrumTest getArPeaks() {
-        if (arpeaks == null) {
-            arpeaks = new AutoRegressiveSpectrumTest();
-            TsData dlast = delta.getDifferenced();
-//            if (dlast.getLength()> SPEC_LENGTH){
-//                dlast=dlast.drop(dlast.getLength()-SPEC_LENGTH, 0);
-//            }
-            if (!arpeaks.test(dlast)) {
-                arpeaks = null;
-            }
-        }
-        return arpeaks;
+        return battery.getArPeaks();
     }
 
     public SpectralPeaks[] getSpectralPeaks() {
@@ -239,17 +232,11 @@ public class SeasonalityTests {
     }
 
     public StatisticalTest getQs() {
-        if (qs == null) {
-            qs = QSTest.compute(delta.getDifferenced().internalStorage(), delta.getDifferenced().getFrequency().intValue(), nqs_);
-        }
-        return qs;
+        return battery.getQsTest(nqs_);
     }
 
     public StatisticalTest getPeriodogramTest() {
-        if (periodogram == null) {
-            periodogram = PeriodogramTest.computeSum2(delta.getDifferenced(), delta.getDifferenced().getFrequency().intValue());
-        }
-        return periodogram;
+        return battery.getPeriodogramTest();
     }
 
     public int getScore() {
@@ -257,11 +244,9 @@ public class SeasonalityTests {
     }
 
     private void clear() {
-        nptest = null;
-        arpeaks = null;
-        tpeaks = null;
-        qs = null;
-        periodogram = null;
+        battery = new SeasonalityTestBattery(delta.getDifferenced());
+        btSpectrum = null;
+        peaks = null;
         score = 0;
     }
 }
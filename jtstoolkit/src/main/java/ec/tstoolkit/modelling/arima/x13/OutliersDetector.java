@@ -16,6 +16,7 @@
  */
 package ec.tstoolkit.modelling.arima.x13;
 
+import ec.tstoolkit.arima.ArimaException;
 import ec.tstoolkit.arima.estimation.AnsleyFilter;
 import ec.tstoolkit.arima.estimation.RegArimaModel;
 import ec.tstoolkit.data.DataBlock;
@@ -38,6 +39,7 @@ import ec.tstoolkit.modelling.arima.ModelEstimation;
 import ec.tstoolkit.modelling.arima.ModellingContext;
 import ec.tstoolkit.modelling.arima.PreprocessingDictionary;
 import ec.tstoolkit.modelling.arima.ProcessingResult;
+import ec.tstoolkit.sarima.SarimaComponent;
 import ec.tstoolkit.sarima.SarimaModel;
 import ec.tstoolkit.sarima.estimation.GlsSarimaMonitor;
 import ec.tstoolkit.timeseries.TsPeriodSelector;
@@ -147,6 +149,10 @@ public class OutliersDetector implements IOutliersDetectionModule {
             }
             llcorr_ = context.description.getLikelihoodCorrection();
             mapping_ = X13Preprocessor.createDefaultMapping(context.description);
+            // warm start: the (fully specified) arima parameters are used
+            // as starting values of the successive estimations
+            SarimaComponent arima = context.description.getArimaComponent();
+            warmStart_ = arima.isDefined() && arima.hasInitialParameters();
             if (context.estimation == null) {
                 regarima_ = context.description.buildRegArima();
                 if (!estimateModel()) {
@@ -181,6 +187,7 @@ public class OutliersDetector implements IOutliersDetectionModule {
     private AbstractSingleOutlierDetector<SarimaModel> sod_;
     private RegArimaModel<SarimaModel> regarima_;
     private double llcorr_;
+    private boolean warmStart_;
     private IParametricMapping<SarimaModel> mapping_;
     private ModelEstimation estimation_;
     private ArrayList<IOutlierVariable> outliers_ = new ArrayList<>();
@@ -238,6 +245,7 @@ public class OutliersDetector implements IOutliersDetectionModule {
         regarima_ = null;
         estimation_ = null;
         llcorr_ = 0;
+        warmStart_ = false;
         mapping_ = null;
     }
 
@@ -339,13 +347,29 @@ public class OutliersDetector implements IOutliersDetectionModule {
     private boolean estimateModel() {
         estimation_ = new ModelEstimation(regarima_, llcorr_);
         monitor.setMapping(mapping_);
-        if (!estimation_.compute(monitor, mapping_.getDim())) {
+        int dim = mapping_.getDim();
+        if (!(warmStart_ && improveModel(dim)) && !estimation_.compute(monitor, dim)) {
             return false;
         }
         regarima_ = estimation_.getRegArima();
         return true;
     }
 
+    /**
+     * Optimizes the model, starting from its current parameters
+     *
+     * @param dim
+     * @return False if the optimization failed. The model should then be
+     * estimated from default initial values.
+     */
+    private boolean improveModel(int dim) {
+        try {
+            return estimation_.improve(monitor, dim);
+        } catch (ArimaException err) {
+            return false;
+        }
+    }
+
     /**
      *
      * @return
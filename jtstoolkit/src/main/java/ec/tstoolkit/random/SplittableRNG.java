@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.random;
+
+import ec.tstoolkit.design.Development;
+
+/**
+ * A splittable pseudorandom number generator (SplitMix64 algorithm, see
+ * G.L. Steele, D. Lea, C.H. Flood, "Fast splittable pseudorandom number
+ * generators", OOPSLA 2014).
+ *
+ * The generator can be split in independent generators (one for each
+ * thread) and it can be positioned on a given stream of a seed, so that
+ * parallel simulations are reproducible whatever the scheduling of the
+ * computations. Repositioning a generator doesn't allocate any object.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class SplittableRNG extends AbstractRNG {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double LongToDoubleMultiplier = 1.0 / (1L << 53);
+
+    private long m_state;
+
+    /**
+     *
+     * @param seed
+     */
+    public SplittableRNG(final long seed) {
+        m_state = seed;
+    }
+
+    /**
+     * Creates the generator of a given stream of a seed. Equivalent to
+     * new SplittableRNG(0).setStream(seed, stream)
+     *
+     * @param seed
+     * @param stream
+     */
+    public SplittableRNG(final long seed, final long stream) {
+        setStream(seed, stream);
+    }
+
+    /**
+     * Positions the generator at the start of a stream. The generators of
+     * the different streams of a seed are (statistically) independent.
+     *
+     * @param seed The seed
+     * @param stream The index of the stream
+     */
+    public void setStream(final long seed, final long stream) {
+        m_state = mix64(mix64(seed) + (stream + 1) * GOLDEN_GAMMA);
+    }
+
+    public void setSeed(final long seed) {
+        m_state = seed;
+    }
+
+    /**
+     * Creates a new generator, (statistically) independent of this one. The
+     * state of this generator is modified.
+     *
+     * @return
+     */
+    public SplittableRNG split() {
+        return new SplittableRNG(mix64(nextLong()));
+    }
+
+    @Override
+    public long nextLong() {
+        m_state += GOLDEN_GAMMA;
+        return mix64(m_state);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * LongToDoubleMultiplier;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
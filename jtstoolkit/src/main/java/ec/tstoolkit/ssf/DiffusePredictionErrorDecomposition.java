@@ -65,6 +65,17 @@ public class DiffusePredictionErrorDecomposition extends
 	return m_ddet.getLogDeterminant();
     }
 
+    Determinant getDiffuseDeterminant()
+    {
+	return m_ddet;
+    }
+
+    void restoreDiffuse(final Determinant ddet, final int nd)
+    {
+	m_ddet.copy(ddet);
+	m_nd = nd;
+    }
+
     /**
      * 
      * @param ssf
@@ -44,7 +44,7 @@ public class Filter<F extends ISsf> {
     private int[] m_idxR;
     private Matrix m_Q, m_WQW;
     private Matrix m_W;
-    private boolean m_bsteady, m_fixedsteadypos, m_qinit;
+    private boolean m_bsteady, m_fixedsteadypos, m_qinit, m_resumable;
     // for steady state
     /**
      *
@@ -368,13 +368,91 @@ public class Filter<F extends ISsf> {
         if (!initFilter()) {
             return false;
         }
+        m_resumable = false;
         m_pos = initState(rslts);
         if (m_pos < 0) {
             return false;
         }
+        // when the series is too short, the state could still be diffuse
+        boolean resumable = m_pos < m_end || !m_ssf.isDiffuse();
         if (rslts != null) {
             rslts.prepare(m_ssf, m_data);
         }
+        if (!run(rslts)) {
+            return false;
+        }
+        m_resumable = resumable;
+        return true;
+    }
+
+    /**
+     * Creates a checkpoint of the filter at the end of the last processed
+     * series.
+     *
+     * @param rslts The results used in the processing (may be null). Their
+     * likelihood accumulators are saved if they are ResidualsCumulator.
+     * @return The checkpoint or null if no series has been (successfully)
+     * processed or if the series doesn't go beyond the diffuse part of the
+     * model
+     */
+    public FilterCheckpoint checkpoint(final IFilteringResults rslts) {
+        if (!m_resumable || m_state == null) {
+            return null;
+        }
+        return new FilterCheckpoint(m_pos, m_state, m_bsteady, m_steadypos,
+                rslts instanceof ResidualsCumulator ? (ResidualsCumulator) rslts : null);
+    }
+
+    /**
+     * Resumes the filtering from a checkpoint. The data must contain the
+     * series used for the checkpoint, extended with the new observations (or
+     * with missing values for forecasts). Only the new positions are
+     * processed, so that the cost is proportional to their number. The model
+     * must be the one (with the same parameters) that generated the
+     * checkpoint.
+     *
+     * @param data The extended series
+     * @param cp The checkpoint
+     * @param rslts The results. The likelihood accumulators of the checkpoint
+     * are restored in ResidualsCumulator results; the other results only
+     * contain the new positions.
+     * @return
+     */
+    public boolean resume(final ISsfData data, final FilterCheckpoint cp,
+            final IFilteringResults rslts) {
+        if (m_ssf == null || cp == null
+                || cp.getStateDim() != m_ssf.getStateDim()
+                || cp.getPosition() > data.getCount()) {
+            return false;
+        }
+        ++fnCalls;
+        m_data = data;
+        m_resumable = false;
+        if (!initFilter()) {
+            return false;
+        }
+        m_state = new State(m_r, m_data.hasData());
+        cp.restore(m_state);
+        m_bsteady = cp.isSteady();
+        if (!m_fixedsteadypos) {
+            m_steadypos = cp.getSteadyStatePosition();
+        }
+        m_lastff = m_state.f;
+        m_pos = cp.getPosition();
+        if (rslts != null) {
+            rslts.prepare(m_ssf, m_data);
+            if (rslts instanceof ResidualsCumulator) {
+                cp.restore((ResidualsCumulator) rslts);
+            }
+        }
+        if (!run(rslts)) {
+            return false;
+        }
+        m_resumable = true;
+        return true;
+    }
+
+    private boolean run(final IFilteringResults rslts) {
         if (m_pos < m_end) {
             do {
                 if (!m_ssf.isTimeInvariant() && !getModelInfo()) {
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.ssf;
+
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.eco.Determinant;
+import ec.tstoolkit.maths.matrices.Matrix;
+import java.io.Serializable;
+
+/**
+ * Snapshot of the Kalman filter at the end of a series: position, prediction
+ * of the state (and its covariance) for the next period and likelihood
+ * accumulators. The checkpoint can be serialized and used to resume the
+ * filtering when new observations are available (see Filter.resume), without
+ * re-processing the history. It is only meaningful for the model (with fixed
+ * parameters) that generated it.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class FilterCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = -4512380936510236651L;
+
+    private final int pos, steadypos;
+    private final double[] a, p;
+    private final double f;
+    private final boolean steady;
+    // likelihood accumulators (null det if the results were not saved)
+    private final Determinant det, ddet;
+    private final double ssqerr;
+    private final int nobs, nd;
+
+    FilterCheckpoint(final int pos, final State state, final boolean steady, final int steadypos, final ResidualsCumulator cumulator) {
+        this.pos = pos;
+        this.a = state.A.getData().clone();
+        this.p = state.P.internalStorage().clone();
+        this.f = state.f;
+        this.steady = steady;
+        this.steadypos = steadypos;
+        if (cumulator != null) {
+            det = cumulator.m_det.clone();
+            ssqerr = cumulator.m_ssqerr;
+            nobs = cumulator.m_n;
+            if (cumulator instanceof DiffusePredictionErrorDecomposition) {
+                DiffusePredictionErrorDecomposition dcumulator = (DiffusePredictionErrorDecomposition) cumulator;
+                ddet = dcumulator.getDiffuseDeterminant().clone();
+                nd = dcumulator.getDiffuseCount();
+            } else {
+                ddet = null;
+                nd = 0;
+            }
+        } else {
+            det = null;
+            ddet = null;
+            ssqerr = 0;
+            nobs = 0;
+            nd = 0;
+        }
+    }
+
+    /**
+     * @return The next position to be processed (= the length of the series
+     * used to create the checkpoint)
+     */
+    public int getPosition() {
+        return pos;
+    }
+
+    public int getStateDim() {
+        return a.length;
+    }
+
+    /**
+     * @return A copy of the prediction of the state for the next position
+     */
+    public DataBlock getState() {
+        return new DataBlock(a.clone());
+    }
+
+    /**
+     * @return A copy of the covariance of the prediction of the state
+     */
+    public Matrix getStateVariance() {
+        return new Matrix(p.clone(), a.length, a.length);
+    }
+
+    /**
+     * @return True if the checkpoint contains the likelihood accumulators
+     */
+    public boolean hasLikelihood() {
+        return det != null;
+    }
+
+    boolean isSteady() {
+        return steady;
+    }
+
+    int getSteadyStatePosition() {
+        return steadypos;
+    }
+
+    void restore(final State state) {
+        state.A.copyFrom(a, 0);
+        System.arraycopy(p, 0, state.P.internalStorage(), 0, p.length);
+        state.f = f;
+    }
+
+    void restore(final ResidualsCumulator cumulator) {
+        if (det == null) {
+            return;
+        }
+        cumulator.m_det = det.clone();
+        cumulator.m_ssqerr = ssqerr;
+        cumulator.m_n = nobs;
+        if (ddet != null && cumulator instanceof DiffusePredictionErrorDecomposition) {
+            ((DiffusePredictionErrorDecomposition) cumulator).restoreDiffuse(ddet, nd);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.ssf.multivariate;
+
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.ssf.BaseState;
+import ec.tstoolkit.ssf.SmoothingResults;
+import ec.tstoolkit.ssf.SsfException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Kalman filter and state smoother for (non diffuse) multivariate state space
+ * forms, based on the univariate treatment of the observations.
+ *
+ * Contrary to the M2uSsfAdapter, the missing observations are skipped: only
+ * the innovations and the gains of the actual observations are stored and the
+ * smoothed states are computed once by period (and not once by variable). The
+ * sparsity of the measurement equations is exploited through the ZX, ZM and
+ * XpZd operations of the model, so that the cost of an observation is
+ * dominated by the (symmetric) rank-one update of the cobsVariance matrix. The
+ * smoothed states are computed by the backward recursion on r and by the
+ * forward recursion on the smoothed disturbances (no smoothed cobsVariance).
+ *
+ * The memory is of order (number of observations + number of periods) x
+ * (state dimension), which is much smaller than the storage of the
+ * univariate filters when most of the observations are missing (temporal
+ * constraints of benchmarking problems...)
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public class M2uSmoother {
+
+    private IMultivariateSsf ssf;
+    private int dim, n;
+    private double[] a0;
+    // filtering results: one entry by observation
+    private final List<double[]> gains = new ArrayList<>();
+    private int[] obsPos, obsVar;
+    private double[] obsErr, obsF;
+    private int nobs;
+    // backward recursion: r(t,0) for each period
+    private DataBlock[] r;
+
+    public M2uSmoother() {
+    }
+
+    public M2uSmoother(final IMultivariateSsf ssf) {
+        this.ssf = ssf;
+    }
+
+    public IMultivariateSsf getSsf() {
+        return ssf;
+    }
+
+    public void setSsf(final IMultivariateSsf ssf) {
+        this.ssf = ssf;
+        clear();
+    }
+
+    /**
+     * @return The number of (non missing, informative) observations used by
+     * the filter
+     */
+    public int getObservationsCount() {
+        return nobs;
+    }
+
+    private void clear() {
+        gains.clear();
+        obsPos = null;
+        obsVar = null;
+        obsErr = null;
+        obsF = null;
+        nobs = 0;
+        r = null;
+        a0 = null;
+    }
+
+    /**
+     * Filters and smooths the data.
+     *
+     * @param data The observations
+     * @return False if the model is diffuse or invalid
+     * @throws SsfException if the model contains inconsistent constraints
+     */
+    public boolean process(final IMSsfData data) {
+        clear();
+        if (ssf == null || !ssf.isValid() || ssf.isDiffuse()) {
+            return false;
+        }
+        dim = ssf.getStateDim();
+        n = 0;
+        int nvars = data.getVarsCount();
+        for (int v = 0; v < nvars; ++v) {
+            n = Math.max(n, data.count(v));
+        }
+        filter(data);
+        smooth();
+        return true;
+    }
+
+    private void filter(final IMSsfData data) {
+        int nvars = data.getVarsCount();
+        obsPos = new int[16];
+        obsVar = new int[16];
+        obsErr = new double[16];
+        obsF = new double[16];
+
+        DataBlock a = new DataBlock(dim);
+        double[] ia = data.getInitialState();
+        if (ia != null) {
+            a.copyFrom(ia, 0);
+        }
+        a0 = a.getData().clone();
+        Matrix P = new Matrix(dim, dim);
+        ssf.Pf0(P.all());
+        Matrix V = null;
+        double[] p = P.internalStorage();
+        int[] idx = new int[dim];
+        for (int pos = 0; pos < n; ++pos) {
+            for (int v = 0; v < nvars; ++v) {
+                if (pos >= data.count(v) || data.isMissing(v, pos)) {
+                    continue;
+                }
+                double[] c = new double[dim];
+                DataBlock C = new DataBlock(c);
+                // C = PZ', f = ZPZ'
+                ssf.ZM(pos, v, P.all(), C);
+                double f = ssf.ZX(pos, v, C);
+                double e = data.get(v, pos) - ssf.ZX(pos, v, a);
+                if (f < BaseState.ZERO) {
+                    if (Math.abs(e) > BaseState.EPS) {
+                        throw new SsfException(SsfException.INCONSISTENT);
+                    }
+                    // redundant observation
+                    continue;
+                }
+                add(pos, v, e, f, c);
+                a.addAY(e / f, C);
+                // P = P - CC'/f, restricted to the non-null elements of C
+                int nz = 0;
+                for (int i = 0; i < dim; ++i) {
+                    if (c[i] != 0) {
+                        idx[nz++] = i;
+                    }
+                }
+                for (int j = 0; j < nz; ++j) {
+                    int jj = idx[j];
+                    double cj = c[jj] / f;
+                    jj *= dim;
+                    for (int i = 0; i < nz; ++i) {
+                        int ii = idx[i];
+                        p[jj + ii] -= c[ii] * cj;
+                    }
+                }
+            }
+            if (pos < n - 1) {
+                ssf.TX(pos, a);
+                ssf.TVT(pos, P.all());
+                if (ssf.hasTransitionRes(pos)) {
+                    if (V == null || !ssf.isTransitionResidualTimeInvariant()) {
+                        V = fullQ(pos);
+                    }
+                    P.add(V);
+                }
+            }
+        }
+    }
+
+    private Matrix fullQ(int pos) {
+        Matrix V = new Matrix(dim, dim);
+        ssf.fullQ(pos, V.all());
+        return V;
+    }
+
+    private void add(int pos, int v, double e, double f, double[] c) {
+        if (nobs == obsPos.length) {
+            int nsize = nobs * 2;
+            obsPos = Arrays.copyOf(obsPos, nsize);
+            obsVar = Arrays.copyOf(obsVar, nsize);
+            obsErr = Arrays.copyOf(obsErr, nsize);
+            obsF = Arrays.copyOf(obsF, nsize);
+        }
+        obsPos[nobs] = pos;
+        obsVar[nobs] = v;
+        obsErr[nobs] = e;
+        obsF[nobs] = f;
+        gains.add(c);
+        ++nobs;
+    }
+
+    private void smooth() {
+        r = new DataBlock[n];
+        DataBlock cur = new DataBlock(dim);
+        int iobs = nobs - 1;
+        for (int pos = n - 1; pos >= 0; --pos) {
+            if (pos < n - 1) {
+                ssf.XT(pos, cur);
+            }
+            // r(t,i-1) = r(t,i) + Z'(e/f - C'r(t,i)/f)
+            for (; iobs >= 0 && obsPos[iobs] == pos; --iobs) {
+                DataBlock C = new DataBlock(gains.get(iobs));
+                double f = obsF[iobs];
+                double d = (obsErr[iobs] - C.dot(cur)) / f;
+                ssf.XpZd(pos, obsVar[iobs], cur, d);
+            }
+            r[pos] = cur.deepClone();
+        }
+    }
+
+    /**
+     * Computes the smoothed states (a(t) + P(t)r(t-1)) by forward recursion
+     * on the smoothed disturbances
+     *
+     * @return The smoothed states, without their variances. Null if the data
+     * have not been processed
+     */
+    public SmoothingResults calcSmoothedStates() {
+        if (r == null) {
+            return null;
+        }
+        SmoothingResults sm = new SmoothingResults(true, false);
+        sm.prepare(n, dim);
+        Matrix P0 = new Matrix(dim, dim);
+        ssf.Pf0(P0.all());
+        DataBlock a = new DataBlock(a0);
+        a.addProduct(P0.rows(), r[0]);
+        DataBlock u = new DataBlock(dim);
+        Matrix V = null;
+        for (int pos = 0; pos < n; ++pos) {
+            sm.save(pos, a, null, 0, 0);
+            if (pos < n - 1) {
+                ssf.TX(pos, a);
+                if (ssf.hasTransitionRes(pos)) {
+                    if (V == null || !ssf.isTransitionResidualTimeInvariant()) {
+                        V = fullQ(pos);
+                    }
+                    u.product(V.rows(), r[pos + 1]);
+                    a.add(u);
+                }
+            }
+        }
+        return sm;
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.timeseries;
+
+import ec.tstoolkit.data.IReadDataBlock;
+import ec.tstoolkit.data.ReadDataBlock;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.design.Immutable;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.util.Arrays;
+
+/**
+ * Time series of daily or weekly observations (or, more generally, of
+ * observations that cover a fixed number of days). The observations are
+ * identified by the identifiers of their days, so that the search of a day
+ * and the generation of the regression variables are done in constant time
+ * per observation.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+@Immutable
+public final class HighFreqTsData {
+
+    private final int start, period;
+    private final double[] values;
+
+    /**
+     * Creates a daily series
+     *
+     * @param start The first day
+     * @param values The observations (not copied)
+     * @return
+     */
+    public static HighFreqTsData daily(Day start, double[] values) {
+        return new HighFreqTsData(start.getId(), 1, values);
+    }
+
+    /**
+     * Creates a weekly series
+     *
+     * @param start The first day of the first week
+     * @param values The observations (not copied)
+     * @return
+     */
+    public static HighFreqTsData weekly(Day start, double[] values) {
+        return new HighFreqTsData(start.getId(), 7, values);
+    }
+
+    /**
+     * Creates a series of observations that cover a fixed number of days
+     *
+     * @param start The first day of the first observation
+     * @param period The number of days of each observation
+     * @param values The observations (not copied)
+     * @return
+     */
+    public static HighFreqTsData of(Day start, int period, double[] values) {
+        if (period <= 0) {
+            throw new TsException(TsException.INVALID_PERIOD);
+        }
+        return new HighFreqTsData(start.getId(), period, values);
+    }
+
+    private HighFreqTsData(int start, int period, double[] values) {
+        this.start = start;
+        this.period = period;
+        this.values = values;
+    }
+
+    /**
+     * @return The first day of the series
+     */
+    public Day getStart() {
+        return new Day(start);
+    }
+
+    /**
+     * @return The first day after the series
+     */
+    public Day getEnd() {
+        return new Day(start + period * values.length);
+    }
+
+    /**
+     * @return The number of days of each observation (1 for daily series, 7
+     * for weekly series)
+     */
+    public int getPeriod() {
+        return period;
+    }
+
+    public int getLength() {
+        return values.length;
+    }
+
+    public double get(int idx) {
+        return values[idx];
+    }
+
+    /**
+     * @param idx The position of the observation
+     * @return The first day of the observation
+     */
+    public Day getDay(int idx) {
+        return new Day(start + period * idx);
+    }
+
+    /**
+     * Searches the observation that contains a given day.
+     *
+     * @param day
+     * @return The position of the observation or -1 if the day is outside the
+     * series
+     */
+    public int search(Day day) {
+        int del = day.getId() - start;
+        if (del < 0) {
+            return -1;
+        }
+        int idx = del / period;
+        return idx < values.length ? idx : -1;
+    }
+
+    /**
+     * @return A read-only view on the observations
+     */
+    public IReadDataBlock getValues() {
+        return new ReadDataBlock(values);
+    }
+
+    /**
+     * @return The domain of the series (days for daily series, weeks for
+     * weekly series, null otherwise)
+     */
+    public IDomain getDomain() {
+        if (period == 7) {
+            return new Weeks(getStart(), values.length);
+        } else if (period == 1) {
+            int[] days = new int[values.length];
+            for (int i = 0; i < days.length; ++i) {
+                days[i] = start + i;
+            }
+            return new Days(days, 0, days.length);
+        } else {
+            return null;
+        }
+    }
+
+    public GeneralTsData toGeneralTsData() {
+        IDomain domain = getDomain();
+        return domain == null ? null : new GeneralTsData(domain, values.clone());
+    }
+
+    /**
+     * Aggregates a daily series into a series of observations that cover
+     * several days. The incomplete last observation is dropped
+     *
+     * @param nperiod The number of days of the new observations (7 for weekly
+     * series)
+     * @param type The aggregation type
+     * @return
+     */
+    public HighFreqTsData aggregate(int nperiod, TsAggregationType type) {
+        if (nperiod % period != 0) {
+            throw new TsException(TsException.INCOMPATIBLE_FREQ);
+        }
+        int ratio = nperiod / period, n = values.length / ratio;
+        double[] agg = new double[n];
+        for (int i = 0, j = 0; i < n; ++i, j += ratio) {
+            agg[i] = aggregate(j, j + ratio, type);
+        }
+        return new HighFreqTsData(start, nperiod, agg);
+    }
+
+    /**
+     * Aggregates the series into a usual time series. Each observation is put
+     * in the period that contains its first day. The computation is done in
+     * one pass.
+     *
+     * @param freq The frequency of the new series
+     * @param type The aggregation type
+     * @param complete If true, only the periods that are entirely covered by
+     * the series are considered
+     * @return
+     */
+    public TsData aggregate(TsFrequency freq, TsAggregationType type, boolean complete) {
+        if (values.length == 0) {
+            return null;
+        }
+        TsPeriod p0 = new TsPeriod(freq, getStart());
+        TsPeriod plast = new TsPeriod(freq, getDay(values.length - 1));
+        int np = plast.minus(p0) + 1;
+        double[] agg = new double[np];
+        TsPeriod cur = p0;
+        int i0 = 0;
+        for (int i = 0; i < np; ++i) {
+            int end = cur.lastday().getId() + 1;
+            int i1 = Math.min(values.length, (end - start + period - 1) / period);
+            agg[i] = aggregate(i0, i1, type);
+            i0 = i1;
+            cur = cur.plus(1);
+        }
+        int del0 = 0, del1 = 0;
+        if (complete) {
+            if (p0.firstday().getId() != start) {
+                del0 = 1;
+            }
+            if (plast.lastday().getId() + 1 != start + period * values.length) {
+                del1 = 1;
+            }
+            if (del0 + del1 >= np) {
+                return null;
+            }
+        }
+        double[] data = del0 + del1 == 0 ? agg : Arrays.copyOfRange(agg, del0, np - del1);
+        return new TsData(p0.plus(del0), data, false);
+    }
+
+    private double aggregate(int i0, int i1, TsAggregationType type) {
+        if (i0 == i1) {
+            return Double.NaN;
+        }
+        switch (type) {
+            case Sum: {
+                double s = 0;
+                for (int i = i0; i < i1; ++i) {
+                    s += values[i];
+                }
+                return s;
+            }
+            case Average: {
+                double s = 0;
+                for (int i = i0; i < i1; ++i) {
+                    s += values[i];
+                }
+                return s / (i1 - i0);
+            }
+            case First:
+                return values[i0];
+            case Last:
+                return values[i1 - 1];
+            case Min: {
+                double m = values[i0];
+                for (int i = i0 + 1; i < i1; ++i) {
+                    if (values[i] < m) {
+                        m = values[i];
+                    }
+                }
+                return m;
+            }
+            case Max: {
+                double m = values[i0];
+                for (int i = i0 + 1; i < i1; ++i) {
+                    if (values[i] > m) {
+                        m = values[i];
+                    }
+                }
+                return m;
+            }
+            default:
+                throw new TsException(TsException.INVALID_AGGREGATIONMODE);
+        }
+    }
+}
@@ -42,50 +42,9 @@ public class SpectralDiagnostic {
     {
         try {
             AutoRegressiveSpectrum ars = new AutoRegressiveSpectrum(AutoRegressiveSpectrum.Method.Ols);
-
-            int freq = ts.getFrequency().intValue();
-            double[] tdfreq = Periodogram.getTradingDaysFrequencies(freq);
-            int nsf = freq >= 4 ? (freq - 1) / 2 : freq / 2;
-            seasfreq_ = new int[nsf];
-            int iseas = 2 * npoints_ / freq;
-            for (int i = 0; i < seasfreq_.length; ++i)
-                seasfreq_[i] = iseas * (i + 1);
-            freqs_ = new double[npoints_ + 1];
-            svals_ = new double[npoints_ + 1];
-            double fstep = Math.PI / npoints_;
-            for (int i = 0; i <= npoints_; ++i)
-                freqs_[i] = fstep * i;
-            // replace td freq, if any
-            if (tdfreq != null)
-            {
-                tdfreq_ = new int[tdfreq.length];
-                // not optimized
-                for (int i = 0; i < tdfreq.length; ++i)
-                {
-                    for (int j = 0; j < npoints_; ++j)
-                        if (tdfreq[i] > freqs_[j] && tdfreq[i] <= freqs_[j + 1])
-                        {
-                            double d0 = tdfreq[i] - freqs_[j], d1 = freqs_[j + 1] - tdfreq[i];
-                            if (d0 < d1) {
-                                freqs_[j] = tdfreq[i];
-                                tdfreq_[i] = j;
-                            }
-                            else {
-                                freqs_[j + 1] = tdfreq[i];
-                                tdfreq_[i] = j + 1;
-                            }
-                            break;
-                        }
-                }
-            }
+            computeFrequencies(ts.getFrequency().intValue());
              if ( ars.process(ts, nar_)) {
-                // build freqs
-                for (int i = 0; i < freqs_.length; ++i)
-                    svals_[i] = ars.value(freqs_[i]);
-
-                DescriptiveStatistics stats = new DescriptiveStatistics(new DataBlock(svals_).drop(1, 1));
-                median_ = stats.getMedian();
-                srange_ = stats.getMax() - stats.getMin();
+                computeSpectrum(ars);
                 return true;
             }
             else
@@ -96,6 +55,75 @@ public class SpectralDiagnostic {
         }
     }
 
+    /**
+     * Tests an auto-regressive spectrum that has already been estimated. The
+     * AR length of the diagnostic is not used.
+     *
+     * @param ars The spectrum
+     * @param freq The annual frequency of the series
+     * @return
+     */
+    public boolean test(AutoRegressiveSpectrum ars, int freq)
+    {
+        try {
+            computeFrequencies(freq);
+            computeSpectrum(ars);
+            return true;
+        }
+        catch(Exception ex) {
+            return false;
+        }
+    }
+
+    private void computeFrequencies(int freq)
+    {
+        double[] tdfreq = Periodogram.getTradingDaysFrequencies(freq);
+        int nsf = freq >= 4 ? (freq - 1) / 2 : freq / 2;
+        seasfreq_ = new int[nsf];
+        int iseas = 2 * npoints_ / freq;
+        for (int i = 0; i < seasfreq_.length; ++i)
+            seasfreq_[i] = iseas * (i + 1);
+        freqs_ = new double[npoints_ + 1];
+        svals_ = new double[npoints_ + 1];
+        double fstep = Math.PI / npoints_;
+        for (int i = 0; i <= npoints_; ++i)
+            freqs_[i] = fstep * i;
+        // replace td freq, if any
+        if (tdfreq != null)
+        {
+            tdfreq_ = new int[tdfreq.length];
+            // not optimized
+            for (int i = 0; i < tdfreq.length; ++i)
+            {
+                for (int j = 0; j < npoints_; ++j)
+                    if (tdfreq[i] > freqs_[j] && tdfreq[i] <= freqs_[j + 1])
+                    {
+                        double d0 = tdfreq[i] - freqs_[j], d1 = freqs_[j + 1] - tdfreq[i];
+                        if (d0 < d1) {
+                            freqs_[j] = tdfreq[i];
+                            tdfreq_[i] = j;
+                        }
+                        else {
+                            freqs_[j + 1] = tdfreq[i];
+                            tdfreq_[i] = j + 1;
+                        }
+                        break;
+                    }
+            }
+        }
+    }
+
+    private void computeSpectrum(AutoRegressiveSpectrum ars)
+    {
+        // build freqs
+        for (int i = 0; i < freqs_.length; ++i)
+            svals_[i] = ars.value(freqs_[i]);
+
+        DescriptiveStatistics stats = new DescriptiveStatistics(new DataBlock(svals_).drop(1, 1));
+        median_ = stats.getMedian();
+        srange_ = stats.getMax() - stats.getMin();
+    }
+
     public int getARLength() {
         return nar_;
     }
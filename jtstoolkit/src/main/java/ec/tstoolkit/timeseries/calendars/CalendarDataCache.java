@@ -0,0 +1,375 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.timeseries.calendars;
+
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.data.IReadDataBlock;
+import ec.tstoolkit.data.ReadDataBlock;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the calendar regressors (trading days, working days, length of
+ * period), identified by their calendar, their type and their domain (which
+ * includes the frequency), and of the moving holidays regressors (Easter),
+ * identified by their parameters and their domain. The same regressors are
+ * generated many times when large sets of series are processed with the same
+ * calendars.
+ *
+ * The cache is bounded by the total number of values it contains; the least
+ * recently used regressors are removed first. It is cleared each time a
+ * calendar manager is modified, because some calendars (chained or composite
+ * calendars) are defined through the calendars of their manager.
+ *
+ * Only the calendars of this package are cached. They are identified by
+ * reference. National calendars can still receive new holidays while they are
+ * not locked; such a modification discards the regressors of all the caches.
+ * The regressors are computed outside any lock, so that the cache can be used
+ * concurrently.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class CalendarDataCache {
+
+    /**
+     * Default capacity (number of doubles, 16 Mb)
+     */
+    public static final long DEF_CAPACITY = 1 << 21;
+
+    private static final AtomicInteger MODIFICATIONS = new AtomicInteger();
+
+    public static final CalendarDataCache instance = new CalendarDataCache(DEF_CAPACITY);
+
+    private final LinkedHashMap<Key, double[][]> map = new LinkedHashMap<>(64, .75f, true);
+    private long capacity, size, hits, misses;
+    private int generation, modifications = MODIFICATIONS.get();
+    private boolean enabled = true;
+
+    public CalendarDataCache(long capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Fills the buffers with the trading days regressors of a calendar.
+     *
+     * @param provider The calendar
+     * @param dtype The type of the regressors
+     * @param domain The domain of the regressors
+     * @param buffer The buffers that will contain the regressors (one by
+     * variable). They are entirely overwritten
+     */
+    public void calendarData(IGregorianCalendarProvider provider, TradingDaysType dtype,
+            TsDomain domain, List<DataBlock> buffer) {
+        if (!isCacheable(provider)) {
+            provider.calendarData(dtype, domain, buffer);
+            return;
+        }
+        double[][] data = get(new Key(provider, dtype, domain), () -> compute(provider, dtype, domain));
+        for (int i = 0; i < data.length; ++i) {
+            buffer.get(i).copyFrom(data[i], 0);
+        }
+    }
+
+    /**
+     * Gets the trading days regressors of a calendar.
+     *
+     * @param provider The calendar
+     * @param dtype The type of the regressors
+     * @param domain The domain of the regressors
+     * @return Read-only views on the regressors (shared by the callers)
+     */
+    public List<IReadDataBlock> calendarData(IGregorianCalendarProvider provider,
+            TradingDaysType dtype, TsDomain domain) {
+        double[][] data;
+        if (isCacheable(provider)) {
+            data = get(new Key(provider, dtype, domain), () -> compute(provider, dtype, domain));
+        } else {
+            data = compute(provider, dtype, domain);
+        }
+        List<IReadDataBlock> rslt = new ArrayList<>(data.length);
+        for (int i = 0; i < data.length; ++i) {
+            rslt.add(new ReadDataBlock(data[i]));
+        }
+        return rslt;
+    }
+
+    /**
+     * Fills a buffer with a length of period regressor
+     *
+     * @param ltype The type of the regressor
+     * @param domain The domain of the regressor
+     * @param buffer The buffer that will contain the regressor. It is
+     * entirely overwritten
+     */
+    public void lengthOfPeriod(LengthOfPeriodType ltype, TsDomain domain, DataBlock buffer) {
+        if (ltype == LengthOfPeriodType.None) {
+            return;
+        }
+        buffer.copyFrom(get(new Key(null, ltype, domain), () -> compute(ltype, domain))[0], 0);
+    }
+
+    /**
+     * Gets a length of period regressor
+     *
+     * @param ltype The type of the regressor
+     * @param domain The domain of the regressor
+     * @return A read-only view on the regressor or null if the type is None
+     */
+    public IReadDataBlock lengthOfPeriod(LengthOfPeriodType ltype, TsDomain domain) {
+        if (ltype == LengthOfPeriodType.None) {
+            return null;
+        }
+        return new ReadDataBlock(get(new Key(null, ltype, domain), () -> compute(ltype, domain))[0]);
+    }
+
+    /**
+     * Fills a buffer with a moving holiday regressor (for instance Easter),
+     * which doesn't depend on a calendar.
+     *
+     * @param parameters The parameters that identify the regressor (including
+     * its type). They must be immutable and implement equals/hashCode
+     * @param domain The domain of the regressor
+     * @param buffer The buffer that will contain the regressor. It is
+     * entirely overwritten
+     * @param generator Generates the regressor from its first period, when it
+     * is not in the cache
+     */
+    public void holiday(Object parameters, TsDomain domain, DataBlock buffer,
+            BiConsumer<TsPeriod, DataBlock> generator) {
+        buffer.copyFrom(get(new Key(null, parameters, domain), () -> {
+            double[] data = new double[domain.getLength()];
+            generator.accept(domain.getStart(), new DataBlock(data));
+            return new double[][]{data};
+        })[0], 0);
+    }
+
+    /**
+     * Removes all the regressors.
+     */
+    public void clear() {
+        synchronized (map) {
+            map.clear();
+            size = 0;
+            ++generation;
+        }
+    }
+
+    public boolean isEnabled() {
+        synchronized (map) {
+            return enabled;
+        }
+    }
+
+    /**
+     * Enables or disables the cache. A disabled cache computes the regressors
+     * at each call.
+     *
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        synchronized (map) {
+            this.enabled = enabled;
+            if (!enabled) {
+                map.clear();
+                size = 0;
+                ++generation;
+            }
+        }
+    }
+
+    /**
+     * @return The maximum number of doubles kept in the cache
+     */
+    public long getCapacity() {
+        synchronized (map) {
+            return capacity;
+        }
+    }
+
+    public void setCapacity(long capacity) {
+        synchronized (map) {
+            this.capacity = capacity;
+            shrink();
+        }
+    }
+
+    /**
+     * @return The number of doubles kept in the cache
+     */
+    public long getSize() {
+        synchronized (map) {
+            return size;
+        }
+    }
+
+    /**
+     * @return The number of sets of regressors kept in the cache
+     */
+    public int getCount() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+    public long getHitsCount() {
+        synchronized (map) {
+            return hits;
+        }
+    }
+
+    public long getMissesCount() {
+        synchronized (map) {
+            return misses;
+        }
+    }
+
+    /**
+     * Signals that a calendar has been modified in place. The regressors of
+     * all the caches are discarded, since they may also depend on that
+     * calendar through chained or composite calendars.
+     */
+    static void calendarModified() {
+        MODIFICATIONS.incrementAndGet();
+    }
+
+    private static boolean isCacheable(IGregorianCalendarProvider provider) {
+        Class<?> c = provider.getClass();
+        return c == DefaultGregorianCalendarProvider.class || c == NationalCalendarProvider.class
+                || c == ChainedGregorianCalendarProvider.class || c == CompositeGregorianCalendarProvider.class;
+    }
+
+    private double[][] get(Key key, Supplier<double[][]> fn) {
+        int gen;
+        synchronized (map) {
+            checkModifications();
+            if (enabled) {
+                double[][] data = map.get(key);
+                if (data != null) {
+                    ++hits;
+                    return data;
+                }
+                ++misses;
+            }
+            gen = generation;
+        }
+        double[][] data = fn.get();
+        long n = (long) data.length * key.domain.getLength();
+        synchronized (map) {
+            checkModifications();
+            // results computed before a modification of the calendars are not stored
+            if (enabled && gen == generation && n <= capacity && !map.containsKey(key)) {
+                map.put(key, data);
+                size += n;
+                shrink();
+            }
+        }
+        return data;
+    }
+
+    private void checkModifications() {
+        int m = MODIFICATIONS.get();
+        if (m != modifications) {
+            modifications = m;
+            map.clear();
+            size = 0;
+            ++generation;
+        }
+    }
+
+    private void shrink() {
+        Iterator<Map.Entry<Key, double[][]>> iter = map.entrySet().iterator();
+        while (size > capacity && iter.hasNext()) {
+            Map.Entry<Key, double[][]> cur = iter.next();
+            size -= (long) cur.getValue().length * cur.getKey().domain.getLength();
+            iter.remove();
+        }
+    }
+
+    private static double[][] compute(IGregorianCalendarProvider provider, TradingDaysType dtype, TsDomain domain) {
+        int nvars = provider.count(dtype), n = domain.getLength();
+        double[][] data = new double[nvars][n];
+        List<DataBlock> buffer = new ArrayList<>(nvars);
+        for (int i = 0; i < nvars; ++i) {
+            buffer.add(new DataBlock(data[i]));
+        }
+        provider.calendarData(dtype, domain, buffer);
+        return data;
+    }
+
+    private static double[][] compute(LengthOfPeriodType ltype, TsDomain domain) {
+        double[] data = new double[domain.getLength()];
+        DataBlock buffer = new DataBlock(data);
+        switch (ltype) {
+            case LeapYear:
+                Utilities.leapYear(domain.getStart(), buffer);
+                break;
+            case LengthOfPeriod:
+                Utilities.lengthofPeriod(domain.getStart(), buffer);
+                break;
+        }
+        return new double[][]{data};
+    }
+
+    /**
+     * The calendars are compared by reference. The type is the type of the
+     * regressor or the parameters of a moving holiday
+     */
+    private static final class Key {
+
+        private final IGregorianCalendarProvider provider;
+        private final Object type;
+        private final TsDomain domain;
+
+        Key(IGregorianCalendarProvider provider, Object type, TsDomain domain) {
+            this.provider = provider;
+            this.type = type;
+            this.domain = domain;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return provider == other.provider && type.equals(other.type) && domain.equals(other.domain);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 7;
+            hash = 53 * hash + System.identityHashCode(provider);
+            hash = 53 * hash + Objects.hashCode(type);
+            hash = 53 * hash + domain.hashCode();
+            return hash;
+        }
+    }
+}
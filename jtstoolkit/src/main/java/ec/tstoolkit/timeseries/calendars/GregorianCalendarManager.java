@@ -18,6 +18,7 @@
 package ec.tstoolkit.timeseries.calendars;
 
 import ec.tstoolkit.algorithm.ProcessingContext;
+import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.utilities.DefinitionMap;
 import ec.tstoolkit.utilities.NameManager;
 import ec.tstoolkit.utilities.WeightedItem;
@@ -52,6 +53,49 @@ public class GregorianCalendarManager extends NameManager<IGregorianCalendarProv
         return getCount() <= 1;
     }
 
+    // the cached regressors of the chained or composite calendars depend on
+    // the other calendars of the manager
+
+    @Override
+    public void clear() {
+        super.clear();
+        CalendarDataCache.instance.clear();
+    }
+
+    @Override
+    public void set(String name, IGregorianCalendarProvider var) {
+        super.set(name, var);
+        CalendarDataCache.instance.clear();
+    }
+
+    @Override
+    public boolean rename(String item, String newname) {
+        boolean rslt = super.rename(item, newname);
+        CalendarDataCache.instance.clear();
+        return rslt;
+    }
+
+    @Override
+    public boolean remove(String name) {
+        boolean rslt = super.remove(name);
+        CalendarDataCache.instance.clear();
+        return rslt;
+    }
+
+    @Override
+    public boolean remove(IGregorianCalendarProvider obj) {
+        boolean rslt = super.remove(obj);
+        CalendarDataCache.instance.clear();
+        return rslt;
+    }
+
+    @Override
+    public boolean read(InformationSet info) {
+        boolean rslt = super.read(info);
+        CalendarDataCache.instance.clear();
+        return rslt;
+    }
+
     public static DefinitionMap defaultDefinitionMap(String code, HashMap<IGregorianCalendarProvider, String> dic) {
         return ProcessingContext.getActiveContext().getGregorianCalendars().buildDefinitionMap(code, dic);
     }
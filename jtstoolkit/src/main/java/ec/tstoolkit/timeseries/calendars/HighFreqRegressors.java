@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.timeseries.calendars;
+
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.timeseries.Day;
+import ec.tstoolkit.timeseries.HighFreqTsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.util.Collection;
+
+/**
+ * Calendar regression variables of daily or weekly series. The variables are
+ * generated in one pass on the days of the series (and on the holidays of the
+ * calendar).
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class HighFreqRegressors {
+
+    private HighFreqRegressors() {
+    }
+
+    /**
+     * Day-of-week contrasts: number of Mondays...Saturdays minus the number of
+     * Sundays in each observation. For daily series, the Sundays are coded by
+     * -1 in each column.
+     *
+     * @param s The series (only its domain is used)
+     * @return A matrix with one row by observation and 6 columns (Monday to
+     * Saturday)
+     */
+    public static Matrix dayOfWeek(HighFreqTsData s) {
+        int n = s.getLength(), period = s.getPeriod();
+        Matrix m = new Matrix(n, 6);
+        double[] data = m.internalStorage();
+        // DayOfWeek: Sunday = 0, Monday = 1...
+        int dw = s.getStart().getDayOfWeek().intValue();
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < period; ++j) {
+                if (dw == 0) {
+                    for (int k = 0, idx = i; k < 6; ++k, idx += n) {
+                        data[idx] -= 1;
+                    }
+                } else {
+                    data[i + (dw - 1) * n] += 1;
+                }
+                if (++dw == 7) {
+                    dw = 0;
+                }
+            }
+        }
+        return m;
+    }
+
+    /**
+     * Holidays dummies: weight of each holiday of the calendar in each
+     * observation.
+     *
+     * @param calendar The calendar
+     * @param s The series (only its domain is used)
+     * @return A matrix with one row by observation and one column by holiday
+     * (in the order of the calendar)
+     */
+    public static Matrix holidays(NationalCalendar calendar, HighFreqTsData s) {
+        Collection<SpecialDayEvent> events = calendar.elements();
+        Matrix m = new Matrix(s.getLength(), events.size());
+        int col = 0;
+        for (SpecialDayEvent ev : events) {
+            double[] h = new double[s.getLength()];
+            fill(ev, s, h, false);
+            m.column(col++).copyFrom(h, 0);
+        }
+        return m;
+    }
+
+    /**
+     * Holidays indicator: for each observation, the sum on its days of the
+     * weights of the holidays. When several holidays fall on the same day, the
+     * largest weight is used.
+     *
+     * @param calendar The calendar
+     * @param s The series (only its domain is used)
+     * @return
+     */
+    public static double[] holidaysIndicator(NationalCalendar calendar, HighFreqTsData s) {
+        int period = s.getPeriod();
+        double[] days = new double[s.getLength() * period];
+        HighFreqTsData ds = HighFreqTsData.daily(s.getStart(), days);
+        for (SpecialDayEvent ev : calendar.elements()) {
+            fill(ev, ds, days, true);
+        }
+        if (period == 1) {
+            return days;
+        }
+        double[] h = new double[s.getLength()];
+        for (int i = 0, j = 0; i < h.length; ++i) {
+            for (int k = 0; k < period; ++k) {
+                h[i] += days[j++];
+            }
+        }
+        return h;
+    }
+
+    private static void fill(SpecialDayEvent ev, HighFreqTsData s, double[] h, boolean max) {
+        Day dstart = s.getStart(), dend = s.getEnd().minus(1);
+        Day start = ev.getStart(), end = ev.getEnd();
+        if (start.isBefore(dstart)) {
+            start = dstart;
+        }
+        if (end.isAfter(dend)) {
+            end = dend;
+        }
+        if (end.isBefore(start)) {
+            return;
+        }
+        double weight = ev.day.getWeight();
+        // the frequency is only used to identify the periods of the days
+        for (IDayInfo info : ev.day.getIterable(TsFrequency.Monthly, start, end)) {
+            int pos = s.search(info.getDay());
+            if (pos >= 0) {
+                if (!max) {
+                    h[pos] += weight;
+                } else if (weight > h[pos]) {
+                    h[pos] = weight;
+                }
+            }
+        }
+    }
+}
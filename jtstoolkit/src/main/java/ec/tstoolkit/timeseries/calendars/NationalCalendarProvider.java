@@ -313,16 +313,18 @@ public class NationalCalendarProvider extends DefaultGregorianCalendarProvider {
     }
 
     public boolean add(ISpecialDay day) {
-        if (!m_locked) {
-            return ncal.add(day);
+        if (!m_locked && ncal.add(day)) {
+            CalendarDataCache.calendarModified();
+            return true;
         } else {
             return false;
         }
     }
 
     public boolean add(SpecialDayEvent evday) {
-        if (!m_locked) {
-            return ncal.add(evday);
+        if (!m_locked && ncal.add(evday)) {
+            CalendarDataCache.calendarModified();
+            return true;
         } else {
             return false;
         }
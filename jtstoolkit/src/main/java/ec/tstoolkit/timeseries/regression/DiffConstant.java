@@ -73,8 +73,7 @@ public class DiffConstant extends AbstractSingleTsVariable {
      */
     @Override
     public void data(TsPeriod start, DataBlock data) {
-        TsPeriod s = new TsPeriod(start.getFrequency(), m_start);
-        int del = start.minus(s);
+        int del = start.id() - TsPeriod.calcId(start.getFrequency(), m_start);
         // raw implementation
         if (del < 0) {
             throw new TsException("Unexpected DConstant");
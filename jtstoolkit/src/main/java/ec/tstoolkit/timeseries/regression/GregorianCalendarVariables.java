@@ -19,6 +19,7 @@ package ec.tstoolkit.timeseries.regression;
 
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.design.Development;
+import ec.tstoolkit.timeseries.calendars.CalendarDataCache;
 import ec.tstoolkit.timeseries.calendars.DefaultGregorianCalendarProvider;
 import ec.tstoolkit.timeseries.calendars.IGregorianCalendarProvider;
 import ec.tstoolkit.timeseries.calendars.TradingDaysType;
@@ -59,7 +60,7 @@ public class GregorianCalendarVariables implements ITradingDaysVariable, Cloneab
 
     @Override
     public void data(TsDomain domain, List<DataBlock> data) {
-        m_provider.calendarData(m_dkind, domain, data);
+        CalendarDataCache.instance.calendarData(m_provider, m_dkind, domain, data);
     }
 
     @Override
@@ -19,10 +19,12 @@ package ec.tstoolkit.timeseries.regression;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.timeseries.Day;
+import ec.tstoolkit.timeseries.calendars.CalendarDataCache;
 import ec.tstoolkit.timeseries.calendars.Utilities;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.util.Arrays;
 import java.util.GregorianCalendar;
 
 /**
@@ -104,6 +106,11 @@ public class JulianEasterVariable extends AbstractSingleTsVariable implements IE
 
     @Override
     public void data(TsPeriod start, DataBlock data) {
+        CalendarDataCache.instance.holiday(Arrays.asList(getClass(), dur_, m_gc),
+                new TsDomain(start, data.getLength()), data, this::compute);
+    }
+
+    private void compute(TsPeriod start, DataBlock data) {
         // very inefficient code.Should be improved
         data.set(0);
         int freq = start.getFrequency().intValue();
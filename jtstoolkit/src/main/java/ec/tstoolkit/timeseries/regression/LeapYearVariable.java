@@ -20,8 +20,8 @@ package ec.tstoolkit.timeseries.regression;
 
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.design.Development;
+import ec.tstoolkit.timeseries.calendars.CalendarDataCache;
 import ec.tstoolkit.timeseries.calendars.LengthOfPeriodType;
-import ec.tstoolkit.timeseries.calendars.Utilities;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
@@ -49,14 +49,7 @@ public class LeapYearVariable extends AbstractSingleTsVariable implements ILengt
     
      @Override
     public void data(TsPeriod start, DataBlock data) {
-        switch (ltype_) {
-            case LeapYear:
-                Utilities.leapYear(start, data);
-                break;
-            case LengthOfPeriod:
-                Utilities.lengthofPeriod(start, data);
-                break;
-        }
+        CalendarDataCache.instance.lengthOfPeriod(ltype_, new TsDomain(start, data.getLength()), data);
     }
 
     @Override
@@ -48,8 +48,7 @@ public class LevelShift extends AbstractOutlierVariable {
     public void data(TsPeriod start, DataBlock data) {
         int n = data.getLength();
         double Zero = zeroEnded ? -1 : 0, One = zeroEnded ? 0 : 1;
-        TsPeriod pstart=new TsPeriod(start.getFrequency(), position);
-        int xpos = pstart.minus(start);
+        int xpos = TsPeriod.calcId(start.getFrequency(), position) - start.id();
         if (xpos <= 0) {
             data.set(One);
         } else if (xpos >= n) {
@@ -49,8 +49,7 @@ public class LinearTrend extends AbstractSingleTsVariable {
      */
     @Override
     public void data(TsPeriod start, DataBlock data) {
-	TsPeriod s = new TsPeriod(start.getFrequency(), m_start);
-	int val = start.minus(s);
+	int val = start.id() - TsPeriod.calcId(start.getFrequency(), m_start);
 	for (int i = 0; i < data.getLength(); ++i) {
             data.set(i, val + i);
         }
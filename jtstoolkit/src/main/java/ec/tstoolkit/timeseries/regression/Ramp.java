@@ -94,8 +94,8 @@ public class Ramp extends AbstractSingleTsVariable implements IUserTsVariable, C
      */
     @Override
     public void data(TsPeriod pstart, DataBlock data) {
-        int t0 = new TsPeriod(pstart.getFrequency(), start.minus(1)).minus(pstart);
-        int t1 = new TsPeriod(pstart.getFrequency(), end.plus(1)).minus(pstart);
+        int t0 = TsPeriod.calcId(pstart.getFrequency(), start.minus(1)) - pstart.id();
+        int t1 = TsPeriod.calcId(pstart.getFrequency(), end.plus(1)) - pstart.id();
         int len = data.getLength();
         if (t1 == t0) {
             data.set(0);
@@ -48,8 +48,7 @@ public class SeasonalOutlier extends AbstractOutlierVariable {
 
     @Override
     public void data(TsPeriod start, DataBlock data) {
-        TsPeriod pstart=new TsPeriod(start.getFrequency(), position);
-        int pos = pstart.minus(start);
+        int pos = TsPeriod.calcId(start.getFrequency(), position) - start.id();
         data.set(0);
         int freq = start.getFrequency().intValue();
 
@@ -43,8 +43,7 @@ public class SwitchOutlier extends AbstractOutlierVariable {
 
     @Override
     public void data(TsPeriod start, DataBlock data) {
-        TsPeriod pstart = new TsPeriod(start.getFrequency(), position);
-        int pos = pstart.minus(start);
+        int pos = TsPeriod.calcId(start.getFrequency(), position) - start.id();
         data.set(0);
         if (pos >= 0) {
             data.set(pos, 1);
@@ -87,8 +87,7 @@ public class TransitoryChange extends AbstractOutlierVariable {
         data.set(0);
         double cur = 1;
         int n = data.getLength();
-        TsPeriod pstart = new TsPeriod(start.getFrequency(), position);
-        int i = pstart.minus(start);
+        int i = TsPeriod.calcId(start.getFrequency(), position) - start.id();
         double c=coefficient(start.getFrequency().intValue());
         for (; i < 0; ++i) {
             cur *= c;
@@ -311,8 +311,11 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
         return Math.sqrt(ssq / n);
     }
 
+    // shared period, never modified
     private TsPeriod start;
     private double[] vals;
+    // cached domain (immutable)
+    private TsDomain domain;
 
     /**
      * Creates a new time series with the specified domain. All values are
@@ -321,13 +324,15 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
      * @param dom The time domain of the series
      */
     public TsData(final TsDomain dom) {
-        start = dom.getStart();
+        start = TsPeriod.shared(dom.getFrequency(), dom.startId());
         vals = new double[dom.getLength()];
+        domain = dom;
         Arrays.fill(vals, Double.NaN);
     }
 
     public TsData(final TsDomain dom, double val) {
-        start = dom.getStart();
+        start = TsPeriod.shared(dom.getFrequency(), dom.startId());
+        domain = dom;
         vals = new double[dom.getLength()];
         for (int i = 0; i < vals.length; ++i) {
             vals[i] = val;
@@ -342,7 +347,7 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
      * @param count Length of the series
      */
     TsData(final TsFrequency freq, final int beg, final int count) {
-        start = new TsPeriod(freq, beg);
+        start = TsPeriod.shared(freq, beg);
         vals = new double[count];
     }
 
@@ -360,7 +365,7 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
      */
     public TsData(final TsFrequency freq, final int firstyear,
             final int firstperiod, final double[] data, boolean copydata) {
-        start = new TsPeriod(freq, firstyear, firstperiod);
+        start = shared(new TsPeriod(freq, firstyear, firstperiod));
         vals = copydata ? data.clone() : data;
     }
 
@@ -376,7 +381,7 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
      */
     public TsData(final TsFrequency freq, final int firstyear,
             final int firstperiod, final int count) {
-        start = new TsPeriod(freq, firstyear, firstperiod);
+        start = shared(new TsPeriod(freq, firstyear, firstperiod));
         vals = new double[count];
     }
 
@@ -390,7 +395,7 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
      * users should no longer use the given data array.
      */
     public TsData(final TsPeriod start, final double[] data, boolean copydata) {
-        this.start = start.clone();
+        this.start = shared(start);
         vals = copydata ? data.clone() : data;
     }
 
@@ -402,7 +407,7 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
      * @param count The length of the series
      */
     public TsData(final TsPeriod start, final int count) {
-        this.start = start.clone();
+        this.start = shared(start);
         vals = new double[count];
     }
 
@@ -414,11 +419,15 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
      * @param vals The read only data
      */
     public TsData(final TsPeriod start, final IReadDataBlock vals) {
-        this.start = start;
+        this.start = shared(start);
         this.vals = new double[vals.getLength()];
         vals.copyTo(this.vals, 0);
     }
 
+    private static TsPeriod shared(final TsPeriod p) {
+        return TsPeriod.shared(p.getFrequency(), p.id());
+    }
+
     @Override
     public void copyTo(double[] buffer, int start) {
         System.arraycopy(vals, 0, buffer, start, vals.length);
@@ -597,7 +606,6 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
     public TsData clone() {
         try {
             TsData data = (TsData) super.clone();
-            data.start = start.clone();
             data.vals = vals.clone();
             return data;
         } catch (CloneNotSupportedException err) {
@@ -688,13 +696,11 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
      * #extend(int, int) @param nlast @return
      */
     public TsData drop(final int nfirst, final int nlast) {
-        TsPeriod s = getStart();
-        s.move(nfirst);
         int n = vals.length - nfirst - nlast;
         if (n < 0) {
             n = 0;
         }
-        TsData nts = new TsData(s, n);
+        TsData nts = new TsData(start.getFrequency(), start.id() + nfirst, n);
         if (n == 0) {
             return nts;
         }
@@ -826,12 +832,15 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
     /**
      * Gets the time domain of the series
      *
-     * @return The domain of the series. Copy of the internal state. Can be
-     * modified
+     * @return The domain of the series (immutable)
      */
-    @NewObject
     public TsDomain getDomain() {
-        return new TsDomain(start, vals.length);
+        TsDomain dom = domain;
+        if (dom == null || dom.getLength() != vals.length) {
+            dom = new TsDomain(start, vals.length);
+            domain = dom;
+        }
+        return dom;
     }
 
     @Deprecated
@@ -911,6 +920,16 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
         return start.clone();
     }
 
+    /**
+     * Gets the identifier of the first period of the series (see
+     * TsPeriod.id()). Doesn't create any object.
+     *
+     * @return
+     */
+    public int startId() {
+        return start.id();
+    }
+
     /**
      * Returns an index calculated on this series.
      *
@@ -998,9 +1017,7 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
      * @see #lead(int)
      */
     public TsData lag(int nperiods) {
-        TsPeriod s = getStart();
-        s.move(-nperiods);
-        return new TsData(s, vals, true);
+        return lead(-nperiods);
     }
 
     /**
@@ -1012,9 +1029,9 @@ public class TsData implements Cloneable, Iterable<TsObservation>, IReadDataBloc
      * @see #lag(int)
      */
     public TsData lead(final int nperiods) {
-        TsPeriod s = getStart();
-        s.move(nperiods);
-        return new TsData(s, vals, true);
+        TsData nts = new TsData(start.getFrequency(), start.id() + nperiods, 0);
+        nts.vals = vals.clone();
+        return nts;
     }
 
     /**
@@ -133,6 +133,43 @@ public class TsDataVintages<T extends Comparable> {
         return vals;
     }
     
+    /**
+     * Creates the compact (columnar) equivalent of some vintages. The method is
+     * static because the store requires strictly comparable vintages.
+     * <p>
+     * The values of each period in each vintage that follows its first
+     * release are preserved, but the vintages in which a period was not
+     * revised are not: an observation equal to the previous one is dropped
+     * and a period that is missing in a later vintage is considered as
+     * unchanged. When some vintages don't contain all the periods (or repeat
+     * unchanged values), the following methods of the store differ from the
+     * methods of this object:
+     * <ul>
+     * <li>data(vintage, true) gives the last values up to the vintage, for
+     * all the released periods (instead of the periods of that vintage only)
+     * </li>
+     * <li>dataVintages(p) gives one value by vintage since the first release
+     * (instead of one value by vintage that contains p)</li>
+     * <li>lastVintage(p) gives the vintage of the last revision (instead of
+     * the last vintage that contains p)</li>
+     * </ul>
+     * The other queries (current, initial, data(vintage, false), toMatrix
+     * with non exact vintages) give the same results.
+     *
+     * @param <T>
+     * @param vintages
+     * @return
+     */
+    public static <T extends Comparable<? super T>> TsDataVintagesStore<T> toStore(TsDataVintages<T> vintages) {
+        TsDataVintagesStore.Builder<T> builder = TsDataVintagesStore.builder();
+        for (Entry<TsPeriod, SortedMap<T, Double>> cur : vintages.data_.entrySet()) {
+            for (Entry<T, Double> v : cur.getValue().entrySet()) {
+                builder.add(cur.getKey(), v.getValue(), v.getKey());
+            }
+        }
+        return builder.build();
+    }
+
     public TsMatrix toMatrix(Collection<T> vintages, boolean exactVintages){
         TsData[] s=new TsData[vintages.size()];
         int i=0;
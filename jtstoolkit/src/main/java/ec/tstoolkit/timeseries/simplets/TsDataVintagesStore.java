@@ -0,0 +1,448 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+*/
+package ec.tstoolkit.timeseries.simplets;
+
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.timeseries.TsException;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Immutable, columnar storage of the vintages of a time series. This is the
+ * compact counterpart of {@link TsDataVintages}: observations are stored in
+ * primitive arrays, period by period, and only the revisions are kept (a
+ * vintage that doesn't change the value of a period is not stored).
+ * <p>
+ * Consequently, a period is considered as observed in every vintage that
+ * follows its first release. The store can be persisted in a binary file and
+ * memory-mapped afterwards.
+ *
+ * @author agent
+ * @param <T> The type of the vintages
+ */
+public final class TsDataVintagesStore<T extends Comparable<? super T>> {
+
+    private static final int MAGIC = 0x56494E54, VERSION = 1;
+
+    private final TsPeriod start;
+    private final int nperiods;
+    private final List<T> vintages;
+    // revisions of the period i are in [offsets[i], offsets[i+1])
+    private final IntBuffer offsets;
+    private final IntBuffer revisions;
+    private final DoubleBuffer values;
+
+    private TsDataVintagesStore(TsPeriod start, int nperiods, List<T> vintages, IntBuffer offsets, IntBuffer revisions, DoubleBuffer values) {
+        this.start = start;
+        this.nperiods = nperiods;
+        this.vintages = Collections.unmodifiableList(vintages);
+        this.offsets = offsets;
+        this.revisions = revisions;
+        this.values = values;
+    }
+
+    public static <T extends Comparable<? super T>> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Gets the domain covered by all the vintages
+     *
+     * @return The domain. Null if the store is empty
+     */
+    public TsDomain getDomain() {
+        return start == null ? null : new TsDomain(start, nperiods);
+    }
+
+    /**
+     * Gets the sorted list of the vintages
+     *
+     * @return An unmodifiable list
+     */
+    public List<T> getVintages() {
+        return vintages;
+    }
+
+    /**
+     * Gets the number of revisions (including the first releases) actually
+     * stored
+     *
+     * @return
+     */
+    public int getRevisionsCount() {
+        return values.limit();
+    }
+
+    public TsData current() {
+        if (start == null) {
+            return null;
+        }
+        double[] rslt = new double[nperiods];
+        for (int i = 0; i < nperiods; ++i) {
+            int beg = offsets.get(i), end = offsets.get(i + 1);
+            rslt[i] = beg == end ? Double.NaN : values.get(end - 1);
+        }
+        return new TsData(start, rslt, false);
+    }
+
+    public TsData initial() {
+        if (start == null) {
+            return null;
+        }
+        double[] rslt = new double[nperiods];
+        for (int i = 0; i < nperiods; ++i) {
+            int beg = offsets.get(i), end = offsets.get(i + 1);
+            rslt[i] = beg == end ? Double.NaN : values.get(beg);
+        }
+        return new TsData(start, rslt, false);
+    }
+
+    /**
+     * Gets the series corresponding to a given vintage
+     *
+     * @param vintage The vintage
+     * @param exactVintage If true, the vintage must belong to the store;
+     * otherwise, the last previous vintage is used
+     * @return The series, defined on the domain of the store. Periods that are
+     * not yet released are missing
+     */
+    public TsData data(T vintage, boolean exactVintage) {
+        if (start == null) {
+            return null;
+        }
+        double[] rslt = new double[nperiods];
+        fill(rank(vintage, exactVintage), rslt, 0);
+        return new TsData(start, rslt, false);
+    }
+
+    /**
+     * Gets the successive values of a given period, from its first release to
+     * the last vintage
+     *
+     * @param p The period
+     * @return The values (one by vintage, starting at the first release). Null
+     * if the period has never been released
+     */
+    public double[] dataVintages(TsPeriod p) {
+        int row = row(p);
+        if (row < 0) {
+            return null;
+        }
+        int beg = offsets.get(row), end = offsets.get(row + 1);
+        if (beg == end) {
+            return null;
+        }
+        int first = revisions.get(beg);
+        double[] rslt = new double[vintages.size() - first];
+        for (int j = beg; j < end; ++j) {
+            int from = revisions.get(j) - first;
+            int to = j + 1 < end ? revisions.get(j + 1) - first : rslt.length;
+            Arrays.fill(rslt, from, to, values.get(j));
+        }
+        return rslt;
+    }
+
+    /**
+     * Gets the vintage of the last revision of a given period
+     *
+     * @param p The period
+     * @return The vintage or null if the period has never been released
+     */
+    public T lastVintage(TsPeriod p) {
+        int row = row(p);
+        if (row < 0) {
+            return null;
+        }
+        int beg = offsets.get(row), end = offsets.get(row + 1);
+        return beg == end ? null : vintages.get(revisions.get(end - 1));
+    }
+
+    public TsMatrix toMatrix(Collection<T> vintages, boolean exactVintages) {
+        if (start == null) {
+            return null;
+        }
+        double[] m = new double[nperiods * vintages.size()];
+        int pos = 0;
+        for (T t : vintages) {
+            fill(rank(t, exactVintages), m, pos);
+            pos += nperiods;
+        }
+        return new TsMatrix(start, new Matrix(m, nperiods, vintages.size()), false);
+    }
+
+    /**
+     * Writes the store in a binary file, which can be memory-mapped by
+     * {@link #map(Path, LongFunction)}
+     *
+     * @param file The file
+     * @param encoder Encodes the vintages
+     * @throws IOException
+     */
+    public void write(Path file, ToLongFunction<? super T> encoder) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            int nrevs = values.limit();
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(start == null ? 0 : start.getFrequency().intValue());
+            out.writeInt(start == null ? 0 : start.getYear());
+            out.writeInt(start == null ? 0 : start.getPosition());
+            out.writeInt(nperiods);
+            out.writeInt(vintages.size());
+            out.writeInt(nrevs);
+            // 8-bytes data first, to keep them aligned
+            for (T t : vintages) {
+                out.writeLong(encoder.applyAsLong(t));
+            }
+            for (int i = 0; i < nrevs; ++i) {
+                out.writeDouble(values.get(i));
+            }
+            for (int i = 0; i <= nperiods; ++i) {
+                out.writeInt(offsets.get(i));
+            }
+            for (int i = 0; i < nrevs; ++i) {
+                out.writeInt(revisions.get(i));
+            }
+        }
+    }
+
+    /**
+     * Memory-maps a store written by {@link #write(Path, ToLongFunction)}. The
+     * data are not copied in the heap
+     *
+     * @param <T>
+     * @param file The file
+     * @param decoder Decodes the vintages. Their order must be preserved
+     * @return
+     * @throws IOException
+     */
+    public static <T extends Comparable<? super T>> TsDataVintagesStore<T> map(Path file, LongFunction<? extends T> decoder) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Invalid vintages file");
+            }
+            int freq = buffer.getInt(), year = buffer.getInt(), position = buffer.getInt();
+            int nperiods = buffer.getInt(), nvintages = buffer.getInt(), nrevs = buffer.getInt();
+            List<T> vintages = new ArrayList<>(nvintages);
+            for (int i = 0; i < nvintages; ++i) {
+                vintages.add(decoder.apply(buffer.getLong()));
+            }
+            DoubleBuffer values = slice(buffer, nrevs * Double.BYTES).asDoubleBuffer();
+            IntBuffer offsets = slice(buffer, (nperiods + 1) * Integer.BYTES).asIntBuffer();
+            IntBuffer revisions = slice(buffer, nrevs * Integer.BYTES).asIntBuffer();
+            TsPeriod start = freq == 0 ? null : new TsPeriod(TsFrequency.valueOf(freq), year, position);
+            return new TsDataVintagesStore<>(start, nperiods, vintages, offsets, revisions, values);
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int length) {
+        ByteBuffer rslt = buffer.slice();
+        rslt.limit(length);
+        buffer.position(buffer.position() + length);
+        return rslt;
+    }
+
+    private int row(TsPeriod p) {
+        if (start == null) {
+            return -1;
+        }
+        int row = p.minus(start);
+        return row < 0 || row >= nperiods ? -1 : row;
+    }
+
+    private int rank(T vintage, boolean exact) {
+        int r = Collections.binarySearch(vintages, vintage);
+        if (r >= 0) {
+            return r;
+        }
+        return exact ? -1 : -r - 2;
+    }
+
+    // fills buffer[pos, pos+nperiods) with the values of the vintage at the given rank
+    private void fill(int rank, double[] buffer, int pos) {
+        if (rank < 0) {
+            Arrays.fill(buffer, pos, pos + nperiods, Double.NaN);
+            return;
+        }
+        for (int i = 0; i < nperiods; ++i) {
+            int beg = offsets.get(i), end = offsets.get(i + 1);
+            // last revision not after rank (binary search)
+            int l = beg, h = end;
+            while (l < h) {
+                int m = (l + h) >>> 1;
+                if (revisions.get(m) <= rank) {
+                    l = m + 1;
+                } else {
+                    h = m;
+                }
+            }
+            buffer[pos + i] = l == beg ? Double.NaN : values.get(l - 1);
+        }
+    }
+
+    /**
+     * Collects observations in any order. When the same period is given
+     * several times for the same vintage, the last value is retained
+     *
+     * @param <T>
+     */
+    public static final class Builder<T extends Comparable<? super T>> {
+
+        private TsFrequency freq;
+        private int n;
+        private int[] ids = new int[64], vids = new int[64];
+        private double[] vals = new double[64];
+        private final Map<T, Integer> vmap = new HashMap<>();
+        private final List<T> vlist = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> add(TsPeriod period, double value, T vintage) {
+            check(period.getFrequency());
+            add(period.id(), value, vid(vintage));
+            return this;
+        }
+
+        public Builder<T> add(TsData data, T vintage) {
+            check(data.getFrequency());
+            int id = data.getStart().id(), vid = vid(vintage);
+            double[] x = data.internalStorage();
+            for (int i = 0; i < x.length; ++i) {
+                add(id + i, x[i], vid);
+            }
+            return this;
+        }
+
+        public TsDataVintagesStore<T> build() {
+            List<T> sorted = new ArrayList<>(vlist);
+            Collections.sort(sorted);
+            if (n == 0) {
+                return new TsDataVintagesStore<>(null, 0, sorted, IntBuffer.allocate(1), IntBuffer.allocate(0), DoubleBuffer.allocate(0));
+            }
+            int[] ranks = new int[vlist.size()];
+            for (int i = 0; i < ranks.length; ++i) {
+                ranks[vmap.get(sorted.get(i))] = i;
+            }
+            int id0 = ids[0], id1 = ids[0];
+            for (int i = 1; i < n; ++i) {
+                id0 = Math.min(id0, ids[i]);
+                id1 = Math.max(id1, ids[i]);
+            }
+            int nperiods = id1 - id0 + 1;
+            // bucket sort by period (stable)
+            int[] offsets = new int[nperiods + 1];
+            for (int i = 0; i < n; ++i) {
+                ++offsets[ids[i] - id0 + 1];
+            }
+            for (int i = 0; i < nperiods; ++i) {
+                offsets[i + 1] += offsets[i];
+            }
+            int[] cur = Arrays.copyOf(offsets, nperiods);
+            int[] r = new int[n];
+            double[] v = new double[n];
+            for (int i = 0; i < n; ++i) {
+                int pos = cur[ids[i] - id0]++;
+                r[pos] = ranks[vids[i]];
+                v[pos] = vals[i];
+            }
+            // sort each period by vintage (stable insertion sort: data usually come ordered)
+            // and keep the revisions only
+            int nrevs = 0;
+            int[] revOffsets = new int[nperiods + 1];
+            for (int i = 0; i < nperiods; ++i) {
+                int beg = offsets[i], end = offsets[i + 1];
+                for (int j = beg + 1; j < end; ++j) {
+                    int rj = r[j];
+                    double vj = v[j];
+                    int k = j - 1;
+                    while (k >= beg && r[k] > rj) {
+                        r[k + 1] = r[k];
+                        v[k + 1] = v[k];
+                        --k;
+                    }
+                    r[k + 1] = rj;
+                    v[k + 1] = vj;
+                }
+                revOffsets[i] = nrevs;
+                for (int j = beg; j < end; ++j) {
+                    if (j + 1 < end && r[j + 1] == r[j]) {
+                        continue; // overwritten by a later observation
+                    }
+                    if (nrevs > revOffsets[i] && Double.doubleToLongBits(v[nrevs - 1]) == Double.doubleToLongBits(v[j])) {
+                        continue; // not a revision
+                    }
+                    r[nrevs] = r[j];
+                    v[nrevs++] = v[j];
+                }
+            }
+            revOffsets[nperiods] = nrevs;
+            TsPeriod start = new TsPeriod(freq);
+            start.move(id0);
+            return new TsDataVintagesStore<>(start, nperiods, sorted, IntBuffer.wrap(revOffsets),
+                    IntBuffer.wrap(Arrays.copyOf(r, nrevs)), DoubleBuffer.wrap(Arrays.copyOf(v, nrevs)));
+        }
+
+        private void check(TsFrequency f) {
+            if (freq == null) {
+                freq = f;
+            } else if (freq != f) {
+                throw new TsException(TsException.INCOMPATIBLE_FREQ);
+            }
+        }
+
+        private int vid(T vintage) {
+            Integer vid = vmap.get(vintage);
+            if (vid == null) {
+                vid = vlist.size();
+                vmap.put(vintage, vid);
+                vlist.add(vintage);
+            }
+            return vid;
+        }
+
+        private void add(int id, double value, int vid) {
+            if (n == ids.length) {
+                int m = n << 1;
+                ids = Arrays.copyOf(ids, m);
+                vids = Arrays.copyOf(vids, m);
+                vals = Arrays.copyOf(vals, m);
+            }
+            ids[n] = id;
+            vids[n] = vid;
+            vals[n++] = value;
+        }
+    }
+}
@@ -141,6 +141,9 @@ public final class TsDomain implements IDomain, Serializable, Iterable<TsPeriod>
      * @return The returned domain may be Empty.
      */
     public TsDomain extend(final int nbefore, final int nafter) {
+        if (nbefore == 0 && nafter == 0) {
+            return this;
+        }
         int c = Math.max(0, m_c + nbefore + nafter);
         return new TsDomain(m_freq, m_beg - nbefore, c);
     }
@@ -275,6 +278,12 @@ public final class TsDomain implements IDomain, Serializable, Iterable<TsPeriod>
         int lend = lbeg + ln, rend = rbeg + rn;
         int beg = lbeg <= rbeg ? rbeg : lbeg;
         int end = lend >= rend ? rend : lend;
+        // no new object when a domain contains the other one
+        if (beg == lbeg && end == lend) {
+            return this;
+        } else if (beg == rbeg && end == rend) {
+            return d;
+        }
 
         return new TsDomain(m_freq, beg, Math.max(0, end - beg));
     }
@@ -312,6 +321,9 @@ public final class TsDomain implements IDomain, Serializable, Iterable<TsPeriod>
      * position. The current object is not modified.
      */
     public TsDomain move(final int nperiods) {
+        if (nperiods == 0) {
+            return this;
+        }
         return new TsDomain(m_freq, m_beg + nperiods, m_c);
     }
 
@@ -440,6 +452,11 @@ public final class TsDomain implements IDomain, Serializable, Iterable<TsPeriod>
         int lend = lbeg + ln, rend = rbeg + rn;
         int beg = lbeg <= rbeg ? lbeg : rbeg;
         int end = lend >= rend ? lend : rend;
+        if (beg == lbeg && end == lend) {
+            return this;
+        } else if (beg == rbeg && end == rend) {
+            return d;
+        }
 
         return new TsDomain(m_freq, beg, end - beg);
     }
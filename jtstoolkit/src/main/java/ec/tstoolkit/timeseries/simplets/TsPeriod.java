@@ -370,6 +370,70 @@ public class TsPeriod implements Serializable, Cloneable, IPeriod,
         return (year - 1970) * freq + placeinyear;
     }
 
+    /**
+     * Gets the identifier of the period of a given frequency that contains a
+     * given day. Equivalent to new TsPeriod(frequency, day).id(), without
+     * creating any object.
+     *
+     * @param frequency The frequency of the period
+     * @param day A day of the period
+     * @return The identifier of the period
+     */
+    public static int calcId(final TsFrequency frequency, final Day day) {
+        // civil date from the number of days since 1/1/1970
+        // (algorithm of H. Hinnant; the years start in March)
+        int z = day.getId() + 719468;
+        int era = (z >= 0 ? z : z - 146096) / 146097;
+        int doe = z - era * 146097;
+        int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (5 * doy + 2) / 153;
+        // 0-based month
+        int month = mp < 10 ? mp + 2 : mp - 10;
+        int year = yoe + era * 400 + (month < 2 ? 1 : 0);
+        int ifreq = frequency.intValue();
+        return calcId(ifreq, year, month / (12 / ifreq));
+    }
+
+    /**
+     * Gets a shared instance of a period. The most usual periods (from 1900
+     * to 2099) are created only once. Shared periods must never be modified
+     * (nor given to the users).
+     *
+     * @param frequency The frequency of the period
+     * @param id The identifier of the period
+     * @return
+     */
+    static TsPeriod shared(final TsFrequency frequency, final int id) {
+        TsPeriod[] periods = SharedPeriods.PERIODS[frequency.intValue()];
+        if (periods != null) {
+            int pos = id - SharedPeriods.START * frequency.intValue();
+            if (pos >= 0 && pos < periods.length) {
+                return periods[pos];
+            }
+        }
+        return new TsPeriod(frequency, id);
+    }
+
+    private static final class SharedPeriods {
+
+        private static final int START = 1900 - 1970, NYEARS = 200;
+        private static final TsPeriod[][] PERIODS = new TsPeriod[13][];
+
+        static {
+            for (TsFrequency freq : TsFrequency.values()) {
+                int ifreq = freq.intValue();
+                if (ifreq > 0) {
+                    TsPeriod[] periods = new TsPeriod[NYEARS * ifreq];
+                    for (int i = 0, id = START * ifreq; i < periods.length; ++i, ++id) {
+                        periods[i] = new TsPeriod(freq, id);
+                    }
+                    PERIODS[ifreq] = periods;
+                }
+            }
+        }
+    }
+
     /**
      * Checks that the period is after a given date.
      * 
@@ -586,7 +650,7 @@ public class TsPeriod implements Serializable, Cloneable, IPeriod,
      *            Day that the period must contain.
      */
     public final void set(final Day day) {
-        set(day.getTimeInMillis());
+        m_id = calcId(m_freq, day);
     }
 
     /**
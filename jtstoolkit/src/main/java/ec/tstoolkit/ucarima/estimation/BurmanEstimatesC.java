@@ -58,6 +58,7 @@ public class BurmanEstimatesC {
     private double[][] m_e, m_f;
     private double[] m_xb, m_xf;
     private boolean m_bmean;
+    private Filters m_filters;
 
     /**
      * Creates a new instance of WKEstimators
@@ -451,60 +452,17 @@ public class BurmanEstimatesC {
         return m_wk.getUcarimaModel();
     }
 
-    /**
-     *
-     */
-    private void initModel() {
-        UcarimaModel ucm = m_wk.getUcarimaModel();
-        // cfr burman-wilson algorithm
-        IArimaModel model = ucm.getModel();
-        int ncmps = ucm.getComponentsCount();
+    private void initModel(final Filters filters) {
+        m_filters = filters;
+        m_wk = filters.wk;
+        m_bmean = filters.bmean;
+        m_ar = filters.ar;
+        m_ma = filters.ma;
+        m_g = filters.g;
+        m_solver = filters.solver;
+        int ncmps = m_g.length;
         m_e = new double[ncmps][];
         m_f = new double[ncmps][];
-        m_g = new Polynomial[ncmps];
-
-        m_ma = model.getMA().getPolynomial();
-        double v = model.getInnovationVariance();
-        if (v != 1) {
-            m_ma = m_ma.times(Math.sqrt(v));
-        }
-        m_ar = model.getAR().getPolynomial();
-
-        for (int i = 0; i < ncmps; ++i) {
-            ArimaModel cmp = ucm.getComponent(i);
-            if (!cmp.isNull()) {
-                SymmetricFilter sma = cmp.sma();
-                if (!sma.isNull()) {
-                    BackFilter umar = model.getNonStationaryAR(), ucar = cmp.getNonStationaryAR();
-                    BackFilter nar = umar.divide(ucar);
-                    BackFilter smar = model.getStationaryAR(), scar = cmp.getStationaryAR();
-                    BackFilter.SimplifyingTool smp = new BackFilter.SimplifyingTool(true);
-                    if (smp.simplify(smar, scar)) {
-                        smar = smp.getLeft();
-                        scar = smp.getRight();
-                    }
-
-                    BackFilter dar = scar;
-                    nar = nar.times(smar);
-
-                    BackFilter denom = new BackFilter(m_ma).times(dar);
-                    SymmetricFilter c = sma.times(SymmetricFilter.createFromFilter(nar));
-                    double mvar = model.getInnovationVariance();
-                    if (mvar != 1) {
-                        c = c.times(1 / mvar);
-                    }
-                    BackFilter gf = c.decompose(denom);
-                    m_g[i] = gf.getPolynomial();
-                } else {
-                    m_g[i] = Polynomial.ZERO;
-                }
-            }
-        }
-        if (useD1()) {
-            m_ar = m_ar.times(UnitRoots.D1);
-        }
-
-        initSolver();
     }
 
     private boolean useD1() {
@@ -522,34 +480,6 @@ public class BurmanEstimatesC {
         return m_wk.getUcarimaModel().getComponent(0).isNull();
     }
 
-    private void initSolver() {
-        Polynomial ma = m_ma;
-        Polynomial ar = m_ar;
-        int qstar = ma.getDegree();
-        int pstar = ar.getDegree();
-        if (useD1()) {
-            qstar += 1;
-        }
-
-        //////////////////////////////////
-//         Complete z, the original series
-//         z is the extended series with forecasts and backcasts
-        Matrix m = new Matrix(pstar + qstar, pstar + qstar);
-        for (int i = 0; i < pstar; ++i) {
-            for (int j = 0; j <= ma.getDegree(); ++j) {
-                m.set(i, i + j, ma.get(j));
-            }
-        }
-        for (int i = 0; i < qstar; ++i) {
-            for (int j = 0; j <= pstar; ++j) {
-                m.set(i + pstar, i + j, ar.get(pstar - j));
-            }
-        }
-
-        m_solver = new CroutDoolittle();
-        m_solver.decompose(m);
-    }
-
     /**
      *
      * @return
@@ -574,8 +504,7 @@ public class BurmanEstimatesC {
      * @param value
      */
     public void setEstimators(final WienerKolmogorovEstimators value) {
-        m_wk = value;
-        initModel();
+        initModel(new Filters(value, m_bmean));
         clearResults();
         clearForecasts();
     }
@@ -602,9 +531,7 @@ public class BurmanEstimatesC {
      * @param value
      */
     public void setUcarimaModel(final UcarimaModel value) {
-        m_wk = new WienerKolmogorovEstimators(value);
-        m_bmean = false;
-        initModel();
+        initModel(new Filters(value, false));
         clearResults();
         clearForecasts();
     }
@@ -614,9 +541,28 @@ public class BurmanEstimatesC {
      * @param value
      */
     public void setUcarimaModelWithMean(final UcarimaModel value) {
-        m_wk = new WienerKolmogorovEstimators(value);
-        m_bmean = true;
-        initModel();
+        initModel(new Filters(value, true));
+        clearResults();
+        clearForecasts();
+    }
+
+    /**
+     * Gets the filters used by the estimation. They can be reused for other
+     * series with the same model
+     *
+     * @return
+     */
+    public Filters getFilters() {
+        return m_filters;
+    }
+
+    /**
+     * Sets the filters (and thus the model) used by the estimation
+     *
+     * @param value
+     */
+    public void setFilters(final Filters value) {
+        initModel(value);
         clearResults();
         clearForecasts();
     }
@@ -633,7 +579,10 @@ public class BurmanEstimatesC {
         } else {
             try {
                 int n = (m_data.length + 1) / 2;
-                double[] err = m_wk.totalErrorVariance(cmp, true, 0, n);
+                double[] err;
+                synchronized (m_wk) {
+                    err = m_wk.totalErrorVariance(cmp, true, 0, n);
+                }
                 double[] e = new double[m_data.length];
                 for (int i = 0; i < err.length; ++i) {
                     double x = m_ser * Math.sqrt(err[i]);
@@ -664,7 +613,10 @@ public class BurmanEstimatesC {
                 }
             }
 
-            double[] e = m_wk.totalErrorVariance(cmp, signal, -m_nf, m_nf);
+            double[] e;
+            synchronized (m_wk) {
+                e = m_wk.totalErrorVariance(cmp, signal, -m_nf, m_nf);
+            }
             double[] err = new double[m_nf];
             for (int i = 0; i < m_nf; ++i) {
                 err[i] = m_ser * Math.sqrt(e[m_nf - 1 - i]);
@@ -674,4 +626,128 @@ public class BurmanEstimatesC {
             return null;
         }
     }
+
+    /**
+     * Data-independent part of the estimation: Wiener-Kolmogorov estimators,
+     * Burman filters and decomposition of the system that gives the initial
+     * values of the filters. The filters only depend on the UCARIMA model and
+     * on the mean correction, so that they can be shared by the estimations of
+     * different series (possibly in different threads).
+     */
+    public static final class Filters {
+
+        private final WienerKolmogorovEstimators wk;
+        private final boolean bmean;
+        private final Polynomial ar, ma;
+        private final Polynomial[] g;
+        private final AbstractLinearSystemSolver solver;
+
+        /**
+         *
+         * @param ucm The UCARIMA model
+         * @param mean True if the model contains a mean
+         */
+        public Filters(final UcarimaModel ucm, final boolean mean) {
+            this(new WienerKolmogorovEstimators(ucm), mean);
+        }
+
+        /**
+         *
+         * @param wk The estimators of the UCARIMA model
+         * @param mean True if the model contains a mean
+         */
+        public Filters(final WienerKolmogorovEstimators wk, final boolean mean) {
+            this.wk = wk;
+            this.bmean = mean;
+            UcarimaModel ucm = wk.getUcarimaModel();
+            // cfr burman-wilson algorithm
+            IArimaModel model = ucm.getModel();
+            int ncmps = ucm.getComponentsCount();
+            g = new Polynomial[ncmps];
+
+            Polynomial pma = model.getMA().getPolynomial();
+            double v = model.getInnovationVariance();
+            if (v != 1) {
+                pma = pma.times(Math.sqrt(v));
+            }
+            Polynomial par = model.getAR().getPolynomial();
+
+            for (int i = 0; i < ncmps; ++i) {
+                ArimaModel cmp = ucm.getComponent(i);
+                if (!cmp.isNull()) {
+                    SymmetricFilter sma = cmp.sma();
+                    if (!sma.isNull()) {
+                        BackFilter umar = model.getNonStationaryAR(), ucar = cmp.getNonStationaryAR();
+                        BackFilter nar = umar.divide(ucar);
+                        BackFilter smar = model.getStationaryAR(), scar = cmp.getStationaryAR();
+                        BackFilter.SimplifyingTool smp = new BackFilter.SimplifyingTool(true);
+                        if (smp.simplify(smar, scar)) {
+                            smar = smp.getLeft();
+                            scar = smp.getRight();
+                        }
+
+                        BackFilter dar = scar;
+                        nar = nar.times(smar);
+
+                        BackFilter denom = new BackFilter(pma).times(dar);
+                        SymmetricFilter c = sma.times(SymmetricFilter.createFromFilter(nar));
+                        double mvar = model.getInnovationVariance();
+                        if (mvar != 1) {
+                            c = c.times(1 / mvar);
+                        }
+                        BackFilter gf = c.decompose(denom);
+                        g[i] = gf.getPolynomial();
+                    } else {
+                        g[i] = Polynomial.ZERO;
+                    }
+                }
+            }
+            boolean d1 = mean && model.getNonStationaryARCount() > 0;
+            if (d1) {
+                par = par.times(UnitRoots.D1);
+            }
+            ar = par;
+            ma = pma;
+            solver = solver(d1);
+        }
+
+        private AbstractLinearSystemSolver solver(boolean d1) {
+            int qstar = ma.getDegree();
+            int pstar = ar.getDegree();
+            if (d1) {
+                qstar += 1;
+            }
+
+            //////////////////////////////////
+//             Complete z, the original series
+//             z is the extended series with forecasts and backcasts
+            Matrix m = new Matrix(pstar + qstar, pstar + qstar);
+            for (int i = 0; i < pstar; ++i) {
+                for (int j = 0; j <= ma.getDegree(); ++j) {
+                    m.set(i, i + j, ma.get(j));
+                }
+            }
+            for (int i = 0; i < qstar; ++i) {
+                for (int j = 0; j <= pstar; ++j) {
+                    m.set(i + pstar, i + j, ar.get(pstar - j));
+                }
+            }
+
+            CroutDoolittle lu = new CroutDoolittle();
+            lu.decompose(m);
+            return lu;
+        }
+
+        public UcarimaModel getUcarimaModel() {
+            return wk.getUcarimaModel();
+        }
+
+        public WienerKolmogorovEstimators getEstimators() {
+            return wk;
+        }
+
+        public boolean isMeanCorrection() {
+            return bmean;
+        }
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.utilities;
+
+import ec.tstoolkit.design.Development;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Utilities on the tasks executed by an executor service.
+ *
+ * @author agent
+ */
+@Development(status = Development.Status.Alpha)
+public final class Tasks {
+
+    private Tasks() {
+    }
+
+    /**
+     * Executes the given tasks and returns when all of them are completed.
+     * The results and the errors of the tasks are ignored; the tasks are
+     * expected to store their results (for instance in a memo), so that the
+     * errors will be raised again when the results are requested.
+     *
+     * @param <T>
+     * @param executor The executor used for the computations
+     * @param tasks The tasks
+     */
+    public static <T> void invokeAll(ExecutorService executor, Collection<? extends Callable<T>> tasks) {
+        try {
+            executor.invokeAll(tasks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.benchmarking.simplets;
+
+import data.Data;
+import ec.tstoolkit.ssf.ISsf;
+import ec.tstoolkit.ssf.arima.SsfAr1;
+import ec.tstoolkit.ssf.arima.SsfRw;
+import ec.tstoolkit.timeseries.TsAggregationType;
+import ec.tstoolkit.timeseries.regression.Constant;
+import ec.tstoolkit.timeseries.regression.TsVariable;
+import ec.tstoolkit.timeseries.regression.TsVariableList;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class TsDisaggregationBatchTest {
+
+    public TsDisaggregationBatchTest() {
+    }
+
+    private static List<TsData> series() {
+        List<TsData> y = new ArrayList<>();
+        y.add(Data.Y);
+        y.add(Data.Y.times(2.5).plus(100));
+        y.add(Data.Y.drop(3, 2));
+        TsData z = Data.Y.clone();
+        for (int i = 0; i < z.getLength(); ++i) {
+            z.set(i, z.get(i) * (1 + .01 * Math.sin(i)));
+        }
+        y.add(z);
+        y.add(Data.Y.drop(0, 1).times(.5));
+        return y;
+    }
+
+    private static TsDisaggregation<SsfAr1> chowLin() {
+        TsDisaggregation<SsfAr1> disagg = new TsDisaggregation<>();
+        disagg.setSsf(new SsfAr1());
+        disagg.setMapping(new SsfAr1.Mapping(false));
+        disagg.calculateVariance(true);
+        return disagg;
+    }
+
+    private static TsDisaggregation<SsfRw> fernandez() {
+        TsDisaggregation<SsfRw> disagg = new TsDisaggregation<>();
+        disagg.setSsf(new SsfRw());
+        return disagg;
+    }
+
+    private static <S extends ISsf> void check(Supplier<TsDisaggregation<S>> factory, TsVariableList x, TsAggregationType type) {
+        List<TsData> y = series();
+        TsDisaggregationBatch<S> batch = new TsDisaggregationBatch<>(factory, x);
+        batch.setAggregationType(type);
+        batch.setThreadsCount(3);
+        List<TsDisaggregation<S>> rslts = batch.process(y);
+        assertEquals(y.size(), rslts.size());
+        if (!x.isEmpty()) {
+            // the cumulated indicators are shared
+            assertSame(rslts.get(0).getData().hEX, rslts.get(1).getData().hEX);
+        }
+        for (int i = 0; i < y.size(); ++i) {
+            TsDisaggregation<S> single = factory.get();
+            assertTrue(single.process(batch.model(y.get(i)), null));
+            TsDisaggregation<S> cur = rslts.get(i);
+            assertEquals(single.getSmoothedSeries().getDomain(), cur.getSmoothedSeries().getDomain());
+            assertArrayEquals(single.getSmoothedSeries().internalStorage(), cur.getSmoothedSeries().internalStorage(), 0);
+            assertEquals(single.getLikelihood().getLogLikelihood(), cur.getLikelihood().getLogLikelihood(), 0);
+            if (single.getSmoothedSeriesVariance() != null) {
+                assertArrayEquals(single.getSmoothedSeriesVariance().internalStorage(), cur.getSmoothedSeriesVariance().internalStorage(), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testChowLin() {
+        TsVariableList x = new TsVariableList();
+        x.add(new Constant());
+        x.add(new TsVariable(Data.Q));
+        check(TsDisaggregationBatchTest::chowLin, x, TsAggregationType.Sum);
+        check(TsDisaggregationBatchTest::chowLin, x, TsAggregationType.Average);
+        check(TsDisaggregationBatchTest::chowLin, x, TsAggregationType.Last);
+    }
+
+    @Test
+    public void testFernandez() {
+        TsVariableList x = new TsVariableList();
+        x.add(new TsVariable(Data.Q));
+        check(TsDisaggregationBatchTest::fernandez, x, TsAggregationType.Sum);
+    }
+
+    @Test
+    public void testNoIndicator() {
+        check(TsDisaggregationBatchTest::fernandez, new TsVariableList(), TsAggregationType.Sum);
+    }
+
+    @Test
+    public void testInvalidFirstSeries() {
+        TsVariableList x = new TsVariableList();
+        x.add(new TsVariable(Data.Q));
+        List<TsData> y = series();
+        y.add(0, Data.P);
+        TsDisaggregationBatch<SsfAr1> batch = new TsDisaggregationBatch<>(TsDisaggregationBatchTest::chowLin, x);
+        List<TsDisaggregation<SsfAr1>> rslts = batch.process(y);
+        assertNull(rslts.get(0));
+        // the indicators are prepared with the first valid series
+        assertSame(rslts.get(1).getData().hEX, rslts.get(2).getData().hEX);
+    }
+
+    @Test
+    public void testStreaming() {
+        TsVariableList x = new TsVariableList();
+        x.add(new TsVariable(Data.Q));
+        List<TsData> y = series();
+        y.add(Data.P); // monthly series can't be disaggregated with quarterly indicators
+        TsDisaggregationBatch<SsfAr1> batch = new TsDisaggregationBatch<>(TsDisaggregationBatchTest::chowLin, x);
+        int[] count = new int[y.size()];
+        batch.process(y, (i, rslt) -> {
+            count[i]++;
+            assertEquals(i < y.size() - 1, rslt != null);
+        });
+        for (int i = 0; i < count.length; ++i) {
+            assertEquals(1, count[i]);
+        }
+    }
+}
@@ -18,6 +18,7 @@ package ec.benchmarking.simplets;
 
 import ec.benchmarking.simplets.TsMultiBenchmarking.ContemporaneousConstraintDescriptor;
 import ec.benchmarking.simplets.TsMultiBenchmarking.TemporalConstraintDescriptor;
+import ec.tstoolkit.timeseries.TsAggregationType;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsDataTable;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
@@ -80,5 +81,91 @@ public class TsMultiBenchmarkingTest {
 //        table.add(mb.getResult("s22"));
 //        System.out.println(table);
     }
-    
+
+    private static TsMultiBenchmarking table(TsData[] s, TsData S22, boolean temporal, TsMultiBenchmarking.Solver solver) {
+        TsMultiBenchmarking mb = new TsMultiBenchmarking();
+        mb.setRho(.8);
+        mb.setSolver(solver);
+        String[] names = {"s11", "s12", "s21", "s22", "s_1", "s_2", "s2_"};
+        for (int i = 0; i < names.length; ++i) {
+            mb.addInput(names[i], s[i]);
+        }
+        mb.addContemporaneousConstraint(ContemporaneousConstraintDescriptor.parse("s_1=s11+s21"));
+        mb.addContemporaneousConstraint(ContemporaneousConstraintDescriptor.parse("s_2=s12+s22"));
+        mb.addContemporaneousConstraint(ContemporaneousConstraintDescriptor.parse("s2_=s21+s22"));
+        if (temporal) {
+            mb.addInput("S22", S22);
+            mb.addTemporalConstraint(TemporalConstraintDescriptor.parse("S22=sum(s22)"));
+        }
+        assertTrue(mb.process());
+        return mb;
+    }
+
+    private static double maxAbs(TsData s) {
+        double m = 0;
+        for (int i = 0; i < s.getLength(); ++i) {
+            m = Math.max(m, Math.abs(s.get(i)));
+        }
+        return m;
+    }
+
+    @Test
+    public void testIterativeSolver() {
+        TsData[] s = new TsData[7];
+        for (int i = 0; i < s.length; ++i) {
+            s[i] = new TsData(TsFrequency.Monthly, 1980, 0, 120);
+            s[i].randomAirline();
+            s[i].getValues().add(1000);
+        }
+        TsData S22 = new TsData(TsFrequency.Yearly, 1980, 0, 12);
+        S22.set(i -> 12000 + 10 * i);
+        for (int k = 0; k < 2; ++k) {
+            TsMultiBenchmarking ssf = table(s, S22, k == 0, TsMultiBenchmarking.Solver.StateSpace);
+            TsMultiBenchmarking cg = table(s, S22, k == 0, TsMultiBenchmarking.Solver.Iterative);
+            for (String n : ssf.endogenous()) {
+                TsData del = TsData.subtract(ssf.getResult(n), cg.getResult(n));
+                assertTrue(maxAbs(del) < 1e-6);
+            }
+        }
+    }
+
+    @Test
+    public void testLargeContemporaneous() {
+        int n = 300;
+        TsMultiBenchmarking mb = new TsMultiBenchmarking();
+        mb.setRho(.9);
+        mb.setLambda(1);
+        TsData total = null;
+        ContemporaneousConstraintDescriptor cnt = new ContemporaneousConstraintDescriptor("total");
+        for (int i = 0; i < n; ++i) {
+            TsData s = new TsData(TsFrequency.Monthly, 1990, 0, 240);
+            s.randomAirline();
+            s.getValues().add(1000);
+            mb.addInput("s" + i, s);
+            cnt.add("s" + i, 1);
+            total = total == null ? s : TsData.add(total, s);
+            if (i % 10 == 0) {
+                TsData a = s.changeFrequency(TsFrequency.Yearly, TsAggregationType.Sum, true);
+                a.getValues().mul(1.01);
+                mb.addInput("a" + i, a);
+                mb.addTemporalConstraint(new TemporalConstraintDescriptor("a" + i, "s" + i));
+            }
+        }
+        total.getValues().mul(1.02);
+        mb.addInput("total", total);
+        mb.addContemporaneousConstraint(cnt);
+        assertTrue(mb.process());
+        TsData sum = null;
+        for (int i = 0; i < n; ++i) {
+            TsData cur = mb.getResult("s" + i);
+            sum = sum == null ? cur : TsData.add(sum, cur);
+            if (i % 10 == 0) {
+                TsData a = cur.changeFrequency(TsFrequency.Yearly, TsAggregationType.Sum, true);
+                TsData del = TsData.subtract(a, mb.getInput("a" + i));
+                assertTrue(maxAbs(del) < 1e-6);
+            }
+        }
+        assertTrue(maxAbs(TsData.subtract(sum, total)) < 1e-6);
+    }
+
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.satoolkit.diagnostics;
+
+import data.Data;
+import ec.tstoolkit.stats.StatisticalTest;
+import ec.tstoolkit.timeseries.TsAggregationType;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class SeasonalityTestBatteryTest {
+
+    public SeasonalityTestBatteryTest() {
+    }
+
+    private static void assertSameTest(StatisticalTest t1, StatisticalTest t2) {
+        if (t1 == null) {
+            assertSame(null, t2);
+        } else {
+            assertEquals(t1.getValue(), t2.getValue(), 0);
+            assertEquals(t1.getPValue(), t2.getPValue(), 0);
+        }
+    }
+
+    private static void check(TsData s, SeasonalityTestBattery battery) {
+        int freq = s.getFrequency().intValue();
+        assertSameTest(new FriedmanTest(s), battery.getFriedmanTest());
+        assertSameTest(new KruskalWallisTest(s), battery.getKruskalWallisTest());
+        assertSameTest(SeasonalityTest.stableSeasonality(s), battery.getStableSeasonalityTest());
+        assertSameTest(QSTest.compute(s.internalStorage(), freq, 2), battery.getQsTest());
+        assertSameTest(QSTest.compute(s.internalStorage(), freq, 3), battery.getQsTest(3));
+        assertSameTest(PeriodogramTest.computeSum2(s, freq), battery.getPeriodogramTest());
+
+        AutoRegressiveSpectrumTest ar = new AutoRegressiveSpectrumTest();
+        assertEquals(ar.test(s), battery.getArPeaks() != null);
+        if (battery.getArPeaks() != null) {
+            assertArrayEquals(ar.seasonalPeaks(.9, .99), battery.getArPeaks().seasonalPeaks(.9, .99));
+        }
+        TukeySpectrumPeaksTest tukey = new TukeySpectrumPeaksTest();
+        assertEquals(tukey.test(s), battery.getTukeyPeaks() != null);
+        if (battery.getTukeyPeaks() != null) {
+            assertArrayEquals(tukey.seasonalPeaks(.9, .99), battery.getTukeyPeaks().seasonalPeaks(.9, .99));
+        }
+
+        CombinedSeasonalityTest c1 = new CombinedSeasonalityTest(s, false), c2 = battery.getCombinedSeasonalityTest(false);
+        assertEquals(c1.getSummary(), c2.getSummary());
+        assertEquals(c1.mvalue(), c2.mvalue(), 0);
+    }
+
+    @Test
+    public void testMonthly() {
+        TsData s = Data.X.log().delta(1);
+        SeasonalityTestBattery battery = new SeasonalityTestBattery(s);
+        check(s, battery);
+        // the intermediate results are shared
+        assertSame(battery.getPeriodogram(), battery.getPeriodogram());
+        assertSame(battery.getAutoRegressiveSpectrum(30), battery.getAutoRegressiveSpectrum(30));
+        assertEquals(s.getLength() / 12, battery.getYearlyRanks().getRowsCount());
+    }
+
+    @Test
+    public void testQuarterly() {
+        TsData s = Data.X.changeFrequency(TsFrequency.Quarterly, TsAggregationType.Sum, true).log().delta(1);
+        check(s, new SeasonalityTestBattery(s));
+        TsData shortS = s.drop(s.getLength() - 30, 0);
+        check(shortS, new SeasonalityTestBattery(shortS));
+    }
+
+    @Test
+    public void testPrefetch() {
+        TsData s = Data.P.delta(12);
+        SeasonalityTestBattery battery = new SeasonalityTestBattery(s);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            battery.prefetch(executor);
+        } finally {
+            executor.shutdown();
+        }
+        assertNotNull(battery.getFriedmanTest());
+        check(s, battery);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.satoolkit.seats;
+
+import data.Data;
+import ec.satoolkit.DefaultSeriesDecomposition;
+import ec.tstoolkit.modelling.ComponentInformation;
+import ec.tstoolkit.modelling.ComponentType;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaModelBuilder;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.ucarima.UcarimaModel;
+import ec.tstoolkit.ucarima.estimation.BurmanEstimatesC;
+import org.junit.After;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class DecompositionCacheTest {
+
+    private static final ComponentType[] TYPES = {ComponentType.Trend, ComponentType.Seasonal,
+        ComponentType.SeasonallyAdjusted, ComponentType.Irregular};
+    private static final ComponentInformation[] INFOS = {ComponentInformation.Value, ComponentInformation.Stdev,
+        ComponentInformation.Forecast, ComponentInformation.StdevForecast};
+
+    public DecompositionCacheTest() {
+    }
+
+    @Before
+    public void setUp() {
+        DecompositionCache.instance.clear();
+    }
+
+    @After
+    public void tearDown() {
+        DecompositionCache.instance.setEnabled(true);
+        DecompositionCache.instance.setCapacity(DecompositionCache.DEF_CAPACITY);
+        DecompositionCache.instance.clear();
+    }
+
+    private static DefaultSeriesDecomposition decompose(TsData s, SarimaModel arima) {
+        SeatsModel model = new SeatsModel(s, arima, false);
+        UcarimaModel ucm = new DefaultModelDecomposer(false).decompose(model, null, null);
+        return new WienerKolmogorovEstimator(-2).decompose(model, ucm, null, null);
+    }
+
+    private static void assertIdentical(DefaultSeriesDecomposition d1, DefaultSeriesDecomposition d2) {
+        for (ComponentType type : TYPES) {
+            for (ComponentInformation info : INFOS) {
+                TsData s1 = d1.getSeries(type, info), s2 = d2.getSeries(type, info);
+                if (s1 == null) {
+                    assertSame(null, s2);
+                } else {
+                    assertEquals(s1.getDomain(), s2.getDomain());
+                    assertArrayEquals(s1.internalStorage(), s2.internalStorage(), 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDecomposition() {
+        SarimaModel arima = new SarimaModelBuilder().createAirlineModel(12, -.6, -.8);
+        DefaultModelDecomposer decomposer = new DefaultModelDecomposer(false);
+        long hits = DecompositionCache.instance.getHitsCount();
+        UcarimaModel ucm1 = decomposer.decompose(new SeatsModel(Data.X, arima, false), null, null);
+        UcarimaModel ucm2 = decomposer.decompose(new SeatsModel(Data.P, arima.clone(), false), null, null);
+        assertEquals(1, DecompositionCache.instance.getDecompositionsCount());
+        assertEquals(hits + 1, DecompositionCache.instance.getHitsCount());
+        assertNotSame(ucm1, ucm2);
+        assertEquals(ucm1.toString(), ucm2.toString());
+        // the users can't modify the cached decomposition
+        ucm2.compact(2, 2);
+        UcarimaModel ucm3 = decomposer.decompose(new SeatsModel(Data.P, arima, false), null, null);
+        assertEquals(ucm1.toString(), ucm3.toString());
+        // other settings
+        DefaultModelDecomposer decomposer2 = new DefaultModelDecomposer(false);
+        decomposer2.setRmod(.4);
+        decomposer2.decompose(new SeatsModel(Data.P, arima, false), null, null);
+        assertEquals(2, DecompositionCache.instance.getDecompositionsCount());
+    }
+
+    @Test
+    public void testIdenticalResults() {
+        SarimaModel arima = new SarimaModelBuilder().createAirlineModel(12, -.4, -.7);
+        DecompositionCache.instance.setEnabled(false);
+        DefaultSeriesDecomposition d1 = decompose(Data.X, arima);
+        DefaultSeriesDecomposition d2 = decompose(Data.P, arima);
+        assertEquals(0, DecompositionCache.instance.getFiltersCount());
+        DecompositionCache.instance.setEnabled(true);
+        long hits = DecompositionCache.instance.getHitsCount();
+        DefaultSeriesDecomposition c1 = decompose(Data.X, arima);
+        DefaultSeriesDecomposition c2 = decompose(Data.P, arima);
+        assertEquals(1, DecompositionCache.instance.getFiltersCount());
+        assertEquals(hits + 2, DecompositionCache.instance.getHitsCount());
+        assertIdentical(d1, c1);
+        assertIdentical(d2, c2);
+    }
+
+    @Test
+    public void testFilters() {
+        SarimaModel arima = new SarimaModelBuilder().createAirlineModel(12, -.5, -.9);
+        UcarimaModel ucm = new DefaultModelDecomposer(false).decompose(new SeatsModel(Data.X, arima, false), null, null);
+        ucm.compact(2, 2);
+        BurmanEstimatesC.Filters f1 = DecompositionCache.instance.filters(ucm, false);
+        assertSame(f1, DecompositionCache.instance.filters(ucm.clone(), false));
+        BurmanEstimatesC.Filters f2 = DecompositionCache.instance.filters(ucm, true);
+        assertNotSame(f1, f2);
+        assertEquals(2, DecompositionCache.instance.getFiltersCount());
+
+        BurmanEstimatesC b1 = new BurmanEstimatesC(), b2 = new BurmanEstimatesC();
+        b1.setUcarimaModel(ucm);
+        b1.setData(Data.X);
+        b2.setFilters(f1);
+        b2.setData(Data.X);
+        for (int i = 0; i < ucm.getComponentsCount(); ++i) {
+            assertArrayEquals(b1.estimates(i, true), b2.estimates(i, true), 0);
+            assertArrayEquals(b1.stdevEstimates(i), b2.stdevEstimates(i), 0);
+        }
+    }
+
+    @Test
+    public void testCapacity() {
+        DecompositionCache.instance.setCapacity(3);
+        DefaultModelDecomposer decomposer = new DefaultModelDecomposer(false);
+        for (int i = 1; i <= 5; ++i) {
+            SarimaModel arima = new SarimaModelBuilder().createAirlineModel(12, -.1 * i, -.5);
+            decomposer.decompose(new SeatsModel(Data.X, arima, false), null, null);
+        }
+        assertEquals(3, DecompositionCache.instance.getDecompositionsCount());
+        DecompositionCache.instance.setCapacity(1);
+        assertEquals(1, DecompositionCache.instance.getDecompositionsCount());
+        // the most recent model is kept
+        SarimaModel arima = new SarimaModelBuilder().createAirlineModel(12, -.5, -.5);
+        long hits = DecompositionCache.instance.getHitsCount();
+        decomposer.decompose(new SeatsModel(Data.X, arima, false), null, null);
+        assertEquals(hits + 1, DecompositionCache.instance.getHitsCount());
+    }
+}
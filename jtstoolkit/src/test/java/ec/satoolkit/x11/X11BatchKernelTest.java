@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.satoolkit.x11;
+
+import data.Data;
+import ec.satoolkit.DecompositionMode;
+import ec.satoolkit.DefaultPreprocessingFilter;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.maths.linearfilters.SymmetricFilter;
+import ec.tstoolkit.modelling.DefaultTransformationType;
+import ec.tstoolkit.modelling.arima.IPreprocessor;
+import ec.tstoolkit.modelling.arima.PreprocessingModel;
+import ec.tstoolkit.modelling.arima.x13.RegArimaSpecification;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import java.util.Collections;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author agent
+ */
+public class X11BatchKernelTest {
+
+    public X11BatchKernelTest() {
+    }
+
+    private static TsData[] batch() {
+        TsDomain domain = Data.X.getDomain().intersection(Data.M1.getDomain())
+                .intersection(Data.M2.getDomain()).intersection(Data.M3.getDomain());
+        return new TsData[]{Data.X.fittoDomain(domain), Data.M1.fittoDomain(domain),
+            Data.M2.fittoDomain(domain), Data.M3.fittoDomain(domain)};
+    }
+
+    private static void compare(X11Specification spec) {
+        TsData[] s = batch();
+        X11BatchKernel batch = new X11BatchKernel(spec);
+        assertTrue(batch.isVectorized());
+        compare(X11Toolkit.create(spec), s, batch.process(s));
+    }
+
+    /**
+     * Compares the results of a batch with the results of the X11Kernel. The
+     * batch must process every series that the X11Kernel can process
+     */
+    private static void compare(X11Toolkit toolkit, TsData[] s, X11Results[] rslts) {
+        X11Kernel kernel = new X11Kernel();
+        kernel.setToolkit(toolkit);
+        kernel.setLeanTables(Collections.emptyList());
+        for (int i = 0; i < s.length; ++i) {
+            X11Results ref;
+            try {
+                ref = kernel.process(s[i]);
+            } catch (X11Exception err) {
+                ref = null;
+            }
+            if (ref == null) {
+                assertNull(rslts[i]);
+                continue;
+            }
+            assertNotNull(rslts[i]);
+            for (String table : new String[]{X11Kernel.D10, X11Kernel.D11, X11Kernel.D12,
+                X11Kernel.D13, X11Kernel.D10a, X11Kernel.D11a, X11Kernel.D12a}) {
+                String id = InformationSet.concatenate(X11Kernel.D, table);
+                TsData r = ref.getData(id, TsData.class), b = rslts[i].getData(id, TsData.class);
+                if (r == null) {
+                    assertNull(b);
+                } else {
+                    assertEquals(r.getDomain(), b.getDomain());
+                    assertEquals(0, r.distance(b), 1e-9);
+                }
+            }
+            for (String info : new String[]{X11Kernel.D9_FILTER, X11Kernel.D12_FILTER}) {
+                String id = InformationSet.concatenate(X11Kernel.D, info);
+                assertEquals(ref.getData(id, String.class), rslts[i].getData(id, String.class));
+            }
+        }
+    }
+
+    @Test
+    public void testDefault() {
+        X11Specification spec = new X11Specification();
+        spec.setMode(DecompositionMode.Multiplicative);
+        spec.setForecastHorizon(0);
+        compare(spec);
+        spec.setHendersonFilterLength(13);
+        compare(spec);
+    }
+
+    @Test
+    public void testForecasts() {
+        X11Specification spec = new X11Specification();
+        spec.setMode(DecompositionMode.Multiplicative);
+        spec.setForecastHorizon(-1);
+        compare(spec);
+    }
+
+    @Test
+    public void testAdditive() {
+        X11Specification spec = new X11Specification();
+        spec.setMode(DecompositionMode.Additive);
+        spec.setForecastHorizon(0);
+        spec.setSeasonalFilter(SeasonalFilterOption.S3X9);
+        spec.setHendersonFilterLength(23);
+        compare(spec);
+    }
+
+    @Test
+    public void testCalendarSigma() {
+        X11Specification spec = new X11Specification();
+        spec.setMode(DecompositionMode.Multiplicative);
+        spec.setForecastHorizon(0);
+        spec.setCalendarSigma(CalendarSigma.All);
+        compare(spec);
+        spec.setCalendarSigma(CalendarSigma.Signif);
+        compare(spec);
+    }
+
+    @Test
+    public void testInvalidSeries() {
+        TsData[] s = batch();
+        s[1] = s[1].times(-1);
+        X11Specification spec = new X11Specification();
+        spec.setMode(DecompositionMode.Multiplicative);
+        spec.setForecastHorizon(0);
+        X11Results[] rslts = new X11BatchKernel(spec).process(s);
+        assertNull(rslts[1]);
+        compare(X11Toolkit.create(spec), s, rslts);
+    }
+
+    @Test
+    public void testFailingFilter() {
+        X11Specification spec = new X11Specification();
+        spec.setMode(DecompositionMode.Multiplicative);
+        spec.setForecastHorizon(0);
+        X11Toolkit toolkit = X11Toolkit.create(spec);
+        // the initial seasonal filter fails on the second series
+        DefaultSeasonalComputer scomputer = new DefaultSeasonalComputer() {
+            private int ncalls;
+
+            @Override
+            IFiltering getInitialFilter() {
+                IFiltering filter = super.getInitialFilter();
+                return new IFiltering() {
+                    @Override
+                    public SymmetricFilter getCentralFilter() {
+                        return filter.getCentralFilter();
+                    }
+
+                    @Override
+                    public String getDescription() {
+                        return filter.getDescription();
+                    }
+
+                    @Override
+                    public TsData process(TsData s, TsDomain domain) {
+                        if (++ncalls == 2) {
+                            throw new X11Exception("Degenerate series");
+                        }
+                        return filter.process(s, domain);
+                    }
+                };
+            }
+        };
+        scomputer.setFilters(spec.getSeasonalFilters());
+        toolkit.setSeasonalFilterprovider(scomputer);
+        TsData[] s = batch();
+        X11Results[] rslts = new X11BatchKernel(spec, toolkit).process(s);
+        assertNull(rslts[1]);
+        // the other series are processed normally
+        compare(X11Toolkit.create(spec), new TsData[]{s[0], s[2], s[3]},
+                new X11Results[]{rslts[0], rslts[2], rslts[3]});
+    }
+
+    @Test
+    public void testRegArimaPreprocessing() {
+        X11Specification spec = new X11Specification();
+        spec.setMode(DecompositionMode.Multiplicative);
+        spec.setForecastHorizon(-1);
+        X11Toolkit toolkit = X11Toolkit.create(spec);
+        toolkit.setPreprocessor(new RegArimaPreprocessor(spec.getForecastHorizon()));
+        TsData[] s = batch();
+        X11Results[] rslts = new X11BatchKernel(spec, toolkit).process(s);
+        compare(toolkit, s, rslts);
+        // the final tables contain the effects of the pre-processing
+        boolean adjusted = false;
+        for (X11Results rslt : rslts) {
+            TsData d11 = rslt.getData(InformationSet.concatenate(X11Kernel.D, X11Kernel.D11), TsData.class);
+            TsData d11l = rslt.getData(InformationSet.concatenate(X11Kernel.D, X11Kernel.D11L), TsData.class);
+            if (d11.distance(d11l) > 1e-6) {
+                adjusted = true;
+            }
+        }
+        assertTrue(adjusted);
+    }
+
+    /**
+     * RegArima pre-processing of each series of a batch (see X11Decomposer)
+     */
+    private static class RegArimaPreprocessor extends DefaultX11Algorithm implements IX11Preprocessor {
+
+        private final IPreprocessor preprocessor;
+        private final int nf;
+
+        RegArimaPreprocessor(int nf) {
+            RegArimaSpecification rspec = RegArimaSpecification.RG4.clone();
+            rspec.getTransform().setFunction(DefaultTransformationType.Log);
+            this.preprocessor = rspec.build();
+            this.nf = nf;
+        }
+
+        @Override
+        public void preprocess(InformationSet info) {
+            TsData a1 = info.subSet(X11Kernel.A).get(X11Kernel.A1, TsData.class);
+            PreprocessingModel model = preprocessor.process(a1, null);
+            DefaultPreprocessingFilter filter = new DefaultPreprocessingFilter();
+            filter.setForecastHorizon(nf);
+            filter.process(model);
+            DefaultPreprocessor cur = new DefaultPreprocessor(model, filter, false);
+            cur.setContext(context);
+            cur.preprocess(info);
+        }
+    }
+
+    @Test
+    public void testNotVectorized() {
+        X11Specification spec = new X11Specification();
+        spec.setForecastHorizon(0);
+        spec.setMode(DecompositionMode.LogAdditive);
+        X11BatchKernel batch = new X11BatchKernel(spec);
+        assertFalse(batch.isVectorized());
+        X11Results[] rslts = batch.process(batch());
+        assertEquals(4, rslts.length);
+        assertNotNull(rslts[0].getData(InformationSet.concatenate(X11Kernel.D, X11Kernel.D11), TsData.class));
+    }
+}
@@ -23,6 +23,8 @@ import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.maths.linearfilters.SymmetricFilter;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.util.Arrays;
+import java.util.Collections;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
@@ -262,6 +264,39 @@ public class X11KernelTest {
         ) != null);
     }
 
+    @Test
+    public void testLeanMode() {
+        X11Specification spec = new X11Specification();
+        spec.setForecastHorizon(-1);
+        X11Toolkit toolkit = X11Toolkit.create(spec);
+        toolkit.setPreprocessor(new AirlinePreprocessor());
+        X11Kernel kernel = new X11Kernel();
+        kernel.setToolkit(toolkit);
+        X11Results full = kernel.process(Data.X);
+        kernel.setLeanTables(Arrays.asList(Mstatistics.X11_TABLES));
+        X11Results lean = kernel.process(Data.X);
+        for (String table : new String[]{X11Kernel.D10, X11Kernel.D10a, X11Kernel.D11, X11Kernel.D12, X11Kernel.D13}) {
+            String id = InformationSet.concatenate(X11Kernel.D, table);
+            assertTrue(full.getData(id, TsData.class).equals(lean.getData(id, TsData.class)));
+        }
+        assertTrue(lean.getData(InformationSet.concatenate(X11Kernel.B, X11Kernel.B2), TsData.class) == null);
+        assertTrue(lean.getData(InformationSet.concatenate(X11Kernel.D, X11Kernel.D16a), TsData.class) == null);
+        Mstatistics mfull = Mstatistics.computeFromX11(DecompositionMode.Multiplicative, full.getInformation());
+        Mstatistics mlean = Mstatistics.computeFromX11(DecompositionMode.Multiplicative, lean.getInformation());
+        for (int i = 1; i <= 11; ++i) {
+            assertEquals(mfull.getM(i), mlean.getM(i), 1e-12);
+        }
+        assertEquals(mfull.getQ(), mlean.getQ(), 1e-12);
+
+        // no table
+        kernel.setLeanTables(Collections.emptyList());
+        lean = kernel.process(Data.X);
+        assertTrue(lean.getData(InformationSet.concatenate(X11Kernel.D, X11Kernel.D9_RMS), MsrTable.class) == null);
+        assertTrue(lean.getData(InformationSet.concatenate(X11Kernel.E, X11Kernel.E1), TsData.class) == null);
+        String id = InformationSet.concatenate(X11Kernel.D, X11Kernel.D11);
+        assertTrue(full.getData(id, TsData.class).equals(lean.getData(id, TsData.class)));
+    }
+
 }
 
 class MyDummyTrendCycleComputer extends DefaultX11Algorithm implements ITrendCycleComputer {
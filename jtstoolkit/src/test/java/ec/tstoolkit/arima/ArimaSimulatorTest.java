@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.arima;
+
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.maths.linearfilters.BackFilter;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.polynomials.Polynomial;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaModelBuilder;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class ArimaSimulatorTest {
+
+    public ArimaSimulatorTest() {
+    }
+
+    private static double[] values(DataBlock x) {
+        double[] v = new double[x.getLength()];
+        x.copyTo(v, 0);
+        return v;
+    }
+
+    private static double var(Matrix sims, int row) {
+        double s = 0;
+        int n = sims.getColumnsCount();
+        for (int i = 0; i < n; ++i) {
+            double x = sims.get(row, i);
+            s += x * x;
+        }
+        return s / n;
+    }
+
+    @Test
+    public void testReproducibility() {
+        SarimaModel airline = new SarimaModelBuilder().createAirlineModel(12, -.6, -.8);
+        ArimaSimulator simulator = new ArimaSimulator(airline);
+        simulator.setSeed(20);
+        simulator.setThreadsCount(1);
+        Matrix m1 = simulator.simulate(101, 60);
+        simulator.setThreadsCount(4);
+        Matrix m4 = simulator.simulate(101, 60);
+        assertArrayEquals(m1.internalStorage(), m4.internalStorage(), 0);
+        assertArrayEquals(simulator.path(57, 60, false), values(m4.column(57)), 0);
+        simulator.setSeed(21);
+        assertTrue(m1.get(59, 57) != simulator.path(57, 60, false)[59]);
+    }
+
+    @Test
+    public void testForecastErrors() {
+        SarimaModel airline = new SarimaModelBuilder().createAirlineModel(12, -.6, -.8);
+        ArimaSimulator simulator = new ArimaSimulator(airline);
+        simulator.setSeed(1);
+        int nf = 24, npaths = 20000;
+        Matrix sims = simulator.simulateForecastErrors(npaths, nf);
+        double[] psi = airline.getPsiWeights().getWeights(nf);
+        double v = 0;
+        for (int h = 0; h < nf; ++h) {
+            v += psi[h] * psi[h];
+            assertEquals(1, var(sims, h) / v, .05);
+        }
+        // quantiles of the last forecast
+        Matrix q = ArimaSimulator.quantiles(sims, .025, .5, .975);
+        double sd = Math.sqrt(v);
+        assertEquals(0, q.get(1, nf - 1) / sd, .05);
+        assertEquals(1.96, q.get(2, nf - 1) / sd, .05);
+        assertEquals(-1.96, q.get(0, nf - 1) / sd, .05);
+
+        TsData fcasts = new TsData(TsFrequency.Monthly, 2018, 0, nf);
+        fcasts.set(i -> 100 + i);
+        TsData[] intervals = simulator.forecastIntervals(fcasts, npaths, .025, .975);
+        assertEquals(fcasts.getDomain(), intervals[0].getDomain());
+        assertEquals(100 + q.get(2, 0), intervals[1].get(0), 1e-9);
+    }
+
+    @Test
+    public void testStationaryModel() {
+        // ARMA(2,1): the paths start from the stationary distribution
+        BackFilter ar = new BackFilter(Polynomial.valueOf(1, -.5, .3)), ma = new BackFilter(Polynomial.valueOf(1, .4));
+        ArimaModel arma = new ArimaModel(ar, null, ma, 2);
+        ArimaSimulator simulator = new ArimaSimulator(arma);
+        Matrix sims = simulator.simulate(20000, 10);
+        double v0 = arma.getAutoCovarianceFunction().get(0);
+        assertEquals(1, var(sims, 0) / v0, .05);
+        assertEquals(1, var(sims, 9) / v0, .05);
+    }
+
+    @Test
+    public void testStatistics() {
+        SarimaModel airline = new SarimaModelBuilder().createAirlineModel(12, -.6, -.8);
+        ArimaSimulator simulator = new ArimaSimulator(airline);
+        ArimaSimulator.IPathStatistic stat = new ArimaSimulator.IPathStatistic() {
+            @Override
+            public int getDimension() {
+                return 2;
+            }
+
+            @Override
+            public void compute(double[] path, double[] stats) {
+                stats[0] = path[0];
+                stats[1] = path[path.length - 1];
+            }
+        };
+        Matrix stats = simulator.simulate(50, 36, false, stat);
+        Matrix sims = simulator.simulate(50, 36);
+        assertArrayEquals(values(sims.row(0)), values(stats.row(0)), 0);
+        assertArrayEquals(values(sims.row(35)), values(stats.row(1)), 0);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.arima.special;
+
+import ec.tstoolkit.arima.estimation.RegArimaEstimation;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author agent
+ */
+public class GeneralizedAirlineMonitorTest {
+
+    public GeneralizedAirlineMonitorTest() {
+    }
+
+    private static GeneralizedAirlineMonitor process(TsData s, boolean concurrent, boolean pruning) {
+        return process(s, GaSpecification.EstimationMode.Exhaustive, concurrent, pruning);
+    }
+
+    private static GeneralizedAirlineMonitor process(TsData s, GaSpecification.EstimationMode mode, boolean concurrent, boolean pruning) {
+        GaSpecification spec = new GaSpecification();
+        spec.setEstimationMode(mode);
+        GeneralizedAirlineMonitor monitor = new GeneralizedAirlineMonitor();
+        monitor.setSpecification(spec);
+        monitor.setConcurrentEstimation(concurrent);
+        monitor.setPruning(pruning);
+        assertTrue(monitor.process(s, null));
+        return monitor;
+    }
+
+    @Test
+    public void testConcurrentEstimation() {
+        TsData s = data.Data.P.log();
+        GeneralizedAirlineMonitor seq = process(s, false, false);
+        GeneralizedAirlineMonitor par = process(s, true, false);
+        assertEquals(seq.getResultsCount(), par.getResultsCount());
+        assertEquals(seq.searchBestEstimation(), par.searchBestEstimation());
+        for (int i = 0; i < seq.getResultsCount(); ++i) {
+            RegArimaEstimation<GeneralizedAirlineModel> e = seq.result(i), p = par.result(i);
+            assertEquals(e == null, p == null);
+            if (e != null) {
+                assertEquals(e.likelihood.getLogLikelihood(), p.likelihood.getLogLikelihood(), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    public void testPruning() {
+        TsData s = data.Data.P.log();
+        GeneralizedAirlineMonitor all = process(s, true, false);
+        GeneralizedAirlineMonitor pruned = process(s, true, true);
+        assertEquals(all.searchBestEstimation(), pruned.searchBestEstimation());
+        assertTrue(pruned.getValidResultsCount() <= all.getValidResultsCount());
+        double ll0 = pruned.result(0).likelihood.getLogLikelihood();
+        for (int i = 1; i < pruned.getResultsCount(); ++i) {
+            if (pruned.result(i) != null) {
+                assertTrue(pruned.result(i).likelihood.getLogLikelihood() >= ll0);
+            }
+        }
+    }
+
+    @Test
+    public void testPruningSelection() {
+        // the pruned and the complete searches select the same model on the
+        // test series (the early stop of the iterative search never happens)
+        TsData[] series = {data.Data.P, data.Data.X, data.Data.M1, data.Data.M2, data.Data.M3,
+            data.Data.UNEMPLOY, data.Data.Q, data.Data.US_UNEMPL};
+        for (GaSpecification.EstimationMode mode : new GaSpecification.EstimationMode[]{
+            GaSpecification.EstimationMode.Exhaustive, GaSpecification.EstimationMode.Iterative}) {
+            for (TsData s : series) {
+                GeneralizedAirlineMonitor all = process(s.log(), mode, false, false);
+                GeneralizedAirlineMonitor pruned = process(s.log(), mode, false, true);
+                assertEquals(all.searchBestEstimation(), pruned.searchBestEstimation());
+                assertEquals(all.getValidResultsCount(), pruned.getValidResultsCount());
+            }
+        }
+    }
+
+    @Test
+    public void testIterativePruning() {
+        TsData s = data.Data.P.log();
+        GeneralizedAirlineMonitor seq = process(s, GaSpecification.EstimationMode.Iterative, false, true);
+        GeneralizedAirlineMonitor par = process(s, GaSpecification.EstimationMode.Iterative, true, true);
+        assertEquals(seq.getValidResultsCount(), par.getValidResultsCount());
+        double ll0 = seq.result(0).likelihood.getLogLikelihood();
+        for (int i = 1; i < seq.getResultsCount(); ++i) {
+            if (seq.result(i) != null) {
+                assertTrue(seq.result(i).likelihood.getLogLikelihood() >= ll0);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.data;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author agent
+ */
+public class BufferPoolTest {
+
+    public BufferPoolTest() {
+    }
+
+    @Test
+    public void testReuse() {
+        BufferPool.reset();
+        double[] a = BufferPool.borrow(100);
+        assertEquals(100, a.length);
+        BufferPool.release(a);
+        assertEquals(100, BufferPool.getRetainedSize());
+        // exact length
+        double[] b = BufferPool.borrow(101);
+        assertNotSame(a, b);
+        double[] c = BufferPool.borrow(100);
+        assertSame(a, c);
+        assertEquals(0, BufferPool.getRetainedSize());
+        BufferPool.release(b);
+        BufferPool.release(c);
+        BufferPool.reset();
+        assertEquals(0, BufferPool.getRetainedSize());
+        assertNotSame(a, BufferPool.borrow(100));
+    }
+
+    @Test
+    public void testDoubleRelease() {
+        BufferPool.reset();
+        double[] a = BufferPool.borrow(50);
+        BufferPool.release(a);
+        BufferPool.release(a);
+        double[] b = BufferPool.borrow(50), c = BufferPool.borrow(50);
+        assertSame(a, b);
+        assertNotSame(b, c);
+        BufferPool.reset();
+    }
+
+    @Test
+    public void testClean() {
+        BufferPool.reset();
+        double[] a = BufferPool.borrow(20);
+        java.util.Arrays.fill(a, 1);
+        BufferPool.release(a);
+        double[] b = BufferPool.borrowClean(20);
+        assertSame(a, b);
+        for (int i = 0; i < b.length; ++i) {
+            assertEquals(0, b[i], 0);
+        }
+        BufferPool.reset();
+    }
+
+    @Test
+    public void testSmallBuffers() {
+        BufferPool.reset();
+        double[] a = BufferPool.borrow(BufferPool.MIN_LENGTH - 1);
+        BufferPool.release(a);
+        assertEquals(0, BufferPool.getRetainedSize());
+        assertNotSame(a, BufferPool.borrow(BufferPool.MIN_LENGTH - 1));
+    }
+
+    @Test
+    public void testThreads() throws Exception {
+        BufferPool.reset();
+        double[] a = BufferPool.borrow(64);
+        BufferPool.release(a);
+        double[][] b = new double[1][];
+        Thread thread = new Thread(() -> b[0] = BufferPool.borrow(64));
+        thread.start();
+        thread.join();
+        assertNotSame(a, b[0]);
+        assertSame(a, BufferPool.borrow(64));
+        BufferPool.reset();
+    }
+
+    @Test
+    public void testWorkers() throws Exception {
+        int n = (int) BufferPool.MAX_WORKER_RETAINED / 2 + 1;
+        long[] retained = ForkJoinPool.commonPool().submit(() -> {
+            BufferPool.reset();
+            BufferPool.release(BufferPool.borrow(n));
+            BufferPool.release(BufferPool.borrow(n + 1));
+            long r = BufferPool.getRetainedSize();
+            BufferPool.reset();
+            return new long[]{r};
+        }).get();
+        assertEquals(n, retained[0]);
+        BufferPool.reset();
+        BufferPool.release(BufferPool.borrow(n));
+        BufferPool.release(BufferPool.borrow(n + 1));
+        assertEquals(2 * n + 1, BufferPool.getRetainedSize());
+        BufferPool.reset();
+    }
+
+    @Test
+    public void testStatistics() {
+        BufferPool.reset();
+        BufferPool.Statistics s0 = BufferPool.getStatistics();
+        for (int i = 0; i < 10; ++i) {
+            BufferPool.release(BufferPool.borrow(1000));
+        }
+        BufferPool.Statistics s1 = BufferPool.getStatistics();
+        // other threads could use the pool
+        assertTrue(s1.getBorrowedCount() - s0.getBorrowedCount() >= 10);
+        assertTrue(s1.getReusedBytes() - s0.getReusedBytes() >= 9 * 8000);
+        BufferPool.reset();
+    }
+}
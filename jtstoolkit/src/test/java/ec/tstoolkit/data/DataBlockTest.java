@@ -139,4 +139,55 @@ public class DataBlockTest {
         x.bshift(3);
         assertTrue(x.get(6)==10 && x.get(0)==4);
     }
+
+    @Test
+    public void testContiguous() {
+        // contiguous blocks and strided blocks must give identical results
+        DataBlock x = DataBlock.random(50), y = DataBlock.random(50), z = DataBlock.random(50);
+        DataBlock sx = new DataBlock(100), sy = new DataBlock(150), sz = new DataBlock(100);
+        sx.extract(1, 50, 2).copy(x);
+        sy.extract(2, 50, 3).copy(y);
+        sz.extract(0, 50, 2).copy(z);
+        DataBlock xs = sx.extract(1, 50, 2), ys = sy.extract(2, 50, 3), zs = sz.extract(0, 50, 2);
+        assertEquals(x.dot(y), xs.dot(ys), 0);
+        assertEquals(x.ssq(), xs.ssq(), 0);
+        assertEquals(x.ssqc(.5), xs.ssqc(.5), 0);
+        assertEquals(x.sum(), xs.sum(), 0);
+        assertEquals(x.distance(y), xs.distance(ys), 0);
+        double[] dn = new double[2], dns = new double[2];
+        x.dotAndSsq(y, dn);
+        xs.dotAndSsq(ys, dns);
+        assertEquals(x.dot(y), dn[0], 0);
+        assertEquals(x.ssq(), dn[1], 0);
+        assertEquals(dn[0], dns[0], 0);
+        assertEquals(dn[1], dns[1], 0);
+        x.addAXY(-.3, y, z);
+        xs.addAXY(-.3, ys, zs);
+        assertTrue(ReadDataBlock.equals(x, xs, 0));
+        x.addAY(2, y, -1, z);
+        xs.addAY(2, ys, -1, zs);
+        assertTrue(ReadDataBlock.equals(x, xs, 0));
+        x.cumul();
+        xs.cumul();
+        assertTrue(ReadDataBlock.equals(x, xs, 0));
+        x.cumul(.9);
+        xs.cumul(.9);
+        assertTrue(ReadDataBlock.equals(x, xs, 0));
+        x.sum(y, z);
+        xs.sum(ys, zs);
+        assertTrue(ReadDataBlock.equals(x, xs, 0));
+    }
+
+    @Test
+    public void testFusedAddAY() {
+        DataBlock x = DataBlock.random(30), y = DataBlock.random(30);
+        DataBlock a = DataBlock.random(30), b = a.deepClone();
+        a.addAY(.7, x, -1.3, y);
+        b.addAY(.7, x);
+        b.addAY(-1.3, y);
+        assertTrue(ReadDataBlock.equals(a, b, 0));
+        a.addAY(0, x, 1, y);
+        b.add(y);
+        assertTrue(ReadDataBlock.equals(a, b, 0));
+    }
 }
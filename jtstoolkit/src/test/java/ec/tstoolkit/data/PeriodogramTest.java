@@ -31,4 +31,34 @@ public class PeriodogramTest {
         }
     }
 
+    @Test
+    public void testLongSeries() {
+        for (int K = Periodogram.FFT_LENGTH; K < Periodogram.FFT_LENGTH + 4; ++K) {
+            DataBlock z = new DataBlock(K);
+            z.randomize(K);
+            z.set(7, Double.NaN);
+            for (boolean mean : new boolean[]{false, true}) {
+                Periodogram p = new Periodogram(z, mean);
+                double[] P = p.getP();
+                // direct computation, on the data used by the periodogram
+                double[] x = p.getData();
+                double sx2 = p.getSsq();
+                for (int k = 1; k < P.length; ++k) {
+                    double a = 0, b = 0, l = 2 * Math.PI * k / K;
+                    for (int j = 0; j < K; ++j) {
+                        if (!Double.isNaN(x[j])) {
+                            a += Math.cos(l * j) * x[j];
+                            b += Math.sin(l * j) * x[j];
+                        }
+                    }
+                    double pk = (a * a + b * b) / sx2;
+                    if (2 * k != K) {
+                        pk *= 2;
+                    }
+                    assertEquals(pk, P[k], 1e-9);
+                }
+                assertEquals(K, new DataBlock(P).sum(), 1e-6);
+            }
+        }
+    }
 }
@@ -8,6 +8,9 @@ package ec.tstoolkit.information;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 import static org.junit.Assert.*;
 import org.junit.Ignore;
@@ -63,4 +66,100 @@ public class InformationMappingTest {
         assertTrue(mapping.contains("squares(4)"));
         assertTrue(mapping.getData(5,"squares(4)", Integer.class) != null);
     }
+
+    static final AtomicInteger ncalls = new AtomicInteger();
+    static final InformationMapping<Integer> emapping = new InformationMapping<>(Integer.class);
+
+    static {
+        emapping.set("cheap", Integer.class, i -> {
+            ncalls.incrementAndGet();
+            return i + 1;
+        });
+        emapping.set("expensive", Integer.class, i -> {
+            ncalls.incrementAndGet();
+            return i * 2;
+        });
+        emapping.set("powers", 2, Double.class, (i, j) -> {
+            ncalls.incrementAndGet();
+            return Math.pow(i, j);
+        });
+        emapping.setList("multiples", 1, 5, Integer.class, (i, j) -> {
+            ncalls.incrementAndGet();
+            return i * j;
+        });
+        emapping.setExpensive("expensive", true);
+        emapping.setExpensive("powers", true);
+        emapping.setExpensive("multiples", true);
+    }
+
+    @Test
+    public void testMemo() {
+        InformationMapping.Memo memo = new InformationMapping.Memo();
+        int n0 = ncalls.get();
+        for (int k = 0; k < 3; ++k) {
+            assertEquals(4, (int) emapping.getData(3, memo, "cheap", Integer.class));
+            assertEquals(6, (int) emapping.getData(3, memo, "expensive", Integer.class));
+            assertEquals(27, emapping.getData(3, memo, "powers(3)", Double.class), 0);
+        }
+        assertEquals(5, ncalls.get() - n0);
+        assertTrue(memo.contains("expensive"));
+        assertFalse(memo.contains("cheap"));
+        // no memo
+        emapping.getData(3, "expensive", Integer.class);
+        assertEquals(6, ncalls.get() - n0);
+        Map<String, Integer> all = emapping.searchAll(3, memo, "*", Integer.class);
+        assertEquals(7, all.size());
+        assertEquals(12, ncalls.get() - n0);
+        memo.clear();
+        assertFalse(memo.contains("expensive"));
+        emapping.getData(3, memo, "expensive", Integer.class);
+        assertEquals(13, ncalls.get() - n0);
+        assertTrue(emapping.isExpensive("multiples"));
+        assertFalse(emapping.isExpensive("cheap"));
+        assertFalse(emapping.setExpensive("undefined", true));
+    }
+
+    @Test
+    public void testPrefetch() {
+        InformationMapping.Memo memo = new InformationMapping.Memo();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            emapping.prefetch(7, memo, executor);
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(memo.contains("expensive"));
+        assertTrue(memo.contains("powers(2)"));
+        assertTrue(memo.contains("multiples(4)"));
+        assertFalse(memo.contains("cheap"));
+        int n0 = ncalls.get();
+        assertEquals(28, (int) emapping.getData(7, memo, "multiples(4)", Integer.class));
+        assertEquals(49, emapping.getData(7, memo, "powers(2)", Double.class), 0);
+        assertEquals(n0, ncalls.get());
+    }
+
+    @Test
+    public void testConcurrentMemo() throws InterruptedException {
+        InformationMapping<Integer> slow = new InformationMapping<>(Integer.class);
+        AtomicInteger n = new AtomicInteger();
+        slow.set("slow", Integer.class, i -> {
+            n.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException ex) {
+            }
+            return i;
+        });
+        slow.setExpensive("slow", true);
+        InformationMapping.Memo memo = new InformationMapping.Memo();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; ++i) {
+            threads[i] = new Thread(() -> slow.getData(1, memo, "slow", Integer.class));
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, n.get());
+    }
 }
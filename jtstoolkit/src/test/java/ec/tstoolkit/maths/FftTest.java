@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths;
+
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class FftTest {
+
+    public FftTest() {
+    }
+
+    @Test
+    public void testDft() {
+        for (int n : new int[]{1, 5, 12, 64, 100, 365}) {
+            double[] re = new double[n], im = new double[n];
+            java.util.Random rnd = new java.util.Random(n);
+            for (int i = 0; i < n; ++i) {
+                re[i] = rnd.nextGaussian();
+                im[i] = rnd.nextGaussian();
+            }
+            double[] fre = re.clone(), fim = im.clone();
+            Fft.dft(fre, fim);
+            for (int k = 0; k < n; ++k) {
+                double a = 0, b = 0;
+                for (int j = 0; j < n; ++j) {
+                    double l = -2 * Math.PI * ((long) j * k % n) / n;
+                    double c = Math.cos(l), s = Math.sin(l);
+                    a += re[j] * c - im[j] * s;
+                    b += re[j] * s + im[j] * c;
+                }
+                assertEquals(a, fre[k], 1e-9);
+                assertEquals(b, fim[k], 1e-9);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths.matrices;
+
+import ec.tstoolkit.data.DataBlock;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author agent
+ */
+public class BlockedKernelsTest {
+
+    public BlockedKernelsTest() {
+    }
+
+    private static Matrix product(Matrix a, Matrix b) {
+        int m = a.getRowsCount(), n = b.getColumnsCount(), k = a.getColumnsCount();
+        Matrix c = new Matrix(m, n);
+        for (int j = 0; j < n; ++j) {
+            for (int l = 0; l < k; ++l) {
+                double blj = b.get(l, j);
+                for (int i = 0; i < m; ++i) {
+                    c.set(i, j, c.get(i, j) + a.get(i, l) * blj);
+                }
+            }
+        }
+        return c;
+    }
+
+    @Test
+    public void testTimes() {
+        Matrix a = new Matrix(301, 75), b = new Matrix(75, 37);
+        a.randomize(1);
+        b.randomize(2);
+        assertTrue(BlockedKernels.isBlocked(301, 37, 75));
+        Matrix c = a.times(b);
+        assertEquals(0, c.distance(product(a, b)), 0);
+    }
+
+    @Test
+    public void testSubMatrixProduct() {
+        Matrix a = new Matrix(310, 80), b = new Matrix(90, 40);
+        a.randomize(3);
+        b.randomize(4);
+        SubMatrix sa = a.subMatrix(5, 305, 3, 73), sb = b.subMatrix(10, 80, 1, 34);
+        Matrix c = new Matrix(300, 33);
+        c.subMatrix().product(sa, sb);
+        assertEquals(0, c.distance(product(new Matrix(sa), new Matrix(sb))), 0);
+    }
+
+    @Test
+    public void testXtX() {
+        Matrix x = new Matrix(600, 45);
+        x.randomize(5);
+        Matrix xtx = SymmetricMatrix.XtX(x);
+        assertEquals(0, xtx.distance(product(x.transpose(), x)), 0);
+        Matrix s = new Matrix(45, 45);
+        SymmetricMatrix.XtX(x.subMatrix(), s.subMatrix());
+        assertEquals(0, s.distance(xtx), 0);
+    }
+
+    @Test
+    public void testXXt() {
+        Matrix x = new Matrix(70, 130);
+        x.randomize(6);
+        Matrix xxt = SymmetricMatrix.XXt(x);
+        assertEquals(0, xxt.distance(product(x, x.transpose())), 0);
+        Matrix s = new Matrix(70, 70);
+        SymmetricMatrix.XXt(x.subMatrix(), s.subMatrix());
+        assertEquals(0, s.distance(xxt), 0);
+    }
+
+    @Test
+    public void testBlockedQR() {
+        int m = 16384, n = 128;
+        Matrix x = new Matrix(m, n);
+        x.randomize(7);
+        DataBlock beta = new DataBlock(n);
+        beta.randomize(8);
+        DataBlock y = new DataBlock(m);
+        y.product(x.rows(), beta);
+        Householder qr = new Householder(true);
+        qr.decompose(x);
+        assertTrue(qr.isFullRank());
+        DataBlock b = new DataBlock(n);
+        qr.leastSquares(y, b, null);
+        assertTrue(b.distance(beta) < 1e-9);
+        // |R'R - X'X|
+        Matrix r = qr.getR();
+        Matrix rtr = SymmetricMatrix.XtX(r);
+        Matrix xtx = SymmetricMatrix.XtX(x);
+        rtr.sub(xtx);
+        assertTrue(rtr.nrm2() < 1e-9 * xtx.nrm2());
+    }
+
+    @Test
+    public void testBlockedQRWithRedundancy() {
+        int m = 16384, n = 129;
+        Matrix x = new Matrix(m, n);
+        x.randomize(9);
+        // the redundant column is in the second block
+        x.column(40).copy(x.column(3));
+        Householder qr = new Householder(true);
+        qr.setEpsilon(1e-9);
+        qr.decompose(x);
+        assertEquals(n - 1, qr.getRank());
+        assertArrayEquals(new int[]{40}, qr.getUnused());
+    }
+}
@@ -18,6 +18,7 @@
 package ec.tstoolkit.maths.polynomials;
 
 import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.maths.Complex;
 import ec.tstoolkit.maths.polynomials.Polynomial.Division;
 import ec.tstoolkit.maths.polynomials.Polynomial.Doubles;
 import static ec.tstoolkit.maths.polynomials.Polynomial.valueOf;
@@ -293,4 +294,49 @@ public class PolynomialTest {
         double y1 = p.evaluateAt(.25);
         assertEquals(y0, y1, EPS);
     }
+
+    static void assertRoots(Polynomial p) {
+        Complex[] roots = p.roots();
+        Complex[] mroots = p.roots(new MullerNewtonSolver());
+        assertEquals(mroots.length, roots.length);
+        for (Complex r : roots) {
+            assertEquals(0, p.evaluateAt(r).abs(), 1e-9);
+            // same roots as the iterative solver
+            double dmin = Double.MAX_VALUE;
+            for (Complex m : mroots) {
+                dmin = Math.min(dmin, r.minus(m).abs());
+            }
+            assertEquals(0, dmin, 1e-6);
+        }
+    }
+
+    @Test
+    public void testStructuredRoots() {
+        // linear and quadratic polynomials
+        assertRoots(valueOf(1, -.6));
+        assertRoots(valueOf(1, -.3, .2));
+        assertRoots(valueOf(1, -1.5, .5));
+        // sparse polynomials
+        assertRoots(valueOf(1, 0, 0, 0, .7));
+        assertRoots(Polynomial.of(new double[]{1, 0, 0, 0, 0, 0, -.4, 0, 0, 0, 0, 0, .3}));
+        assertRoots(Polynomial.factor(-.8, 12));
+        // products of regular and seasonal factors
+        Polynomial p = valueOf(1, -.3, .2).times(Polynomial.factor(.5, 12));
+        assertRoots(p);
+        Polynomial q = valueOf(1, .6).times(valueOf(1, 0, 0, 0, -.4, 0, 0, 0, .2)).times(2);
+        assertRoots(q);
+        assertEquals(9, q.roots().length);
+    }
+
+    @Test
+    public void testRootsOfSeasonalFactor() {
+        Polynomial p = Polynomial.of(new double[]{1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, .7});
+        Complex[] roots = p.roots();
+        Complex[] froots = Polynomial.factor(-.7, 12).roots();
+        assertEquals(12, roots.length);
+        for (int i = 0; i < 12; ++i) {
+            assertEquals(froots[i].getRe(), roots[i].getRe(), 1e-15);
+            assertEquals(froots[i].getIm(), roots[i].getIm(), 1e-15);
+        }
+    }
 }
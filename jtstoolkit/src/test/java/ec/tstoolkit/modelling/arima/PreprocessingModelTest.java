@@ -26,7 +26,10 @@ import ec.tstoolkit.maths.realfunctions.IFunction;
 import ec.tstoolkit.maths.realfunctions.IFunctionInstance;
 import ec.tstoolkit.modelling.ComponentType;
 import ec.tstoolkit.modelling.DefaultTransformationType;
+import ec.tstoolkit.modelling.ModellingDictionary;
 import ec.tstoolkit.modelling.RegStatus;
+import ec.tstoolkit.modelling.SeriesInfo;
+import ec.tstoolkit.modelling.arima.tramo.TramoSpecification;
 import ec.tstoolkit.modelling.Variable;
 import ec.tstoolkit.sarima.SarimaModel;
 import ec.tstoolkit.sarima.estimation.GlsSarimaMonitor;
@@ -35,9 +38,11 @@ import ec.tstoolkit.timeseries.calendars.TradingDaysType;
 import ec.tstoolkit.timeseries.regression.GregorianCalendarVariables;
 import ec.tstoolkit.timeseries.regression.ITsVariable;
 import ec.tstoolkit.timeseries.regression.SeasonalDummies;
+import ec.tstoolkit.timeseries.simplets.TsData;
 import java.util.Map;
 import java.util.Map.Entry;
 import org.junit.Ignore;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 /**
@@ -66,6 +71,18 @@ public class PreprocessingModelTest {
         }
     }
 
+    @Test
+    public void testNcasts() {
+        PreprocessingModel model = TramoSpecification.TR5.build().process(Data.P, null);
+        String yf = ModellingDictionary.Y + SeriesInfo.F_SUFFIX;
+        model.setNcasts(-1);
+        assertEquals(12, model.getData(yf, TsData.class).getLength());
+        model.setNcasts(6);
+        assertEquals(6, model.getData(yf, TsData.class).getLength());
+        model.setNcasts(-2);
+        assertEquals(24, model.getData(yf, TsData.class).getLength());
+    }
+
     //@Test
     public void demoEstimation() {
         // Create a model for the series Data.X. The entire time domain of X is
@@ -16,7 +16,10 @@
  */
 package ec.tstoolkit.modelling.arima.x13;
 
+import data.Data;
+import ec.tstoolkit.ParameterType;
 import ec.tstoolkit.arima.ArimaModelBuilder;
+import ec.tstoolkit.modelling.DefaultTransformationType;
 import ec.tstoolkit.modelling.arima.ModelDescription;
 import ec.tstoolkit.modelling.arima.ModelEstimation;
 import ec.tstoolkit.modelling.arima.ModellingContext;
@@ -63,5 +66,30 @@ public class OutliersDetectorTest {
         context.estimation=est;
         outliers.process(context);
     }
+
+    @Test
+    public void testWarmStart() {
+        OutliersDetector outliers = new OutliersDetector();
+        outliers.setDefault();
+        ModellingContext cold = new ModellingContext();
+        cold.description = new ModelDescription(Data.X, null);
+        cold.description.setAirline(true);
+        cold.description.setTransformation(DefaultTransformationType.Log);
+        outliers.process(cold);
+        assertFalse(cold.description.getArimaComponent().hasInitialParameters());
+
+        // the previous estimation is used as starting point
+        ModellingContext warm = new ModellingContext();
+        warm.description = new ModelDescription(Data.X, null);
+        warm.description.setAirline(true);
+        warm.description.setTransformation(DefaultTransformationType.Log);
+        warm.description.getArimaComponent().setParameters(cold.estimation.getArima().getParameters(), null, ParameterType.Initial);
+        assertTrue(warm.description.getArimaComponent().hasInitialParameters());
+        outliers.process(warm);
+
+        assertEquals(cold.description.getOutliers().size(), warm.description.getOutliers().size());
+        assertEquals(cold.estimation.getLikelihood().getLogLikelihood(), warm.estimation.getLikelihood().getLogLikelihood(), 1e-4);
+        assertTrue(cold.estimation.getArima().getParameters().distance(warm.estimation.getArima().getParameters()) < 1e-2);
+    }
     
 }
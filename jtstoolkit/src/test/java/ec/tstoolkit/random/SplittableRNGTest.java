@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class SplittableRNGTest {
+
+    static final long SEED = 1234;
+    static final int N = 1000;
+
+    public SplittableRNGTest() {
+    }
+
+    @Test
+    public void testNextDouble() {
+        SplittableRNG l = new SplittableRNG(SEED), r = new SplittableRNG(SEED);
+        for (int i = 0; i < N; ++i) {
+            double x = l.nextDouble();
+            assertTrue(x >= 0 && x < 1);
+            assertEquals(x, r.nextDouble(), 0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNextIntNegativeBound() {
+        new SplittableRNG(SEED).nextInt(-1);
+    }
+
+    @Test
+    public void testRange() {
+        double s = 0;
+        SplittableRNG rng = new SplittableRNG(SEED);
+        int n = 100000;
+        for (int i = 0; i < n; ++i) {
+            s += rng.nextDouble();
+        }
+        s /= n;
+        assertTrue(Math.abs(s - .5) < .01);
+    }
+
+    @Test
+    public void testStreams() {
+        SplittableRNG rng = new SplittableRNG(0);
+        rng.setStream(SEED, 5);
+        long x = rng.nextLong();
+        assertEquals(x, new SplittableRNG(SEED, 5).nextLong());
+        assertNotEquals(x, new SplittableRNG(SEED, 6).nextLong());
+        assertNotEquals(x, new SplittableRNG(SEED + 1, 5).nextLong());
+        // the correlation between consecutive streams is negligible
+        SplittableRNG r0 = new SplittableRNG(SEED, 0), r1 = new SplittableRNG(SEED, 1);
+        double c = 0;
+        for (int i = 0; i < N * 10; ++i) {
+            c += (r0.nextDouble() - .5) * (r1.nextDouble() - .5);
+        }
+        assertTrue(Math.abs(c / (N * 10)) < .01);
+    }
+
+    @Test
+    public void testSplit() {
+        SplittableRNG rng = new SplittableRNG(SEED), copy = new SplittableRNG(SEED);
+        SplittableRNG s = rng.split();
+        assertEquals(s.nextLong(), copy.split().nextLong());
+        assertNotEquals(rng.nextLong(), s.nextLong());
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.ssf;
+
+import data.Data;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaModelBuilder;
+import ec.tstoolkit.ssf.arima.SsfArima;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class FilterTest {
+
+    public FilterTest() {
+    }
+
+    private static double[] data() {
+        double[] x = new double[Data.X.getLength()];
+        Data.X.copyTo(x, 0);
+        x[2] = Double.NaN;
+        return x;
+    }
+
+    private static SsfArima airline() {
+        SarimaModel sarima = new SarimaModelBuilder().createAirlineModel(12, -.6, -.8);
+        return new SsfArima(sarima);
+    }
+
+    private static FilterCheckpoint serialize(FilterCheckpoint cp) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(cp);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (FilterCheckpoint) in.readObject();
+        }
+    }
+
+    @Test
+    public void testResume() throws Exception {
+        double[] x = data();
+        int n = x.length, m = n - 12;
+        // complete processing
+        Filter<SsfArima> filter = new Filter<>();
+        filter.setSsf(airline());
+        DiffusePredictionErrorDecomposition all = new DiffusePredictionErrorDecomposition(true);
+        assertTrue(filter.process(new SsfData(x, null), all));
+
+        // processing of the first observations
+        Filter<SsfArima> filter0 = new Filter<>();
+        filter0.setSsf(airline());
+        DiffusePredictionErrorDecomposition part = new DiffusePredictionErrorDecomposition(true);
+        assertTrue(filter0.process(new SsfData(Arrays.copyOf(x, m), null), part));
+        FilterCheckpoint cp = serialize(filter0.checkpoint(part));
+        assertEquals(m, cp.getPosition());
+        assertTrue(cp.hasLikelihood());
+
+        // new observations
+        Filter<SsfArima> filter1 = new Filter<>();
+        filter1.setSsf(airline());
+        DiffusePredictionErrorDecomposition next = new DiffusePredictionErrorDecomposition(true);
+        assertTrue(filter1.resume(new SsfData(x, null), cp, next));
+        assertEquals(all.getObsCount(), next.getObsCount());
+        assertEquals(all.getDiffuseCount(), next.getDiffuseCount());
+        assertEquals(all.getSsqErr(), next.getSsqErr(), 1e-9 * all.getSsqErr());
+        assertEquals(all.getLogDeterminant(), next.getLogDeterminant(), 1e-9);
+        assertEquals(all.getDiffuseLogDeterminant(), next.getDiffuseLogDeterminant(), 1e-9);
+        double[] r = all.residuals(false), rnext = next.residuals(false);
+        assertArrayEquals(Arrays.copyOfRange(r, m, n), Arrays.copyOfRange(rnext, m, n), 1e-9);
+        assertTrue(Double.isNaN(rnext[0]));
+
+        // forecasts
+        double[] xf = Arrays.copyOf(x, n + 24);
+        Arrays.fill(xf, n, n + 24, Double.NaN);
+        assertTrue(filter.process(new SsfData(xf, null), null));
+        assertTrue(filter1.resume(new SsfData(xf, null), filter1.checkpoint(null), null));
+        FilterCheckpoint f = filter.checkpoint(null), f1 = filter1.checkpoint(null);
+        assertEquals(n + 24, f1.getPosition());
+        DataBlock a = f.getState(), a1 = f1.getState();
+        for (int i = 0; i < a.getLength(); ++i) {
+            assertEquals(a.get(i), a1.get(i), 1e-6);
+        }
+    }
+
+    @Test
+    public void testSteadyStatePosition() throws Exception {
+        double[] x = data();
+        Filter<SsfArima> filter0 = new Filter<>();
+        filter0.setSsf(airline());
+        filter0.setSteadyStatePosition(50);
+        assertTrue(filter0.process(new SsfData(Arrays.copyOf(x, x.length - 12), null), null));
+        FilterCheckpoint cp = serialize(filter0.checkpoint(null));
+
+        Filter<SsfArima> filter1 = new Filter<>();
+        filter1.setSsf(airline());
+        assertTrue(filter1.resume(new SsfData(x, null), cp, null));
+        assertEquals(50, filter1.getSteadyStatePosition());
+    }
+
+    @Test
+    public void testShortSeries() {
+        Filter<SsfArima> filter = new Filter<>();
+        filter.setSsf(airline());
+        assertTrue(filter.process(new SsfData(Arrays.copyOf(data(), 10), null), null));
+        assertNull(filter.checkpoint(null));
+        assertTrue(filter.process(new SsfData(data(), null), null));
+        assertNotNull(filter.checkpoint(null));
+    }
+}
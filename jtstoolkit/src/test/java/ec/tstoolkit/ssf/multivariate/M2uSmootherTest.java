@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.ssf.multivariate;
+
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.matrices.SubMatrix;
+import ec.tstoolkit.ssf.Smoother;
+import ec.tstoolkit.ssf.SmoothingResults;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class M2uSmootherTest {
+
+    private static final int V = 5, N = 120;
+
+    public M2uSmootherTest() {
+    }
+
+    private static DefaultTimeInvariantMultivariateSsf model() {
+        DefaultTimeInvariantMultivariateSsf ssf = new DefaultTimeInvariantMultivariateSsf();
+        ssf.initialize(2 * V, V, 2 * V, 2 * V);
+        Matrix T = new Matrix(2 * V, 2 * V);
+        SubMatrix t0 = T.subMatrix(0, V, 0, V);
+        t0.diagonal().set(.9);
+        t0.subDiagonal(-1).set(-.4);
+        ssf.setT(T);
+
+        Matrix Z = new Matrix(V, 2 * V);
+        SubMatrix ZZ = Z.subMatrix(0, V, 0, V);
+        ZZ.diagonal().set(3);
+        ZZ.subDiagonal(1).set(2);
+        ZZ.subDiagonal(2).set(1);
+        ZZ.subDiagonal(-1).set(-1);
+        Z.subDiagonal(V).set(1);
+        ssf.setZ(Z);
+        Matrix Q = new Matrix(2 * V, 2 * V);
+        Q.diagonal().range(0, V).set(1);
+        Q.diagonal().range(V, 2 * V).set(10);
+        ssf.setQ(Q);
+        ssf.setPf0(Q.clone());
+        return ssf;
+    }
+
+    @Test
+    public void testSmoothedStates() {
+        DefaultTimeInvariantMultivariateSsf ssf = model();
+        Matrix d = new Matrix(V, N);
+        d.randomize(0);
+        d.sub(.5);
+        for (int i = 0; i < N; i += 4) {
+            d.set(1, i, Double.NaN);
+        }
+        // most observations of the last variable are missing
+        for (int i = 0; i < N; ++i) {
+            if (i % 12 != 11) {
+                d.set(V - 1, i, Double.NaN);
+            }
+        }
+        SmoothingResults rslts = new SmoothingResults();
+        Smoother smoother = new Smoother();
+        smoother.setSsf(new M2uSsfAdapter(ssf, new FullM2uMap(V)));
+        smoother.setCalcVar(false);
+        smoother.process(new M2uData(d, null), rslts);
+
+        M2uSmoother msmoother = new M2uSmoother(ssf);
+        assertTrue(msmoother.process(new MultivariateSsfData(d, null)));
+        assertEquals(V * N - N / 4 - (N - N / 12), msmoother.getObservationsCount());
+        SmoothingResults mrslts = msmoother.calcSmoothedStates();
+        for (int i = 0; i < 2 * V; ++i) {
+            double[] c = rslts.component(i), mc = mrslts.component(i);
+            assertEquals(N, mc.length);
+            for (int j = 0; j < N; ++j) {
+                assertEquals(c[j * V], mc[j], 1e-9);
+            }
+        }
+    }
+}
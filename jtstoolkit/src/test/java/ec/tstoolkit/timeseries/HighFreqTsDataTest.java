@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.timeseries;
+
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class HighFreqTsDataTest {
+
+    private static final Day START = new Day(2000, Month.January, 0);
+
+    public HighFreqTsDataTest() {
+    }
+
+    private static double[] ones(int n) {
+        double[] x = new double[n];
+        java.util.Arrays.fill(x, 1);
+        return x;
+    }
+
+    @Test
+    public void testDomain() {
+        HighFreqTsData d = HighFreqTsData.daily(START, new double[6000]);
+        assertEquals(START.plus(6000), d.getEnd());
+        assertEquals(0, d.search(START));
+        assertEquals(5999, d.search(START.plus(5999)));
+        assertEquals(-1, d.search(START.plus(6000)));
+        assertEquals(-1, d.search(START.minus(1)));
+        assertEquals(6000, d.getDomain().getLength());
+        HighFreqTsData w = HighFreqTsData.weekly(START, new double[800]);
+        assertEquals(3, w.search(START.plus(27)));
+        assertEquals(START.plus(21), w.getDay(3));
+        assertEquals(800, w.getDomain().getLength());
+        assertNull(HighFreqTsData.of(START, 3, new double[10]).getDomain());
+    }
+
+    @Test(expected = TsException.class)
+    public void testInvalidPeriod() {
+        HighFreqTsData.of(START, 0, new double[10]);
+    }
+
+    @Test
+    public void testAggregation() {
+        // 2000 is a leap year
+        HighFreqTsData d = HighFreqTsData.daily(START, ones(366 + 365 + 10));
+        TsData m = d.aggregate(TsFrequency.Monthly, TsAggregationType.Sum, true);
+        assertEquals(24, m.getLength());
+        assertEquals(new TsPeriod(TsFrequency.Monthly, 2000, 0), m.getStart());
+        assertEquals(29, m.get(1), 0);
+        assertEquals(28, m.get(13), 0);
+        TsData y = d.aggregate(TsFrequency.Yearly, TsAggregationType.Sum, false);
+        assertEquals(3, y.getLength());
+        assertEquals(366, y.get(0), 0);
+        assertEquals(10, y.get(2), 0);
+        TsData q = d.aggregate(TsFrequency.Quarterly, TsAggregationType.Average, true);
+        assertEquals(8, q.getLength());
+        assertTrue(new DataBlock(q.internalStorage()).isConstant(1));
+
+        HighFreqTsData w = d.aggregate(7, TsAggregationType.Sum);
+        assertEquals(7, w.getPeriod());
+        assertEquals(d.getLength() / 7, w.getLength());
+        for (int i = 0; i < w.getLength(); ++i) {
+            assertEquals(7, w.get(i), 0);
+        }
+        // weeks are put in the month of their first day
+        TsData wm = w.aggregate(TsFrequency.Monthly, TsAggregationType.Sum, false);
+        assertEquals(5 * 7, wm.get(0), 0);
+        assertEquals(4 * 7, wm.get(1), 0);
+    }
+}
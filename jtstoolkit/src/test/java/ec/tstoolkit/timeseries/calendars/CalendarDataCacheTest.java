@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.timeseries.calendars;
+
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.data.IReadDataBlock;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.timeseries.Day;
+import ec.tstoolkit.timeseries.Month;
+import ec.tstoolkit.timeseries.regression.EasterVariable;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import ec.tstoolkit.utilities.WeightedItem;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class CalendarDataCacheTest {
+
+    private static final TsDomain DOMAIN = new TsDomain(TsFrequency.Monthly, 1990, 0, 360);
+
+    public CalendarDataCacheTest() {
+    }
+
+    private static Matrix direct(IGregorianCalendarProvider provider, TradingDaysType dtype, TsDomain domain) {
+        Matrix m = new Matrix(domain.getLength(), provider.count(dtype));
+        provider.calendarData(dtype, domain, columns(m));
+        return m;
+    }
+
+    private static Matrix cached(CalendarDataCache cache, IGregorianCalendarProvider provider, TradingDaysType dtype, TsDomain domain) {
+        Matrix m = new Matrix(domain.getLength(), provider.count(dtype));
+        cache.calendarData(provider, dtype, domain, columns(m));
+        return m;
+    }
+
+    private static List<DataBlock> columns(Matrix m) {
+        List<DataBlock> cols = new ArrayList<>();
+        for (int i = 0; i < m.getColumnsCount(); ++i) {
+            cols.add(m.column(i));
+        }
+        return cols;
+    }
+
+    private static boolean same(IReadDataBlock a, IReadDataBlock b) {
+        if (a.getLength() != b.getLength()) {
+            return false;
+        }
+        for (int i = 0; i < a.getLength(); ++i) {
+            if (a.get(i) != b.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static NationalCalendarProvider national(ISpecialDay... days) {
+        NationalCalendar cal = new NationalCalendar();
+        for (ISpecialDay day : days) {
+            cal.add(day);
+        }
+        return new NationalCalendarProvider(cal);
+    }
+
+    @Test
+    public void testTradingDays() {
+        CalendarDataCache cache = new CalendarDataCache(CalendarDataCache.DEF_CAPACITY);
+        NationalCalendarProvider provider = national(FixedDay.Christmas, FixedDay.NewYear, EasterRelatedDay.EasterMonday);
+        for (TradingDaysType dtype : Arrays.asList(TradingDaysType.TradingDays, TradingDaysType.WorkingDays)) {
+            Matrix m = direct(provider, dtype, DOMAIN);
+            assertArrayEquals(m.internalStorage(), cached(cache, provider, dtype, DOMAIN).internalStorage(), 0);
+            assertArrayEquals(m.internalStorage(), cached(cache, provider, dtype, DOMAIN).internalStorage(), 0);
+        }
+        assertEquals(2, cache.getMissesCount());
+        assertEquals(2, cache.getHitsCount());
+        assertEquals(2, cache.getCount());
+        assertEquals(7 * DOMAIN.getLength(), cache.getSize());
+        // another domain
+        TsDomain qdomain = new TsDomain(TsFrequency.Quarterly, 1990, 0, 120);
+        Matrix q = direct(provider, TradingDaysType.TradingDays, qdomain);
+        assertArrayEquals(q.internalStorage(), cached(cache, provider, TradingDaysType.TradingDays, qdomain).internalStorage(), 0);
+        assertEquals(3, cache.getMissesCount());
+    }
+
+    @Test
+    public void testReadOnlyViews() {
+        CalendarDataCache cache = new CalendarDataCache(CalendarDataCache.DEF_CAPACITY);
+        DefaultGregorianCalendarProvider provider = new DefaultGregorianCalendarProvider();
+        List<IReadDataBlock> td = cache.calendarData(provider, TradingDaysType.TradingDays, DOMAIN);
+        assertEquals(6, td.size());
+        Matrix m = direct(provider, TradingDaysType.TradingDays, DOMAIN);
+        for (int i = 0; i < 6; ++i) {
+            assertTrue(same(td.get(i), m.column(i)));
+        }
+        // the buffers of the callers don't share the cached data
+        Matrix c = cached(cache, provider, TradingDaysType.TradingDays, DOMAIN);
+        c.set(0);
+        assertTrue(same(cache.calendarData(provider, TradingDaysType.TradingDays, DOMAIN).get(0), m.column(0)));
+
+        DataBlock lp = new DataBlock(DOMAIN.getLength());
+        Utilities.lengthofPeriod(DOMAIN.getStart(), lp);
+        assertTrue(same(cache.lengthOfPeriod(LengthOfPeriodType.LengthOfPeriod, DOMAIN), lp));
+        DataBlock ly = new DataBlock(DOMAIN.getLength());
+        Utilities.leapYear(DOMAIN.getStart(), ly);
+        DataBlock cly = new DataBlock(DOMAIN.getLength());
+        cache.lengthOfPeriod(LengthOfPeriodType.LeapYear, DOMAIN, cly);
+        assertTrue(same(cly, ly));
+        assertNull(cache.lengthOfPeriod(LengthOfPeriodType.None, DOMAIN));
+    }
+
+    @Test
+    public void testHoliday() {
+        CalendarDataCache cache = new CalendarDataCache(CalendarDataCache.DEF_CAPACITY);
+        int[] count = new int[1];
+        BiConsumer<TsPeriod, DataBlock> generator = (start, data) -> {
+            ++count[0];
+            data.set(i -> start.plus(i).getPosition());
+        };
+        DataBlock e1 = new DataBlock(DOMAIN.getLength()), e2 = new DataBlock(DOMAIN.getLength());
+        cache.holiday(Arrays.asList("easter", 6), DOMAIN, e1, generator);
+        cache.holiday(Arrays.asList("easter", 6), DOMAIN, e2, generator);
+        assertEquals(1, count[0]);
+        assertTrue(same(e1, e2));
+        assertEquals(11, e2.get(11), 0);
+        cache.holiday(Arrays.asList("easter", 8), DOMAIN, e2, generator);
+        assertEquals(2, count[0]);
+
+        // Easter variables with different durations don't share their regressors
+        EasterVariable easter = new EasterVariable();
+        easter.includeEaster(true);
+        easter.setDuration(8);
+        DataBlock d8 = new DataBlock(DOMAIN.getLength());
+        easter.data(DOMAIN.getStart(), d8);
+        easter.setDuration(15);
+        DataBlock d15 = new DataBlock(DOMAIN.getLength());
+        easter.data(DOMAIN.getStart(), d15);
+        assertFalse(same(d8, d15));
+        CalendarDataCache.instance.setEnabled(false);
+        try {
+            DataBlock r15 = new DataBlock(DOMAIN.getLength());
+            easter.data(DOMAIN.getStart(), r15);
+            assertTrue(same(d15, r15));
+        } finally {
+            CalendarDataCache.instance.setEnabled(true);
+        }
+    }
+
+    @Test
+    public void testCapacity() {
+        int n = DOMAIN.getLength();
+        CalendarDataCache cache = new CalendarDataCache(15 * n);
+        DefaultGregorianCalendarProvider p1 = new DefaultGregorianCalendarProvider(),
+                p2 = new DefaultGregorianCalendarProvider(), p3 = new DefaultGregorianCalendarProvider();
+        cache.calendarData(p1, TradingDaysType.TradingDays, DOMAIN);
+        cache.calendarData(p2, TradingDaysType.TradingDays, DOMAIN);
+        // p1 is the most recently used
+        cache.calendarData(p1, TradingDaysType.TradingDays, DOMAIN);
+        cache.calendarData(p3, TradingDaysType.TradingDays, DOMAIN);
+        assertEquals(2, cache.getCount());
+        assertEquals(12 * n, cache.getSize());
+        long misses = cache.getMissesCount();
+        cache.calendarData(p1, TradingDaysType.TradingDays, DOMAIN);
+        assertEquals(misses, cache.getMissesCount());
+        cache.calendarData(p2, TradingDaysType.TradingDays, DOMAIN);
+        assertEquals(misses + 1, cache.getMissesCount());
+        cache.setCapacity(6 * n);
+        assertEquals(1, cache.getCount());
+        cache.setEnabled(false);
+        assertEquals(0, cache.getCount());
+        cache.calendarData(p1, TradingDaysType.TradingDays, DOMAIN);
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    public void testInvalidation() {
+        GregorianCalendarManager mgr = new GregorianCalendarManager();
+        mgr.set("c1", national(FixedDay.Christmas));
+        mgr.set("c2", national(FixedDay.NewYear, FixedDay.MayDay));
+        ChainedGregorianCalendarProvider chained = new ChainedGregorianCalendarProvider(mgr, "c1", new Day(2000, Month.January, 0), "c2");
+        CompositeGregorianCalendarProvider composite = new CompositeGregorianCalendarProvider(mgr);
+        composite.add(new WeightedItem<>("c1", .4));
+        composite.add(new WeightedItem<>("c2", .6));
+        mgr.set("chained", chained);
+        mgr.set("composite", composite);
+        CalendarDataCache cache = CalendarDataCache.instance;
+        for (IGregorianCalendarProvider provider : Arrays.asList(chained, composite)) {
+            Matrix m = cached(cache, provider, TradingDaysType.TradingDays, DOMAIN);
+            assertArrayEquals(direct(provider, TradingDaysType.TradingDays, DOMAIN).internalStorage(), m.internalStorage(), 0);
+        }
+        // modification of a calendar used by the chained/composite calendars
+        mgr.remove("c2");
+        assertEquals(0, cache.getCount());
+        cached(cache, chained, TradingDaysType.TradingDays, DOMAIN);
+        assertEquals(1, cache.getCount());
+        mgr.set("c2", national(FixedDay.AllSaintsDay));
+        assertEquals(0, cache.getCount());
+        for (IGregorianCalendarProvider provider : Arrays.asList(chained, composite)) {
+            Matrix m = cached(cache, provider, TradingDaysType.TradingDays, DOMAIN);
+            assertArrayEquals(direct(provider, TradingDaysType.TradingDays, DOMAIN).internalStorage(), m.internalStorage(), 0);
+        }
+        mgr.rename("c1", "c3");
+        assertEquals(0, cache.getCount());
+    }
+
+    @Test
+    public void testHolidayAdded() {
+        CalendarDataCache cache = new CalendarDataCache(CalendarDataCache.DEF_CAPACITY);
+        NationalCalendarProvider provider = national(FixedDay.Christmas);
+        TsDomain qdomain = new TsDomain(TsFrequency.Quarterly, 1990, 0, 120);
+        for (TradingDaysType dtype : Arrays.asList(TradingDaysType.TradingDays, TradingDaysType.WorkingDays)) {
+            cached(cache, provider, dtype, DOMAIN);
+        }
+        cached(cache, provider, TradingDaysType.TradingDays, qdomain);
+        assertEquals(3, cache.getCount());
+        // the calendar is not locked: the cached regressors are discarded
+        assertTrue(provider.add(FixedDay.MayDay));
+        for (TradingDaysType dtype : Arrays.asList(TradingDaysType.TradingDays, TradingDaysType.WorkingDays)) {
+            Matrix m = cached(cache, provider, dtype, DOMAIN);
+            assertArrayEquals(direct(provider, dtype, DOMAIN).internalStorage(), m.internalStorage(), 0);
+        }
+        assertEquals(2, cache.getCount());
+        // a locked calendar can't be modified
+        provider.setLocked();
+        assertFalse(provider.add(FixedDay.NewYear));
+        cached(cache, provider, TradingDaysType.TradingDays, DOMAIN);
+        assertEquals(2, cache.getCount());
+    }
+
+    @Test
+    public void testUncacheable() {
+        CalendarDataCache cache = new CalendarDataCache(CalendarDataCache.DEF_CAPACITY);
+        // subclasses of the calendars of the package might be mutable
+        DefaultGregorianCalendarProvider provider = new DefaultGregorianCalendarProvider() {
+        };
+        Matrix m = cached(cache, provider, TradingDaysType.WorkingDays, DOMAIN);
+        assertArrayEquals(direct(provider, TradingDaysType.WorkingDays, DOMAIN).internalStorage(), m.internalStorage(), 0);
+        assertEquals(0, cache.getCount());
+        assertFalse(cache.getMissesCount() > 0);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.timeseries.calendars;
+
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.timeseries.Day;
+import ec.tstoolkit.timeseries.DayOfWeek;
+import ec.tstoolkit.timeseries.HighFreqTsData;
+import ec.tstoolkit.timeseries.Month;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class HighFreqRegressorsTest {
+
+    private static final Day START = new Day(2000, Month.January, 0);
+
+    public HighFreqRegressorsTest() {
+    }
+
+    private static NationalCalendar calendar() {
+        NationalCalendar cal = new NationalCalendar();
+        cal.add(FixedDay.Christmas);
+        cal.add(FixedDay.NewYear);
+        cal.add(EasterRelatedDay.EasterMonday);
+        return cal;
+    }
+
+    @Test
+    public void testDayOfWeek() {
+        HighFreqTsData d = HighFreqTsData.daily(START, new double[5000]);
+        Matrix m = HighFreqRegressors.dayOfWeek(d);
+        for (int i = 0; i < d.getLength(); ++i) {
+            int dw = d.getDay(i).getDayOfWeek().intValue();
+            for (int j = 0; j < 6; ++j) {
+                double expected = dw == DayOfWeek.Sunday.intValue() ? -1 : (dw == j + 1 ? 1 : 0);
+                assertEquals(expected, m.get(i, j), 0);
+            }
+        }
+        // complete weeks contain each day once
+        HighFreqTsData w = HighFreqTsData.weekly(START, new double[700]);
+        assertEquals(0, HighFreqRegressors.dayOfWeek(w).nrm2(), 0);
+    }
+
+    @Test
+    public void testHolidays() {
+        HighFreqTsData d = HighFreqTsData.daily(START, new double[3 * 365 + 1]);
+        Matrix m = HighFreqRegressors.holidays(calendar(), d);
+        assertEquals(3, m.getColumnsCount());
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(3, m.column(i).sum(), 0);
+        }
+        assertEquals(1, m.get(d.search(new Day(2001, Month.December, 24)), 0), 0);
+        assertEquals(1, m.get(d.search(new Day(2002, Month.January, 0)), 1), 0);
+        assertEquals(1, m.get(d.search(new Day(2000, Month.April, 23)), 2), 0);
+        assertEquals(1, m.get(d.search(new Day(2001, Month.April, 15)), 2), 0);
+
+        // weekly series
+        HighFreqTsData w = HighFreqTsData.weekly(START, new double[156]);
+        Matrix mw = HighFreqRegressors.holidays(calendar(), w);
+        double[] h = HighFreqRegressors.holidaysIndicator(calendar(), w);
+        double[] hd = HighFreqRegressors.holidaysIndicator(calendar(), HighFreqTsData.daily(START, new double[156 * 7]));
+        for (int i = 0; i < w.getLength(); ++i) {
+            double s = 0;
+            for (int j = 0; j < 7; ++j) {
+                s += hd[7 * i + j];
+            }
+            assertEquals(s, h[i], 0);
+            assertEquals(mw.row(i).sum(), h[i], 0);
+        }
+    }
+}
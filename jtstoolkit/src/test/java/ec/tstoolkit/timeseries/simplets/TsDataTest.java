@@ -255,4 +255,27 @@ public class TsDataTest {
             }
         }
     }
+
+    @Test
+    public void testStart() {
+        TsData s = new TsData(TsFrequency.Quarterly, 1990, 1, 40);
+        s.randomAirline();
+        // the periods of the series can't be modified through the API
+        TsPeriod start = s.getStart();
+        start.move(5);
+        assertTrue(s.getStart().equals(new TsPeriod(TsFrequency.Quarterly, 1990, 1)));
+        TsData t = new TsData(start, s);
+        start.move(1);
+        assertTrue(t.getStart().equals(new TsPeriod(TsFrequency.Quarterly, 1991, 2)));
+        assertTrue(t.startId() == s.startId() + 5);
+
+        TsData l = s.lag(3), d = s.drop(2, 1);
+        assertTrue(l.getStart().equals(s.getStart().minus(3)));
+        assertTrue(l.get(0) == s.get(0));
+        assertTrue(d.getStart().equals(s.getStart().plus(2)));
+        assertTrue(d.getLength() == 37 && d.get(0) == s.get(2));
+        assertTrue(s.lead(2).getDomain().equals(s.getDomain().move(2)));
+        assertTrue(s.getDomain() == s.getDomain());
+        assertTrue(s.clone().getDomain().equals(s.getDomain()));
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.timeseries.simplets;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author agent
+ */
+public class TsDataVintagesStoreTest {
+
+    private static final int NVINTAGES = 24;
+
+    public TsDataVintagesStoreTest() {
+    }
+
+    private static TsDataVintages<Integer> vintages() {
+        TsDataVintages<Integer> vintages = new TsDataVintages<>();
+        Random rnd = new Random(0);
+        double[] x = new double[60 + NVINTAGES];
+        for (int i = 0; i < x.length; ++i) {
+            x[i] = 100 + i;
+        }
+        TsPeriod start = new TsPeriod(TsFrequency.Monthly, 2000, 0);
+        for (int v = 0; v < NVINTAGES; ++v) {
+            // revise a few recent periods
+            for (int k = 0; k < 3; ++k) {
+                x[59 + v - rnd.nextInt(12)] += rnd.nextGaussian();
+            }
+            double[] cur = new double[60 + v];
+            System.arraycopy(x, 0, cur, 0, cur.length);
+            vintages.add(new TsData(start, cur, false), v);
+        }
+        return vintages;
+    }
+
+    @Test
+    public void testQueries() {
+        TsDataVintages<Integer> vintages = vintages();
+        TsDataVintagesStore<Integer> store = TsDataVintages.toStore(vintages);
+        assertEquals(NVINTAGES, store.getVintages().size());
+        assertTrue(store.getRevisionsCount() < 60 * NVINTAGES);
+        assertTrue(store.current().equals(vintages.current()));
+        for (int v = 0; v < NVINTAGES; ++v) {
+            TsData ref = vintages.data(v, true);
+            TsData cur = store.data(v, true);
+            assertEquals(ref.getDomain(), cur.getDomain());
+            for (int i = 0; i < ref.getLength(); ++i) {
+                if (i < 60 + v) {
+                    assertEquals(ref.get(i), cur.get(i), 0);
+                } else {
+                    assertTrue(Double.isNaN(cur.get(i)));
+                }
+            }
+        }
+        TsDomain dom = store.getDomain();
+        for (int i = 0; i < dom.getLength(); ++i) {
+            assertArrayEquals(vintages.dataVintages(dom.get(i)), store.dataVintages(dom.get(i)), 0);
+        }
+        TsMatrix m = store.toMatrix(store.getVintages(), true);
+        assertEquals(NVINTAGES, m.getMatrix().getColumnsCount());
+        assertEquals(store.data(5, true).get(10), m.getMatrix().get(10, 5), 0);
+    }
+
+    @Test
+    public void testVintageNotFound() {
+        TsDataVintagesStore<Integer> store = TsDataVintagesStore.<Integer>builder()
+                .add(new TsData(TsFrequency.Quarterly, 2010, 0, new double[]{1, 2, 3}, false), 10)
+                .add(new TsData(TsFrequency.Quarterly, 2010, 0, new double[]{1, 2.5, 3, 4}, false), 20)
+                .build();
+        assertEquals(3, store.data(15, false).getObsCount());
+        assertEquals(0, store.data(15, true).getObsCount());
+        assertEquals(0, store.data(5, false).getObsCount());
+        assertEquals(2.5, store.data(25, false).get(1), 0);
+        assertEquals(Integer.valueOf(20), store.lastVintage(new TsPeriod(TsFrequency.Quarterly, 2010, 1)));
+        assertEquals(Integer.valueOf(10), store.lastVintage(new TsPeriod(TsFrequency.Quarterly, 2010, 2)));
+        assertEquals(5, store.getRevisionsCount());
+    }
+
+    @Test
+    public void testMap() throws IOException {
+        TsDataVintagesStore<Integer> store = TsDataVintages.toStore(vintages());
+        File file = File.createTempFile("vintages", ".bin");
+        try {
+            store.write(file.toPath(), i -> i);
+            TsDataVintagesStore<Integer> mstore = TsDataVintagesStore.map(file.toPath(), l -> (int) l);
+            assertEquals(store.getVintages(), mstore.getVintages());
+            assertEquals(store.getRevisionsCount(), mstore.getRevisionsCount());
+            for (Integer v : store.getVintages()) {
+                assertTrue(store.data(v, true).equals(mstore.data(v, true)));
+            }
+        } finally {
+            file.delete();
+        }
+    }
+}
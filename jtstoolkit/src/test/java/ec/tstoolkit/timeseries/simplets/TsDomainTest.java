@@ -28,6 +28,20 @@ public class TsDomainTest {
     public TsDomainTest() {
     }
 
+    @Test
+    public void testIntersection() {
+        TsDomain l = new TsDomain(TsFrequency.Monthly, 1990, 0, 120), r = l.drop(12, 6);
+        assertSame(r, l.intersection(r));
+        assertSame(r, r.intersection(l));
+        assertSame(l, l.union(r));
+        assertSame(l, r.union(l));
+        assertSame(l, l.extend(0, 0));
+        TsDomain m = l.move(6);
+        assertEquals(new TsDomain(TsFrequency.Monthly, 1990, 6, 114), l.intersection(m));
+        assertEquals(new TsDomain(TsFrequency.Monthly, 1990, 0, 126), l.union(m));
+        assertTrue(l.intersection(l.move(200)).isEmpty());
+    }
+
     @Test
     public void testChangeFreq() {
         TsPeriod lstart = new TsPeriod(TsFrequency.Quarterly, 1960, 0),
@@ -17,6 +17,7 @@
 package ec.tstoolkit.timeseries.simplets;
 
 import ec.tstoolkit.timeseries.Day;
+import ec.tstoolkit.timeseries.Month;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
@@ -124,4 +125,28 @@ public class TsPeriodTest {
         P=new TsPeriod(TsFrequency.Quarterly, p);
         assertTrue(P.contains(p.firstday()));
     }
+
+    @Test
+    public void testCalcId() {
+        TsFrequency[] freqs = {TsFrequency.Yearly, TsFrequency.HalfYearly, TsFrequency.QuadriMonthly,
+            TsFrequency.Quarterly, TsFrequency.BiMonthly, TsFrequency.Monthly};
+        Day day = new Day(1600, Month.January, 0);
+        for (int i = 0; i < 600 * 366; i += 3) {
+            Day cur = day.plus(i);
+            for (TsFrequency freq : freqs) {
+                assertEquals(new TsPeriod(freq, cur.getTime()).id(), TsPeriod.calcId(freq, cur));
+            }
+        }
+    }
+
+    @Test
+    public void testShared() {
+        TsPeriod p = TsPeriod.shared(TsFrequency.Quarterly, 100);
+        assertSame(p, TsPeriod.shared(TsFrequency.Quarterly, 100));
+        assertEquals(new TsPeriod(TsFrequency.Quarterly, 1995, 0), p);
+        // outside the shared range
+        TsPeriod q = TsPeriod.shared(TsFrequency.Monthly, 12 * 300);
+        assertEquals(new TsPeriod(TsFrequency.Monthly, 2270, 0), q);
+        assertNotSame(q, TsPeriod.shared(TsFrequency.Monthly, 12 * 300));
+    }
 }
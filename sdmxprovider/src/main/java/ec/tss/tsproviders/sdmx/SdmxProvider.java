@@ -20,6 +20,7 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
 import ec.tss.ITsProvider;
 import ec.tss.TsAsyncMode;
 import ec.tss.TsCollectionInformation;
@@ -30,17 +31,21 @@ import ec.tss.tsproviders.*;
 import static ec.tss.tsproviders.sdmx.SdmxBean.X_TITLE_ATTRIBUTE;
 import ec.tss.tsproviders.sdmx.engine.CunningPlanFactory;
 import ec.tss.tsproviders.sdmx.engine.ISdmxSourceFactory;
+import ec.tss.tsproviders.sdmx.engine.TimeFormat;
 import ec.tss.tsproviders.sdmx.model.SdmxGroup;
 import ec.tss.tsproviders.sdmx.model.SdmxItem;
 import ec.tss.tsproviders.sdmx.model.SdmxSeries;
 import ec.tss.tsproviders.sdmx.model.SdmxSource;
 import ec.tss.tsproviders.utils.AbstractFileLoader;
+import ec.tss.tsproviders.utils.FileSnapshotCache;
 import ec.tss.tsproviders.utils.IParam;
 import ec.tss.tsproviders.utils.IParser;
 import ec.tss.tsproviders.utils.Params;
 import ec.tstoolkit.MetaData;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map.Entry;
@@ -113,6 +118,11 @@ public class SdmxProvider extends AbstractFileLoader<SdmxSource, SdmxBean> {
         throw new Exception("Unknown factory '" + bean.factory + "'");
     }
 
+    @Override
+    protected FileSnapshotCache.Codec<SdmxSource> getSnapshotCodec() {
+        return SnapshotCodec.INSTANCE;
+    }
+
     private MetaData getMetaData(SdmxSeries series) {
         MetaData result = new MetaData();
         if (compactNaming) {
@@ -322,4 +332,88 @@ public class SdmxProvider extends AbstractFileLoader<SdmxSource, SdmxBean> {
         }
         return id;
     }
+
+    private static final class SnapshotCodec implements FileSnapshotCache.Codec<SdmxSource> {
+
+        private static final SnapshotCodec INSTANCE = new SnapshotCodec();
+
+        @Override
+        public int getVersion() {
+            return 1;
+        }
+
+        @Override
+        public void write(DataOutput output, SdmxSource value) throws IOException {
+            output.writeInt(value.type.ordinal());
+            output.writeInt(value.items.size());
+            for (SdmxItem o : value.items) {
+                if (o instanceof SdmxGroup) {
+                    output.writeBoolean(true);
+                    SdmxGroup group = (SdmxGroup) o;
+                    writeEntries(output, group.key);
+                    writeEntries(output, group.attributes);
+                    output.writeInt(group.series.size());
+                    for (SdmxSeries series : group.series) {
+                        writeSeries(output, series);
+                    }
+                } else {
+                    output.writeBoolean(false);
+                    writeSeries(output, (SdmxSeries) o);
+                }
+            }
+        }
+
+        @Override
+        public SdmxSource read(ByteBuffer input) throws IOException {
+            SdmxSource.Type type = SdmxSource.Type.values()[input.getInt()];
+            int size = input.getInt();
+            ImmutableList.Builder<SdmxItem> items = ImmutableList.builder();
+            for (int i = 0; i < size; i++) {
+                if (input.get() != 0) {
+                    ImmutableList<Entry<String, String>> key = readEntries(input);
+                    ImmutableList<Entry<String, String>> attributes = readEntries(input);
+                    int nseries = input.getInt();
+                    ImmutableList.Builder<SdmxSeries> series = ImmutableList.builder();
+                    for (int j = 0; j < nseries; j++) {
+                        series.add(readSeries(input));
+                    }
+                    items.add(new SdmxGroup(key, attributes, series.build()));
+                } else {
+                    items.add(readSeries(input));
+                }
+            }
+            return new SdmxSource(type, items.build());
+        }
+
+        private static void writeSeries(DataOutput output, SdmxSeries value) throws IOException {
+            writeEntries(output, value.key);
+            writeEntries(output, value.attributes);
+            FileSnapshotCache.writeString(output, value.timeFormat != null ? value.timeFormat.name() : null);
+            FileSnapshotCache.writeOptionalTsData(output, value.data);
+        }
+
+        private static SdmxSeries readSeries(ByteBuffer input) {
+            ImmutableList<Entry<String, String>> key = readEntries(input);
+            ImmutableList<Entry<String, String>> attributes = readEntries(input);
+            String timeFormat = FileSnapshotCache.readString(input);
+            return new SdmxSeries(key, attributes, timeFormat != null ? TimeFormat.valueOf(timeFormat) : null, FileSnapshotCache.readOptionalTsData(input));
+        }
+
+        private static void writeEntries(DataOutput output, List<? extends Entry<String, String>> list) throws IOException {
+            output.writeInt(list.size());
+            for (Entry<String, String> o : list) {
+                FileSnapshotCache.writeString(output, o.getKey());
+                FileSnapshotCache.writeString(output, o.getValue());
+            }
+        }
+
+        private static ImmutableList<Entry<String, String>> readEntries(ByteBuffer input) {
+            int size = input.getInt();
+            ImmutableList.Builder<Entry<String, String>> result = ImmutableList.builder();
+            for (int i = 0; i < size; i++) {
+                result.add(Maps.immutableEntry(FileSnapshotCache.readString(input), FileSnapshotCache.readString(input)));
+            }
+            return result.build();
+        }
+    }
 }
@@ -16,6 +16,7 @@
  */
 package ec.tss.tsproviders.spreadsheet;
 
+import com.google.common.collect.ImmutableList;
 import ec.tss.ITsProvider;
 import ec.tss.TsAsyncMode;
 import ec.tss.TsCollectionInformation;
@@ -32,8 +33,10 @@ import ec.tss.tsproviders.spreadsheet.engine.TsImportOptions;
 import ec.tss.tsproviders.utils.*;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
 import ec.util.spreadsheet.Book;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -101,6 +104,11 @@ public class SpreadSheetProvider extends AbstractFileLoader<SpreadSheetSource, S
         throw new RuntimeException("File type not supported");
     }
 
+    @Override
+    protected FileSnapshotCache.Codec<SpreadSheetSource> getSnapshotCodec() {
+        return SnapshotCodec.INSTANCE;
+    }
+
     @Override
     public String getDisplayName() {
         return "Spreadsheets";
@@ -307,4 +315,52 @@ public class SpreadSheetProvider extends AbstractFileLoader<SpreadSheetSource, S
         }
         return null;
     }
+
+    private static final class SnapshotCodec implements FileSnapshotCache.Codec<SpreadSheetSource> {
+
+        private static final SnapshotCodec INSTANCE = new SnapshotCodec();
+
+        @Override
+        public int getVersion() {
+            return 1;
+        }
+
+        @Override
+        public void write(DataOutput output, SpreadSheetSource value) throws IOException {
+            FileSnapshotCache.writeString(output, value.factoryName);
+            output.writeInt(value.collections.size());
+            for (SpreadSheetCollection col : value.collections.values()) {
+                FileSnapshotCache.writeString(output, col.sheetName);
+                output.writeInt(col.ordering);
+                output.writeInt(col.alignType.ordinal());
+                output.writeInt(col.series.size());
+                for (SpreadSheetSeries series : col.series) {
+                    FileSnapshotCache.writeString(output, series.seriesName);
+                    output.writeInt(series.ordering);
+                    output.writeInt(series.alignType.ordinal());
+                    FileSnapshotCache.writeOptionalTsData(output, series.data);
+                }
+            }
+        }
+
+        @Override
+        public SpreadSheetSource read(ByteBuffer input) throws IOException {
+            SpreadSheetCollection.AlignType[] alignTypes = SpreadSheetCollection.AlignType.values();
+            String factoryName = FileSnapshotCache.readString(input);
+            int ncols = input.getInt();
+            List<SpreadSheetCollection> collections = new ArrayList<>(ncols);
+            for (int i = 0; i < ncols; i++) {
+                String sheetName = FileSnapshotCache.readString(input);
+                int ordering = input.getInt();
+                SpreadSheetCollection.AlignType alignType = alignTypes[input.getInt()];
+                int nseries = input.getInt();
+                ImmutableList.Builder<SpreadSheetSeries> series = ImmutableList.builder();
+                for (int j = 0; j < nseries; j++) {
+                    series.add(new SpreadSheetSeries(FileSnapshotCache.readString(input), input.getInt(), alignTypes[input.getInt()], FileSnapshotCache.readOptionalTsData(input)));
+                }
+                collections.add(new SpreadSheetCollection(sheetName, ordering, alignType, series.build()));
+            }
+            return new SpreadSheetSource(collections, factoryName);
+        }
+    }
 }